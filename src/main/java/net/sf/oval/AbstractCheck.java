@@ -13,7 +13,10 @@ import java.util.Map;
 
 import net.sf.oval.context.OValContext;
 import net.sf.oval.expression.ExpressionLanguage;
+import net.sf.oval.internal.ProfileRegistry;
+import net.sf.oval.internal.TargetPath;
 import net.sf.oval.internal.util.StringUtils;
+import net.sf.oval.ogn.ObjectGraphNavigatorRegistry;
 
 /**
  * Partial implementation of check classes.
@@ -24,15 +27,18 @@ public abstract class AbstractCheck implements Check {
    private static final long serialVersionUID = 1L;
 
    private OValContext context;
+   private String[] dependsOn;
    private String errorCode;
    private String message;
    private Map<String, ? extends Serializable> messageVariables;
    private Map<String, ? extends Serializable> messageVariablesUnmodifiable;
    private boolean messageVariablesUpToDate = true;
    private String[] profiles;
+   private transient ProfileRegistry.Mask profilesMask;
    private int severity;
    private ConstraintTarget[] appliesTo;
    private String target;
+   private transient TargetPath targetPath;
    private String when;
    private transient String whenFormula;
    private transient String whenLang;
@@ -60,6 +66,14 @@ public abstract class AbstractCheck implements Check {
       return context;
    }
 
+   /**
+    * @return the names of the fields of the validated object this check depends on or <code>null</code> if not declared, see
+    *         {@link #setDependsOn(String...)}
+    */
+   public String[] getDependsOn() {
+      return dependsOn;
+   }
+
    @Override
    public String getErrorCode() {
       /*
@@ -123,11 +137,37 @@ public abstract class AbstractCheck implements Check {
       return profiles;
    }
 
+   /**
+    * @return the bit mask of the profiles of this check, see {@link ProfileRegistry}
+    */
+   long getProfilesMask() {
+      ProfileRegistry.Mask mask = profilesMask;
+      // the profiles field may also be set via reflection, e.g. by the XMLConfigurer
+      if (mask == null || mask.profiles != profiles) {
+         mask = new ProfileRegistry.Mask(profiles);
+         profilesMask = mask;
+      }
+      return mask.value;
+   }
+
    @Override
    public int getSeverity() {
       return severity;
    }
 
+   /**
+    * @return the compiled {@link #getTarget() target expression}
+    */
+   TargetPath getTargetPath(final ObjectGraphNavigatorRegistry registry) {
+      TargetPath path = targetPath;
+      // the target field may also be set via reflection, e.g. by the XMLConfigurer
+      if (path == null || !path.isCompiledFor(target, registry)) {
+         path = TargetPath.compile(target, registry);
+         targetPath = path;
+      }
+      return path;
+   }
+
    @Override
    public String getTarget() {
       return target;
@@ -174,6 +214,16 @@ public abstract class AbstractCheck implements Check {
       this.context = context;
    }
 
+   /**
+    * Declares the fields of the validated object this check depends on. Used by the {@link net.sf.oval.guard.Guard} in incremental
+    * invariants mode to skip object level checks and checks of invariant getters that are not affected by a setter call.
+    *
+    * @param fieldNames the field names, <code>null</code> or empty if the dependencies are unknown
+    */
+   public void setDependsOn(final String... fieldNames) {
+      dependsOn = fieldNames == null || fieldNames.length == 0 ? null : fieldNames;
+   }
+
    @Override
    public void setErrorCode(final String failureCode) {
       errorCode = failureCode;
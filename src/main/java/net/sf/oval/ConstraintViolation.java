@@ -9,6 +9,7 @@ import java.io.Serializable;
 import java.util.Arrays;
 import java.util.List;
 import java.util.ListIterator;
+import java.util.Locale;
 import java.util.Map;
 
 import net.sf.oval.context.IterableElementContext;
@@ -43,10 +44,23 @@ public class ConstraintViolation implements Serializable {
    private transient Object invalidValue;
    private final List<OValContext> contextPath;
 
-   private final String message;
+   /**
+    * the rendered message, <code>null</code> if not yet rendered
+    */
+   private volatile String message;
    private final String messageTemplate;
    private final Map<String, ? extends Serializable> messageVariables;
 
+   /**
+    * the validator used to lazily render the message, <code>null</code> if the message was rendered upfront
+    */
+   private final transient Validator messageRenderer;
+
+   /**
+    * the locale that was active when the violation occurred
+    */
+   private final transient Locale messageLocale;
+
    /**
     * @since 3.1
     */
@@ -57,12 +71,14 @@ public class ConstraintViolation implements Serializable {
       final Object invalidValue, //
       final List<OValContext> invalidValuePath //
    ) {
-      this(check, message, validatedObject, invalidValue, invalidValuePath, (ConstraintViolation[]) null);
+      this(check, message, null, null, validatedObject, invalidValue, invalidValuePath, (ConstraintViolation[]) null);
    }
 
    private ConstraintViolation( //
       final Check check, //
       final String message, //
+      final Validator messageRenderer, //
+      final Locale messageLocale, //
       final Object validatedObject, //
       final Object invalidValue, //
       final List<OValContext> invalidValuePath, //
@@ -74,6 +90,8 @@ public class ConstraintViolation implements Serializable {
       checkDeclaringContext = check.getContext();
       errorCode = check.getErrorCode();
       this.message = message;
+      this.messageRenderer = messageRenderer;
+      this.messageLocale = messageLocale;
       messageTemplate = check.getMessage();
       messageVariables = check.getMessageVariables();
       severity = check.getSeverity();
@@ -83,6 +101,20 @@ public class ConstraintViolation implements Serializable {
       this.causes = causes != null && causes.length == 0 ? null : causes;
    }
 
+   /**
+    * Creates a constraint violation whose message is rendered by the given validator on first access.
+    */
+   ConstraintViolation( //
+      final Check check, //
+      final Validator messageRenderer, //
+      final Locale messageLocale, //
+      final Object validatedObject, //
+      final Object invalidValue, //
+      final List<OValContext> invalidValuePath //
+   ) {
+      this(check, null, messageRenderer, messageLocale, validatedObject, invalidValue, invalidValuePath, (ConstraintViolation[]) null);
+   }
+
    /**
     * @deprecated use {@link #ConstraintViolation(Check, String, Object, Object, List)}
     */
@@ -94,7 +126,7 @@ public class ConstraintViolation implements Serializable {
       final Object invalidValue, //
       final OValContext context //
    ) {
-      this(check, message, validatedObject, invalidValue, Arrays.asList(context), (ConstraintViolation[]) null);
+      this(check, message, null, null, validatedObject, invalidValue, Arrays.asList(context), (ConstraintViolation[]) null);
    }
 
    /**
@@ -109,7 +141,7 @@ public class ConstraintViolation implements Serializable {
       final OValContext context, //
       final ConstraintViolation... causes//
    ) {
-      this(check, message, validatedObject, invalidValue, Arrays.asList(context), causes);
+      this(check, message, null, null, validatedObject, invalidValue, Arrays.asList(context), causes);
    }
 
    /**
@@ -124,7 +156,7 @@ public class ConstraintViolation implements Serializable {
       final OValContext context, //
       final List<ConstraintViolation> causes//
    ) {
-      this(check, message, validatedObject, invalidValue, Arrays.asList(context), //
+      this(check, message, null, null, validatedObject, invalidValue, Arrays.asList(context), //
          causes == null || causes.isEmpty() ? null : causes.toArray(new ConstraintViolation[causes.size()]) //
       );
    }
@@ -218,7 +250,13 @@ public class ConstraintViolation implements Serializable {
     * @return the localized and rendered message
     */
    public String getMessage() {
-      return message;
+      String msg = message;
+      if (msg == null && messageRenderer != null) {
+         // concurrent first accesses may render the message more than once, all of them render the same message
+         msg = messageRenderer.renderMessage(this, messageLocale);
+         message = msg;
+      }
+      return msg;
    }
 
    /**
@@ -258,13 +296,15 @@ public class ConstraintViolation implements Serializable {
 
    @Override
    public String toString() {
-      return getClass().getName() + ": " + message;
+      return getClass().getName() + ": " + getMessage();
    }
 
    /**
     * @see Serializable
     */
    private void writeObject(final java.io.ObjectOutputStream out) throws IOException {
+      // render the message while the invalid value is still available
+      getMessage();
       out.defaultWriteObject();
 
       if (validatedObject instanceof Serializable) {
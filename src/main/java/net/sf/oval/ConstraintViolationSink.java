@@ -0,0 +1,19 @@
+/*
+ * Copyright 2005-2021 by Sebastian Thomschke and contributors.
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package net.sf.oval;
+
+/**
+ * Receives constraint violations as soon as they are detected, see {@link Validator#validate(Object, ConstraintViolationSink, String...)}.
+ *
+ * @author Sebastian Thomschke
+ */
+@FunctionalInterface
+public interface ConstraintViolationSink {
+
+   /**
+    * @return <code>false</code> to abort the validation, i.e. no further constraints are evaluated
+    */
+   boolean onConstraintViolation(ConstraintViolation violation);
+}
@@ -0,0 +1,34 @@
+/*
+ * Copyright 2005-2021 by Sebastian Thomschke and contributors.
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package net.sf.oval;
+
+/**
+ * Optional interface for checks on numeric values that can be evaluated without boxing the value.
+ *
+ * It is used by the {@link Validator} to validate the elements of primitive <code>byte</code>, <code>short</code>, <code>int</code>,
+ * <code>long</code>, <code>float</code> and <code>double</code> arrays and fields of these types. The methods must return the same result as
+ * {@link Check#isSatisfied(Object, Object, ValidationCycle)} for the corresponding boxed value.
+ *
+ * @author Sebastian Thomschke
+ */
+public interface PrimitiveValueCheck extends Check {
+
+   /**
+    * @param value a <code>double</code> value
+    */
+   boolean isSatisfied(double value);
+
+   /**
+    * @param value a <code>float</code> value
+    */
+   default boolean isSatisfied(final float value) {
+      return isSatisfied((double) value);
+   }
+
+   /**
+    * @param value a <code>byte</code>, <code>short</code>, <code>int</code> or <code>long</code> value
+    */
+   boolean isSatisfied(long value);
+}
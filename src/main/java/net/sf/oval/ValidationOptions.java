@@ -0,0 +1,93 @@
+/*
+ * Copyright 2005-2021 by Sebastian Thomschke and contributors.
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package net.sf.oval;
+
+/**
+ * Options controlling when a validation cycle is aborted before all constraints of the object graph have been evaluated.
+ *
+ * Once a cycle is aborted no further constraints are evaluated and additionally reported violations are ignored.
+ *
+ * @author Sebastian Thomschke
+ */
+public class ValidationOptions {
+
+   /**
+    * validation options that collect all constraint violations
+    */
+   public static final ValidationOptions DEFAULT = new ValidationOptions(0, Integer.MAX_VALUE);
+
+   /**
+    * @return options that abort the validation after the first constraint violation
+    */
+   public static ValidationOptions failFast() {
+      return maxViolations(1);
+   }
+
+   /**
+    * @param maxViolations the number of constraint violations after which the validation is aborted, must be greater than 0
+    */
+   public static ValidationOptions maxViolations(final int maxViolations) throws IllegalArgumentException {
+      return DEFAULT.withMaxViolations(maxViolations);
+   }
+
+   /**
+    * @param severity the minimum severity of a constraint violation that aborts the validation
+    */
+   public static ValidationOptions stopAtSeverity(final int severity) {
+      return DEFAULT.withStopAtSeverity(severity);
+   }
+
+   private final int maxViolations;
+   private final int abortSeverity;
+
+   private ValidationOptions(final int maxViolations, final int abortSeverity) {
+      this.maxViolations = maxViolations;
+      this.abortSeverity = abortSeverity;
+   }
+
+   /**
+    * @return the minimum severity of a constraint violation that aborts the validation
+    */
+   public int getAbortSeverity() {
+      return abortSeverity;
+   }
+
+   /**
+    * @return the number of constraint violations after which the validation is aborted, 0 if unlimited
+    */
+   public int getMaxViolations() {
+      return maxViolations;
+   }
+
+   /**
+    * @return <code>true</code> if the validation has to be aborted after the given violation was reported
+    */
+   public boolean isAbortRequired(final int violationCount, final ConstraintViolation lastViolation) {
+      if (maxViolations > 0 && violationCount >= maxViolations)
+         return true;
+      return lastViolation.getSeverity() >= abortSeverity;
+   }
+
+   /**
+    * @return new options that additionally abort the validation after the given number of constraint violations
+    */
+   public ValidationOptions withMaxViolations(final int maxViolations) throws IllegalArgumentException {
+      if (maxViolations < 1)
+         throw new IllegalArgumentException("[maxViolations] must be greater than 0");
+      return new ValidationOptions(maxViolations, abortSeverity);
+   }
+
+   /**
+    * @return new options that additionally abort the validation at the first constraint violation with the given or a higher severity
+    */
+   public ValidationOptions withStopAtSeverity(final int severity) {
+      return new ValidationOptions(maxViolations, severity);
+   }
+
+   @Override
+   public String toString() {
+      return getClass().getSimpleName() + "[maxViolations=" + maxViolations + ", abortSeverity=" + abortSeverity + "]";
+   }
+}
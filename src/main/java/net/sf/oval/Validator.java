@@ -6,23 +6,47 @@ package net.sf.oval;
 
 import static java.lang.Boolean.*;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.ref.WeakReference;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.ListIterator;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.RandomAccess;
 import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
 
 import net.sf.oval.collection.CollectionFactory;
 import net.sf.oval.collection.CollectionFactoryJDKImpl;
 import net.sf.oval.collection.CollectionFactoryJavolutionImpl;
 import net.sf.oval.collection.CollectionFactoryTroveImpl;
+import net.sf.oval.configuration.CheckInitializationListener;
 import net.sf.oval.configuration.Configurer;
 import net.sf.oval.configuration.annotation.AnnotationsConfigurer;
 import net.sf.oval.configuration.annotation.JPAAnnotationsConfigurer;
@@ -35,6 +59,7 @@ import net.sf.oval.configuration.pojo.elements.MethodConfiguration;
 import net.sf.oval.configuration.pojo.elements.ObjectConfiguration;
 import net.sf.oval.configuration.pojo.elements.ParameterConfiguration;
 import net.sf.oval.configuration.xml.XMLConfigurer;
+import net.sf.oval.constraint.AssertCheck;
 import net.sf.oval.constraint.AssertConstraintSetCheck;
 import net.sf.oval.constraint.AssertFieldConstraintsCheck;
 import net.sf.oval.constraint.AssertValidCheck;
@@ -43,13 +68,9 @@ import net.sf.oval.constraint.NotNullCheck;
 import net.sf.oval.context.ClassContext;
 import net.sf.oval.context.ConstructorParameterContext;
 import net.sf.oval.context.FieldContext;
-import net.sf.oval.context.IterableElementContext;
-import net.sf.oval.context.MapKeyContext;
-import net.sf.oval.context.MapValueContext;
 import net.sf.oval.context.MethodParameterContext;
 import net.sf.oval.context.MethodReturnValueContext;
 import net.sf.oval.context.OValContext;
-import net.sf.oval.context.ObjectGraphNavigationContext;
 import net.sf.oval.exception.ConstraintSetAlreadyDefinedException;
 import net.sf.oval.exception.ConstraintsViolatedException;
 import net.sf.oval.exception.ExceptionTranslator;
@@ -63,13 +84,24 @@ import net.sf.oval.exception.ValidationFailedException;
 import net.sf.oval.expression.ExpressionLanguageRegistry;
 import net.sf.oval.guard.ParameterNameResolver;
 import net.sf.oval.guard.ParameterNameResolverEnumerationImpl;
+import net.sf.oval.internal.AccessorCache;
 import net.sf.oval.internal.ClassChecks;
+import net.sf.oval.internal.ConfigurationSnapshot;
 import net.sf.oval.internal.ContextCache;
+import net.sf.oval.internal.ElementContextCursor;
 import net.sf.oval.internal.Log;
 import net.sf.oval.internal.MessageRenderer;
+import net.sf.oval.internal.ParameterChecks;
+import net.sf.oval.internal.ProfileRegistry;
+import net.sf.oval.internal.ResolvedCheckReference;
+import net.sf.oval.internal.TargetPath;
+import net.sf.oval.internal.ValidationPlan;
+import net.sf.oval.internal.ValidationResultCache;
 import net.sf.oval.internal.util.ArrayUtils;
 import net.sf.oval.internal.util.Assert;
+import net.sf.oval.internal.util.ClassPathScanner;
 import net.sf.oval.internal.util.CollectionUtils;
+import net.sf.oval.internal.util.FieldAccessor;
 import net.sf.oval.internal.util.IdentityHashSet;
 import net.sf.oval.internal.util.ReflectionUtils;
 import net.sf.oval.internal.util.StringUtils;
@@ -82,7 +114,6 @@ import net.sf.oval.localization.message.ResourceBundleMessageResolver;
 import net.sf.oval.localization.value.MessageValueFormatter;
 import net.sf.oval.localization.value.ToStringMessageValueFormatter;
 import net.sf.oval.logging.LoggerFactory;
-import net.sf.oval.ogn.ObjectGraphNavigationResult;
 import net.sf.oval.ogn.ObjectGraphNavigatorRegistry;
 
 /**
@@ -129,35 +160,309 @@ public class Validator implements IValidator {
       }
    }
 
+   /**
+    * Validates a range of root objects of a batch, splitting the range across the fork/join pool.
+    */
+   private final class BatchValidationTask extends RecursiveAction {
+      private static final long serialVersionUID = 1L;
+
+      private final Object[] validatedObjects;
+      private final List<ConstraintViolation>[] results;
+      private final int from;
+      private final int to;
+      private final int threshold;
+
+      BatchValidationTask(final Object[] validatedObjects, final List<ConstraintViolation>[] results, final int from, final int to, final int threshold) {
+         this.validatedObjects = validatedObjects;
+         this.results = results;
+         this.from = from;
+         this.to = to;
+         this.threshold = threshold;
+      }
+
+      @Override
+      protected void compute() {
+         if (to - from <= threshold) {
+            _validateAll(validatedObjects, results, from, to);
+            return;
+         }
+         final int middle = (from + to) >>> 1;
+         invokeAll( //
+            new BatchValidationTask(validatedObjects, results, from, middle, threshold), //
+            new BatchValidationTask(validatedObjects, results, middle, to, threshold) //
+         );
+      }
+   }
+
+   /**
+    * An object validated by a forked validation cycle and the range of the cycle's violations reported while validating it.
+    */
+   private static final class ForkedValidation {
+      final Object validatedObject;
+      final int violationsFrom;
+      final int violationsTo;
+
+      ForkedValidation(final Object validatedObject, final int violationsFrom, final int violationsTo) {
+         this.validatedObject = validatedObject;
+         this.violationsFrom = violationsFrom;
+         this.violationsTo = violationsTo;
+      }
+   }
+
+   /**
+    * Validates a chunk of the elements of a collection or array in a validation cycle forked from the given cycle.
+    */
+   private final class ElementsValidationTask extends RecursiveAction {
+      private static final long serialVersionUID = 1L;
+
+      private final Check check;
+      private final Object validatedObject;
+      private final Object[] elements;
+      private final boolean[] isElementSkipped;
+      private final Class<?> elementType;
+      private final InternalValidationCycle parentCycle;
+      private final int targets;
+      private final int from;
+      private final int to;
+      private InternalValidationCycle cycle;
+
+      ElementsValidationTask(final Check check, final Object validatedObject, final Object[] elements, final boolean[] isElementSkipped,
+         final Class<?> elementType, final InternalValidationCycle parentCycle, final int targets, final int from, final int to) {
+         this.check = check;
+         this.validatedObject = validatedObject;
+         this.elements = elements;
+         this.isElementSkipped = isElementSkipped;
+         this.elementType = elementType;
+         this.parentCycle = parentCycle;
+         this.targets = targets;
+         this.from = from;
+         this.to = to;
+      }
+
+      @Override
+      protected void compute() {
+         cycle = new InternalValidationCycle(parentCycle.rootValidatedObject, parentCycle.profiles, parentCycle.options, parentCycle.isCheckOnly);
+         cycle.forkedFrom = parentCycle;
+         cycle.forkedValidations = new ArrayList<>();
+         cycle.contextPath.addAll(parentCycle.getContextPath());
+
+         enterValidationCycle(cycle);
+         final ElementContextCursor.IterableElement cursor = new ElementContextCursor.IterableElement(elementType);
+         cycle.elementCursors++;
+         try {
+            for (int i = from; i < to && !cycle.isAborted; i++) {
+               if (!isElementSkipped[i]) {
+                  _dispatchCheckConstraint(check, validatedObject, elements[i], cursor.moveTo(i), cycle, true, targets);
+               }
+            }
+         } finally {
+            exitValidationCycle(cycle);
+         }
+      }
+   }
+
+   /**
+    * Immutable snapshot of the globally enabled and disabled profiles.
+    */
+   private static final class ProfilesSnapshot {
+      final boolean isAllProfilesEnabledByDefault;
+
+      /**
+       * the disabled profiles if all profiles are enabled by default, otherwise the enabled profiles
+       */
+      final Set<String> profiles;
+
+      /**
+       * bit mask of the enabled profiles, see {@link ProfileRegistry}
+       */
+      final long enabledMask;
+
+      /**
+       * true if the profiles have dedicated bits, i.e. the mask identifies the enabled profiles
+       */
+      final boolean isMaskExact;
+
+      ProfilesSnapshot(final boolean isAllProfilesEnabledByDefault, final Set<String> profiles) {
+         this.isAllProfilesEnabledByDefault = isAllProfilesEnabledByDefault;
+         this.profiles = profiles;
+         final long mask = ProfileRegistry.getMask(profiles);
+         enabledMask = isAllProfilesEnabledByDefault ? ~mask : mask;
+         isMaskExact = (mask & ProfileRegistry.OVERFLOW) == 0;
+      }
+
+      boolean isProfileEnabled(final String profileId) {
+         return isAllProfilesEnabledByDefault ? !profiles.contains(profileId) : profiles.contains(profileId);
+      }
+
+      ProfilesSnapshot with(final String profileId, final boolean isEnabled) {
+         final Set<String> newProfiles = new HashSet<>(profiles);
+         if (isEnabled == isAllProfilesEnabledByDefault) {
+            newProfiles.remove(profileId);
+         } else {
+            newProfiles.add(profileId);
+         }
+         return new ProfilesSnapshot(isAllProfilesEnabledByDefault, Collections.unmodifiableSet(newProfiles));
+      }
+   }
+
    protected final class InternalValidationCycle implements ValidationCycle {
-      public final String[] profiles;
+      public String[] profiles;
+      private String[] profilesMaskSource;
+      private long profilesMask;
       public IdentityHashSet<Object> validatedObjects = new IdentityHashSet<>(4);
-      public final Object rootValidatedObject;
+      public Object rootValidatedObject;
       public List<ConstraintViolation> violations = Collections.emptyList();
+
+      /**
+       * the number of constraint violations reported to this cycle
+       */
+      public int violationCount;
+
+      /**
+       * if not null, receives the constraint violations instead of {@link #violations}
+       */
+      private ConstraintViolationSink sink;
       public final List<OValContext> contextPath = collectionFactory.createList(4);
       public final List<OValContext> contextPathImmutable = Collections.unmodifiableList(contextPath);
 
+      /**
+       * number of {@link ElementContextCursor}s currently on the context path
+       */
+      int elementCursors;
+      public final ValidationOptions options;
+
+      /**
+       * if <code>true</code> no constraint violations are recorded and the cycle is aborted at the first violation
+       */
+      public final boolean isCheckOnly;
+
+      /**
+       * indicates that the abort condition of the validation options was reached and no further constraints shall be evaluated
+       */
+      public boolean isAborted;
+
+      /**
+       * the cycle this cycle was forked from to validate container elements in parallel
+       */
+      private InternalValidationCycle forkedFrom;
+
+      /**
+       * the objects validated by this cycle if it was forked, used to discard the violations of objects also validated by a preceding
+       * chunk when merging the results, <code>null</code> if this cycle was not forked
+       */
+      private List<ForkedValidation> forkedValidations;
+
+      /**
+       * the number of objects currently validated by this cycle, i.e. the nesting depth of the object graph walk
+       */
+      private int objectDepth;
+
+      /**
+       * instances of immutable classes found to be valid, they are added to the {@link Validator#validationResultCache} once the
+       * validation of the root object completed without violations, as objects validated earlier on the path to them may still turn out to
+       * be invalid
+       */
+      private List<Object> pendingValidObjects;
+      private long pendingValidObjectsProfilesMask;
+      private int pendingValidObjectsGeneration;
+
+      /**
+       * the plan of the most recently validated class, speeds up the validation of multiple objects of the same class
+       */
+      private ValidationPlan lastValidationPlan;
+
+      /**
+       * the cycle that was current for the thread when this cycle was entered
+       */
+      private InternalValidationCycle enclosingCycle;
+
+      /**
+       * reusable cursors for the elements of lists and arrays, indexed by the number of element cursors on the context path when the cursor
+       * was acquired, see {@link #_acquireIterableElementCursor(Class)}
+       */
+      private ElementContextCursor.IterableElement[] iterableElementCursors;
+
+      /**
+       * indicates that this reusable check-only cycle is currently used by {@link Validator#isValid(Object, String...)}
+       */
+      private boolean isInUse;
+
       public InternalValidationCycle(final Object rootValidatedObject, final String[] profiles) {
+         this(rootValidatedObject, profiles, ValidationOptions.DEFAULT);
+      }
+
+      public InternalValidationCycle(final Object rootValidatedObject, final String[] profiles, final ValidationOptions options) {
+         this(rootValidatedObject, profiles, options, false);
+      }
+
+      private InternalValidationCycle(final Object rootValidatedObject, final String[] profiles, final ValidationOptions options,
+         final boolean isCheckOnly) {
          this.profiles = profiles;
          this.rootValidatedObject = rootValidatedObject;
+         this.options = options;
+         this.isCheckOnly = isCheckOnly;
       }
 
       @Override
       public void addConstraintViolation(final Check check, final String message, final Object invalidValue) {
-         addConstraintViolation(new ConstraintViolation(check, message, rootValidatedObject, invalidValue, contextPathImmutable));
+         if (isCheckOnly) {
+            isAborted = true;
+            return;
+         }
+         addConstraintViolation(new ConstraintViolation(check, message, rootValidatedObject, invalidValue, getContextPath()));
       }
 
       @Override
       public void addConstraintViolation(final ConstraintViolation violation) {
-         if (violations.isEmpty()) {
-            violations = collectionFactory.createList();
+         if (isAborted)
+            return;
+         if (isCheckOnly) {
+            isAborted = true;
+            return;
+         }
+         violationCount++;
+         if (sink == null) {
+            if (violations.isEmpty()) {
+               violations = collectionFactory.createList();
+            }
+            violations.add(violation);
+         } else if (!sink.onConstraintViolation(violation)) {
+            isAborted = true;
+            return;
+         }
+         if (options != ValidationOptions.DEFAULT && options.isAbortRequired(violationCount, violation)) {
+            isAborted = true;
          }
-         violations.add(violation);
       }
 
+      /**
+       * Returns the current context path. If reusable element contexts are on the path, an immutable copy is returned.
+       */
       @Override
       public List<OValContext> getContextPath() {
-         return contextPathImmutable;
+         return elementCursors == 0 ? contextPathImmutable : ElementContextCursor.materialize(contextPath);
+      }
+
+      /**
+       * @return the bit mask of the profiles to validate against, see {@link ProfileRegistry}
+       */
+      long getProfilesMask() {
+         if (profilesMaskSource != profiles) {
+            profilesMask = profiles == null || profiles.length == 0 ? 0 : ProfileRegistry.getMask(profiles);
+            profilesMaskSource = profiles;
+         }
+         return profilesMask;
+      }
+
+      /**
+       * @return <code>true</code> if the given object was already validated by this cycle or the cycle it was forked from
+       */
+      public boolean isValidated(final Object object) {
+         for (InternalValidationCycle cycle = this; cycle != null; cycle = cycle.forkedFrom) {
+            if (cycle.validatedObjects.contains(object))
+               return true;
+         }
+         return false;
       }
 
       @Override
@@ -169,8 +474,50 @@ public class Validator implements IValidator {
       public Validator getValidator() {
          return Validator.this;
       }
+
+      /**
+       * Returns a cursor for iterating over the elements of a list or array. A cursor is only referenced by the context path while the
+       * elements of its container are validated, so cursors are reused per nesting level.
+       */
+      private ElementContextCursor.IterableElement _acquireIterableElementCursor(final Class<?> elementType) {
+         if (iterableElementCursors == null) {
+            iterableElementCursors = new ElementContextCursor.IterableElement[Math.max(4, elementCursors + 1)];
+         } else if (iterableElementCursors.length <= elementCursors) {
+            iterableElementCursors = Arrays.copyOf(iterableElementCursors, elementCursors * 2);
+         }
+         final ElementContextCursor.IterableElement cursor = iterableElementCursors[elementCursors];
+         if (cursor == null)
+            return iterableElementCursors[elementCursors] = new ElementContextCursor.IterableElement(elementType);
+         return cursor.reset(elementType);
+      }
+
+      /**
+       * Resets this reusable check-only cycle so that it can be used by the next call to {@link Validator#isValid(Object, String...)} of the
+       * current thread. The collections are cleared instead of recreated unless they grew large.
+       */
+      private void _reset() {
+         profiles = null;
+         rootValidatedObject = null;
+         if (validatedObjects.size() > MAX_REUSABLE_VALIDATED_OBJECTS) {
+            validatedObjects = new IdentityHashSet<>(4);
+         } else {
+            validatedObjects.clear();
+         }
+         contextPath.clear();
+         elementCursors = 0;
+         isAborted = false;
+         objectDepth = 0;
+         pendingValidObjects = null;
+         enclosingCycle = null;
+         isInUse = false;
+      }
    }
 
+   /**
+    * the maximum number of validated objects for which the set of a reusable check-only validation cycle is cleared instead of recreated
+    */
+   private static final int MAX_REUSABLE_VALIDATED_OBJECTS = 1024;
+
    private static final Log LOG = Log.getLog(Validator.class);
 
    private static CollectionFactory collectionFactory = _createDefaultCollectionFactory();
@@ -272,25 +619,306 @@ public class Validator implements IValidator {
    private final ConcurrentMap<Class<?>, ClassChecks> checksByClass = collectionFactory.createConcurrentMap();
    private final Set<Configurer> configurers = new LinkedHashSet<>(4);
    private final Map<String, ConstraintSet> constraintSetsById = collectionFactory.createConcurrentMap(4);
+   private final ConcurrentMap<Class<?>, ValidationPlan> validationPlansByClass = collectionFactory.createConcurrentMap();
+
+   /**
+    * class configurations loaded via {@link #loadConfigurationSnapshot(InputStream, CheckInitializationListener...)} that are applied
+    * instead of the configurers' class configurations
+    */
+   private final ConcurrentMap<Class<?>, ClassConfiguration> snapshotConfigurations = collectionFactory.createConcurrentMap();
+
+   /**
+    * The innermost validation cycle of the current thread. Enclosing cycles are linked via {@link InternalValidationCycle#enclosingCycle}.
+    *
+    * The validation engine passes cycles explicitly. This thread-bound reference is only used to support the deprecated
+    * {@link #reportConstraintViolation(ConstraintViolation)} and to detect re-entrant validations of the same object, e.g. by the Guard.
+    */
+   private final ThreadLocal<InternalValidationCycle> currentValidationCycle = new ThreadLocal<>();
+
+   /**
+    * The reusable check-only validation cycle of the current thread used by {@link #isValid(Object, String...)}.
+    *
+    * The cycle is not entered via {@link #enterValidationCycle(InternalValidationCycle)} to avoid writing the thread-bound reference on
+    * every call, see {@link #getCurrentValidationCycle(int)}. The thread only holds a weak reference to the cycle so that it does not keep
+    * this validator reachable; the cycle itself is kept reachable via {@link #checkOnlyValidationCyclesByThread}.
+    */
+   private final ThreadLocal<WeakReference<InternalValidationCycle>> checkOnlyValidationCycle = new ThreadLocal<>();
+   private final Map<Thread, InternalValidationCycle> checkOnlyValidationCyclesByThread = Collections.synchronizedMap(new WeakHashMap<>());
+
+   /**
+    * Provides the validation cycles of the current thread, the outermost cycle first.
+    *
+    * The returned list is a view created on each call to {@link ThreadLocal#get()}. Appending a cycle via {@link List#add(Object)},
+    * {@link LinkedList#addLast(Object)} or {@link LinkedList#offerLast(Object)} enters it via
+    * {@link #enterValidationCycle(InternalValidationCycle)}, removing the innermost cycle via {@link LinkedList#removeLast()} or
+    * {@link LinkedList#pollLast()} exits it via {@link #exitValidationCycle(InternalValidationCycle)}. All other modifications throw an
+    * {@link UnsupportedOperationException}.
+    *
+    * @deprecated use {@link #getCurrentValidationCycle(int)}, {@link #enterValidationCycle(InternalValidationCycle)} and
+    *             {@link #exitValidationCycle(InternalValidationCycle)}
+    */
+   @Deprecated
+   protected final ThreadLocal<LinkedList<InternalValidationCycle>> currentValidationCycles = new ThreadLocal<LinkedList<InternalValidationCycle>>() {
+      @Override
+      public LinkedList<InternalValidationCycle> get() {
+         return new ValidationCyclesView();
+      }
+
+      @Override
+      public void remove() {
+         throw new UnsupportedOperationException("Use exitValidationCycle(InternalValidationCycle) instead.");
+      }
+
+      @Override
+      public void set(final LinkedList<InternalValidationCycle> value) {
+         throw new UnsupportedOperationException("Use enterValidationCycle(InternalValidationCycle) and exitValidationCycle(InternalValidationCycle) instead.");
+      }
+   };
+
+   /**
+    * View of the validation cycles of the current thread returned by the deprecated {@link Validator#currentValidationCycles}.
+    */
+   @SuppressWarnings("serial")
+   private final class ValidationCyclesView extends LinkedList<InternalValidationCycle> {
+      ValidationCyclesView() {
+         InternalValidationCycle cycle;
+         for (int i = 0; (cycle = getCurrentValidationCycle(i)) != null; i++) {
+            super.addFirst(cycle);
+         }
+      }
 
-   protected final ThreadLocal<LinkedList<InternalValidationCycle>> currentValidationCycles = ThreadLocal.withInitial(LinkedList::new);
+      private List<InternalValidationCycle> _readOnlyCopy() {
+         return Collections.unmodifiableList(new ArrayList<>(this));
+      }
+
+      private UnsupportedOperationException _unsupported() {
+         return new UnsupportedOperationException("Only appending and removing the innermost validation cycle is supported.");
+      }
+
+      @Override
+      public boolean add(final InternalValidationCycle cycle) {
+         addLast(cycle);
+         return true;
+      }
+
+      @Override
+      public void add(final int index, final InternalValidationCycle cycle) {
+         if (index != size())
+            throw _unsupported();
+         addLast(cycle);
+      }
+
+      @Override
+      public boolean addAll(final Collection<? extends InternalValidationCycle> cycles) {
+         throw _unsupported();
+      }
+
+      @Override
+      public boolean addAll(final int index, final Collection<? extends InternalValidationCycle> cycles) {
+         throw _unsupported();
+      }
+
+      @Override
+      public void addFirst(final InternalValidationCycle cycle) {
+         throw _unsupported();
+      }
+
+      @Override
+      public void addLast(final InternalValidationCycle cycle) {
+         Assert.argumentNotNull("cycle", cycle);
+         enterValidationCycle(cycle);
+         super.addLast(cycle);
+      }
+
+      @Override
+      public void clear() {
+         throw _unsupported();
+      }
+
+      @Override
+      public Iterator<InternalValidationCycle> descendingIterator() {
+         final ListIterator<InternalValidationCycle> it = _readOnlyCopy().listIterator(size());
+         return new Iterator<InternalValidationCycle>() {
+            @Override
+            public boolean hasNext() {
+               return it.hasPrevious();
+            }
+
+            @Override
+            public InternalValidationCycle next() {
+               return it.previous();
+            }
+         };
+      }
+
+      @Override
+      public ListIterator<InternalValidationCycle> listIterator(final int index) {
+         return _readOnlyCopy().listIterator(index);
+      }
+
+      @Override
+      public boolean offer(final InternalValidationCycle cycle) {
+         return add(cycle);
+      }
+
+      @Override
+      public boolean offerFirst(final InternalValidationCycle cycle) {
+         throw _unsupported();
+      }
+
+      @Override
+      public boolean offerLast(final InternalValidationCycle cycle) {
+         return add(cycle);
+      }
+
+      @Override
+      public InternalValidationCycle poll() {
+         throw _unsupported();
+      }
+
+      @Override
+      public InternalValidationCycle pollFirst() {
+         throw _unsupported();
+      }
+
+      @Override
+      public InternalValidationCycle pollLast() {
+         return isEmpty() ? null : removeLast();
+      }
+
+      @Override
+      public InternalValidationCycle pop() {
+         throw _unsupported();
+      }
+
+      @Override
+      public void push(final InternalValidationCycle cycle) {
+         throw _unsupported();
+      }
+
+      @Override
+      public InternalValidationCycle remove() {
+         throw _unsupported();
+      }
+
+      @Override
+      public InternalValidationCycle remove(final int index) {
+         if (index != size() - 1)
+            throw _unsupported();
+         return removeLast();
+      }
+
+      @Override
+      public boolean remove(final Object cycle) {
+         throw _unsupported();
+      }
+
+      @Override
+      public boolean removeAll(final Collection<?> cycles) {
+         throw _unsupported();
+      }
+
+      @Override
+      public InternalValidationCycle removeFirst() {
+         throw _unsupported();
+      }
+
+      @Override
+      public boolean removeFirstOccurrence(final Object cycle) {
+         throw _unsupported();
+      }
+
+      @Override
+      public boolean removeIf(final Predicate<? super InternalValidationCycle> filter) {
+         throw _unsupported();
+      }
+
+      @Override
+      public InternalValidationCycle removeLast() {
+         final InternalValidationCycle cycle = getLast();
+         if (cycle != currentValidationCycle.get())
+            throw new IllegalStateException("The innermost validation cycle was not entered via enterValidationCycle(InternalValidationCycle).");
+         exitValidationCycle(cycle);
+         return super.removeLast();
+      }
+
+      @Override
+      public boolean removeLastOccurrence(final Object cycle) {
+         throw _unsupported();
+      }
+
+      @Override
+      public void replaceAll(final UnaryOperator<InternalValidationCycle> operator) {
+         throw _unsupported();
+      }
+
+      @Override
+      public boolean retainAll(final Collection<?> cycles) {
+         throw _unsupported();
+      }
+
+      @Override
+      public InternalValidationCycle set(final int index, final InternalValidationCycle cycle) {
+         throw _unsupported();
+      }
+
+      @Override
+      public void sort(final Comparator<? super InternalValidationCycle> comparator) {
+         throw _unsupported();
+      }
+   }
 
    private ExceptionTranslator exceptionTranslator;
 
    protected final ExpressionLanguageRegistry expressionLanguageRegistry = new ExpressionLanguageRegistry();
 
-   private final Set<String> disabledProfiles = collectionFactory.createSet();
-   private final Set<String> enabledProfiles = collectionFactory.createSet();
-   private boolean isAllProfilesEnabledByDefault = true;
+   private volatile ProfilesSnapshot profilesSnapshot = new ProfilesSnapshot(true, Collections.emptySet());
+
+   private volatile boolean isFrozen;
+   private boolean isSpecializedValidationEnabled = false;
+
+   /**
+    * indicates that a sub class overrides {@link #checkConstraint(Check, Object, Object, OValContext, InternalValidationCycle, boolean)}, in
+    * which case all checks of the validated objects and their elements are evaluated via this method
+    */
+   private final boolean isCheckConstraintOverridden = _isOverridden(getClass(), "checkConstraint", Check.class, Object.class, Object.class,
+      OValContext.class, InternalValidationCycle.class, boolean.class);
+
+   /**
+    * indicates that a sub class overrides {@link #isAnyProfileEnabled(String[], String[])}, in which case the profiles of all checks are
+    * evaluated via this method instead of via bit masks
+    */
+   private final boolean isAnyProfileEnabledOverridden = _isOverridden(getClass(), "isAnyProfileEnabled", String[].class, String[].class);
 
    /**
-    * Flag that indicates any configuration method related to profiles was called.
-    * Used for performance improvements.
+    * indicates that fields and array elements of primitive numeric types may be validated without boxing their values. This bypasses
+    * {@link #resolveValue(FieldContext, Object)}, {@link #checkConstraint(Check, Object, Object, OValContext, InternalValidationCycle, boolean)}
+    * and {@link #isAnyProfileEnabled(String[], String[])} and is therefore disabled if a sub class overrides any of them.
     */
-   private boolean isProfilesFeatureUsed = false;
+   private final boolean isPrimitiveValidationAllowed = !isCheckConstraintOverridden && !isAnyProfileEnabledOverridden //
+      && !_isOverridden(getClass(), "resolveValue", FieldContext.class, Object.class);
+
+   private int parallelAssertValidThreshold = 0;
+   private ForkJoinPool parallelValidationPool;
 
    protected final ObjectGraphNavigatorRegistry ognRegistry = new ObjectGraphNavigatorRegistry();
 
+   /**
+    * compiled target expressions of checks not extending {@link AbstractCheck}
+    */
+   private final ConcurrentMap<String, TargetPath> targetPathsByTarget = collectionFactory.createConcurrentMap();
+
+   /**
+    * identifies the current constraint sets and class checks, replaced on reconfiguration to invalidate the references resolved by
+    * {@link AssertConstraintSetCheck}s and {@link AssertFieldConstraintsCheck}s
+    */
+   private volatile Object checkReferencesConfiguration = new Object();
+
+   /**
+    * instances of immutable classes found to be valid
+    */
+   private final ValidationResultCache validationResultCache = new ValidationResultCache(4096);
+
    protected final DelegatingParameterNameResolver parameterNameResolver = new DelegatingParameterNameResolver(new ParameterNameResolverEnumerationImpl());
 
    /**
@@ -330,6 +958,10 @@ public class Validator implements IValidator {
          cc.isCheckInvariants = classCfg.checkInvariants;
       }
 
+      if (classCfg.immutable != null) {
+         cc.isImmutable = classCfg.immutable;
+      }
+
       // cache the result for better performance
       final boolean applyFieldConstraintsToConstructors = TRUE.equals(classCfg.applyFieldConstraintsToConstructors);
       final boolean applyFieldConstraintsToSetters = TRUE.equals(classCfg.applyFieldConstraintsToSetters);
@@ -389,7 +1021,7 @@ public class Validator implements IValidator {
                }
 
                if (TRUE.equals(ctorCfg.postCheckInvariants)) {
-                  cc.methodsWithCheckInvariantsPost.add(ctor);
+                  cc.addMethodCheckInvariantsPost(ctor);
                }
 
                final String[] paramNames = parameterNameResolver.getParameterNames(ctor);
@@ -421,9 +1053,7 @@ public class Validator implements IValidator {
 
                      // check if a corresponding field has been found
                      if (field != null && paramTypes[i].isAssignableFrom(field.getType())) {
-                        final AssertFieldConstraintsCheck check = new AssertFieldConstraintsCheck();
-                        check.setFieldName(field.getName());
-                        cc.addConstructorParameterChecks(ctor, i, check);
+                        cc.addConstructorParameterChecks(ctor, i, _createAssertFieldConstraintsCheck(cc, field));
                      }
                   }
                }
@@ -464,9 +1094,7 @@ public class Validator implements IValidator {
 
                   // check if a corresponding field has been found
                   if (field != null) {
-                     final AssertFieldConstraintsCheck check = new AssertFieldConstraintsCheck();
-                     check.setFieldName(field.getName());
-                     cc.addMethodParameterChecks(method, 0, check);
+                     cc.addMethodParameterChecks(method, 0, _createAssertFieldConstraintsCheck(cc, field));
                   }
                }
 
@@ -509,7 +1137,7 @@ public class Validator implements IValidator {
                }
 
                if (TRUE.equals(methodCfg.preCheckInvariants)) {
-                  cc.methodsWithCheckInvariantsPre.add(method);
+                  cc.addMethodCheckInvariantsPre(method);
                }
 
                /*
@@ -526,7 +1154,7 @@ public class Validator implements IValidator {
                }
 
                if (TRUE.equals(methodCfg.postCheckInvariants)) {
-                  cc.methodsWithCheckInvariantsPost.add(method);
+                  cc.addMethodCheckInvariantsPost(method);
                }
 
                /*
@@ -550,6 +1178,24 @@ public class Validator implements IValidator {
       }
    }
 
+   /**
+    * Registers the given constraint set without checking if the configuration is frozen, used to register constraint sets that are resolved
+    * lazily via the configurers.
+    */
+   private void _addConstraintSet(final ConstraintSet constraintSet, final boolean overwrite) throws ConstraintSetAlreadyDefinedException {
+      if (!overwrite && constraintSetsById.containsKey(constraintSet.getId()))
+         throw new ConstraintSetAlreadyDefinedException(constraintSet.getId());
+
+      constraintSetsById.put(constraintSet.getId(), constraintSet);
+      checkReferencesConfiguration = new Object();
+      validationResultCache.clear();
+   }
+
+   private void _assertNotFrozen() {
+      if (isFrozen)
+         throw new IllegalStateException("The constraint configuration of this validator is frozen.");
+   }
+
    private void _checkConstraint(final Check check, final Object validatedObject, final Object valueToValidate, final InternalValidationCycle cycle) {
       /*
        * special handling of the AssertValid constraint
@@ -564,6 +1210,9 @@ public class Validator implements IValidator {
        */
       if (check instanceof ConstraintsCheck) {
          for (final Check innerCheck : ((ConstraintsCheck) check).checks) {
+            if (cycle.isAborted) {
+               break;
+            }
             checkConstraint(innerCheck, validatedObject, valueToValidate, cycle.getContext(), cycle, false);
          }
          return;
@@ -589,76 +1238,453 @@ public class Validator implements IValidator {
        * standard constraints handling
        */
       if (!check.isSatisfied(validatedObject, valueToValidate, cycle)) {
-         final String errorMessage = renderMessage(cycle.contextPath, valueToValidate, check.getMessage(), check.getMessageVariables());
-         cycle.addConstraintViolation(check, errorMessage, valueToValidate);
+         _addConstraintViolation(check, valueToValidate, cycle);
       }
    }
 
-   private Class<?> _getContainerElementType(final OValContext containerContext, final int typeArgumentIndex) {
-      if (containerContext instanceof FieldContext) {
-         final FieldContext ctx = (FieldContext) containerContext;
-         return ReflectionUtils.getTypeArgument(ctx.getField(), typeArgumentIndex);
+   /**
+    * Validates the elements of a primitive array without boxing them. Elements are only boxed to report a violation.
+    *
+    * @return <code>false</code> if the array's component type is not supported, i.e. the elements have to be validated one by one
+    */
+   private boolean _checkConstraintPrimitiveArray(final PrimitiveValueCheck check, final Object array,
+      final ElementContextCursor.IterableElement cursor, final InternalValidationCycle cycle) {
+      if (array instanceof int[]) {
+         final int[] values = (int[]) array;
+         for (int i = 0; i < values.length && !cycle.isAborted; i++) {
+            if (!check.isSatisfied(values[i])) {
+               _addConstraintViolation(check, values[i], cursor.moveTo(i), cycle);
+            }
+         }
+      } else if (array instanceof long[]) {
+         final long[] values = (long[]) array;
+         for (int i = 0; i < values.length && !cycle.isAborted; i++) {
+            if (!check.isSatisfied(values[i])) {
+               _addConstraintViolation(check, values[i], cursor.moveTo(i), cycle);
+            }
+         }
+      } else if (array instanceof double[]) {
+         final double[] values = (double[]) array;
+         for (int i = 0; i < values.length && !cycle.isAborted; i++) {
+            if (!check.isSatisfied(values[i])) {
+               _addConstraintViolation(check, values[i], cursor.moveTo(i), cycle);
+            }
+         }
+      } else if (array instanceof float[]) {
+         final float[] values = (float[]) array;
+         for (int i = 0; i < values.length && !cycle.isAborted; i++) {
+            if (!check.isSatisfied(values[i])) {
+               _addConstraintViolation(check, values[i], cursor.moveTo(i), cycle);
+            }
+         }
+      } else if (array instanceof short[]) {
+         final short[] values = (short[]) array;
+         for (int i = 0; i < values.length && !cycle.isAborted; i++) {
+            if (!check.isSatisfied(values[i])) {
+               _addConstraintViolation(check, values[i], cursor.moveTo(i), cycle);
+            }
+         }
+      } else if (array instanceof byte[]) {
+         final byte[] values = (byte[]) array;
+         for (int i = 0; i < values.length && !cycle.isAborted; i++) {
+            if (!check.isSatisfied(values[i])) {
+               _addConstraintViolation(check, values[i], cursor.moveTo(i), cycle);
+            }
+         }
+      } else
+         return false;
+      return true;
+   }
+
+   private void _addConstraintViolation(final Check check, final Object invalidValue, final InternalValidationCycle cycle) {
+      if (cycle.isCheckOnly) {
+         cycle.isAborted = true;
+         return;
       }
-      if (containerContext instanceof MethodParameterContext) {
-         final MethodParameterContext ctx = (MethodParameterContext) containerContext;
-         return ReflectionUtils.getTypeArgument(ctx.getMethod(), ctx.getParameterIndex(), typeArgumentIndex);
+      // the message is rendered on first access, most violations are only evaluated by error code or severity
+      cycle.addConstraintViolation(new ConstraintViolation(check, this, localeProvider.getLocale(), cycle.rootValidatedObject, invalidValue, cycle
+         .getContextPath()));
+   }
+
+   private void _addConstraintViolation(final Check check, final Object invalidValue, final OValContext context, final InternalValidationCycle cycle) {
+      cycle.contextPath.add(context);
+      try {
+         _addConstraintViolation(check, invalidValue, cycle);
+      } finally {
+         CollectionUtils.removeLast(cycle.contextPath);
       }
+   }
+
+   /**
+    * Validates the given collection or array elements in parallel using chunks of elements that are each validated in a forked validation
+    * cycle. The violations and validated objects of the forked cycles are merged in element order.
+    */
+   private void _checkConstraintParallel(final Check check, final Object validatedObject, final Object[] elements, final Class<?> elementType,
+      final InternalValidationCycle cycle, final int targets) {
+
+      // skip elements already validated or contained multiple times, as the sequential validation would do
+      final boolean[] isElementSkipped = new boolean[elements.length];
+      final IdentityHashSet<Object> distinctElements = new IdentityHashSet<>(elements.length);
+      for (int i = 0; i < elements.length; i++) {
+         final Object element = elements[i];
+         if (element != null && (cycle.isValidated(element) || !distinctElements.add(element))) {
+            isElementSkipped[i] = true;
+         }
+      }
+
+      final ForkJoinPool pool = parallelValidationPool == null ? ForkJoinPool.commonPool() : parallelValidationPool;
+      final int chunkSize = Math.max(1, (elements.length + pool.getParallelism() * 4 - 1) / (pool.getParallelism() * 4));
+      final ElementsValidationTask[] tasks = new ElementsValidationTask[(elements.length + chunkSize - 1) / chunkSize];
+      for (int i = 0; i < tasks.length; i++) {
+         tasks[i] = new ElementsValidationTask(check, validatedObject, elements, isElementSkipped, elementType, cycle, targets, i * chunkSize, Math
+            .min(elements.length, (i + 1) * chunkSize));
+      }
+
+      if (ForkJoinTask.inForkJoinPool()) {
+         ForkJoinTask.invokeAll(tasks);
+      } else {
+         pool.invoke(new RecursiveAction() {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected void compute() {
+               invokeAll(tasks);
+            }
+         });
+      }
+
+      // merge the results in element order, objects also validated by a preceding chunk are reported by that chunk only, like a sequential
+      // validation would do
+      final IdentityHashSet<Object> validatedByPrecedingChunks = new IdentityHashSet<>(16);
+      for (final ElementsValidationTask task : tasks) {
+         final List<ConstraintViolation> violations = task.cycle.violations;
+         final boolean[] isViolationDiscarded = new boolean[violations.size()];
+         for (final ForkedValidation validation : task.cycle.forkedValidations) {
+            if (validatedByPrecedingChunks.contains(validation.validatedObject)) {
+               Arrays.fill(isViolationDiscarded, validation.violationsFrom, validation.violationsTo, true);
+            }
+         }
+
+         // indexes of the merged violations in the violations of the given cycle, to pass on the forked validations to a forked cycle
+         final int[] mergedIndexes = new int[violations.size() + 1];
+         int mergedIndex = cycle.violations.size();
+         for (int i = 0; i < violations.size(); i++) {
+            mergedIndexes[i] = mergedIndex;
+            if (!isViolationDiscarded[i]) {
+               cycle.addConstraintViolation(violations.get(i));
+               mergedIndex++;
+            }
+         }
+         mergedIndexes[violations.size()] = mergedIndex;
+         if (cycle.forkedValidations != null) {
+            for (final ForkedValidation validation : task.cycle.forkedValidations) {
+               if (!validatedByPrecedingChunks.contains(validation.validatedObject)) {
+                  cycle.forkedValidations.add(new ForkedValidation(validation.validatedObject, mergedIndexes[validation.violationsFrom],
+                     mergedIndexes[validation.violationsTo]));
+               }
+            }
+         }
+
+         if (task.cycle.isCheckOnly && task.cycle.isAborted) {
+            cycle.isAborted = true;
+         }
+         validatedByPrecedingChunks.addAll(task.cycle.validatedObjects);
+         cycle.validatedObjects.addAll(task.cycle.validatedObjects);
+         final List<Object> pendingValidObjects = task.cycle.pendingValidObjects;
+         if (pendingValidObjects != null) {
+            for (final Object validObject : pendingValidObjects) {
+               _addPendingValidObject(cycle, validObject, task.cycle.pendingValidObjectsProfilesMask, task.cycle.pendingValidObjectsGeneration);
+            }
+         }
+      }
+   }
+
+   private Class<?> _getContainerElementType(final OValContext containerContext, final int typeArgumentIndex) {
+      if (containerContext instanceof FieldContext)
+         return ((FieldContext) containerContext).getTypeArgument(typeArgumentIndex);
+      if (containerContext instanceof MethodParameterContext)
+         return ((MethodParameterContext) containerContext).getTypeArgument(typeArgumentIndex);
       return null;
    }
 
    /**
-    * Validate validatedObject based on the constraints of the given class.
+    * Validates the root objects in the given index range using a single validation cycle.
     */
-   private void _validateObjectInvariants(final Object validatedObject, final Class<?> clazz, final InternalValidationCycle cycle)
+   private void _validateAll(final Object[] validatedObjects, final List<ConstraintViolation>[] results, final int from, final int to)
       throws ValidationFailedException {
+      final InternalValidationCycle cycle = new InternalValidationCycle(null, null);
+      enterValidationCycle(cycle);
+      try {
+         for (int i = from; i < to; i++) {
+            final Object validatedObject = validatedObjects[i];
+            cycle.rootValidatedObject = validatedObject;
+            validateInvariants(validatedObject, cycle);
+            results[i] = cycle.violations;
+            cycle.violations = Collections.emptyList();
+            cycle.violationCount = 0;
+            cycle.validatedObjects.clear();
+         }
+      } finally {
+         exitValidationCycle(cycle);
+      }
+   }
+
+   /**
+    * @return the number of elements above which the elements of a collection or array are validated in parallel, 0 if disabled
+    */
+   private int _getParallelThreshold(final Check check) {
+      if (!(check instanceof AssertValidCheck))
+         return 0;
+      final int threshold = ((AssertValidCheck) check).getParallelThreshold();
+      return threshold < 0 ? parallelAssertValidThreshold : threshold;
+   }
+
+   /**
+    * @return the bit mask of the profiles enabled for the given cycle, either locally or globally
+    */
+   private long _getProfilesMask(final InternalValidationCycle cycle) {
+      return cycle.profiles == null ? profilesSnapshot.enabledMask : cycle.getProfilesMask();
+   }
+
+   /**
+    * @return the compiled target expression of the given check
+    */
+   private TargetPath _getTargetPath(final Check check, final String target) {
+      if (check instanceof AbstractCheck)
+         return ((AbstractCheck) check).getTargetPath(ognRegistry);
+
+      TargetPath targetPath = targetPathsByTarget.get(target);
+      if (targetPath == null || !targetPath.isCompiledFor(target, ognRegistry)) {
+         targetPath = TargetPath.compile(target, ognRegistry);
+         targetPathsByTarget.put(target, targetPath);
+      }
+      return targetPath;
+   }
+
+   /**
+    * @return <code>true</code> if the given check does not declare its dependencies or declares a dependency on the given field
+    */
+   private static boolean _isAffectedBy(final Check check, final Field modifiedField) {
+      if (!(check instanceof AbstractCheck))
+         return true;
+      final String[] dependsOn = ((AbstractCheck) check).getDependsOn();
+      return dependsOn == null || ArrayUtils.containsEqual(dependsOn, modifiedField.getName());
+   }
+
+   private static boolean _isAffectedBy(final Check[] checks, final Field modifiedField) {
+      for (final Check check : checks) {
+         if (_isAffectedBy(check, modifiedField))
+            return true;
+      }
+      return false;
+   }
+
+   /**
+    * Bit mask based variant of {@link #isAnyProfileEnabled(String[], String[])}.
+    */
+   private boolean _isAnyProfileEnabled(final Check check, final InternalValidationCycle cycle) {
+      if (isAnyProfileEnabledOverridden)
+         return isAnyProfileEnabled(check.getProfiles(), cycle.profiles);
 
-      // abort if the root class has been reached
-      if (clazz == Object.class)
+      final long checkMask = check instanceof AbstractCheck ? ((AbstractCheck) check).getProfilesMask() : ProfileRegistry.getMask(check.getProfiles());
+
+      // profiles without a dedicated bit require a name based comparison
+      if ((checkMask & ProfileRegistry.OVERFLOW) != 0)
+         return isAnyProfileEnabled(check.getProfiles(), cycle.profiles);
+
+      return (checkMask & _getProfilesMask(cycle)) != 0;
+   }
+
+   /**
+    * @return a check asserting the constraints of the given field, the field is resolved upfront if it is declared by the configured class
+    */
+   private AssertFieldConstraintsCheck _createAssertFieldConstraintsCheck(final ClassChecks cc, final Field field) {
+      final AssertFieldConstraintsCheck check = new AssertFieldConstraintsCheck();
+      check.setFieldName(field.getName());
+      if (field.getDeclaringClass() == cc.clazz) {
+         check.setDeclaringClass(cc.clazz);
+         check.setResolvedReference(ResolvedCheckReference.ofField(checkReferencesConfiguration, cc.clazz, field.getName(), cc, field));
+      }
+      return check;
+   }
+
+   /**
+    * Remembers an instance of an immutable class found to be valid, see {@link InternalValidationCycle#pendingValidObjects}.
+    */
+   private static void _addPendingValidObject(final InternalValidationCycle cycle, final Object validObject, final long profilesMask,
+      final int cacheGeneration) {
+      if (cycle.pendingValidObjects == null) {
+         cycle.pendingValidObjects = new ArrayList<>(4);
+         cycle.pendingValidObjectsProfilesMask = profilesMask;
+         cycle.pendingValidObjectsGeneration = cacheGeneration;
+      } else if (cycle.pendingValidObjectsProfilesMask != profilesMask || cycle.pendingValidObjectsGeneration != cacheGeneration)
+         // the profiles or the configuration changed during the validation
+         return;
+      cycle.pendingValidObjects.add(validObject);
+   }
+
+   /**
+    * Adds the instances of immutable classes found to be valid to the result cache if the validation of the root object completed without
+    * violations.
+    */
+   private void _commitPendingValidObjects(final InternalValidationCycle cycle) {
+      final List<Object> pendingValidObjects = cycle.pendingValidObjects;
+      cycle.pendingValidObjects = null;
+      if (_hasViolations(cycle))
          return;
+      for (final Object validObject : pendingValidObjects) {
+         validationResultCache.setValid(validObject, cycle.pendingValidObjectsProfilesMask, cycle.pendingValidObjectsGeneration);
+      }
+   }
+
+   /**
+    * Evaluates the given check via {@link #checkConstraint(Check, Object, Object, OValContext, InternalValidationCycle, boolean)} if it is
+    * overridden by a sub class, otherwise the precomputed constraint targets are used.
+    */
+   private void _dispatchCheckConstraint(final Check check, final Object validatedObject, final Object valueToValidate, final OValContext context,
+      final InternalValidationCycle cycle, final boolean isContainerValue, final int targets) throws OValException {
+      if (isCheckConstraintOverridden) {
+         checkConstraint(check, validatedObject, valueToValidate, context, cycle, isContainerValue);
+      } else {
+         checkConstraint(check, validatedObject, valueToValidate, context, cycle, isContainerValue, targets);
+      }
+   }
+
+   /**
+    * @return <code>true</code> if the given method of the validator class is overridden by the given sub class
+    */
+   private static boolean _isOverridden(final Class<? extends Validator> clazz, final String methodName, final Class<?>... parameterTypes) {
+      final Method method = ReflectionUtils.getMethodRecursive(clazz, methodName, parameterTypes);
+      return method != null && method.getDeclaringClass() != Validator.class;
+   }
 
+   /**
+    * @return <code>true</code> if violations were detected by the given cycle or the cycles it was forked from
+    */
+   private static boolean _hasViolations(final InternalValidationCycle cycle) {
+      for (InternalValidationCycle c = cycle; c != null; c = c.forkedFrom) {
+         if (c.isAborted || c.violationCount > 0 || !c.violations.isEmpty())
+            return true;
+      }
+      return false;
+   }
+
+   /**
+    * Validate validatedObject based on the constraints of the given class.
+    *
+    * @param modifiedField if not null only the constraints of this field and the getter and object level constraints that may depend on it are
+    *           validated, see {@link AbstractCheck#getDependsOn()}
+    */
+   private void _validateObjectInvariants(final Object validatedObject, final Class<?> clazz, final Field modifiedField,
+      final InternalValidationCycle cycle) throws ValidationFailedException {
+
+      ValidationPlan.Step step = null;
+      cycle.objectDepth++;
       try {
-         final ClassChecks cc = getClassChecks(clazz);
+         final long profilesMask = _getProfilesMask(cycle);
+         ValidationPlan plan = cycle.lastValidationPlan;
+         // if the profiles are evaluated by a sub class, the checks cannot be filtered via the mask
+         final long planProfilesMask = isAnyProfileEnabledOverridden ? ValidationPlan.ALL_PROFILES : profilesMask;
+         if (plan == null || plan.clazz != clazz || plan.profilesMask != planProfilesMask || !isFrozen && plan.isStale()) {
+            plan = isAnyProfileEnabledOverridden ? getValidationPlan(clazz) : getValidationPlan(clazz).forProfiles(profilesMask);
+            cycle.lastValidationPlan = plan;
+         }
 
-         // validate field constraints
-         for (final Field field : cc.constrainedFields) {
-            final Collection<Check> checks = cc.checksForFields.get(field);
+         // profiles without a dedicated bit cannot be distinguished by the mask
+         final boolean isCacheable = plan.isImmutable && modifiedField == null && !isAnyProfileEnabledOverridden //
+            && (cycle.profiles == null ? profilesSnapshot.isMaskExact : (profilesMask & ProfileRegistry.OVERFLOW) == 0);
+         if (isCacheable && validationResultCache.isValid(validatedObject, profilesMask))
+            return;
+         final int cacheGeneration = validationResultCache.getGeneration();
 
-            if (checks != null && !checks.isEmpty()) {
-               final FieldContext ctx = ContextCache.getFieldContext(field);
-               final Object valueToValidate = resolveValue(ctx, validatedObject);
+         for (final ValidationPlan.Step planStep : plan.steps) {
+            if (cycle.isAborted) {
+               break;
+            }
+            if (modifiedField != null && (planStep.field == null ? !_isAffectedBy(planStep.checks, modifiedField)
+               : !modifiedField.equals(planStep.field))) {
+               continue;
+            }
+            step = planStep;
+            if (step.primitiveType != ValidationPlan.PRIMITIVE_NONE && isPrimitiveValidationAllowed) {
+               _validatePrimitiveField(validatedObject, step, cycle);
+               continue;
+            }
 
-               for (final Check check : checks) {
-                  checkConstraint(check, validatedObject, valueToValidate, ctx, cycle, false);
+            final Object valueToValidate;
+            if (step.field != null) {
+               valueToValidate = resolveValue((FieldContext) step.context, validatedObject);
+            } else if (step.getter != null) {
+               valueToValidate = resolveValue((MethodReturnValueContext) step.context, validatedObject);
+            } else {
+               valueToValidate = validatedObject;
+            }
+
+            final Check[] checks = step.checks;
+            final int[] checkTargets = step.checkTargets;
+            final boolean[] checkSpecialized = step.checkSpecialized;
+            for (int i = 0; i < checks.length && !cycle.isAborted; i++) {
+               if (modifiedField != null && step.field == null && !_isAffectedBy(checks[i], modifiedField)) {
+                  continue;
+               }
+               if (isSpecializedValidationEnabled && checkSpecialized[i] && !isCheckConstraintOverridden) {
+                  checkConstraintSpecialized(checks[i], validatedObject, valueToValidate, step.context, cycle);
+               } else {
+                  _dispatchCheckConstraint(checks[i], validatedObject, valueToValidate, step.context, cycle, false, checkTargets[i]);
                }
             }
          }
 
-         // validate constraints on getter methods
-         for (final Method getter : cc.constrainedMethods) {
-            final Collection<Check> checks = cc.checksForMethodReturnValues.get(getter);
-
-            if (checks != null && !checks.isEmpty()) {
-               final MethodReturnValueContext ctx = ContextCache.getMethodReturnValueContext(getter);
-               final Object valueToValidate = resolveValue(ctx, validatedObject);
+         if (isCacheable && !_hasViolations(cycle)) {
+            _addPendingValidObject(cycle, validatedObject, profilesMask, cacheGeneration);
+         }
+      } catch (final OValException ex) {
+         throw new ValidationFailedException("Object validation failed. Class: " + (step == null ? clazz : step.declaringClass) + " Validated object: "
+            + validatedObject, ex);
+      } finally {
+         if (--cycle.objectDepth == 0 && cycle.forkedFrom == null && cycle.pendingValidObjects != null) {
+            _commitPendingValidObjects(cycle);
+         }
+      }
+   }
 
-               for (final Check check : checks) {
-                  checkConstraint(check, validatedObject, valueToValidate, ctx, cycle, false);
+   /**
+    * Validates a field of a primitive numeric type without boxing its value, see {@link ValidationPlan.Step#primitiveType}. The value is
+    * only boxed to report a violation.
+    *
+    * Only used if {@link #isPrimitiveValidationAllowed}, as the field is read directly instead of via
+    * {@link #resolveValue(FieldContext, Object)}.
+    */
+   private void _validatePrimitiveField(final Object validatedObject, final ValidationPlan.Step step, final InternalValidationCycle cycle) {
+      final FieldAccessor accessor = AccessorCache.getFieldAccessor(step.field);
+      final Check[] checks = step.checks;
+      switch (step.primitiveType) {
+         case ValidationPlan.PRIMITIVE_LONG: {
+            final long value = accessor.getLong(validatedObject);
+            for (int i = 0; i < checks.length && !cycle.isAborted; i++) {
+               if (_isAnyProfileEnabled(checks[i], cycle) && !((PrimitiveValueCheck) checks[i]).isSatisfied(value)) {
+                  _addConstraintViolation(checks[i], resolveValue((FieldContext) step.context, validatedObject), step.context, cycle);
                }
             }
+            break;
          }
-
-         // validate class-level constraints
-         if (!cc.checksForObject.isEmpty()) {
-            final ClassContext ctx = ContextCache.getClassContext(clazz);
-            for (final Check check : cc.checksForObject) {
-               checkConstraint(check, validatedObject, validatedObject, ctx, cycle, false);
+         case ValidationPlan.PRIMITIVE_FLOAT: {
+            final float value = (float) accessor.getDouble(validatedObject);
+            for (int i = 0; i < checks.length && !cycle.isAborted; i++) {
+               if (_isAnyProfileEnabled(checks[i], cycle) && !((PrimitiveValueCheck) checks[i]).isSatisfied(value)) {
+                  _addConstraintViolation(checks[i], resolveValue((FieldContext) step.context, validatedObject), step.context, cycle);
+               }
+            }
+            break;
+         }
+         default: {
+            final double value = accessor.getDouble(validatedObject);
+            for (int i = 0; i < checks.length && !cycle.isAborted; i++) {
+               if (_isAnyProfileEnabled(checks[i], cycle) && !((PrimitiveValueCheck) checks[i]).isSatisfied(value)) {
+                  _addConstraintViolation(checks[i], resolveValue((FieldContext) step.context, validatedObject), step.context, cycle);
+               }
             }
          }
-
-         // validate checks applied to the super class (if any)
-         _validateObjectInvariants(validatedObject, clazz.getSuperclass(), cycle);
-      } catch (final OValException ex) {
-         throw new ValidationFailedException("Object validation failed. Class: " + clazz + " Validated object: " + validatedObject, ex);
       }
    }
 
@@ -669,31 +1695,35 @@ public class Validator implements IValidator {
     */
    private void _validateStaticInvariants(final Class<?> validatedClass, final InternalValidationCycle cycle) throws ValidationFailedException {
 
-      final ClassChecks cc = getClassChecks(validatedClass);
+      final ClassChecks.Snapshot snapshot = getClassChecks(validatedClass).getSnapshot();
 
       // validate static field constraints
-      for (final Field field : cc.constrainedStaticFields) {
-         final Collection<Check> checks = cc.checksForFields.get(field);
+      for (int i = 0; i < snapshot.staticFields.length; i++) {
+         final Check[] checks = snapshot.staticFieldChecks[i];
 
-         if (checks != null && !checks.isEmpty()) {
-            final FieldContext ctx = ContextCache.getFieldContext(field);
+         if (checks.length > 0) {
+            final FieldContext ctx = ContextCache.getFieldContext(snapshot.staticFields[i]);
             final Object valueToValidate = resolveValue(ctx, null);
 
             for (final Check check : checks) {
+               if (cycle.isAborted)
+                  return;
                checkConstraint(check, validatedClass, valueToValidate, ctx, cycle, false);
             }
          }
       }
 
       // validate constraints on getter methods
-      for (final Method getter : cc.constrainedStaticMethods) {
-         final Collection<Check> checks = cc.checksForMethodReturnValues.get(getter);
+      for (int i = 0; i < snapshot.staticGetters.length; i++) {
+         final Check[] checks = snapshot.staticGetterChecks[i];
 
-         if (checks != null && !checks.isEmpty()) {
-            final MethodReturnValueContext ctx = ContextCache.getMethodReturnValueContext(getter);
+         if (checks.length > 0) {
+            final MethodReturnValueContext ctx = ContextCache.getMethodReturnValueContext(snapshot.staticGetters[i]);
             final Object valueToValidate = resolveValue(ctx, null);
 
             for (final Check check : checks) {
+               if (cycle.isAborted)
+                  return;
                checkConstraint(check, validatedClass, valueToValidate, ctx, cycle, false);
             }
          }
@@ -712,6 +1742,7 @@ public class Validator implements IValidator {
       Assert.argumentNotEmpty("checks", checks);
 
       getClassChecks(clazz).addObjectChecks(checks);
+      validationResultCache.clear();
    }
 
    /**
@@ -726,6 +1757,7 @@ public class Validator implements IValidator {
       Assert.argumentNotEmpty("checks", checks);
 
       getClassChecks(field.getDeclaringClass()).addFieldChecks(field, checks);
+      validationResultCache.clear();
    }
 
    /**
@@ -741,6 +1773,7 @@ public class Validator implements IValidator {
       Assert.argumentNotEmpty("checks", checks);
 
       getClassChecks(invariantMethod.getDeclaringClass()).addMethodReturnValueChecks(invariantMethod, TRUE, checks);
+      validationResultCache.clear();
    }
 
    /**
@@ -758,11 +1791,9 @@ public class Validator implements IValidator {
       IllegalArgumentException {
       Assert.argumentNotNull("constraintSet", constraintSet);
       Assert.argumentNotBlank("constraintSet.id", constraintSet.getId());
+      _assertNotFrozen();
 
-      if (!overwrite && constraintSetsById.containsKey(constraintSet.getId()))
-         throw new ConstraintSetAlreadyDefinedException(constraintSet.getId());
-
-      constraintSetsById.put(constraintSet.getId(), constraintSet);
+      _addConstraintSet(constraintSet, overwrite);
    }
 
    @Override
@@ -772,6 +1803,21 @@ public class Validator implements IValidator {
          throw translateException(new ConstraintsViolatedException(violations));
    }
 
+   /**
+    * Validates the field and getter constrains of the given object and throws a ConstraintsViolatedException if any constraint violations are
+    * detected. The validation is aborted as soon as the abort condition of the given options is reached.
+    *
+    * @param validatedObject the object to validate, cannot be null
+    * @param options the options controlling when the validation is aborted, cannot be null
+    * @throws IllegalArgumentException if <code>validatedObject == null</code> or <code>options == null</code>
+    */
+   public void assertValid(final Object validatedObject, final ValidationOptions options) throws IllegalArgumentException, ValidationFailedException,
+      ConstraintsViolatedException {
+      final List<ConstraintViolation> violations = validate(validatedObject, options);
+      if (!violations.isEmpty())
+         throw translateException(new ConstraintsViolatedException(violations));
+   }
+
    @Override
    public void assertValidFieldValue(final Object validatedObject, final Field validatedField, final Object fieldValueToValidate)
       throws ValidationFailedException, ConstraintsViolatedException {
@@ -783,9 +1829,21 @@ public class Validator implements IValidator {
    /**
     * @param isContainerValue specifies if the value currently validated is an entry of a collection, map or array.
     */
-   protected void checkConstraint(final Check check, Object validatedObject, Object valueToValidate, OValContext context, final InternalValidationCycle cycle,
-      final boolean isContainerValue) throws OValException {
-      if (!(check instanceof ConstraintsCheck) && !isAnyProfileEnabled(check.getProfiles(), cycle.profiles))
+   protected void checkConstraint(final Check check, final Object validatedObject, final Object valueToValidate, final OValContext context,
+      final InternalValidationCycle cycle, final boolean isContainerValue) throws OValException {
+      checkConstraint(check, validatedObject, valueToValidate, context, cycle, isContainerValue, ValidationPlan.getTargets(check));
+   }
+
+   /**
+    * @param isContainerValue specifies if the value currently validated is an entry of a collection, map or array.
+    * @param targets bit mask of the constraint targets the check applies to, see {@link ValidationPlan#getTargets(Check)}
+    */
+   private void checkConstraint(final Check check, Object validatedObject, Object valueToValidate, OValContext context, final InternalValidationCycle cycle,
+      final boolean isContainerValue, final int targets) throws OValException {
+      if (cycle.isAborted)
+         return;
+
+      if (!(check instanceof ConstraintsCheck) && !_isAnyProfileEnabled(check, cycle))
          return;
 
       if (!check.isActive(validatedObject, valueToValidate, cycle))
@@ -798,40 +1856,26 @@ public class Validator implements IValidator {
 
       // only process the target expression if we are not already on a value inside the container object (collection, array, map)
       if (!isContainerValue) {
-         String target = check.getTarget();
-         if (target != null) {
-            target = target.trim();
-            if (target.length() > 0) {
-               if (valueToValidate == null)
-                  return;
-               final List<String> chunks = StringUtils.split(target, ':', 2);
-               final String ognId, path;
-               if (chunks.size() == 1) {
-                  ognId = "";
-                  path = chunks.get(0);
-               } else {
-                  ognId = chunks.get(0);
-                  path = chunks.get(1);
-               }
-               final ObjectGraphNavigationResult ognResult = ognRegistry.getObjectGraphNavigator(ognId) //
-                  .navigateTo(valueToValidate, path);
-               if (ognResult == null)
-                  return;
-
-               if (ognResult.path.indexOf('.') > -1) {
-                  cycle.contextPath.add(new ObjectGraphNavigationContext(StringUtils.substringBeforeLast(path, '.')));
-                  contextPathElementsAdded++;
-               }
-
-               validatedObject = ognResult.targetParent;
-               valueToValidate = ognResult.target;
-               context = ognResult.targetAccessor instanceof Field //
-                  ? ContextCache.getFieldContext((Field) ognResult.targetAccessor) //
-                  : ContextCache.getMethodReturnValueContext((Method) ognResult.targetAccessor);
-
-               cycle.contextPath.add(context);
+         final String target = check.getTarget();
+         final TargetPath targetPath = target == null ? null : _getTargetPath(check, target);
+         if (targetPath != null && !targetPath.isEmpty()) {
+            if (valueToValidate == null)
+               return;
+            final TargetPath.Result ognResult = targetPath.navigateTo(valueToValidate);
+            if (ognResult == null)
+               return;
+
+            if (targetPath.parentContext != null) {
+               cycle.contextPath.add(targetPath.parentContext);
                contextPathElementsAdded++;
             }
+
+            validatedObject = ognResult.targetParent;
+            valueToValidate = ognResult.target;
+            context = ognResult.context;
+
+            cycle.contextPath.add(context);
+            contextPathElementsAdded++;
          }
       }
 
@@ -845,51 +1889,98 @@ public class Validator implements IValidator {
          (valueToValidate != null ? valueToValidate.getClass().isArray() : compileTimeType != null && compileTimeType.isArray());
       final boolean isContainer = isIterable || isMap || isArray;
 
-      final ConstraintTarget[] targets = check.getAppliesTo();
+      final boolean isRecursive = !isContainerValue || (targets & ValidationPlan.TARGET_RECURSIVE) != 0;
 
       if (isContainer && valueToValidate != null) {
          if (isIterable) {
-            if (ArrayUtils.containsSame(targets, ConstraintTarget.VALUES) //
-               && (!isContainerValue || ArrayUtils.containsSame(targets, ConstraintTarget.RECURSIVE))) {
-               int i = 0;
+            if ((targets & ValidationPlan.TARGET_VALUES) != 0 && isRecursive) {
                final Class<?> elementType = _getContainerElementType(context, 0);
-               for (final Object item : (Iterable<?>) valueToValidate) {
-                  final OValContext ctx = new IterableElementContext(elementType, i);
-                  checkConstraint(check, validatedObject, item, ctx, cycle, true);
-                  i++;
+               final int parallelThreshold = _getParallelThreshold(check);
+               if (parallelThreshold > 0 && valueToValidate instanceof Collection && ((Collection<?>) valueToValidate).size() >= parallelThreshold) {
+                  _checkConstraintParallel(check, validatedObject, ((Collection<?>) valueToValidate).toArray(), elementType, cycle, targets);
+               } else {
+                  final ElementContextCursor.IterableElement cursor = cycle._acquireIterableElementCursor(elementType);
+                  cycle.elementCursors++;
+                  try {
+                     if (valueToValidate instanceof List && valueToValidate instanceof RandomAccess) {
+                        final List<?> list = (List<?>) valueToValidate;
+                        for (int i = 0, l = list.size(); i < l && !cycle.isAborted; i++) {
+                           _dispatchCheckConstraint(check, validatedObject, list.get(i), cursor.moveTo(i), cycle, true, targets);
+                        }
+                     } else {
+                        int i = 0;
+                        for (final Object item : (Iterable<?>) valueToValidate) {
+                           if (cycle.isAborted) {
+                              break;
+                           }
+                           _dispatchCheckConstraint(check, validatedObject, item, cursor.moveTo(i), cycle, true, targets);
+                           i++;
+                        }
+                     }
+                  } finally {
+                     cycle.elementCursors--;
+                  }
                }
             }
          } else if (isMap) {
-            if (ArrayUtils.containsSame(targets, ConstraintTarget.KEYS) //
-               && (!isContainerValue || ArrayUtils.containsSame(targets, ConstraintTarget.RECURSIVE))) {
-               final Class<?> elementType = _getContainerElementType(context, 0);
-               for (final Object key : ((Map<?, ?>) valueToValidate).keySet()) {
-                  final OValContext ctx = new MapKeyContext(elementType, key);
-                  checkConstraint(check, validatedObject, key, ctx, cycle, true);
+            if ((targets & ValidationPlan.TARGET_KEYS) != 0 && isRecursive) {
+               final ElementContextCursor.MapKey cursor = new ElementContextCursor.MapKey(_getContainerElementType(context, 0));
+               cycle.elementCursors++;
+               try {
+                  for (final Object key : ((Map<?, ?>) valueToValidate).keySet()) {
+                     if (cycle.isAborted) {
+                        break;
+                     }
+                     _dispatchCheckConstraint(check, validatedObject, key, cursor.moveTo(key), cycle, true, targets);
+                  }
+               } finally {
+                  cycle.elementCursors--;
                }
             }
-            if (ArrayUtils.containsSame(targets, ConstraintTarget.VALUES) //
-               && (!isContainerValue || ArrayUtils.containsSame(targets, ConstraintTarget.RECURSIVE))) {
-               final Class<?> elementType = _getContainerElementType(context, 1);
-               for (final Entry<?, ?> entry : ((Map<?, ?>) valueToValidate).entrySet()) {
-                  final OValContext ctx = new MapValueContext(elementType, entry.getKey());
-                  checkConstraint(check, validatedObject, entry.getValue(), ctx, cycle, true);
+            if ((targets & ValidationPlan.TARGET_VALUES) != 0 && isRecursive) {
+               final ElementContextCursor.MapValue cursor = new ElementContextCursor.MapValue(_getContainerElementType(context, 1));
+               cycle.elementCursors++;
+               try {
+                  for (final Entry<?, ?> entry : ((Map<?, ?>) valueToValidate).entrySet()) {
+                     if (cycle.isAborted) {
+                        break;
+                     }
+                     _dispatchCheckConstraint(check, validatedObject, entry.getValue(), cursor.moveTo(entry.getKey()), cycle, true, targets);
+                  }
+               } finally {
+                  cycle.elementCursors--;
                }
             }
          } else { // array
-            if (ArrayUtils.containsSame(targets, ConstraintTarget.VALUES) //
-               && (!isContainerValue || ArrayUtils.containsSame(targets, ConstraintTarget.RECURSIVE))) {
+            if ((targets & ValidationPlan.TARGET_VALUES) != 0 && isRecursive) {
                final Object fValidatedObject = validatedObject;
                final Class<?> elementType = valueToValidate.getClass().getComponentType();
-               ArrayUtils.iterate(valueToValidate, (i, item) -> {
-                  final OValContext ctx = new IterableElementContext(elementType, i);
-                  checkConstraint(check, fValidatedObject, item, ctx, cycle, true);
-               });
+               final int parallelThreshold = _getParallelThreshold(check);
+               if (parallelThreshold > 0 && valueToValidate instanceof Object[] && ((Object[]) valueToValidate).length >= parallelThreshold) {
+                  _checkConstraintParallel(check, validatedObject, (Object[]) valueToValidate, elementType, cycle, targets);
+               } else {
+                  final ElementContextCursor.IterableElement cursor = cycle._acquireIterableElementCursor(elementType);
+                  cycle.elementCursors++;
+                  try {
+                     if (valueToValidate instanceof Object[]) {
+                        final Object[] array = (Object[]) valueToValidate;
+                        for (int i = 0; i < array.length && !cycle.isAborted; i++) {
+                           _dispatchCheckConstraint(check, validatedObject, array[i], cursor.moveTo(i), cycle, true, targets);
+                        }
+                     } else if (!(isPrimitiveValidationAllowed && ValidationPlan.isUnconditionalPrimitiveValueCheck(check)) //
+                        || !_checkConstraintPrimitiveArray((PrimitiveValueCheck) check, valueToValidate, cursor, cycle)) {
+                        ArrayUtils.iterate(valueToValidate, (i, item) -> _dispatchCheckConstraint(check, fValidatedObject, item, cursor.moveTo(i), cycle, true,
+                           targets));
+                     }
+                  } finally {
+                     cycle.elementCursors--;
+                  }
+               }
             }
          }
       }
 
-      if (isContainerValue || !isContainer || isContainer && ArrayUtils.containsSame(targets, ConstraintTarget.CONTAINER)) {
+      if (!cycle.isAborted && (isContainerValue || !isContainer || isContainer && (targets & ValidationPlan.TARGET_CONTAINER) != 0)) {
          _checkConstraint(check, validatedObject, valueToValidate, cycle);
       }
 
@@ -898,9 +1989,35 @@ public class Validator implements IValidator {
       }
    }
 
+   /**
+    * Evaluates a check that neither uses a target expression nor is applied to a collection, map or array, see
+    * {@link #setSpecializedValidationEnabled(boolean)}.
+    *
+    * @see ValidationPlan#isSpecializable(Check, Class)
+    */
+   protected void checkConstraintSpecialized(final Check check, final Object validatedObject, final Object valueToValidate, final OValContext context,
+      final InternalValidationCycle cycle) throws OValException {
+      if (!_isAnyProfileEnabled(check, cycle))
+         return;
+
+      if (!check.isActive(validatedObject, valueToValidate, cycle))
+         return;
+
+      cycle.contextPath.add(context);
+      _checkConstraint(check, validatedObject, valueToValidate, cycle);
+      CollectionUtils.removeLast(cycle.contextPath);
+   }
+
    protected void checkConstraintAssertConstraintSet(final AssertConstraintSetCheck check, final Object validatedObject, final Object valueToValidate,
       final InternalValidationCycle cycle) throws OValException {
-      final ConstraintSet cs = getConstraintSet(check.getId());
+      ResolvedCheckReference ref = check.getResolvedReference();
+      final Object configuration = checkReferencesConfiguration;
+      if (ref == null || !ref.isResolvedFor(configuration, null, null)) {
+         // unknown constraint sets are remembered too, so the configurers are only queried once
+         ref = ResolvedCheckReference.ofConstraintSet(configuration, getConstraintSet(check.getId()));
+         check.setResolvedReference(ref);
+      }
+      final ConstraintSet cs = ref.constraintSet;
 
       if (cs == null)
          throw new UndefinedConstraintSetException(check.getId());
@@ -909,6 +2026,9 @@ public class Validator implements IValidator {
       if (referencedChecks != null && !referencedChecks.isEmpty()) {
          final OValContext context = CollectionUtils.removeLast(cycle.contextPath);
          for (final Check referencedCheck : referencedChecks) {
+            if (cycle.isAborted) {
+               break;
+            }
             checkConstraint(referencedCheck, validatedObject, valueToValidate, context, cycle, false);
          }
          cycle.contextPath.add(context);
@@ -960,15 +2080,24 @@ public class Validator implements IValidator {
       /*
        * find the field based on fieldName and targetClass
        */
-      final Field field = ReflectionUtils.getFieldRecursive(targetClass, fieldName);
+      ResolvedCheckReference ref = check.getResolvedReference();
+      final Object configuration = checkReferencesConfiguration;
+      if (ref == null || !ref.isResolvedFor(configuration, targetClass, fieldName)) {
+         final Field field = ReflectionUtils.getFieldRecursive(targetClass, fieldName);
 
-      if (field == null)
-         throw new FieldNotFoundException("Field <" + fieldName + "> not found in class <" + targetClass + "> or its super classes.");
+         if (field == null)
+            throw new FieldNotFoundException("Field <" + fieldName + "> not found in class <" + targetClass + "> or its super classes.");
 
-      final ClassChecks cc = getClassChecks(field.getDeclaringClass());
-      final Collection<Check> referencedChecks = cc.checksForFields.get(field);
-      if (referencedChecks != null && !referencedChecks.isEmpty()) {
+         ref = ResolvedCheckReference.ofField(configuration, targetClass, fieldName, getClassChecks(field.getDeclaringClass()), field);
+         check.setResolvedReference(ref);
+      }
+
+      final Check[] referencedChecks = ref.getFieldChecks();
+      if (referencedChecks.length > 0) {
          for (final Check referencedCheck : referencedChecks) {
+            if (cycle.isAborted) {
+               break;
+            }
             checkConstraint(referencedCheck, validatedObject, valueToValidate, context, cycle, false);
          }
       }
@@ -981,21 +2110,25 @@ public class Validator implements IValidator {
          return;
 
       // ignore circular dependencies
-      if (isCurrentlyValidated(valueToValidate))
+      if (cycle.isValidated(valueToValidate))
+         return;
+
+      if (cycle.forkedValidations == null) {
+         validateInvariants(valueToValidate, cycle);
          return;
+      }
 
+      // remember the violations of the object, see _checkConstraintParallel
+      final int violationsFrom = cycle.violations.size();
       validateInvariants(valueToValidate, cycle);
+      cycle.forkedValidations.add(new ForkedValidation(valueToValidate, violationsFrom, cycle.violations.size()));
    }
 
    /**
     * Disables all constraints profiles globally, i.e. no configured constraint will be validated.
     */
    public synchronized void disableAllProfiles() {
-      isProfilesFeatureUsed = true;
-      isAllProfilesEnabledByDefault = false;
-
-      enabledProfiles.clear();
-      disabledProfiles.clear();
+      profilesSnapshot = new ProfilesSnapshot(false, Collections.emptySet());
    }
 
    /**
@@ -1003,25 +2136,15 @@ public class Validator implements IValidator {
     *
     * @param profile the id of the profile
     */
-   public void disableProfile(final String profile) {
-      isProfilesFeatureUsed = true;
-
-      if (isAllProfilesEnabledByDefault) {
-         disabledProfiles.add(profile);
-      } else {
-         enabledProfiles.remove(profile);
-      }
+   public synchronized void disableProfile(final String profile) {
+      profilesSnapshot = profilesSnapshot.with(profile, false);
    }
 
    /**
     * Enables all constraints profiles globally, i.e. all configured constraint will be validated.
     */
    public synchronized void enableAllProfiles() {
-      isProfilesFeatureUsed = true;
-      isAllProfilesEnabledByDefault = true;
-
-      enabledProfiles.clear();
-      disabledProfiles.clear();
+      profilesSnapshot = new ProfilesSnapshot(true, Collections.emptySet());
    }
 
    /**
@@ -1029,13 +2152,31 @@ public class Validator implements IValidator {
     *
     * @param profile the id of the profile
     */
-   public void enableProfile(final String profile) {
-      isProfilesFeatureUsed = true;
+   public synchronized void enableProfile(final String profile) {
+      profilesSnapshot = profilesSnapshot.with(profile, true);
+   }
+
+   /**
+    * Makes the given cycle the current validation cycle of the current thread.
+    *
+    * Each call must be followed by a call to {@link #exitValidationCycle(InternalValidationCycle)} in a finally block.
+    */
+   protected void enterValidationCycle(final InternalValidationCycle cycle) {
+      cycle.enclosingCycle = currentValidationCycle.get();
+      currentValidationCycle.set(cycle);
+   }
 
-      if (isAllProfilesEnabledByDefault) {
-         disabledProfiles.remove(profile);
+   /**
+    * Restores the validation cycle that was current before the given cycle was entered.
+    */
+   protected void exitValidationCycle(final InternalValidationCycle cycle) {
+      final InternalValidationCycle enclosingCycle = cycle.enclosingCycle;
+      cycle.enclosingCycle = null;
+      if (enclosingCycle == null) {
+         // do not leave an entry in the thread's map once the outermost cycle exits
+         currentValidationCycle.remove();
       } else {
-         enabledProfiles.add(profile);
+         currentValidationCycle.set(enclosingCycle);
       }
    }
 
@@ -1045,11 +2186,29 @@ public class Validator implements IValidator {
       try {
          // to lower the risk of potential memory leaks on hot-reloading/redeployment of validated classes
          ContextCache.clear();
+         AccessorCache.clear();
       } finally {
          super.finalize();
       }
    }
 
+   /**
+    * Freezes the constraint configuration of this validator. Afterwards checks and constraint sets can no longer be added or removed and
+    * validation skips all checks for configuration modifications. Classes that are configured lazily after freezing are frozen right after
+    * their configuration.
+    *
+    * Until the validator is frozen, checks can safely be added and removed while validations are in progress. Validations always operate
+    * on an immutable snapshot of the checks.
+    */
+   public void freeze() {
+      isFrozen = true;
+      for (final ClassChecks cc : checksByClass.values()) {
+         cc.freeze();
+      }
+      // drop plans that were compiled before the last modification
+      validationPlansByClass.values().removeIf(ValidationPlan::isStale);
+   }
+
    /**
     * Gets the object-level constraint checks for the given class
     *
@@ -1059,9 +2218,8 @@ public class Validator implements IValidator {
    public Check[] getChecks(final Class<?> clazz) throws IllegalArgumentException {
       Assert.argumentNotNull("clazz", clazz);
 
-      final ClassChecks cc = getClassChecks(clazz);
-      final Set<Check> checks = cc.checksForObject;
-      return checks == null ? EMPTY_CHECKS : checks.toArray(new Check[checks.size()]);
+      final Check[] checks = getClassChecks(clazz).getSnapshot().objectChecks;
+      return checks.length == 0 ? EMPTY_CHECKS : checks.clone();
    }
 
    /**
@@ -1073,9 +2231,8 @@ public class Validator implements IValidator {
    public Check[] getChecks(final Field field) throws IllegalArgumentException {
       Assert.argumentNotNull("field", field);
 
-      final ClassChecks cc = getClassChecks(field.getDeclaringClass());
-      final Set<Check> checks = cc.checksForFields.get(field);
-      return checks == null ? EMPTY_CHECKS : checks.toArray(new Check[checks.size()]);
+      final Check[] checks = getClassChecks(field.getDeclaringClass()).getSnapshot().getFieldChecks(field);
+      return checks.length == 0 ? EMPTY_CHECKS : checks.clone();
    }
 
    /**
@@ -1087,9 +2244,8 @@ public class Validator implements IValidator {
    public Check[] getChecks(final Method method) throws IllegalArgumentException {
       Assert.argumentNotNull("method", method);
 
-      final ClassChecks cc = getClassChecks(method.getDeclaringClass());
-      final Set<Check> checks = cc.checksForMethodReturnValues.get(method);
-      return checks == null ? EMPTY_CHECKS : checks.toArray(new Check[checks.size()]);
+      final Check[] checks = getClassChecks(method.getDeclaringClass()).getSnapshot().getMethodReturnValueChecks(method);
+      return checks.length == 0 ? EMPTY_CHECKS : checks.clone();
    }
 
    /**
@@ -1104,11 +2260,19 @@ public class Validator implements IValidator {
 
       return checksByClass.computeIfAbsent(clazz, k -> {
          final ClassChecks newCC = new ClassChecks(k, parameterNameResolver);
-         for (final Configurer configurer : configurers) {
-            final ClassConfiguration classConfig = configurer.getClassConfiguration(k);
-            if (classConfig != null) {
-               _addChecks(newCC, classConfig);
+         final ClassConfiguration snapshotConfig = snapshotConfigurations.get(k);
+         if (snapshotConfig == null) {
+            for (final Configurer configurer : configurers) {
+               final ClassConfiguration classConfig = configurer.getClassConfiguration(k);
+               if (classConfig != null) {
+                  _addChecks(newCC, classConfig);
+               }
             }
+         } else {
+            _addChecks(newCC, snapshotConfig);
+         }
+         if (isFrozen) {
+            newCC.freeze();
          }
          return newCC;
       });
@@ -1132,13 +2296,41 @@ public class Validator implements IValidator {
                cs = new ConstraintSet(csc.id);
                cs.setChecks(csc.checks);
 
-               addConstraintSet(cs, csc.overwrite != null && csc.overwrite);
+               _addConstraintSet(cs, csc.overwrite != null && csc.overwrite);
             }
          }
       }
       return cs;
    }
 
+   /**
+    * @param outerLevel 0 for the innermost validation cycle of the current thread, 1 for the enclosing one, etc.
+    * @return the validation cycle or <code>null</code> if no such cycle exists
+    */
+   protected InternalValidationCycle getCurrentValidationCycle(final int outerLevel) {
+      final WeakReference<InternalValidationCycle> checkOnlyCycleRef = checkOnlyValidationCycle.get();
+      InternalValidationCycle checkOnlyCycle = checkOnlyCycleRef == null ? null : checkOnlyCycleRef.get();
+      if (checkOnlyCycle != null && !checkOnlyCycle.isInUse) {
+         checkOnlyCycle = null;
+      }
+
+      InternalValidationCycle cycle = currentValidationCycle.get();
+      int level = outerLevel;
+      while (true) {
+         // the active check-only cycle is not entered, it is located above the cycle that was current when it was activated
+         if (checkOnlyCycle != null && checkOnlyCycle.enclosingCycle == cycle) {
+            if (level == 0)
+               return checkOnlyCycle;
+            level--;
+            checkOnlyCycle = null;
+         }
+         if (cycle == null || level == 0)
+            return cycle;
+         cycle = cycle.enclosingCycle;
+         level--;
+      }
+   }
+
    public ExceptionTranslator getExceptionTranslator() {
       return exceptionTranslator;
    }
@@ -1151,6 +2343,36 @@ public class Validator implements IValidator {
       return ognRegistry;
    }
 
+   /**
+    * @return the number of elements of a collection or array above which the elements are validated in parallel by
+    *         {@link net.sf.oval.constraint.AssertValid} constraints, 0 if disabled
+    */
+   public int getParallelAssertValidThreshold() {
+      return parallelAssertValidThreshold;
+   }
+
+   /**
+    * @return the pool used for parallel validation or <code>null</code> if the common pool is used
+    */
+   public ForkJoinPool getParallelValidationPool() {
+      return parallelValidationPool;
+   }
+
+   /**
+    * Returns the compiled validation plan for the given class. The plan is recompiled if the checks of the class or one of its super classes
+    * were modified.
+    *
+    * @param clazz cannot be null
+    */
+   protected ValidationPlan getValidationPlan(final Class<?> clazz) throws InvalidConfigurationException, ReflectionException {
+      ValidationPlan plan = validationPlansByClass.get(clazz);
+      if (plan == null || !isFrozen && plan.isStale()) {
+         plan = ValidationPlan.compile(clazz, this::getClassChecks);
+         validationPlansByClass.put(clazz, plan);
+      }
+      return plan;
+   }
+
    /**
     * Determines if at least one of the given profiles is enabled
     *
@@ -1186,8 +2408,73 @@ public class Validator implements IValidator {
    protected boolean isCurrentlyValidated(final Object object) {
       Assert.argumentNotNull("object", object);
 
-      final LinkedList<InternalValidationCycle> cycles = currentValidationCycles.get();
-      return !cycles.isEmpty() && cycles.getLast().validatedObjects.contains(object);
+      final InternalValidationCycle cycle = getCurrentValidationCycle(0);
+      return cycle != null && cycle.validatedObjects.contains(object);
+   }
+
+   /**
+    * Checks if the field and getter constrains of the given object are satisfied.
+    *
+    * In contrast to {@link #validate(Object)} no constraint violation objects are created and no messages are rendered. The validation is
+    * aborted at the first violated constraint.
+    *
+    * @param validatedObject the object to validate, cannot be null
+    * @return <code>true</code> if no constraint is violated
+    * @throws IllegalArgumentException if <code>validatedObject == null</code>
+    */
+   public boolean isValid(final Object validatedObject) throws IllegalArgumentException, ValidationFailedException {
+      return isValid(validatedObject, (String[]) null);
+   }
+
+   /**
+    * Checks if the field and getter constrains of the given object are satisfied.
+    *
+    * In contrast to {@link #validate(Object, String...)} no constraint violation objects are created and no messages are rendered. The
+    * validation is aborted at the first violated constraint.
+    *
+    * @param validatedObject the object to validate, cannot be null
+    * @param profiles constraint profiles to validate against, by default the globally enabled profiles are used.
+    * @return <code>true</code> if no constraint is violated
+    * @throws IllegalArgumentException if <code>validatedObject == null</code>
+    */
+   public boolean isValid(final Object validatedObject, final String... profiles) throws IllegalArgumentException, ValidationFailedException {
+      Assert.argumentNotNull("validatedObject", validatedObject);
+
+      final WeakReference<InternalValidationCycle> cycleRef = checkOnlyValidationCycle.get();
+      InternalValidationCycle cycle = cycleRef == null ? null : cycleRef.get();
+      if (cycle == null) {
+         cycle = new InternalValidationCycle(null, null, ValidationOptions.DEFAULT, true);
+         checkOnlyValidationCyclesByThread.put(Thread.currentThread(), cycle);
+         checkOnlyValidationCycle.set(new WeakReference<>(cycle));
+      } else if (cycle.isInUse) {
+         // re-entrant call, e.g. by a check of the currently validated object
+         final InternalValidationCycle nestedCycle = new InternalValidationCycle(validatedObject, profiles, ValidationOptions.DEFAULT, true);
+         enterValidationCycle(nestedCycle);
+         try {
+            validateInvariants(validatedObject, nestedCycle);
+            return !nestedCycle.isAborted;
+         } finally {
+            exitValidationCycle(nestedCycle);
+         }
+      }
+
+      cycle.isInUse = true;
+      cycle.enclosingCycle = currentValidationCycle.get();
+      cycle.rootValidatedObject = validatedObject;
+      cycle.profiles = profiles;
+      try {
+         validateInvariants(validatedObject, cycle);
+         return !cycle.isAborted;
+      } finally {
+         cycle._reset();
+      }
+   }
+
+   /**
+    * @return <code>true</code> if the constraint configuration was frozen via {@link #freeze()}
+    */
+   public boolean isFrozen() {
+      return isFrozen;
    }
 
    /**
@@ -1198,22 +2485,246 @@ public class Validator implements IValidator {
    public boolean isProfileEnabled(final String profileId) {
       Assert.argumentNotNull("profileId", profileId);
 
-      if (isProfilesFeatureUsed) {
-         if (isAllProfilesEnabledByDefault)
-            return !disabledProfiles.contains(profileId);
+      return profilesSnapshot.isProfileEnabled(profileId);
+   }
+
+   /**
+    * @see #setSpecializedValidationEnabled(boolean)
+    */
+   public boolean isSpecializedValidationEnabled() {
+      return isSpecializedValidationEnabled;
+   }
+
+   /**
+    * Loads a snapshot written by {@link #writeConfigurationSnapshot(Collection, OutputStream)}. The checks of the classes contained in the
+    * snapshot are subsequently created from the snapshot instead of the registered configurers.
+    *
+    * Snapshot entries of classes whose byte code, or the byte code of their interfaces, differs from the byte code at the time the snapshot
+    * was written are ignored, i.e. these classes are configured by the registered configurers. Changes of external configurations, e.g. XML
+    * files, are not detected. Constraint sets of the snapshot whose ids are already defined are ignored.
+    *
+    * Only checks, configuration elements and the JDK types they usually consist of are deserialized. Entries containing other types are
+    * ignored.
+    *
+    * @param in the snapshot, not closed by this method
+    * @param listeners notified about each check loaded from the snapshot, e.g. to inject dependencies
+    * @return the number of classes configured by the snapshot
+    * @throws IllegalArgumentException if <code>in == null</code>
+    * @throws IOException if the snapshot cannot be read
+    */
+   public int loadConfigurationSnapshot(final InputStream in, final CheckInitializationListener... listeners) throws IllegalArgumentException,
+      IOException {
+      Assert.argumentNotNull("in", in);
+      _assertNotFrozen();
+
+      ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+      if (classLoader == null) {
+         classLoader = Validator.class.getClassLoader();
+      }
+      final ConfigurationSnapshot snapshot = ConfigurationSnapshot.read(in, classLoader, listeners == null ? Collections.emptyList()
+         : Arrays.asList(listeners));
 
-         return enabledProfiles.contains(profileId);
+      for (final ConstraintSetConfiguration csCfg : snapshot.constraintSetConfigurations) {
+         if (constraintSetsById.containsKey(csCfg.id)) {
+            LOG.info("Ignoring configuration snapshot of constraint set {1}. A constraint set with this id is already defined.", csCfg.id);
+            continue;
+         }
+         final ConstraintSet cs = new ConstraintSet(csCfg.id);
+         cs.setChecks(csCfg.checks);
+         addConstraintSet(cs, false);
+      }
+      snapshotConfigurations.putAll(snapshot.classConfigurations);
+      for (final Class<?> clazz : snapshot.classConfigurations.keySet()) {
+         checksByClass.remove(clazz);
+      }
+      validationPlansByClass.clear();
+      validationResultCache.clear();
+      checkReferencesConfiguration = new Object();
+      return snapshot.classConfigurations.size();
+   }
+
+   /**
+    * Configures the given classes ahead of their first validation, see {@link #prewarm(Collection, Executor)}.
+    *
+    * @throws IllegalArgumentException if <code>classes == null</code> or any of its elements is null
+    * @throws InvalidConfigurationException if the configuration of any class is invalid
+    */
+   public void prewarm(final Collection<Class<?>> classes) throws IllegalArgumentException, InvalidConfigurationException {
+      prewarm(classes, null);
+   }
+
+   /**
+    * Configures the given classes ahead of their first validation, so the first validation of an instance does not pay for running the
+    * configurers and reflectively scanning the classes.
+    *
+    * The checks of the given classes and their super classes are created and the expressions, target paths, constraint sets and messages
+    * they refer to are compiled or resolved. Configuration errors are reported for all classes at once.
+    *
+    * @param classes the classes to configure
+    * @param executor used to configure the classes of the hierarchies in parallel, if null the classes are configured by the current thread
+    * @throws IllegalArgumentException if <code>classes == null</code> or any of its elements is null
+    * @throws InvalidConfigurationException if the configuration of any class is invalid, the failures of further classes are attached as
+    *            suppressed exceptions
+    */
+   public void prewarm(final Collection<Class<?>> classes, final Executor executor) throws IllegalArgumentException, InvalidConfigurationException {
+      Assert.argumentNotNull("classes", classes);
+
+      final Set<Class<?>> hierarchy = new LinkedHashSet<>();
+      for (final Class<?> clazz : classes) {
+         Assert.argumentNotNull("classes[]", clazz);
+         for (Class<?> c = clazz; c != null && c != Object.class; c = c.getSuperclass()) {
+            hierarchy.add(c);
+         }
+      }
+
+      final List<InvalidConfigurationException> errors = new ArrayList<>();
+      if (executor == null) {
+         for (final Class<?> clazz : hierarchy) {
+            try {
+               prewarmChecks(getClassChecks(clazz));
+            } catch (final RuntimeException ex) {
+               errors.add(new InvalidConfigurationException("Configuring class " + clazz.getName() + " failed.", ex));
+            }
+         }
+      } else {
+         final Map<Class<?>, CompletableFuture<Void>> tasks = new LinkedHashMap<>(hierarchy.size());
+         for (final Class<?> clazz : hierarchy) {
+            tasks.put(clazz, CompletableFuture.runAsync(() -> prewarmChecks(getClassChecks(clazz)), executor));
+         }
+         for (final Entry<Class<?>, CompletableFuture<Void>> task : tasks.entrySet()) {
+            try {
+               task.getValue().join();
+            } catch (final CompletionException ex) {
+               errors.add(new InvalidConfigurationException("Configuring class " + task.getKey().getName() + " failed.", ex.getCause()));
+            }
+         }
+      }
+
+      if (errors.isEmpty()) {
+         for (final Class<?> clazz : classes) {
+            getValidationPlan(clazz);
+         }
+         return;
+      }
+
+      final InvalidConfigurationException ex = errors.get(0);
+      for (int i = 1; i < errors.size(); i++) {
+         ex.addSuppressed(errors.get(i));
+      }
+      throw ex;
+   }
+
+   /**
+    * Configures the classes of the given package and its sub packages ahead of their first validation, see
+    * {@link #prewarm(Collection, Executor)}.
+    *
+    * @param packageName the package to scan for classes, e.g. <code>com.example.model</code>
+    * @param classLoader the class loader to scan, if null the context class loader of the current thread is used
+    * @param executor used to configure the classes in parallel, if null the classes are configured by the current thread
+    * @return the configured classes
+    * @throws IllegalArgumentException if <code>packageName == null</code>
+    * @throws InvalidConfigurationException if the configuration of any class is invalid
+    * @throws ReflectionException if the class path cannot be scanned
+    */
+   public List<Class<?>> prewarm(final String packageName, final ClassLoader classLoader, final Executor executor) throws IllegalArgumentException,
+      InvalidConfigurationException, ReflectionException {
+      Assert.argumentNotNull("packageName", packageName);
+
+      final List<Class<?>> classes = ClassPathScanner.findClasses(packageName, classLoader == null ? Thread.currentThread().getContextClassLoader()
+         : classLoader);
+      prewarm(classes, executor);
+      return classes;
+   }
+
+   /**
+    * Compiles and resolves everything the given checks refer to.
+    */
+   protected void prewarmChecks(final Collection<? extends Check> checks) throws InvalidConfigurationException {
+      for (final Check check : checks) {
+         if (check instanceof AssertConstraintSetCheck) {
+            final String id = ((AssertConstraintSetCheck) check).getId();
+            if (getConstraintSet(id) == null)
+               throw new UndefinedConstraintSetException(id);
+            continue;
+         }
+         if (check instanceof AssertFieldConstraintsCheck) {
+            continue;
+         }
+         if (check instanceof ConstraintsCheck && ((ConstraintsCheck) check).checks != null) {
+            prewarmChecks(((ConstraintsCheck) check).checks);
+         }
+
+         final String when = check.getWhen();
+         if (when != null) {
+            final List<String> parts = StringUtils.split(when, ':', 2);
+            if (parts.size() == 2) {
+               prewarmExpression(parts.get(0), parts.get(1));
+            }
+         }
+         if (check instanceof AssertCheck) {
+            prewarmExpression(((AssertCheck) check).getLang(), ((AssertCheck) check).getExpr());
+         }
+         if (check.getTarget() != null) {
+            _getTargetPath(check, check.getTarget());
+         }
+         if (check.getMessage() != null) {
+            getMessageResolver().getMessage(check.getMessage());
+         }
       }
-      return true;
    }
 
    /**
-    * clears the checks and constraint sets => a reconfiguration using the
+    * Creates and resolves everything the checks of the given class refer to.
+    */
+   protected void prewarmChecks(final ClassChecks cc) throws InvalidConfigurationException {
+      synchronized (cc.checksForObject) {
+         prewarmChecks(cc.checksForObject);
+      }
+      synchronized (cc.checksForFields) {
+         for (final Set<Check> checks : cc.checksForFields.values()) {
+            prewarmChecks(checks);
+         }
+      }
+      synchronized (cc.checksForMethodReturnValues) {
+         for (final Set<Check> checks : cc.checksForMethodReturnValues.values()) {
+            prewarmChecks(checks);
+         }
+      }
+      synchronized (cc.checksForConstructorParameters) {
+         for (final Map<Integer, ParameterChecks> paramChecks : cc.checksForConstructorParameters.values()) {
+            for (final ParameterChecks checks : paramChecks.values()) {
+               prewarmChecks(checks.checks);
+            }
+         }
+      }
+      synchronized (cc.checksForMethodParameters) {
+         for (final Map<Integer, ParameterChecks> paramChecks : cc.checksForMethodParameters.values()) {
+            for (final ParameterChecks checks : paramChecks.values()) {
+               prewarmChecks(checks.checks);
+            }
+         }
+      }
+   }
+
+   /**
+    * Compiles the given expression of the given language.
+    */
+   protected void prewarmExpression(final String languageId, final String expression) throws InvalidConfigurationException {
+      expressionLanguageRegistry.getExpressionLanguage(languageId).compile(expression);
+   }
+
+   /**
+    * clears the checks, constraint sets and loaded configuration snapshots => a reconfiguration using the
     * currently registered configurers will automatically happen
     */
    public void reconfigureChecks() {
+      _assertNotFrozen();
+      snapshotConfigurations.clear();
       checksByClass.clear();
+      validationPlansByClass.clear();
       constraintSetsById.clear();
+      validationResultCache.clear();
+      checkReferencesConfiguration = new Object();
    }
 
    /**
@@ -1226,6 +2737,7 @@ public class Validator implements IValidator {
       Assert.argumentNotEmpty("checks", checks);
 
       getClassChecks(clazz).removeObjectChecks(checks);
+      validationResultCache.clear();
    }
 
    /**
@@ -1238,6 +2750,7 @@ public class Validator implements IValidator {
       Assert.argumentNotEmpty("checks", checks);
 
       getClassChecks(field.getDeclaringClass()).removeFieldChecks(field, checks);
+      validationResultCache.clear();
    }
 
    /**
@@ -1251,6 +2764,7 @@ public class Validator implements IValidator {
       Assert.argumentNotEmpty("checks", checks);
 
       getClassChecks(getter.getDeclaringClass()).removeMethodReturnValueChecks(getter, checks);
+      validationResultCache.clear();
    }
 
    /**
@@ -1262,7 +2776,10 @@ public class Validator implements IValidator {
     */
    public ConstraintSet removeConstraintSet(final String id) throws IllegalArgumentException {
       Assert.argumentNotNull("id", id);
+      _assertNotFrozen();
 
+      validationResultCache.clear();
+      checkReferencesConfiguration = new Object();
       return constraintSetsById.remove(id);
    }
 
@@ -1279,6 +2796,28 @@ public class Validator implements IValidator {
       return message;
    }
 
+   /**
+    * Renders the message of a constraint violation that was created with deferred message rendering.
+    *
+    * @param locale the locale that was active when the violation occurred
+    */
+   String renderMessage(final ConstraintViolation violation, final Locale locale) {
+      if (locale != null && localeProvider instanceof ThreadLocalLocaleProvider) {
+         final ThreadLocalLocaleProvider threadLocaleProvider = (ThreadLocalLocaleProvider) localeProvider;
+         final Locale currentLocale = threadLocaleProvider.getLocale();
+         if (!locale.equals(currentLocale)) {
+            threadLocaleProvider.setLocale(locale);
+            try {
+               return renderMessage(violation.getContextPath(), violation.getInvalidValue(), violation.getMessageTemplate(), violation
+                  .getMessageVariables());
+            } finally {
+               threadLocaleProvider.setLocale(currentLocale);
+            }
+         }
+      }
+      return renderMessage(violation.getContextPath(), violation.getInvalidValue(), violation.getMessageTemplate(), violation.getMessageVariables());
+   }
+
    /**
     * Reports an additional constraint violation for the current validation cycle.
     * This method is intended to be executed by check implementations only.
@@ -1293,29 +2832,67 @@ public class Validator implements IValidator {
    public void reportConstraintViolation(final ConstraintViolation constraintViolation) throws IllegalStateException {
       Assert.argumentNotNull("constraintViolation", constraintViolation);
 
-      if (currentValidationCycles.get().isEmpty())
+      final InternalValidationCycle cycle = getCurrentValidationCycle(0);
+      if (cycle == null)
          throw new IllegalStateException("No active validation cycle found for the current thread.");
-      currentValidationCycles.get().getLast().addConstraintViolation(constraintViolation);
+      cycle.addConstraintViolation(constraintViolation);
    }
 
    /**
     * @param validatedObject may be null for static fields
     */
    protected Object resolveValue(final FieldContext ctx, final Object validatedObject) {
-      return ReflectionUtils.getFieldValue(ctx.getField(), validatedObject);
+      return AccessorCache.getFieldAccessor(ctx.getField()).get(validatedObject);
    }
 
    /**
     * @param validatedObject may be null for static methods
     */
    protected Object resolveValue(final MethodReturnValueContext ctx, final Object validatedObject) {
-      return ReflectionUtils.invokeMethod(ctx.getMethod(), validatedObject);
+      return AccessorCache.getMethodAccessor(ctx.getMethod()).invoke(validatedObject, ArrayUtils.EMPTY_OBJECT_ARRAY);
    }
 
    public void setExceptionTranslator(final ExceptionTranslator exceptionTranslator) {
       this.exceptionTranslator = exceptionTranslator;
    }
 
+   /**
+    * Specifies the number of elements of a collection or array above which the elements are validated in parallel by
+    * {@link net.sf.oval.constraint.AssertValid} constraints. The threshold can be overridden per constraint via
+    * {@link net.sf.oval.constraint.AssertValid#parallelThreshold()}.
+    *
+    * The elements are split into chunks that are validated in separate validation cycles. The resulting violations are merged in element
+    * order. Objects referenced by elements of different chunks are validated by each of these chunks, but their violations are only
+    * reported for the first of these elements, like a sequential validation would do.
+    *
+    * @param threshold the minimum number of elements, 0 disables parallel validation
+    */
+   public void setParallelAssertValidThreshold(final int threshold) {
+      parallelAssertValidThreshold = Math.max(0, threshold);
+   }
+
+   /**
+    * @param pool the pool used for parallel validation, <code>null</code> to use the common pool
+    */
+   public void setParallelValidationPool(final ForkJoinPool pool) {
+      parallelValidationPool = pool;
+   }
+
+   /**
+    * Specifies if checks that neither use a target expression nor are applied to collections, maps or arrays are evaluated via
+    * {@link #checkConstraintSpecialized(Check, Object, Object, OValContext, InternalValidationCycle)}, which skips target navigation and
+    * container handling. All other checks are evaluated via
+    * {@link #checkConstraint(Check, Object, Object, OValContext, InternalValidationCycle, boolean)}. The results are the same in both
+    * modes, the flag allows to measure the throughput gain for a given object model. Disabled by default.
+    *
+    * No validator classes are generated at runtime, the specialized checks are evaluated by the regular engine operating on the
+    * precompiled validation plan of each class. Specialized evaluation is not used if a sub class overrides
+    * {@link #checkConstraint(Check, Object, Object, OValContext, InternalValidationCycle, boolean)}.
+    */
+   public void setSpecializedValidationEnabled(final boolean isEnabled) {
+      isSpecializedValidationEnabled = isEnabled;
+   }
+
    protected RuntimeException translateException(final OValException ex) {
       if (exceptionTranslator != null) {
          final RuntimeException rex = exceptionTranslator.translateException(ex);
@@ -1330,12 +2907,12 @@ public class Validator implements IValidator {
       Assert.argumentNotNull("validatedObject", validatedObject);
 
       final InternalValidationCycle cycle = new InternalValidationCycle(validatedObject, null);
-      currentValidationCycles.get().add(cycle);
+      enterValidationCycle(cycle);
       try {
          validateInvariants(validatedObject, cycle);
          return cycle.violations;
       } finally {
-         currentValidationCycles.get().removeLast();
+         exitValidationCycle(cycle);
       }
    }
 
@@ -1344,15 +2921,131 @@ public class Validator implements IValidator {
       Assert.argumentNotNull("validatedObject", validatedObject);
 
       final InternalValidationCycle cycle = new InternalValidationCycle(validatedObject, profiles);
-      currentValidationCycles.get().add(cycle);
+      enterValidationCycle(cycle);
       try {
          validateInvariants(validatedObject, cycle);
          return cycle.violations;
       } finally {
-         currentValidationCycles.get().removeLast();
+         exitValidationCycle(cycle);
       }
    }
 
+   /**
+    * Validates the field and getter constrains of the given object and passes the detected constraint violations to the given sink as soon as
+    * they are detected instead of collecting them in a list. The validation is aborted if the sink returns <code>false</code>.
+    *
+    * Violations of collection or array elements validated in parallel are passed to the sink once the elements were validated.
+    *
+    * @param validatedObject the object to validate, cannot be null
+    * @param sink receives the detected constraint violations, cannot be null
+    * @param profiles constraint profiles to validate against, by default the globally enabled profiles are used.
+    * @return the number of constraint violations passed to the sink
+    * @throws IllegalArgumentException if <code>validatedObject == null</code> or <code>sink == null</code>
+    */
+   public int validate(final Object validatedObject, final ConstraintViolationSink sink, final String... profiles) throws IllegalArgumentException,
+      ValidationFailedException {
+      Assert.argumentNotNull("validatedObject", validatedObject);
+      Assert.argumentNotNull("sink", sink);
+
+      final InternalValidationCycle cycle = new InternalValidationCycle(validatedObject, profiles == null || profiles.length == 0 ? null : profiles);
+      cycle.sink = sink;
+      enterValidationCycle(cycle);
+      try {
+         validateInvariants(validatedObject, cycle);
+         return cycle.violationCount;
+      } finally {
+         exitValidationCycle(cycle);
+      }
+   }
+
+   /**
+    * Validates the field and getter constrains of the given object. The validation is aborted as soon as the abort condition of the given
+    * options is reached, i.e. the returned list only contains the constraint violations detected until then.
+    *
+    * @param validatedObject the object to validate, cannot be null
+    * @param options the options controlling when the validation is aborted, cannot be null
+    * @param profiles constraint profiles to validate against, by default the globally enabled profiles are used.
+    * @return a list with the detected constraint violations. if no violations are detected an empty list is returned
+    * @throws IllegalArgumentException if <code>validatedObject == null</code> or <code>options == null</code>
+    */
+   public List<ConstraintViolation> validate(final Object validatedObject, final ValidationOptions options, final String... profiles)
+      throws IllegalArgumentException, ValidationFailedException {
+      Assert.argumentNotNull("validatedObject", validatedObject);
+      Assert.argumentNotNull("options", options);
+
+      final InternalValidationCycle cycle = new InternalValidationCycle(validatedObject, profiles == null || profiles.length == 0 ? null : profiles, options);
+      enterValidationCycle(cycle);
+      try {
+         validateInvariants(validatedObject, cycle);
+         return cycle.violations;
+      } finally {
+         exitValidationCycle(cycle);
+      }
+   }
+
+   /**
+    * Validates the field and getter constrains of the given objects.
+    *
+    * @param validatedObjects the objects to validate, cannot be null and must not contain null elements
+    * @return a list holding the list of detected constraint violations of each object at the object's index
+    * @throws IllegalArgumentException if <code>validatedObjects == null</code> or any of its elements is null
+    */
+   public List<List<ConstraintViolation>> validateAll(final Collection<?> validatedObjects) throws IllegalArgumentException, ValidationFailedException {
+      return validateAll(validatedObjects, null);
+   }
+
+   /**
+    * Validates the field and getter constrains of the given objects using the given fork/join pool.
+    *
+    * @param validatedObjects the objects to validate, cannot be null and must not contain null elements
+    * @param pool the pool used to validate the objects in parallel, if null the objects are validated by the current thread
+    * @return a list holding the list of detected constraint violations of each object at the object's index
+    * @throws IllegalArgumentException if <code>validatedObjects == null</code> or any of its elements is null
+    */
+   public List<List<ConstraintViolation>> validateAll(final Collection<?> validatedObjects, final ForkJoinPool pool) throws IllegalArgumentException,
+      ValidationFailedException {
+      Assert.argumentNotNull("validatedObjects", validatedObjects);
+
+      return validateAll(validatedObjects.toArray(), pool);
+   }
+
+   /**
+    * Validates the field and getter constrains of the given objects.
+    *
+    * @param validatedObjects the objects to validate, cannot be null and must not contain null elements
+    * @return a list holding the list of detected constraint violations of each object at the object's index
+    * @throws IllegalArgumentException if <code>validatedObjects == null</code> or any of its elements is null
+    */
+   public List<List<ConstraintViolation>> validateAll(final Object[] validatedObjects) throws IllegalArgumentException, ValidationFailedException {
+      return validateAll(validatedObjects, null);
+   }
+
+   /**
+    * Validates the field and getter constrains of the given objects using the given fork/join pool.
+    *
+    * @param validatedObjects the objects to validate, cannot be null and must not contain null elements
+    * @param pool the pool used to validate the objects in parallel, if null the objects are validated by the current thread
+    * @return a list holding the list of detected constraint violations of each object at the object's index
+    * @throws IllegalArgumentException if <code>validatedObjects == null</code> or any of its elements is null
+    */
+   public List<List<ConstraintViolation>> validateAll(final Object[] validatedObjects, final ForkJoinPool pool) throws IllegalArgumentException,
+      ValidationFailedException {
+      Assert.argumentNotNull("validatedObjects", validatedObjects);
+      for (final Object validatedObject : validatedObjects) {
+         Assert.argumentNotNull("validatedObjects[]", validatedObject);
+      }
+
+      @SuppressWarnings("unchecked")
+      final List<ConstraintViolation>[] results = (List<ConstraintViolation>[]) new List<?>[validatedObjects.length];
+      if (pool == null || validatedObjects.length < 2) {
+         _validateAll(validatedObjects, results, 0, validatedObjects.length);
+      } else {
+         final int threshold = Math.max(1, validatedObjects.length / (pool.getParallelism() * 4));
+         pool.invoke(new BatchValidationTask(validatedObjects, results, 0, validatedObjects.length, threshold));
+      }
+      return Arrays.asList(results);
+   }
+
    @Override
    public List<ConstraintViolation> validateFieldValue(final Object validatedObject, final Field validatedField, final Object fieldValueToValidate)
       throws ValidationFailedException {
@@ -1360,12 +3053,11 @@ public class Validator implements IValidator {
       Assert.argumentNotNull("validatedField", validatedField);
 
       final InternalValidationCycle cycle = new InternalValidationCycle(validatedObject, null);
-      currentValidationCycles.get().add(cycle);
+      enterValidationCycle(cycle);
       try {
-         final ClassChecks cc = getClassChecks(validatedField.getDeclaringClass());
-         final Collection<Check> checks = cc.checksForFields.get(validatedField);
+         final Check[] checks = getClassChecks(validatedField.getDeclaringClass()).getSnapshot().getFieldChecks(validatedField);
 
-         if (checks == null || checks.isEmpty())
+         if (checks.length == 0)
             return cycle.violations;
 
          final FieldContext context = ContextCache.getFieldContext(validatedField);
@@ -1377,7 +3069,7 @@ public class Validator implements IValidator {
       } catch (final OValException ex) {
          throw new ValidationFailedException("Field validation failed. Field: " + validatedField + " Validated object: " + validatedObject, ex);
       } finally {
-         currentValidationCycles.get().removeLast();
+         exitValidationCycle(cycle);
       }
    }
 
@@ -1387,11 +3079,67 @@ public class Validator implements IValidator {
     * If the given object is a class the static fields and getters are validated.
     */
    protected void validateInvariants(final Object validatedObject, final InternalValidationCycle cycle) throws ValidationFailedException {
-      currentValidationCycles.get().getLast().validatedObjects.add(validatedObject);
+      cycle.validatedObjects.add(validatedObject);
       if (validatedObject instanceof Class<?>) {
          _validateStaticInvariants((Class<?>) validatedObject, cycle);
       } else {
-         _validateObjectInvariants(validatedObject, validatedObject.getClass(), cycle);
+         _validateObjectInvariants(validatedObject, validatedObject.getClass(), null, cycle);
+      }
+   }
+
+   /**
+    * Validates the invariants of the given object that may be affected by a modification of the given field, i.e. the constraints of the
+    * field itself, the constraints of getters marked as invariant and the object level constraints. The constraints of other fields are
+    * not validated.
+    */
+   protected void validateInvariants(final Object validatedObject, final Field modifiedField, final InternalValidationCycle cycle)
+      throws ValidationFailedException {
+      cycle.validatedObjects.add(validatedObject);
+      _validateObjectInvariants(validatedObject, validatedObject.getClass(), modifiedField, cycle);
+   }
+
+   /**
+    * Writes the resolved constraint configuration of the given classes and of the constraint sets they reference to the given stream, see
+    * {@link #loadConfigurationSnapshot(InputStream, CheckInitializationListener...)}.
+    *
+    * The configuration of a class is omitted if its checks are not serializable or its byte code is not accessible.
+    *
+    * @param classes the classes to export, super classes are not included automatically
+    * @param out the stream to write the snapshot to, not closed by this method
+    * @throws IllegalArgumentException if <code>classes == null</code> or <code>out == null</code>
+    * @throws InvalidConfigurationException if the configuration of any class is invalid
+    * @throws IOException if the snapshot cannot be written
+    */
+   public void writeConfigurationSnapshot(final Collection<Class<?>> classes, final OutputStream out) throws IllegalArgumentException,
+      InvalidConfigurationException, IOException {
+      Assert.argumentNotNull("classes", classes);
+      Assert.argumentNotNull("out", out);
+
+      final ConfigurationSnapshot snapshot = new ConfigurationSnapshot();
+      final Set<String> constraintSetIds = new LinkedHashSet<>(constraintSetsById.keySet());
+      final Consumer<Check> collectConstraintSetIds = check -> {
+         if (check instanceof AssertConstraintSetCheck) {
+            constraintSetIds.add(((AssertConstraintSetCheck) check).getId());
+         }
+      };
+      for (final Class<?> clazz : classes) {
+         Assert.argumentNotNull("clazz", clazz);
+         final ClassConfiguration classCfg = ConfigurationSnapshot.toClassConfiguration(getClassChecks(clazz));
+         ConfigurationSnapshot.forEachCheck(classCfg, collectConstraintSetIds);
+         snapshot.classConfigurations.put(clazz, classCfg);
+      }
+
+      for (final String constraintSetId : constraintSetIds) {
+         final ConstraintSet cs = getConstraintSet(constraintSetId);
+         if (cs == null) {
+            LOG.warn("Omitting undefined constraint set {1} from snapshot.", constraintSetId);
+            continue;
+         }
+         final ConstraintSetConfiguration csCfg = new ConstraintSetConfiguration();
+         csCfg.id = cs.getId();
+         csCfg.checks = cs.getChecks() == null ? null : new ArrayList<>(cs.getChecks());
+         snapshot.constraintSetConfigurations.add(csCfg);
       }
+      snapshot.write(out);
    }
 }
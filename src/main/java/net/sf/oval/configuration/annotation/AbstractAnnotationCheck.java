@@ -62,6 +62,21 @@ public abstract class AbstractAnnotationCheck<ConstraintAnnotation extends Annot
          }
       }
 
+      /*
+       * Retrieve the dependsOn value from the constraint annotation via reflection.
+       */
+      final Method getDependsOn = ReflectionUtils.getMethod(constraintClazz, "dependsOn", (Class<?>[]) null);
+      if (getDependsOn == null) {
+         LOG.debug("Cannot determine constraint dependencies based on annotation {1} since attribtue dependsOn() is not defined.", constraintClazz
+            .getName());
+      } else {
+         try {
+            setDependsOn((String[]) getDependsOn.invoke(constraintAnnotation, (Object[]) null));
+         } catch (final Exception ex) {
+            LOG.warn("Cannot determine constraint dependencies based on annotation {1}", constraintClazz.getName(), ex);
+         }
+      }
+
       /*
        * Retrieve the error code value from the constraint annotation via reflection.
        */
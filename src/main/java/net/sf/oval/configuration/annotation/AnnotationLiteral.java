@@ -0,0 +1,145 @@
+/*
+ * Copyright 2005-2021 by Sebastian Thomschke and contributors.
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package net.sf.oval.configuration.annotation;
+
+import java.lang.annotation.Annotation;
+import java.lang.annotation.IncompleteAnnotationException;
+import java.lang.reflect.Array;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import net.sf.oval.internal.util.Assert;
+import net.sf.oval.internal.util.ReflectionUtils;
+
+/**
+ * Creates annotation instances from compile time known element values without reading them from class files. Used by the classes generated by the
+ * {@link net.sf.oval.configuration.annotation.processor.ConstraintAnnotationsProcessor}.
+ *
+ * @author Sebastian Thomschke
+ */
+public final class AnnotationLiteral implements InvocationHandler {
+
+   /**
+    * @param nameValuePairs the names and values of all annotation elements including the ones with default values
+    */
+   @SuppressWarnings("unchecked")
+   public static <A extends Annotation> A of(final Class<A> annotationType, final Object... nameValuePairs) {
+      Assert.argumentNotNull("annotationType", annotationType);
+      Assert.argumentNotNull("nameValuePairs", nameValuePairs);
+
+      final Map<String, Object> values = new LinkedHashMap<>(nameValuePairs.length);
+      for (int i = 0; i < nameValuePairs.length; i += 2) {
+         values.put((String) nameValuePairs[i], nameValuePairs[i + 1]);
+      }
+      return (A) Proxy.newProxyInstance(annotationType.getClassLoader(), new Class<?>[] {annotationType}, new AnnotationLiteral(annotationType, values));
+   }
+
+   private static Object cloneArray(final Object array) {
+      final int len = Array.getLength(array);
+      final Object clone = Array.newInstance(array.getClass().getComponentType(), len);
+      System.arraycopy(array, 0, clone, 0, len);
+      return clone;
+   }
+
+   private static boolean valueEquals(final Object a, final Object b) {
+      return Arrays.deepEquals(new Object[] {a}, new Object[] {b});
+   }
+
+   /**
+    * @see Annotation#hashCode()
+    */
+   private static int valueHashCode(final Object value) {
+      return Arrays.deepHashCode(new Object[] {value}) - 31;
+   }
+
+   private final Class<? extends Annotation> annotationType;
+   private final Map<String, Object> values;
+
+   private AnnotationLiteral(final Class<? extends Annotation> annotationType, final Map<String, Object> values) {
+      this.annotationType = annotationType;
+      this.values = values;
+   }
+
+   private boolean annotationEquals(final Object other) {
+      if (!annotationType.isInstance(other))
+         return false;
+
+      if (Proxy.isProxyClass(other.getClass()) && Proxy.getInvocationHandler(other) instanceof AnnotationLiteral) {
+         final AnnotationLiteral otherLiteral = (AnnotationLiteral) Proxy.getInvocationHandler(other);
+         for (final Entry<String, Object> entry : values.entrySet()) {
+            if (!valueEquals(entry.getValue(), otherLiteral.values.get(entry.getKey())))
+               return false;
+         }
+         return true;
+      }
+
+      for (final Entry<String, Object> entry : values.entrySet()) {
+         final Object otherValue = ReflectionUtils.invokeMethod(ReflectionUtils.getMethod(annotationType, entry.getKey()), other);
+         if (!valueEquals(entry.getValue(), otherValue))
+            return false;
+      }
+      return true;
+   }
+
+   /**
+    * @see Annotation#hashCode()
+    */
+   private int annotationHashCode() {
+      int hashCode = 0;
+      for (final Entry<String, Object> entry : values.entrySet()) {
+         hashCode += 127 * entry.getKey().hashCode() ^ valueHashCode(entry.getValue());
+      }
+      return hashCode;
+   }
+
+   private String annotationToString() {
+      final StringBuilder sb = new StringBuilder("@").append(annotationType.getName()).append('(');
+      boolean isFirst = true;
+      for (final Entry<String, Object> entry : values.entrySet()) {
+         if (!isFirst) {
+            sb.append(", ");
+         }
+         isFirst = false;
+         final String value = Arrays.deepToString(new Object[] {entry.getValue()});
+         sb.append(entry.getKey()).append('=').append(value, 1, value.length() - 1);
+      }
+      return sb.append(')').toString();
+   }
+
+   @Override
+   public Object invoke(final Object proxy, final Method method, final Object[] args) {
+      final String name = method.getName();
+      switch (method.getParameterCount()) {
+         case 0:
+            if ("annotationType".equals(name))
+               return annotationType;
+            if ("hashCode".equals(name))
+               return annotationHashCode();
+            if ("toString".equals(name))
+               return annotationToString();
+            break;
+         case 1:
+            if ("equals".equals(name))
+               return proxy == args[0] || annotationEquals(args[0]);
+            break;
+         default:
+            break;
+      }
+
+      Object value = values.get(name);
+      if (value == null && !values.containsKey(name)) {
+         // fall back to the default value of elements added to the annotation type after the literal was generated
+         value = method.getDefaultValue();
+         if (value == null)
+            throw new IncompleteAnnotationException(annotationType, name);
+      }
+      return value != null && value.getClass().isArray() ? cloneArray(value) : value;
+   }
+}
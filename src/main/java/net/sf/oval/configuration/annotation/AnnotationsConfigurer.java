@@ -19,6 +19,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
+import net.sf.oval.AbstractCheck;
 import net.sf.oval.Check;
 import net.sf.oval.CheckExclusion;
 import net.sf.oval.ConstraintTarget;
@@ -45,6 +46,7 @@ import net.sf.oval.guard.PostValidateThis;
 import net.sf.oval.guard.Pre;
 import net.sf.oval.guard.PreCheck;
 import net.sf.oval.guard.PreValidateThis;
+import net.sf.oval.internal.ClassAnnotationsIndex;
 import net.sf.oval.internal.util.ArrayUtils;
 import net.sf.oval.internal.util.Assert;
 import net.sf.oval.internal.util.ReflectionUtils;
@@ -59,8 +61,111 @@ public class AnnotationsConfigurer implements Configurer {
 
    protected final Set<CheckInitializationListener> listeners = new LinkedHashSet<>(2);
 
+   private boolean isClassAnnotationsIndexEnabled = false;
+
+   /**
+    * indicates that a sub class customizes the reflective configuration via {@link #configureObjectLevelChecks(ClassConfiguration)},
+    * {@link #configureFieldChecks(ClassConfiguration)}, {@link #configureCtorParamChecks(ClassConfiguration)} or
+    * {@link #configureMethodChecks(ClassConfiguration)}, in which case the class annotations index is not used
+    */
+   private final boolean isConfigureHookOverridden = _isOverridden(getClass(), "configureObjectLevelChecks") //
+      || _isOverridden(getClass(), "configureFieldChecks") //
+      || _isOverridden(getClass(), "configureCtorParamChecks") //
+      || _isOverridden(getClass(), "configureMethodChecks");
+
+   /**
+    * Applies the field dependencies declared via {@link IsInvariant#dependsOn()} to the return value checks not declaring their own.
+    */
+   private static void _applyInvariantDependencies(final List<Check> returnValueChecks, final String[] dependsOn) {
+      if (dependsOn == null || dependsOn.length == 0)
+         return;
+
+      for (final Check check : returnValueChecks) {
+         if (check instanceof AbstractCheck && ((AbstractCheck) check).getDependsOn() == null) {
+            ((AbstractCheck) check).setDependsOn(dependsOn);
+         }
+      }
+   }
+
+   /**
+    * Determines the index entry of the method bridged by the given synthetic bridge method, e.g. <code>compareTo(Person)</code> for the
+    * bridge method <code>compareTo(Object)</code>.
+    */
+   private static ClassAnnotations.MemberAnnotations _getBridgedMethod(final ClassAnnotations classAnnos, final Method bridgeMethod) {
+      final Class<?>[] bridgeParamTypes = bridgeMethod.getParameterTypes();
+      for (final ClassAnnotations.MemberAnnotations method : classAnnos.methods) {
+         if (!method.name.equals(bridgeMethod.getName()) || method.parameterTypes.length != bridgeParamTypes.length //
+            || !bridgeMethod.getReturnType().isAssignableFrom(method.type)) {
+            continue;
+         }
+         boolean isBridged = true;
+         for (int i = 0; i < bridgeParamTypes.length && isBridged; i++) {
+            isBridged = bridgeParamTypes[i].isAssignableFrom(method.parameterTypes[i]);
+         }
+         if (isBridged)
+            return method;
+      }
+      return null;
+   }
+
+   /**
+    * @return the annotations of the methods recorded in the index plus those of the synthetic bridge methods generated by the compiler,
+    *         which are not visible to the annotation processor but carry the annotations of the bridged methods
+    */
+   private static List<ClassAnnotations.MemberAnnotations> _getMethodsWithBridgeMethods(final ClassAnnotations classAnnos) {
+      List<ClassAnnotations.MemberAnnotations> methods = classAnnos.methods;
+      for (final Method bridgeMethod : classAnnos.type.getDeclaredMethods()) {
+         if (!bridgeMethod.isBridge()) {
+            continue;
+         }
+         final ClassAnnotations.MemberAnnotations bridged = _getBridgedMethod(classAnnos, bridgeMethod);
+         if (bridged == null) {
+            continue;
+         }
+         if (methods == classAnnos.methods) {
+            methods = new ArrayList<>(classAnnos.methods);
+         }
+         // the parameter types of bridge methods are erased, so they have no type argument annotations
+         methods.add(new ClassAnnotations.MemberAnnotations(bridged.name, bridgeMethod.getReturnType(), bridged.annotations, null, bridgeMethod
+            .getParameterTypes(), bridged.parameterAnnotations, new Annotation[bridged.parameterTypes.length][][]));
+      }
+      return methods;
+   }
+
+   private static Annotation[][] _getTypeArgumentAnnotations(final AnnotatedType annotatedType) {
+      if (!(annotatedType instanceof AnnotatedParameterizedType))
+         return null;
+
+      final AnnotatedType[] typeArgs = ((AnnotatedParameterizedType) annotatedType).getAnnotatedActualTypeArguments();
+      final Annotation[][] typeArgAnnos = new Annotation[typeArgs.length][];
+      for (int i = 0; i < typeArgs.length; i++) {
+         typeArgAnnos[i] = typeArgs[i].getAnnotations();
+      }
+      return typeArgAnnos;
+   }
+
+   private static Annotation[][][] _getTypeArgumentAnnotations(final AnnotatedType[] annotatedTypes) {
+      final Annotation[][][] typeArgAnnos = new Annotation[annotatedTypes.length][][];
+      for (int i = 0; i < annotatedTypes.length; i++) {
+         typeArgAnnos[i] = _getTypeArgumentAnnotations(annotatedTypes[i]);
+      }
+      return typeArgAnnos;
+   }
+
+   private static <T extends Annotation> boolean _isAnnotationPresent(final Annotation[] annos, final Class<T> annotationType) {
+      for (final Annotation anno : annos) {
+         if (annotationType.isInstance(anno))
+            return true;
+      }
+      return false;
+   }
+
+   private static boolean _isOverridden(final Class<? extends AnnotationsConfigurer> clazz, final String methodName) {
+      return ReflectionUtils.getMethodRecursive(clazz, methodName, ClassConfiguration.class).getDeclaringClass() != AnnotationsConfigurer.class;
+   }
+
    private List<ParameterConfiguration> _createParameterConfigs(final Class<?>[] paramTypes, final Annotation[][] paramAnnos,
-      final AnnotatedType[] annotatedParamTypes) {
+      final Annotation[][][] paramTypeArgAnnos) {
       final CollectionFactory cf = getCollectionFactory();
 
       final List<ParameterConfiguration> paramCfgs = cf.createList(paramAnnos.length);
@@ -83,7 +188,7 @@ public class AnnotationsConfigurer implements Configurer {
             }
          }
 
-         initializeGenericTypeChecks(paramTypes[i], annotatedParamTypes[i], paramChecks);
+         initializeGenericTypeChecks(paramTypes[i], paramTypeArgAnnos[i], paramChecks);
 
          final ParameterConfiguration paramCfg = new ParameterConfiguration();
          paramCfgs.add(paramCfg);
@@ -114,7 +219,7 @@ public class AnnotationsConfigurer implements Configurer {
          final List<ParameterConfiguration> paramCfgs = _createParameterConfigs( //
             ctor.getParameterTypes(), //
             ctor.getParameterAnnotations(), //
-            ctor.getAnnotatedParameterTypes() //
+            _getTypeArgumentAnnotations(ctor.getAnnotatedParameterTypes()) //
          );
 
          /*
@@ -187,6 +292,7 @@ public class AnnotationsConfigurer implements Configurer {
           */
          boolean preValidateThis = false;
          boolean postValidateThis = false;
+         String[] invariantDependsOn = null;
 
          // loop over all annotations
          for (final Annotation anno : ReflectionUtils.getAnnotations(method, //
@@ -206,6 +312,8 @@ public class AnnotationsConfigurer implements Configurer {
                postChecks.add(pc);
             } else if (anno instanceof PostValidateThis) {
                postValidateThis = true;
+            } else if (anno instanceof IsInvariant) {
+               invariantDependsOn = ((IsInvariant) anno).dependsOn();
             } else if (anno.annotationType().isAnnotationPresent(Constraint.class)) {
                returnValueChecks.add(initializeCheck(anno));
             } else if (anno.annotationType().isAnnotationPresent(Constraints.class)) {
@@ -220,6 +328,7 @@ public class AnnotationsConfigurer implements Configurer {
                initializeGenericTypeChecks(interfaceMethod.getReturnType(), interfaceMethod.getAnnotatedReturnType(), returnValueChecks);
             }
          }
+         _applyInvariantDependencies(returnValueChecks, invariantDependsOn);
 
          /*
           * determine parameter checks
@@ -231,7 +340,7 @@ public class AnnotationsConfigurer implements Configurer {
                classCfg.includedInterfaces, //
                classCfg.excludedInterfaces //
             ), //
-            method.getAnnotatedParameterTypes() //
+            _getTypeArgumentAnnotations(method.getAnnotatedParameterTypes()) //
          );
 
          /*
@@ -293,15 +402,8 @@ public class AnnotationsConfigurer implements Configurer {
       }
    }
 
-   @Override
    @SuppressWarnings("deprecation")
-   public ClassConfiguration getClassConfiguration(final Class<?> clazz) {
-      final ClassConfiguration classCfg = new ClassConfiguration();
-      classCfg.type = clazz;
-
-      final Guarded guarded = clazz.getAnnotation(Guarded.class);
-      final Validatable validatable = clazz.getAnnotation(Validatable.class);
-
+   private void _configureClassSettings(final ClassConfiguration classCfg, final Guarded guarded, final Validatable validatable) {
       if (guarded == null) {
          classCfg.applyFieldConstraintsToConstructors = false;
          classCfg.applyFieldConstraintsToSetters = false;
@@ -318,7 +420,22 @@ public class AnnotationsConfigurer implements Configurer {
       if (validatable != null) {
          classCfg.excludedInterfaces = ArrayUtils.asSet(validatable.excludedInterfaces());
          classCfg.includedInterfaces = ArrayUtils.asSet(validatable.includedInterfaces());
+         classCfg.immutable = validatable.immutable();
       }
+   }
+
+   @Override
+   public ClassConfiguration getClassConfiguration(final Class<?> clazz) {
+      if (isClassAnnotationsIndexEnabled && !isConfigureHookOverridden) {
+         final ClassAnnotations classAnnos = ClassAnnotationsIndex.getClassAnnotations(clazz);
+         if (classAnnos != null)
+            return getClassConfiguration(classAnnos);
+      }
+
+      final ClassConfiguration classCfg = new ClassConfiguration();
+      classCfg.type = clazz;
+
+      _configureClassSettings(classCfg, clazz.getAnnotation(Guarded.class), clazz.getAnnotation(Validatable.class));
 
       configureObjectLevelChecks(classCfg);
       configureFieldChecks(classCfg);
@@ -328,11 +445,155 @@ public class AnnotationsConfigurer implements Configurer {
       return classCfg;
    }
 
+   /**
+    * Creates the constraint configuration from the annotations recorded at compile time by the
+    * {@link net.sf.oval.configuration.annotation.processor.ConstraintAnnotationsProcessor}.
+    */
+   protected ClassConfiguration getClassConfiguration(final ClassAnnotations classAnnos) {
+      final CollectionFactory cf = getCollectionFactory();
+
+      final ClassConfiguration classCfg = new ClassConfiguration();
+      classCfg.type = classAnnos.type;
+
+      Guarded guarded = null;
+      Validatable validatable = null;
+      for (final Annotation anno : classAnnos.annotations) {
+         if (anno instanceof Guarded) {
+            guarded = (Guarded) anno;
+         } else if (anno instanceof Validatable) {
+            validatable = (Validatable) anno;
+         }
+      }
+      _configureClassSettings(classCfg, guarded, validatable);
+
+      /*
+       * object level checks
+       */
+      final List<Check> objectChecks = cf.createList(2);
+      initializeChecks(classAnnos.annotations, objectChecks);
+      if (!objectChecks.isEmpty()) {
+         classCfg.objectConfiguration = new ObjectConfiguration();
+         classCfg.objectConfiguration.checks = objectChecks;
+      }
+
+      /*
+       * field checks
+       */
+      for (final ClassAnnotations.MemberAnnotations field : classAnnos.fields) {
+         final List<Check> checks = cf.createList(2);
+         initializeChecks(field.annotations, checks);
+         initializeGenericTypeChecks(field.type, field.typeArgumentAnnotations, checks);
+
+         if (!checks.isEmpty()) {
+            if (classCfg.fieldConfigurations == null) {
+               classCfg.fieldConfigurations = cf.createSet(2);
+            }
+
+            final FieldConfiguration fc = new FieldConfiguration();
+            fc.name = field.name;
+            fc.checks = checks;
+            classCfg.fieldConfigurations.add(fc);
+         }
+      }
+
+      /*
+       * constructor parameter checks
+       */
+      for (final ClassAnnotations.MemberAnnotations ctor : classAnnos.constructors) {
+         final List<ParameterConfiguration> paramCfgs = _createParameterConfigs(ctor.parameterTypes, ctor.parameterAnnotations,
+            ctor.parameterTypeArgumentAnnotations);
+
+         final boolean postValidateThis = _isAnnotationPresent(ctor.annotations, PostValidateThis.class);
+         if (postValidateThis || !paramCfgs.isEmpty()) {
+            if (classCfg.constructorConfigurations == null) {
+               classCfg.constructorConfigurations = cf.createSet(2);
+            }
+
+            final ConstructorConfiguration cc = new ConstructorConfiguration();
+            cc.parameterConfigurations = paramCfgs;
+            cc.postCheckInvariants = postValidateThis;
+            classCfg.constructorConfigurations.add(cc);
+         }
+      }
+
+      /*
+       * method return value and parameter checks
+       */
+      for (final ClassAnnotations.MemberAnnotations method : _getMethodsWithBridgeMethods(classAnnos)) {
+         final List<Check> returnValueChecks = cf.createList(2);
+         final List<PreCheck> preChecks = cf.createList(2);
+         final List<PostCheck> postChecks = cf.createList(2);
+         String[] invariantDependsOn = null;
+
+         for (final Annotation anno : method.annotations) {
+            if (anno instanceof Pre) {
+               final PreCheck pc = new PreCheck();
+               pc.configure((Pre) anno);
+               preChecks.add(pc);
+            } else if (anno instanceof Post) {
+               final PostCheck pc = new PostCheck();
+               pc.configure((Post) anno);
+               postChecks.add(pc);
+            } else if (anno instanceof IsInvariant) {
+               invariantDependsOn = ((IsInvariant) anno).dependsOn();
+            } else if (anno.annotationType().isAnnotationPresent(Constraint.class)) {
+               returnValueChecks.add(initializeCheck(anno));
+            } else if (anno.annotationType().isAnnotationPresent(Constraints.class)) {
+               initializeChecks(anno, returnValueChecks);
+            }
+         }
+
+         initializeGenericTypeChecks(method.type, method.typeArgumentAnnotations, returnValueChecks);
+         _applyInvariantDependencies(returnValueChecks, invariantDependsOn);
+
+         final List<ParameterConfiguration> paramCfg = _createParameterConfigs(method.parameterTypes, method.parameterAnnotations,
+            method.parameterTypeArgumentAnnotations);
+
+         final boolean preValidateThis = _isAnnotationPresent(method.annotations, PreValidateThis.class);
+         final boolean postValidateThis = _isAnnotationPresent(method.annotations, PostValidateThis.class);
+
+         if (preValidateThis || postValidateThis || !paramCfg.isEmpty() || !returnValueChecks.isEmpty() || !preChecks.isEmpty() || !postChecks.isEmpty()) {
+            if (classCfg.methodConfigurations == null) {
+               classCfg.methodConfigurations = cf.createSet(2);
+            }
+
+            final MethodConfiguration mc = new MethodConfiguration();
+            mc.name = method.name;
+            mc.parameterConfigurations = paramCfg;
+            mc.isInvariant = _isAnnotationPresent(method.annotations, IsInvariant.class);
+            mc.preCheckInvariants = preValidateThis;
+            mc.postCheckInvariants = postValidateThis;
+            if (!returnValueChecks.isEmpty()) {
+               mc.returnValueConfiguration = new MethodReturnValueConfiguration();
+               mc.returnValueConfiguration.checks = returnValueChecks;
+            }
+            if (!preChecks.isEmpty()) {
+               mc.preExecutionConfiguration = new MethodPreExecutionConfiguration();
+               mc.preExecutionConfiguration.checks = preChecks;
+            }
+            if (!postChecks.isEmpty()) {
+               mc.postExecutionConfiguration = new MethodPostExecutionConfiguration();
+               mc.postExecutionConfiguration.checks = postChecks;
+            }
+            classCfg.methodConfigurations.add(mc);
+         }
+      }
+      return classCfg;
+   }
+
    @Override
    public ConstraintSetConfiguration getConstraintSetConfiguration(final String constraintSetId) {
       return null;
    }
 
+   /**
+    * @return <code>true</code> if the class annotations generated at compile time by the
+    *         {@link net.sf.oval.configuration.annotation.processor.ConstraintAnnotationsProcessor} are used if available
+    */
+   public boolean isClassAnnotationsIndexEnabled() {
+      return isClassAnnotationsIndexEnabled;
+   }
+
    @SuppressWarnings("unchecked")
    protected <ConstraintAnnotation extends Annotation> AnnotationCheck<ConstraintAnnotation> initializeCheck(final ConstraintAnnotation constraintAnnotation,
       final ConstraintTarget... targetOverrides) throws ReflectionException {
@@ -355,6 +616,19 @@ public class AnnotationsConfigurer implements Configurer {
       return check;
    }
 
+   /**
+    * initializes the checks for the constraint annotations and constraint list annotations contained in the given array
+    */
+   protected void initializeChecks(final Annotation[] annos, final List<Check> checks) throws ReflectionException {
+      for (final Annotation anno : annos) {
+         if (anno.annotationType().isAnnotationPresent(Constraint.class)) {
+            checks.add(initializeCheck(anno));
+         } else if (anno.annotationType().isAnnotationPresent(Constraints.class)) {
+            initializeChecks(anno, checks);
+         }
+      }
+   }
+
    /**
     * handles list of annotations like @Assert.List(...)
     */
@@ -399,49 +673,48 @@ public class AnnotationsConfigurer implements Configurer {
    }
 
    protected void initializeGenericTypeChecks(final Class<?> type, final AnnotatedType annotatedType, final List<Check> checks) {
-      if (annotatedType instanceof AnnotatedParameterizedType) {
-         final AnnotatedParameterizedType fieldAPType = (AnnotatedParameterizedType) annotatedType;
-
-         if (Collection.class.isAssignableFrom(type)) {
-            final AnnotatedType genericArgType = fieldAPType.getAnnotatedActualTypeArguments()[0];
-            for (final Annotation anno : genericArgType.getAnnotations()) {
-               if (anno.annotationType().isAnnotationPresent(Constraint.class)) {
-                  checks.add(initializeCheck(anno, ConstraintTarget.VALUES));
-               } else if (anno.annotationType().isAnnotationPresent(Constraints.class)) {
-                  initializeChecks(anno, checks, ConstraintTarget.VALUES);
-               }
-            }
+      initializeGenericTypeChecks(type, _getTypeArgumentAnnotations(annotatedType), checks);
+   }
+
+   /**
+    * @param typeArgAnnos the annotations of the type arguments of the given type, may be null
+    */
+   protected void initializeGenericTypeChecks(final Class<?> type, final Annotation[][] typeArgAnnos, final List<Check> checks) {
+      if (typeArgAnnos == null || typeArgAnnos.length == 0)
+         return;
 
-            /* TODO handle annotations and deeper levels, e.g. List<List<@NotNull String>>
-            if (genericArgType instanceof AnnotatedParameterizedType) {
-               initializeGenericTypeChecks(type, (AnnotatedParameterizedType) genericArgType, checks);
+      if (Collection.class.isAssignableFrom(type)) {
+         for (final Annotation anno : typeArgAnnos[0]) {
+            if (anno.annotationType().isAnnotationPresent(Constraint.class)) {
+               checks.add(initializeCheck(anno, ConstraintTarget.VALUES));
+            } else if (anno.annotationType().isAnnotationPresent(Constraints.class)) {
+               initializeChecks(anno, checks, ConstraintTarget.VALUES);
             }
-            */
-
-         } else if (Map.class.isAssignableFrom(type)) {
-
-            // Keys
-            {
-               final AnnotatedType genericArgType = fieldAPType.getAnnotatedActualTypeArguments()[0];
-               for (final Annotation anno : genericArgType.getAnnotations()) {
-                  if (anno.annotationType().isAnnotationPresent(Constraint.class)) {
-                     checks.add(initializeCheck(anno, ConstraintTarget.KEYS));
-                  } else if (anno.annotationType().isAnnotationPresent(Constraints.class)) {
-                     initializeChecks(anno, checks, ConstraintTarget.KEYS);
-                  }
-               }
+         }
+
+         /* TODO handle annotations and deeper levels, e.g. List<List<@NotNull String>>
+         if (genericArgType instanceof AnnotatedParameterizedType) {
+            initializeGenericTypeChecks(type, (AnnotatedParameterizedType) genericArgType, checks);
+         }
+         */
+
+      } else if (Map.class.isAssignableFrom(type) && typeArgAnnos.length > 1) {
+
+         // Keys
+         for (final Annotation anno : typeArgAnnos[0]) {
+            if (anno.annotationType().isAnnotationPresent(Constraint.class)) {
+               checks.add(initializeCheck(anno, ConstraintTarget.KEYS));
+            } else if (anno.annotationType().isAnnotationPresent(Constraints.class)) {
+               initializeChecks(anno, checks, ConstraintTarget.KEYS);
             }
+         }
 
-            // Values
-            {
-               final AnnotatedType genericArgType = fieldAPType.getAnnotatedActualTypeArguments()[1];
-               for (final Annotation anno : genericArgType.getAnnotations()) {
-                  if (anno.annotationType().isAnnotationPresent(Constraint.class)) {
-                     checks.add(initializeCheck(anno, ConstraintTarget.VALUES));
-                  } else if (anno.annotationType().isAnnotationPresent(Constraints.class)) {
-                     initializeChecks(anno, checks, ConstraintTarget.VALUES);
-                  }
-               }
+         // Values
+         for (final Annotation anno : typeArgAnnos[1]) {
+            if (anno.annotationType().isAnnotationPresent(Constraint.class)) {
+               checks.add(initializeCheck(anno, ConstraintTarget.VALUES));
+            } else if (anno.annotationType().isAnnotationPresent(Constraints.class)) {
+               initializeChecks(anno, checks, ConstraintTarget.VALUES);
             }
          }
       }
@@ -462,4 +735,17 @@ public class AnnotationsConfigurer implements Configurer {
    public boolean removeCheckInitializationListener(final CheckInitializationListener listener) {
       return listeners.remove(listener);
    }
+
+   /**
+    * Specifies if the class annotations recorded at compile time by the
+    * {@link net.sf.oval.configuration.annotation.processor.ConstraintAnnotationsProcessor} are used instead of scanning the members of the
+    * classes. Disabled by default.
+    *
+    * The index only replaces the reflective annotation lookup when a class is configured for the first time, validation itself is not
+    * affected. It is not used if a sub class overrides one of the <code>configure*Checks</code> methods. The annotations of synthetic bridge
+    * methods, which the annotation processor cannot see, are taken from the bridged methods recorded in the index.
+    */
+   public void setClassAnnotationsIndexEnabled(final boolean isEnabled) {
+      isClassAnnotationsIndexEnabled = isEnabled;
+   }
 }
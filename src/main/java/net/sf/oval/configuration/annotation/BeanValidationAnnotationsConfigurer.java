@@ -418,6 +418,7 @@ public class BeanValidationAnnotationsConfigurer implements Configurer {
       if (validatable != null) {
          classCfg.excludedInterfaces = ArrayUtils.asSet(validatable.excludedInterfaces());
          classCfg.includedInterfaces = ArrayUtils.asSet(validatable.includedInterfaces());
+         classCfg.immutable = validatable.immutable();
       }
 
       configureFieldChecks(classCfg);
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2005-2021 by Sebastian Thomschke and contributors.
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package net.sf.oval.configuration.annotation;
+
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.List;
+
+import net.sf.oval.configuration.annotation.processor.ConstraintAnnotationsProcessor;
+
+/**
+ * Constraint related annotations of a class and its declared members as recorded at compile time by the
+ * {@link ConstraintAnnotationsProcessor}. Used by the {@link AnnotationsConfigurer} instead of scanning the members of the class.
+ *
+ * @author Sebastian Thomschke
+ */
+public final class ClassAnnotations {
+
+   /**
+    * Annotations of a field, constructor or method.
+    */
+   public static final class MemberAnnotations {
+
+      /**
+       * name of the field or method, <code>null</code> for constructors
+       */
+      public final String name;
+
+      /**
+       * type of the field or return type of the method, <code>null</code> for constructors
+       */
+      public final Class<?> type;
+
+      public final Annotation[] annotations;
+
+      /**
+       * annotations of the type arguments of the field type or method return type, may be <code>null</code>
+       */
+      public final Annotation[][] typeArgumentAnnotations;
+
+      /**
+       * <code>null</code> for fields
+       */
+      public final Class<?>[] parameterTypes;
+
+      /**
+       * <code>null</code> for fields
+       */
+      public final Annotation[][] parameterAnnotations;
+
+      /**
+       * annotations of the type arguments of the parameter types, <code>null</code> for fields
+       */
+      public final Annotation[][][] parameterTypeArgumentAnnotations;
+
+      MemberAnnotations(final String name, final Class<?> type, final Annotation[] annotations, final Annotation[][] typeArgumentAnnotations,
+         final Class<?>[] parameterTypes, final Annotation[][] parameterAnnotations, final Annotation[][][] parameterTypeArgumentAnnotations) {
+         this.name = name;
+         this.type = type;
+         this.annotations = annotations;
+         this.typeArgumentAnnotations = typeArgumentAnnotations;
+         this.parameterTypes = parameterTypes;
+         this.parameterAnnotations = parameterAnnotations;
+         this.parameterTypeArgumentAnnotations = parameterTypeArgumentAnnotations;
+      }
+   }
+
+   public final Class<?> type;
+   public final Annotation[] annotations;
+   public final List<MemberAnnotations> fields = new ArrayList<>(4);
+   public final List<MemberAnnotations> constructors = new ArrayList<>(2);
+   public final List<MemberAnnotations> methods = new ArrayList<>(4);
+
+   public ClassAnnotations(final Class<?> type, final Annotation... annotations) {
+      this.type = type;
+      this.annotations = annotations;
+   }
+
+   public ClassAnnotations addConstructor(final Annotation[] annotations, final Class<?>[] parameterTypes, final Annotation[][] parameterAnnotations,
+      final Annotation[][][] parameterTypeArgumentAnnotations) {
+      constructors.add(new MemberAnnotations(null, null, annotations, null, parameterTypes, parameterAnnotations, parameterTypeArgumentAnnotations));
+      return this;
+   }
+
+   public ClassAnnotations addField(final String name, final Class<?> type, final Annotation[] annotations, final Annotation[][] typeArgumentAnnotations) {
+      fields.add(new MemberAnnotations(name, type, annotations, typeArgumentAnnotations, null, null, null));
+      return this;
+   }
+
+   public ClassAnnotations addMethod(final String name, final Class<?> returnType, final Annotation[] annotations,
+      final Annotation[][] returnTypeArgumentAnnotations, final Class<?>[] parameterTypes, final Annotation[][] parameterAnnotations,
+      final Annotation[][][] parameterTypeArgumentAnnotations) {
+      methods.add(new MemberAnnotations(name, returnType, annotations, returnTypeArgumentAnnotations, parameterTypes, parameterAnnotations,
+         parameterTypeArgumentAnnotations));
+      return this;
+   }
+}
@@ -0,0 +1,15 @@
+/*
+ * Copyright 2005-2021 by Sebastian Thomschke and contributors.
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package net.sf.oval.configuration.annotation;
+
+/**
+ * Implemented by the classes generated by the {@link net.sf.oval.configuration.annotation.processor.ConstraintAnnotationsProcessor}.
+ *
+ * @author Sebastian Thomschke
+ */
+public interface ClassAnnotationsProvider {
+
+   ClassAnnotations getClassAnnotations();
+}
@@ -25,5 +25,13 @@ import java.lang.annotation.Target;
 @Retention(RetentionPolicy.RUNTIME)
 @Target({ElementType.METHOD})
 public @interface IsInvariant {
-   //
+
+   /**
+    * Names of the fields the return value of the method depends on. Applied to the constraints of the return value that do not declare their
+    * own dependencies, see {@link net.sf.oval.constraint.CheckWith#dependsOn()}.
+    * <p>
+    * <b>Default:</b> no dependencies declared, i.e. the return value is re-checked after every setter call when the
+    * {@link net.sf.oval.guard.Guard} checks invariants incrementally
+    */
+   String[] dependsOn() default {};
 }
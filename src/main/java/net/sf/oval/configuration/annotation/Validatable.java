@@ -38,4 +38,12 @@ public @interface Validatable {
     * Only applicable if {@link #inspectInterfaces()} is set to <code>true</code>.
     */
    Class<?>[] includedInterfaces() default {};
+
+   /**
+    * Declares that instances of this class never change their validation outcome, i.e. the class and all objects validated through its
+    * {@link net.sf.oval.constraint.AssertValid} constraints are immutable and its constraints do not depend on external state.
+    *
+    * The validator remembers the instances found to be valid and does not validate them again.
+    */
+   boolean immutable() default false;
 }
@@ -0,0 +1,487 @@
+/*
+ * Copyright 2005-2021 by Sebastian Thomschke and contributors.
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package net.sf.oval.configuration.annotation.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.TreeMap;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+import net.sf.oval.configuration.annotation.AnnotationLiteral;
+import net.sf.oval.configuration.annotation.ClassAnnotations;
+import net.sf.oval.configuration.annotation.ClassAnnotationsProvider;
+import net.sf.oval.configuration.annotation.Constraint;
+import net.sf.oval.configuration.annotation.Constraints;
+import net.sf.oval.configuration.annotation.Exclusion;
+import net.sf.oval.configuration.annotation.IsInvariant;
+import net.sf.oval.configuration.annotation.Validatable;
+import net.sf.oval.guard.Guarded;
+import net.sf.oval.guard.Post;
+import net.sf.oval.guard.PostValidateThis;
+import net.sf.oval.guard.Pre;
+import net.sf.oval.guard.PreValidateThis;
+import net.sf.oval.internal.ClassAnnotationsIndex;
+
+/**
+ * Annotation processor that records the constraint related annotations of the compiled classes as {@link ClassAnnotationsProvider} sources
+ * and registers them in the {@link ClassAnnotationsIndex#INDEX_RESOURCE} index. At runtime an
+ * {@link net.sf.oval.configuration.annotation.AnnotationsConfigurer} with
+ * {@link net.sf.oval.configuration.annotation.AnnotationsConfigurer#setClassAnnotationsIndexEnabled(boolean)} reads the annotations from the
+ * generated classes instead of scanning the members of the validated classes. No validator classes are generated; the checks are still
+ * created and evaluated the same way as for scanned annotations, i.e. the index only shortens the configuration of a class.
+ * <p>
+ * The processor is not registered automatically, it must be enabled explicitly, e.g. via <code>javac -processor</code> or the
+ * <code>annotationProcessors</code> setting of the maven-compiler-plugin.
+ * <p>
+ * Classes are skipped, i.e. configured via reflection at runtime, if they are not accessible from their package, are non-static inner classes, or
+ * implement interfaces declaring constraint annotations.
+ *
+ * @author Sebastian Thomschke
+ */
+@SupportedAnnotationTypes("*")
+public class ConstraintAnnotationsProcessor extends AbstractProcessor {
+
+   /**
+    * thrown if a class cannot be referenced from the generated source
+    */
+   private static final class NotRepresentableException extends Exception {
+      private static final long serialVersionUID = 1L;
+
+      NotRepresentableException(final String message) {
+         super(message);
+      }
+   }
+
+   public static final String GENERATED_CLASS_SUFFIX = "_OValAnnotations";
+
+   private static final String ANNOTATION = "java.lang.annotation.Annotation";
+
+   private static final Set<String> RELEVANT_ANNOTATIONS = new HashSet<>(Arrays.asList( //
+      Guarded.class.getName(), //
+      Validatable.class.getName(), //
+      IsInvariant.class.getName(), //
+      Pre.class.getName(), //
+      Post.class.getName(), //
+      PreValidateThis.class.getName(), //
+      PostValidateThis.class.getName() //
+   ));
+
+   private static final Set<String> META_ANNOTATIONS = new HashSet<>(Arrays.asList( //
+      Constraint.class.getName(), //
+      Constraints.class.getName(), //
+      Exclusion.class.getName() //
+   ));
+
+   /**
+    * annotated class name => generated class name
+    */
+   private final Map<String, String> index = new TreeMap<>();
+
+   private String getPackageName(final Element element) {
+      return processingEnv.getElementUtils().getPackageOf(element).getQualifiedName().toString();
+   }
+
+   @Override
+   public SourceVersion getSupportedSourceVersion() {
+      return SourceVersion.latestSupported();
+   }
+
+   private boolean hasRelevantAnnotations(final TypeElement type) {
+      if (!getRelevantAnnotations(type.getAnnotationMirrors()).isEmpty())
+         return true;
+
+      for (final Element member : type.getEnclosedElements()) {
+         if (member instanceof VariableElement) {
+            if (!getRelevantAnnotations(member.getAnnotationMirrors()).isEmpty() || hasRelevantTypeArgumentAnnotations(member.asType()))
+               return true;
+         } else if (member instanceof ExecutableElement) {
+            final ExecutableElement executable = (ExecutableElement) member;
+            if (!getRelevantAnnotations(executable.getAnnotationMirrors()).isEmpty() || hasRelevantTypeArgumentAnnotations(executable.getReturnType()))
+               return true;
+            for (final VariableElement param : executable.getParameters()) {
+               if (!getRelevantAnnotations(param.getAnnotationMirrors()).isEmpty() || hasRelevantTypeArgumentAnnotations(param.asType()))
+                  return true;
+            }
+         }
+      }
+      return false;
+   }
+
+   private boolean hasRelevantTypeArgumentAnnotations(final TypeMirror type) {
+      if (type.getKind() != TypeKind.DECLARED)
+         return false;
+      for (final TypeMirror typeArg : ((DeclaredType) type).getTypeArguments()) {
+         if (!getRelevantAnnotations(typeArg.getAnnotationMirrors()).isEmpty())
+            return true;
+      }
+      return false;
+   }
+
+   private List<AnnotationMirror> getRelevantAnnotations(final List<? extends AnnotationMirror> annotations) {
+      final List<AnnotationMirror> result = new ArrayList<>(annotations.size());
+      for (final AnnotationMirror anno : annotations) {
+         final TypeElement annoType = (TypeElement) anno.getAnnotationType().asElement();
+         if (RELEVANT_ANNOTATIONS.contains(annoType.getQualifiedName().toString())) {
+            result.add(anno);
+            continue;
+         }
+         for (final AnnotationMirror metaAnno : annoType.getAnnotationMirrors()) {
+            if (META_ANNOTATIONS.contains(((TypeElement) metaAnno.getAnnotationType().asElement()).getQualifiedName().toString())) {
+               result.add(anno);
+               break;
+            }
+         }
+      }
+      return result;
+   }
+
+   /**
+    * @return all interfaces implemented by the given type and its super classes
+    */
+   private Set<TypeElement> getInterfacesRecursive(final TypeElement type, final Set<TypeElement> result) {
+      for (final TypeMirror iface : type.getInterfaces()) {
+         final TypeElement ifaceElement = (TypeElement) ((DeclaredType) iface).asElement();
+         if (result.add(ifaceElement)) {
+            getInterfacesRecursive(ifaceElement, result);
+         }
+      }
+      final TypeMirror superclass = type.getSuperclass();
+      if (superclass.getKind() == TypeKind.DECLARED) {
+         getInterfacesRecursive((TypeElement) ((DeclaredType) superclass).asElement(), result);
+      }
+      return result;
+   }
+
+   /**
+    * @return <code>true</code> if the given type can be referenced from generated code in the given package
+    */
+   private boolean isAccessible(final TypeElement type, final String fromPackage) {
+      final boolean isSamePackage = getPackageName(type).equals(fromPackage);
+      for (Element e = type; e instanceof TypeElement; e = e.getEnclosingElement()) {
+         final Set<Modifier> modifiers = e.getModifiers();
+         if (modifiers.contains(Modifier.PRIVATE))
+            return false;
+         if (!modifiers.contains(Modifier.PUBLIC) && !isSamePackage)
+            return false;
+         if (((TypeElement) e).getNestingKind() == NestingKind.LOCAL || ((TypeElement) e).getNestingKind() == NestingKind.ANONYMOUS)
+            return false;
+      }
+      return true;
+   }
+
+   @Override
+   public boolean process(final Set<? extends TypeElement> annotations, final RoundEnvironment roundEnv) {
+      if (roundEnv.processingOver()) {
+         if (!index.isEmpty()) {
+            writeIndex();
+         }
+         return false;
+      }
+
+      for (final TypeElement type : ElementFilter.typesIn(roundEnv.getRootElements())) {
+         processType(type);
+      }
+      return false;
+   }
+
+   private void processType(final TypeElement type) {
+      for (final TypeElement nestedType : ElementFilter.typesIn(type.getEnclosedElements())) {
+         processType(nestedType);
+      }
+
+      if (type.getKind() != ElementKind.CLASS)
+         return;
+
+      if (type.getNestingKind() == NestingKind.MEMBER && !type.getModifiers().contains(Modifier.STATIC))
+         return;
+
+      final String packageName = getPackageName(type);
+      if (!isAccessible(type, packageName) || !hasRelevantAnnotations(type))
+         return;
+
+      // the annotations of interfaces are not recorded, thus let the class be configured via reflection
+      for (final TypeElement iface : getInterfacesRecursive(type, new LinkedHashSet<>())) {
+         if (hasRelevantAnnotations(iface)) {
+            note(type, "not processed since it implements interface " + iface + " declaring constraints");
+            return;
+         }
+      }
+
+      final String binaryName = processingEnv.getElementUtils().getBinaryName(type).toString();
+      final String generatedSimpleName = binaryName.substring(packageName.isEmpty() ? 0 : packageName.length() + 1).replace('$', '_')
+         + GENERATED_CLASS_SUFFIX;
+      final String generatedName = packageName.isEmpty() ? generatedSimpleName : packageName + "." + generatedSimpleName;
+
+      final String source;
+      try {
+         source = renderSource(type, packageName, generatedSimpleName);
+      } catch (final NotRepresentableException ex) {
+         note(type, "not processed: " + ex.getMessage());
+         return;
+      }
+
+      try (Writer w = processingEnv.getFiler().createSourceFile(generatedName, type).openWriter()) {
+         w.write(source);
+      } catch (final IOException ex) {
+         processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Cannot write " + generatedName + ": " + ex, type);
+         return;
+      }
+      index.put(binaryName, generatedName);
+   }
+
+   private void note(final TypeElement type, final String message) {
+      processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE, type.getQualifiedName() + " " + message);
+   }
+
+   private void renderAnnotation(final StringBuilder sb, final AnnotationMirror anno, final String fromPackage) throws NotRepresentableException {
+      final TypeElement annoType = (TypeElement) anno.getAnnotationType().asElement();
+      sb.append(AnnotationLiteral.class.getName()).append(".of(");
+      renderClassLiteral(sb, anno.getAnnotationType(), fromPackage);
+      for (final Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : processingEnv.getElementUtils().getElementValuesWithDefaults(anno)
+         .entrySet()) {
+         sb.append(", \"").append(entry.getKey().getSimpleName()).append("\", ");
+         renderValue(sb, entry.getKey().getReturnType(), entry.getValue(), fromPackage);
+      }
+      sb.append(')');
+
+      if (!isAccessible(annoType, fromPackage))
+         throw new NotRepresentableException("annotation " + annoType + " is not accessible");
+   }
+
+   private void renderAnnotations(final StringBuilder sb, final List<? extends AnnotationMirror> annos, final String fromPackage)
+      throws NotRepresentableException {
+      final List<AnnotationMirror> relevantAnnos = getRelevantAnnotations(annos);
+      if (relevantAnnos.isEmpty()) {
+         sb.append("NO_ANNOTATIONS");
+         return;
+      }
+      sb.append("new ").append(ANNOTATION).append("[] {");
+      for (int i = 0; i < relevantAnnos.size(); i++) {
+         if (i > 0) {
+            sb.append(", ");
+         }
+         renderAnnotation(sb, relevantAnnos.get(i), fromPackage);
+      }
+      sb.append('}');
+   }
+
+   private void renderClassLiteral(final StringBuilder sb, final TypeMirror type, final String fromPackage) throws NotRepresentableException {
+      renderTypeName(sb, type, fromPackage);
+      sb.append(".class");
+   }
+
+   private void renderParameters(final StringBuilder sb, final List<? extends VariableElement> params, final String fromPackage)
+      throws NotRepresentableException {
+      // parameter types
+      sb.append("new Class<?>[] {");
+      for (int i = 0; i < params.size(); i++) {
+         if (i > 0) {
+            sb.append(", ");
+         }
+         renderClassLiteral(sb, params.get(i).asType(), fromPackage);
+      }
+      sb.append("}, ");
+
+      // parameter annotations
+      sb.append("new ").append(ANNOTATION).append("[][] {");
+      for (int i = 0; i < params.size(); i++) {
+         if (i > 0) {
+            sb.append(", ");
+         }
+         renderAnnotations(sb, params.get(i).getAnnotationMirrors(), fromPackage);
+      }
+      sb.append("}, ");
+
+      // parameter type argument annotations
+      sb.append("new ").append(ANNOTATION).append("[][][] {");
+      for (int i = 0; i < params.size(); i++) {
+         if (i > 0) {
+            sb.append(", ");
+         }
+         renderTypeArgumentAnnotations(sb, params.get(i).asType(), fromPackage);
+      }
+      sb.append('}');
+   }
+
+   private String renderSource(final TypeElement type, final String packageName, final String generatedSimpleName) throws NotRepresentableException {
+      final StringBuilder sb = new StringBuilder(1024);
+      if (!packageName.isEmpty()) {
+         sb.append("package ").append(packageName).append(";\n\n");
+      }
+      sb.append("/**\n * Generated by ").append(ConstraintAnnotationsProcessor.class.getName()).append(". Do not edit.\n */\n");
+      sb.append("public final class ").append(generatedSimpleName).append(" implements ").append(ClassAnnotationsProvider.class.getName()).append(" {\n\n");
+      sb.append("   private static final ").append(ANNOTATION).append("[] NO_ANNOTATIONS = {};\n\n");
+      sb.append("   @Override\n");
+      sb.append("   public ").append(ClassAnnotations.class.getName()).append(" getClassAnnotations() {\n");
+      sb.append("      return new ").append(ClassAnnotations.class.getName()).append('(');
+      renderClassLiteral(sb, type.asType(), packageName);
+      sb.append(", ");
+      renderAnnotations(sb, type.getAnnotationMirrors(), packageName);
+      sb.append(")");
+
+      for (final VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+         if (getRelevantAnnotations(field.getAnnotationMirrors()).isEmpty() && !hasRelevantTypeArgumentAnnotations(field.asType())) {
+            continue;
+         }
+         sb.append(" //\n         .addField(\"").append(field.getSimpleName()).append("\", ");
+         renderClassLiteral(sb, field.asType(), packageName);
+         sb.append(", ");
+         renderAnnotations(sb, field.getAnnotationMirrors(), packageName);
+         sb.append(", ");
+         renderTypeArgumentAnnotations(sb, field.asType(), packageName);
+         sb.append(')');
+      }
+
+      // like the reflection based configuration all constructors and all methods with parameters are recorded, since they may be subject to
+      // class-wide settings such as @Guarded(assertParametersNotNull=true)
+      for (final ExecutableElement ctor : ElementFilter.constructorsIn(type.getEnclosedElements())) {
+         sb.append(" //\n         .addConstructor(");
+         renderAnnotations(sb, ctor.getAnnotationMirrors(), packageName);
+         sb.append(", ");
+         renderParameters(sb, ctor.getParameters(), packageName);
+         sb.append(')');
+      }
+
+      for (final ExecutableElement method : ElementFilter.methodsIn(type.getEnclosedElements())) {
+         if (method.getParameters().isEmpty() && getRelevantAnnotations(method.getAnnotationMirrors()).isEmpty()
+            && !hasRelevantTypeArgumentAnnotations(method.getReturnType())) {
+            continue;
+         }
+         sb.append(" //\n         .addMethod(\"").append(method.getSimpleName()).append("\", ");
+         if (method.getReturnType().getKind() == TypeKind.VOID) {
+            sb.append("void.class");
+         } else {
+            renderClassLiteral(sb, method.getReturnType(), packageName);
+         }
+         sb.append(", ");
+         renderAnnotations(sb, method.getAnnotationMirrors(), packageName);
+         sb.append(", ");
+         renderTypeArgumentAnnotations(sb, method.getReturnType(), packageName);
+         sb.append(", ");
+         renderParameters(sb, method.getParameters(), packageName);
+         sb.append(')');
+      }
+      sb.append(";\n   }\n}\n");
+      return sb.toString();
+   }
+
+   private void renderTypeArgumentAnnotations(final StringBuilder sb, final TypeMirror type, final String fromPackage) throws NotRepresentableException {
+      if (!hasRelevantTypeArgumentAnnotations(type)) {
+         sb.append("null");
+         return;
+      }
+      final List<? extends TypeMirror> typeArgs = ((DeclaredType) type).getTypeArguments();
+      sb.append("new ").append(ANNOTATION).append("[][] {");
+      for (int i = 0; i < typeArgs.size(); i++) {
+         if (i > 0) {
+            sb.append(", ");
+         }
+         renderAnnotations(sb, typeArgs.get(i).getAnnotationMirrors(), fromPackage);
+      }
+      sb.append('}');
+   }
+
+   private void renderTypeName(final StringBuilder sb, final TypeMirror type, final String fromPackage) throws NotRepresentableException {
+      final TypeMirror erasure = processingEnv.getTypeUtils().erasure(type);
+      switch (erasure.getKind()) {
+         case BOOLEAN:
+         case BYTE:
+         case SHORT:
+         case INT:
+         case LONG:
+         case CHAR:
+         case FLOAT:
+         case DOUBLE:
+            sb.append(erasure.getKind().name().toLowerCase());
+            return;
+         case ARRAY:
+            renderTypeName(sb, ((ArrayType) erasure).getComponentType(), fromPackage);
+            sb.append("[]");
+            return;
+         case DECLARED:
+            final TypeElement typeElement = (TypeElement) ((DeclaredType) erasure).asElement();
+            if (!isAccessible(typeElement, fromPackage))
+               throw new NotRepresentableException("type " + typeElement + " is not accessible");
+            sb.append(typeElement.getQualifiedName());
+            return;
+         default:
+            throw new NotRepresentableException("type " + type + " is not supported");
+      }
+   }
+
+   private void renderValue(final StringBuilder sb, final TypeMirror valueType, final AnnotationValue value, final String fromPackage)
+      throws NotRepresentableException {
+      final Object v = value.getValue();
+      if (v instanceof List) {
+         // array value
+         final TypeMirror componentType = ((ArrayType) valueType).getComponentType();
+         sb.append("new ");
+         renderTypeName(sb, componentType, fromPackage);
+         sb.append("[] {");
+         boolean isFirst = true;
+         for (final Object item : (List<?>) v) {
+            if (!isFirst) {
+               sb.append(", ");
+            }
+            isFirst = false;
+            renderValue(sb, componentType, (AnnotationValue) item, fromPackage);
+         }
+         sb.append('}');
+      } else if (v instanceof TypeMirror) {
+         renderClassLiteral(sb, (TypeMirror) v, fromPackage);
+      } else if (v instanceof VariableElement) {
+         // enum constant
+         final VariableElement enumConstant = (VariableElement) v;
+         renderTypeName(sb, enumConstant.getEnclosingElement().asType(), fromPackage);
+         sb.append('.').append(enumConstant.getSimpleName());
+      } else if (v instanceof AnnotationMirror) {
+         renderAnnotation(sb, (AnnotationMirror) v, fromPackage);
+      } else {
+         sb.append(processingEnv.getElementUtils().getConstantExpression(v));
+      }
+   }
+
+   private void writeIndex() {
+      try {
+         final FileObject file = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", ClassAnnotationsIndex.INDEX_RESOURCE);
+         try (Writer w = file.openWriter()) {
+            for (final Entry<String, String> entry : index.entrySet()) {
+               w.write(entry.getKey() + "=" + entry.getValue() + "\n");
+            }
+         }
+      } catch (final IOException ex) {
+         processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Cannot write " + ClassAnnotationsIndex.INDEX_RESOURCE + ": " + ex);
+      }
+   }
+}
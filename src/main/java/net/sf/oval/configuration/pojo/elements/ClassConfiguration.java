@@ -67,6 +67,12 @@ public class ClassConfiguration extends ConfigurationElement {
     */
    public Boolean checkInvariants;
 
+   /**
+    * Declares that instances of this class never change their validation outcome, i.e. the class and all objects validated through its
+    * {@link net.sf.oval.constraint.AssertValid} constraints are immutable. Instances found to be valid are not validated again.
+    */
+   public Boolean immutable;
+
    /**
     * Specifies whether annotations can be applied to interfaces that this class implements,
     * supporting a documentation function
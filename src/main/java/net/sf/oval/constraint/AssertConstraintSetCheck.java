@@ -6,6 +6,7 @@ package net.sf.oval.constraint;
 
 import net.sf.oval.ValidationCycle;
 import net.sf.oval.configuration.annotation.AbstractAnnotationCheck;
+import net.sf.oval.internal.ResolvedCheckReference;
 
 /**
  * @author Sebastian Thomschke
@@ -15,6 +16,11 @@ public class AssertConstraintSetCheck extends AbstractAnnotationCheck<AssertCons
 
    private String id;
 
+   /**
+    * the constraint set resolved by the validator
+    */
+   private transient volatile ResolvedCheckReference resolvedReference;
+
    @Override
    public void configure(final AssertConstraintSet constraintAnnotation) {
       super.configure(constraintAnnotation);
@@ -35,6 +41,13 @@ public class AssertConstraintSetCheck extends AbstractAnnotationCheck<AssertCons
       throw new UnsupportedOperationException();
    }
 
+   /**
+    * <b>For internal use by the validator only.</b>
+    */
+   public ResolvedCheckReference getResolvedReference() {
+      return resolvedReference;
+   }
+
    @Override
    public int getSeverity() throws UnsupportedOperationException {
       throw new UnsupportedOperationException();
@@ -58,6 +71,7 @@ public class AssertConstraintSetCheck extends AbstractAnnotationCheck<AssertCons
 
    public void setId(final String id) {
       this.id = id;
+      resolvedReference = null;
    }
 
    @Override
@@ -65,6 +79,13 @@ public class AssertConstraintSetCheck extends AbstractAnnotationCheck<AssertCons
       throw new UnsupportedOperationException();
    }
 
+   /**
+    * <b>For internal use by the validator only.</b>
+    */
+   public void setResolvedReference(final ResolvedCheckReference resolvedReference) {
+      this.resolvedReference = resolvedReference;
+   }
+
    @Override
    public void setSeverity(final int severity) throws UnsupportedOperationException {
       throw new UnsupportedOperationException();
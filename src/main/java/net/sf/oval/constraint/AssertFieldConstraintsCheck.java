@@ -7,6 +7,7 @@ package net.sf.oval.constraint;
 import net.sf.oval.ConstraintTarget;
 import net.sf.oval.ValidationCycle;
 import net.sf.oval.configuration.annotation.AbstractAnnotationCheck;
+import net.sf.oval.internal.ResolvedCheckReference;
 
 /**
  * @author Sebastian Thomschke
@@ -18,6 +19,11 @@ public class AssertFieldConstraintsCheck extends AbstractAnnotationCheck<AssertF
 
    private Class<?> declaringClass;
 
+   /**
+    * the field resolved by the validator
+    */
+   private transient volatile ResolvedCheckReference resolvedReference;
+
    @Override
    public void configure(final AssertFieldConstraints constraintAnnotation) {
       super.configure(constraintAnnotation);
@@ -48,6 +54,13 @@ public class AssertFieldConstraintsCheck extends AbstractAnnotationCheck<AssertF
       throw new UnsupportedOperationException();
    }
 
+   /**
+    * <b>For internal use by the validator only.</b>
+    */
+   public ResolvedCheckReference getResolvedReference() {
+      return resolvedReference;
+   }
+
    @Override
    public int getSeverity() throws UnsupportedOperationException {
       throw new UnsupportedOperationException();
@@ -82,6 +95,13 @@ public class AssertFieldConstraintsCheck extends AbstractAnnotationCheck<AssertF
       throw new UnsupportedOperationException();
    }
 
+   /**
+    * <b>For internal use by the validator only.</b>
+    */
+   public void setResolvedReference(final ResolvedCheckReference resolvedReference) {
+      this.resolvedReference = resolvedReference;
+   }
+
    @Override
    public void setSeverity(final int severity) throws UnsupportedOperationException {
       throw new UnsupportedOperationException();
@@ -81,6 +81,14 @@ public @interface AssertValid {
    @Deprecated
    String message() default "net.sf.oval.constraint.AssertValid.violated";
 
+   /**
+    * The minimum number of elements of a collection or array above which the elements are validated in parallel.
+    * <p>
+    * <b>Default:</b> -1, i.e. the threshold configured via {@link net.sf.oval.Validator#setParallelAssertValidThreshold(int)} is used. 0 disables
+    * parallel validation for this constraint.
+    */
+   int parallelThreshold() default -1;
+
    /**
     * The associated constraint profiles.
     */
@@ -14,11 +14,26 @@ import net.sf.oval.configuration.annotation.AbstractAnnotationCheck;
 public class AssertValidCheck extends AbstractAnnotationCheck<AssertValid> {
    private static final long serialVersionUID = 1L;
 
+   private int parallelThreshold = -1;
+
+   @Override
+   public void configure(final AssertValid constraintAnnotation) {
+      super.configure(constraintAnnotation);
+      setParallelThreshold(constraintAnnotation.parallelThreshold());
+   }
+
    @Override
    protected ConstraintTarget[] getAppliesToDefault() {
       return new ConstraintTarget[] {ConstraintTarget.CONTAINER, ConstraintTarget.VALUES, ConstraintTarget.RECURSIVE};
    }
 
+   /**
+    * @return the minimum number of elements above which the elements are validated in parallel, -1 to use the validator's default, 0 if disabled
+    */
+   public int getParallelThreshold() {
+      return parallelThreshold;
+   }
+
    /**
     * <b>This method is not used.</b><br>
     * The validation of this special constraint is directly performed by the Validator class
@@ -29,4 +44,12 @@ public class AssertValidCheck extends AbstractAnnotationCheck<AssertValid> {
    public boolean isSatisfied(final Object validatedObject, final Object valueToValidate, final ValidationCycle cycle) throws UnsupportedOperationException {
       throw new UnsupportedOperationException();
    }
+
+   /**
+    * @param parallelThreshold the minimum number of elements above which the elements are validated in parallel, -1 to use the validator's
+    *           default, 0 to disable parallel validation
+    */
+   public void setParallelThreshold(final int parallelThreshold) {
+      this.parallelThreshold = parallelThreshold;
+   }
 }
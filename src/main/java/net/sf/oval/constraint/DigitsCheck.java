@@ -11,6 +11,7 @@ import java.math.BigInteger;
 import java.util.Map;
 
 import net.sf.oval.ConstraintTarget;
+import net.sf.oval.PrimitiveValueCheck;
 import net.sf.oval.ValidationCycle;
 import net.sf.oval.configuration.annotation.AbstractAnnotationCheck;
 import net.sf.oval.internal.Log;
@@ -18,7 +19,7 @@ import net.sf.oval.internal.Log;
 /**
  * @author Sebastian Thomschke
  */
-public class DigitsCheck extends AbstractAnnotationCheck<Digits> {
+public class DigitsCheck extends AbstractAnnotationCheck<Digits> implements PrimitiveValueCheck {
    private static final Log LOG = Log.getLog(DigitsCheck.class);
 
    private static final long serialVersionUID = 1L;
@@ -68,6 +69,25 @@ public class DigitsCheck extends AbstractAnnotationCheck<Digits> {
       return minInteger;
    }
 
+   /**
+    * The number of fraction digits of floating point values is determined from their string representation, i.e. the value is boxed.
+    */
+   @Override
+   public boolean isSatisfied(final double value) {
+      return isSatisfied(null, value, null);
+   }
+
+   @Override
+   public boolean isSatisfied(final float value) {
+      return isSatisfied(null, value, null);
+   }
+
+   @Override
+   public boolean isSatisfied(final long value) {
+      final int intLen = value == 0 ? 1 : (int) Math.log10(value) + 1;
+      return intLen <= maxInteger && intLen >= minInteger && 0 <= maxFraction && 0 >= minFraction;
+   }
+
    @Override
    public boolean isSatisfied(final Object validatedObject, final Object valueToValidate, final ValidationCycle cycle) {
       if (valueToValidate == null)
@@ -13,9 +13,8 @@ import java.util.Map;
 import net.sf.oval.ValidationCycle;
 import net.sf.oval.configuration.annotation.AbstractAnnotationCheck;
 import net.sf.oval.exception.FieldNotFoundException;
-import net.sf.oval.exception.InvokingMethodFailedException;
 import net.sf.oval.exception.MethodNotFoundException;
-import net.sf.oval.internal.ContextCache;
+import net.sf.oval.internal.AccessorCache;
 import net.sf.oval.internal.util.ReflectionUtils;
 
 /**
@@ -68,18 +67,14 @@ public class EqualToFieldCheck extends AbstractAnnotationCheck<EqualToField> {
          if (getter == null)
             throw new MethodNotFoundException("Getter for field <" + fieldName + "> not found in class <" + clazz + "> or it's super classes.");
 
-         try {
-            valueToCompare = getter.invoke(validatedObject);
-         } catch (final Exception ex) {
-            throw new InvokingMethodFailedException(getter.getName(), validatedObject, ContextCache.getMethodReturnValueContext(getter), ex);
-         }
+         valueToCompare = AccessorCache.getMethodAccessor(getter).invoke(validatedObject);
       } else {
          final Field field = ReflectionUtils.getFieldRecursive(clazz, fieldName);
 
          if (field == null)
             throw new FieldNotFoundException("Field <" + fieldName + "> not found in class <" + clazz + "> or it's super classes.");
 
-         valueToCompare = ReflectionUtils.getFieldValue(field, validatedObject);
+         valueToCompare = AccessorCache.getFieldAccessor(field).get(validatedObject);
       }
 
       if (valueToCompare == null)
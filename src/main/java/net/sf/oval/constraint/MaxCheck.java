@@ -9,17 +9,20 @@ import static net.sf.oval.Validator.*;
 import java.util.Map;
 
 import net.sf.oval.ConstraintTarget;
+import net.sf.oval.PrimitiveValueCheck;
 import net.sf.oval.ValidationCycle;
 import net.sf.oval.configuration.annotation.AbstractAnnotationCheck;
+import net.sf.oval.internal.util.NumericBound;
 
 /**
  * @author Sebastian Thomschke
  */
-public class MaxCheck extends AbstractAnnotationCheck<Max> {
+public class MaxCheck extends AbstractAnnotationCheck<Max> implements PrimitiveValueCheck {
    private static final long serialVersionUID = 1L;
 
    private boolean inclusive = true;
    private double max;
+   private transient NumericBound maxBound;
 
    @Override
    public void configure(final Max constraintAnnotation) {
@@ -40,6 +43,16 @@ public class MaxCheck extends AbstractAnnotationCheck<Max> {
       return new ConstraintTarget[] {ConstraintTarget.VALUES};
    }
 
+   private NumericBound getMaxBound() {
+      NumericBound bound = maxBound;
+      // the field may have been set without using the setter, e.g. by deserialization
+      if (bound == null || Double.compare(bound.value, max) != 0) {
+         bound = new NumericBound(max);
+         maxBound = bound;
+      }
+      return bound;
+   }
+
    public double getMax() {
       return max;
    }
@@ -48,16 +61,32 @@ public class MaxCheck extends AbstractAnnotationCheck<Max> {
       return inclusive;
    }
 
+   @Override
+   public boolean isSatisfied(final double value) {
+      if (inclusive)
+         return value <= max;
+      return value < max;
+   }
+
+   @Override
+   public boolean isSatisfied(final long value) {
+      final int comparison = getMaxBound().compareTo(value);
+      if (comparison == NumericBound.UNSUPPORTED)
+         return isSatisfied((double) value);
+      return isSatisfiedByComparison(comparison);
+   }
+
    @Override
    public boolean isSatisfied(final Object validatedObject, final Object valueToValidate, final ValidationCycle cycle) {
       if (valueToValidate == null)
          return true;
 
+      final int comparison = getMaxBound().compareTo(valueToValidate);
+      if (comparison != NumericBound.UNSUPPORTED)
+         return isSatisfiedByComparison(comparison);
+
       if (valueToValidate instanceof Number) {
-         final double doubleValue = ((Number) valueToValidate).doubleValue();
-         if (inclusive)
-            return doubleValue <= max;
-         return doubleValue < max;
+         return isSatisfied(((Number) valueToValidate).doubleValue());
       }
 
       final String stringValue = valueToValidate.toString();
@@ -71,6 +100,15 @@ public class MaxCheck extends AbstractAnnotationCheck<Max> {
       }
    }
 
+   /**
+    * @param comparison the result of comparing the value with the max bound
+    */
+   private boolean isSatisfiedByComparison(final int comparison) {
+      if (inclusive)
+         return comparison <= 0;
+      return comparison < 0;
+   }
+
    public void setInclusive(final boolean inclusive) {
       this.inclusive = inclusive;
    }
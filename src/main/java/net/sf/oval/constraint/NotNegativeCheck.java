@@ -7,13 +7,14 @@ package net.sf.oval.constraint;
 import java.math.BigDecimal;
 
 import net.sf.oval.ConstraintTarget;
+import net.sf.oval.PrimitiveValueCheck;
 import net.sf.oval.ValidationCycle;
 import net.sf.oval.configuration.annotation.AbstractAnnotationCheck;
 
 /**
  * @author Sebastian Thomschke
  */
-public class NotNegativeCheck extends AbstractAnnotationCheck<NotNegative> {
+public class NotNegativeCheck extends AbstractAnnotationCheck<NotNegative> implements PrimitiveValueCheck {
    private static final BigDecimal ZERO = BigDecimal.valueOf(0);
 
    private static final long serialVersionUID = 1L;
@@ -23,6 +24,16 @@ public class NotNegativeCheck extends AbstractAnnotationCheck<NotNegative> {
       return new ConstraintTarget[] {ConstraintTarget.VALUES};
    }
 
+   @Override
+   public boolean isSatisfied(final double value) {
+      return value >= 0;
+   }
+
+   @Override
+   public boolean isSatisfied(final long value) {
+      return value >= 0;
+   }
+
    @Override
    public boolean isSatisfied(final Object validatedObject, final Object valueToValidate, final ValidationCycle cycle) {
       if (valueToValidate == null)
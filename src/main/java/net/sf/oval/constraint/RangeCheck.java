@@ -9,17 +9,21 @@ import static net.sf.oval.Validator.*;
 import java.util.Map;
 
 import net.sf.oval.ConstraintTarget;
+import net.sf.oval.PrimitiveValueCheck;
 import net.sf.oval.ValidationCycle;
 import net.sf.oval.configuration.annotation.AbstractAnnotationCheck;
+import net.sf.oval.internal.util.NumericBound;
 
 /**
  * @author Sebastian Thomschke
  */
-public class RangeCheck extends AbstractAnnotationCheck<Range> {
+public class RangeCheck extends AbstractAnnotationCheck<Range> implements PrimitiveValueCheck {
    private static final long serialVersionUID = 1L;
 
    private double min = Double.MIN_VALUE;
    private double max = Double.MAX_VALUE;
+   private transient NumericBound minBound;
+   private transient NumericBound maxBound;
 
    @Override
    public void configure(final Range constraintAnnotation) {
@@ -41,6 +45,25 @@ public class RangeCheck extends AbstractAnnotationCheck<Range> {
       return new ConstraintTarget[] {ConstraintTarget.VALUES};
    }
 
+   private NumericBound getMinBound() {
+      NumericBound bound = minBound;
+      // the field may have been set without using the setter, e.g. by deserialization
+      if (bound == null || Double.compare(bound.value, min) != 0) {
+         bound = new NumericBound(min);
+         minBound = bound;
+      }
+      return bound;
+   }
+
+   private NumericBound getMaxBound() {
+      NumericBound bound = maxBound;
+      if (bound == null || Double.compare(bound.value, max) != 0) {
+         bound = new NumericBound(max);
+         maxBound = bound;
+      }
+      return bound;
+   }
+
    public double getMax() {
       return max;
    }
@@ -49,14 +72,34 @@ public class RangeCheck extends AbstractAnnotationCheck<Range> {
       return min;
    }
 
+   @Override
+   public boolean isSatisfied(final double value) {
+      return value >= min && value <= max;
+   }
+
+   @Override
+   public boolean isSatisfied(final long value) {
+      final int minComparison = getMinBound().compareTo(value);
+      final int maxComparison = getMaxBound().compareTo(value);
+      if (minComparison == NumericBound.UNSUPPORTED || maxComparison == NumericBound.UNSUPPORTED)
+         return isSatisfied((double) value);
+      return minComparison >= 0 && maxComparison <= 0;
+   }
+
    @Override
    public boolean isSatisfied(final Object validatedObject, final Object valueToValidate, final ValidationCycle cycle) {
       if (valueToValidate == null)
          return true;
 
+      final int minComparison = getMinBound().compareTo(valueToValidate);
+      if (minComparison != NumericBound.UNSUPPORTED) {
+         final int maxComparison = getMaxBound().compareTo(valueToValidate);
+         if (maxComparison != NumericBound.UNSUPPORTED)
+            return minComparison >= 0 && maxComparison <= 0;
+      }
+
       if (valueToValidate instanceof Number) {
-         final double doubleValue = ((Number) valueToValidate).doubleValue();
-         return doubleValue >= min && doubleValue <= max;
+         return isSatisfied(((Number) valueToValidate).doubleValue());
       }
 
       final String stringValue = valueToValidate.toString();
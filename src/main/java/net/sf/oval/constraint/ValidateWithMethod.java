@@ -65,6 +65,15 @@ public @interface ValidateWithMethod {
     */
    ConstraintTarget[] appliesTo() default ConstraintTarget.CONTAINER;
 
+   /**
+    * Names of the fields of the validated object this constraint depends on. If specified for an object level constraint or for the return
+    * value of a getter marked as {@link net.sf.oval.configuration.annotation.IsInvariant}, the {@link net.sf.oval.guard.Guard} in
+    * incremental invariants mode only re-evaluates the constraint after a setter call if the setter modified one of these fields.
+    * <p>
+    * <b>Default:</b> no dependencies declared, i.e. the constraint is re-evaluated after every setter call
+    */
+   String[] dependsOn() default {};
+
    /**
     * error code passed to the ConstraintViolation object
     */
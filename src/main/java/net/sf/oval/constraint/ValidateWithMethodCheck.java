@@ -16,6 +16,7 @@ import net.sf.oval.Validator;
 import net.sf.oval.configuration.annotation.AbstractAnnotationCheck;
 import net.sf.oval.exception.InvalidConfigurationException;
 import net.sf.oval.exception.ReflectionException;
+import net.sf.oval.internal.AccessorCache;
 import net.sf.oval.internal.util.ReflectionUtils;
 
 /**
@@ -78,7 +79,7 @@ public class ValidateWithMethodCheck extends AbstractAnnotationCheck<ValidateWit
       if (method == null)
          throw new InvalidConfigurationException("Method " + clazz.getName() + "." + methodName + "(" + parameterType + ") not found. Is [" + parameterType
             + "] the correct value for [@ValidateWithMethod.parameterType]?");
-      return ReflectionUtils.invokeMethod(method, validatedObject, valueToValidate);
+      return (Boolean) AccessorCache.getMethodAccessor(method).invoke(validatedObject, valueToValidate);
    }
 
    public void setIgnoreIfNull(final boolean ignoreIfNull) {
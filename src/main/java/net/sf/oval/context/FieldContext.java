@@ -17,6 +17,11 @@ public class FieldContext extends OValContext {
 
    private final SerializableField field;
 
+   /**
+    * lazily resolved type arguments of the field's generic type
+    */
+   private transient Class<?>[] typeArguments;
+
    public FieldContext(final Class<?> declaringClass, final String fieldName) {
       final Field field = ReflectionUtils.getField(declaringClass, fieldName);
       this.field = new SerializableField(field);
@@ -37,6 +42,19 @@ public class FieldContext extends OValContext {
       return field.getField();
    }
 
+   /**
+    * @return the type argument at the given index of the field's generic type, e.g. the element type of a <code>List&lt;String&gt;</code>
+    *         field, or null if not resolvable to a class
+    */
+   public Class<?> getTypeArgument(final int index) {
+      Class<?>[] args = typeArguments;
+      if (args == null) {
+         args = ReflectionUtils.getTypeArguments(getField().getGenericType());
+         typeArguments = args;
+      }
+      return index < args.length ? args[index] : null;
+   }
+
    @Override
    public String toString() {
       return field.getDeclaringClass().getName() + '.' + toStringUnqualified();
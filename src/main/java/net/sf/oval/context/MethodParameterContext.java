@@ -7,6 +7,7 @@ package net.sf.oval.context;
 import java.lang.reflect.Method;
 
 import net.sf.oval.Validator;
+import net.sf.oval.internal.util.ReflectionUtils;
 import net.sf.oval.internal.util.SerializableMethod;
 import net.sf.oval.internal.util.StringUtils;
 
@@ -20,6 +21,11 @@ public class MethodParameterContext extends OValContext {
    private final int parameterIndex;
    private final String parameterName;
 
+   /**
+    * lazily resolved type arguments of the parameter's generic type
+    */
+   private transient Class<?>[] typeArguments;
+
    public MethodParameterContext(final Method method, final int parameterIndex, final String parameterName) {
       this.method = new SerializableMethod(method);
       this.parameterIndex = parameterIndex;
@@ -44,6 +50,19 @@ public class MethodParameterContext extends OValContext {
       return parameterName;
    }
 
+   /**
+    * @return the type argument at the given index of the parameter's generic type, e.g. the element type of a
+    *         <code>List&lt;String&gt;</code> parameter, or null if not resolvable to a class
+    */
+   public Class<?> getTypeArgument(final int index) {
+      Class<?>[] args = typeArguments;
+      if (args == null) {
+         args = ReflectionUtils.getTypeArguments(getMethod().getGenericParameterTypes()[parameterIndex]);
+         typeArguments = args;
+      }
+      return index < args.length ? args[index] : null;
+   }
+
    @Override
    public String toString() {
       return method.getDeclaringClass().getName() + "." + toStringUnqualified();
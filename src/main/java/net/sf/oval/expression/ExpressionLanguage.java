@@ -12,6 +12,17 @@ import net.sf.oval.exception.ExpressionEvaluationException;
  * @author Sebastian Thomschke
  */
 public interface ExpressionLanguage {
+
+   /**
+    * Parses and caches the given expression ahead of its first evaluation. Implementations that do not compile expressions do nothing.
+    *
+    * @param expression the expression to compile
+    * @throws ExpressionEvaluationException in case of an invalid expression
+    */
+   default void compile(final String expression) throws ExpressionEvaluationException {
+      // nothing to do
+   }
+
    /**
     * Evaluates the given expression.
     * 
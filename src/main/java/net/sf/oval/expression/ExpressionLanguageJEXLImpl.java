@@ -27,6 +27,15 @@ public class ExpressionLanguageJEXLImpl extends AbstractExpressionLanguage {
 
    private final ObjectCache<String, JexlExpression> expressionCache = new ObjectCache<>(JEXL::createExpression);
 
+   @Override
+   public void compile(final String expression) throws ExpressionEvaluationException {
+      try {
+         expressionCache.get(expression);
+      } catch (final Exception ex) {
+         throw new ExpressionEvaluationException("Parsing JEXL expression failed: " + expression, ex);
+      }
+   }
+
    @Override
    @SuppressWarnings("unchecked")
    public Object evaluate(final String expression, final Map<String, ?> values) throws ExpressionEvaluationException {
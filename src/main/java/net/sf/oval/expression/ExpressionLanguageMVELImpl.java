@@ -20,6 +20,15 @@ public class ExpressionLanguageMVELImpl extends AbstractExpressionLanguage {
 
    private final ObjectCache<String, Object> expressionCache = new ObjectCache<>(MVEL::compileExpression);
 
+   @Override
+   public void compile(final String expression) throws ExpressionEvaluationException {
+      try {
+         expressionCache.get(expression);
+      } catch (final Exception ex) {
+         throw new ExpressionEvaluationException("Parsing MVEL expression failed: " + expression, ex);
+      }
+   }
+
    @Override
    public Object evaluate(final String expression, final Map<String, ?> values) throws ExpressionEvaluationException {
       LOG.debug("Evaluating MVEL expression: {1}", expression);
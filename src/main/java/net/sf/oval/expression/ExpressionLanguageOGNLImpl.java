@@ -60,6 +60,11 @@ public class ExpressionLanguageOGNLImpl extends AbstractExpressionLanguage {
       }
    });
 
+   @Override
+   public void compile(final String expression) throws ExpressionEvaluationException {
+      expressionCache.get(expression);
+   }
+
    @Override
    public Object evaluate(final String expression, final Map<String, ?> values) throws ExpressionEvaluationException {
       LOG.debug("Evaluating OGNL expression: {1}", expression);
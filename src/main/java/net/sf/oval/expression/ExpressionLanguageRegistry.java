@@ -18,7 +18,7 @@ import net.sf.oval.internal.util.ReflectionUtils;
 public class ExpressionLanguageRegistry {
    private static final Log LOG = Log.getLog(ExpressionLanguageRegistry.class);
 
-   private final Map<String, ExpressionLanguage> elcache = Validator.getCollectionFactory().createMap(4);
+   private final Map<String, ExpressionLanguage> elcache = Validator.getCollectionFactory().createConcurrentMap();
 
    private ExpressionLanguage _initializeDefaultEL(final String languageId) {
       // JavaScript support
@@ -65,6 +65,13 @@ public class ExpressionLanguageScriptEngineImpl extends AbstractExpressionLangua
       }
    }
 
+   @Override
+   public void compile(final String expression) throws ExpressionEvaluationException {
+      if (compilable != null) {
+         compiledCache.get(expression);
+      }
+   }
+
    @Override
    public Object evaluate(final String expression, final Map<String, ?> values) throws ExpressionEvaluationException {
       LOG.debug("Evaluating JavaScript expression: {1}", expression);
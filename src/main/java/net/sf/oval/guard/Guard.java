@@ -5,6 +5,7 @@
 package net.sf.oval.guard;
 
 import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.util.Collection;
 import java.util.Iterator;
@@ -14,6 +15,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import net.sf.oval.Check;
 import net.sf.oval.CheckExclusion;
@@ -94,20 +96,21 @@ public class Guard extends Validator {
    /**
     * string based on validated object hashcode + method hashcode for currently validated method return values
     */
-   private static final ThreadLocal<List<String>> CURRENTLY_CHECKED_METHOD_RETURN_VALUES = ThreadLocal.withInitial(() -> getCollectionFactory().createList());
+   private static final ThreadLocal<List<String>> CURRENTLY_CHECKED_METHOD_RETURN_VALUES = new ThreadLocal<>();
 
    /**
     * string based on validated object hashcode + method hashcode for currently validated method pre-conditions
     */
-   private static final ThreadLocal<List<String>> CURRENTLY_CHECKED_PRE_CONDITIONS = ThreadLocal.withInitial(() -> getCollectionFactory().createList());
+   private static final ThreadLocal<List<String>> CURRENTLY_CHECKED_PRE_CONDITIONS = new ThreadLocal<>();
 
    /**
     * string based on validated object hashcode + method hashcode for currently validated method post-conditions
     */
-   private static final ThreadLocal<List<String>> CURRENTLY_CHECKED_POST_CONDITIONS = ThreadLocal.withInitial(() -> getCollectionFactory().createList());
+   private static final ThreadLocal<List<String>> CURRENTLY_CHECKED_POST_CONDITIONS = new ThreadLocal<>();
 
    private boolean isActivated = true;
    private boolean isInvariantsEnabled = true;
+   private boolean isIncrementalInvariantsEnabled = false;
    private boolean isPreConditionsEnabled = true;
    private boolean isPostConditionsEnabled = true;
 
@@ -126,9 +129,14 @@ public class Guard extends Validator {
 
    /**
     * Objects for OVal suppresses occurring ConstraintViolationExceptions for pre-condition violations on setter methods
-    * for the current thread.
+    * for the current thread. The thread-local map is removed when the probe mode was disabled for all objects of the thread.
     */
-   private final ThreadLocal<WeakHashMap<Object, ProbeModeListener>> objectsInProbeMode = ThreadLocal.withInitial(WeakHashMap::new);
+   private final ThreadLocal<WeakHashMap<Object, ProbeModeListener>> objectsInProbeMode = new ThreadLocal<>();
+
+   /**
+    * the field set by each guarded method, an empty array if the method is not a JavaBean style setter
+    */
+   private final ConcurrentMap<Method, Field[]> fieldsOfSetters = getCollectionFactory().createConcurrentMap();
 
    /**
     * Constructs a new guard object and uses a new instance of AnnotationsConfigurer
@@ -144,6 +152,30 @@ public class Guard extends Validator {
       super(configurers);
    }
 
+   /**
+    * Registers the given key as currently checked by the current thread. The thread-local list is only kept as long as keys are registered.
+    *
+    * @return <code>false</code> if the key is already registered
+    */
+   private static boolean _enterCurrentlyChecked(final ThreadLocal<List<String>> currentlyChecked, final String key) {
+      List<String> keys = currentlyChecked.get();
+      if (keys == null) {
+         keys = getCollectionFactory().createList(4);
+         currentlyChecked.set(keys);
+      } else if (keys.contains(key))
+         return false;
+      keys.add(key);
+      return true;
+   }
+
+   private static void _exitCurrentlyChecked(final ThreadLocal<List<String>> currentlyChecked, final String key) {
+      final List<String> keys = currentlyChecked.get();
+      keys.remove(key);
+      if (keys.isEmpty()) {
+         currentlyChecked.remove();
+      }
+   }
+
    private List<CheckExclusion> _getActiveExclusions(final Set<CheckExclusion> exclusions) {
       final List<CheckExclusion> activeExclusions = new LinkedList<>(exclusions);
       for (final Iterator<CheckExclusion> it = activeExclusions.iterator(); it.hasNext();) {
@@ -155,6 +187,38 @@ public class Guard extends Validator {
       return activeExclusions.isEmpty() ? null : activeExclusions;
    }
 
+   /**
+    * @return the field set by the given method or null if the method is not a JavaBean style setter
+    */
+   private Field _getFieldOfSetter(final Method method) {
+      final Field[] field = fieldsOfSetters.computeIfAbsent(method, m -> {
+         final Field f = ReflectionUtils.isStatic(m) ? null : ReflectionUtils.getFieldForSetter(m);
+         return f == null ? new Field[0] : new Field[] {f};
+      });
+      return field.length == 0 ? null : field[0];
+   }
+
+   private ProbeModeListener _getProbeModeListener(final Object guardedObject) {
+      final WeakHashMap<Object, ProbeModeListener> objects = objectsInProbeMode.get();
+      return objects == null ? null : objects.get(guardedObject);
+   }
+
+   /**
+    * Validates the invariants after the execution of the given method. In incremental mode only the invariants that may be affected by a
+    * setter are validated.
+    */
+   private void _validateInvariantsPost(final Object guardedObject, final Method method, final InternalValidationCycle cycle)
+      throws ValidationFailedException {
+      if (isIncrementalInvariantsEnabled && !(guardedObject instanceof Class)) {
+         final Field field = _getFieldOfSetter(method);
+         if (field != null) {
+            validateInvariants(guardedObject, field, cycle);
+            return;
+         }
+      }
+      validateInvariants(guardedObject, cycle);
+   }
+
    private void _validateParameterChecks(final ParameterChecks checks, final Object validatedObject, final Object valueToValidate, final OValContext context,
       final InternalValidationCycle cycle) {
       // determine the active exclusions based on the active profiles
@@ -328,17 +392,16 @@ public class Guard extends Validator {
    protected Map<PostCheck, Object> calculateMethodPostOldValues(final Object validatedObject, final Method method, final Object[] args)
       throws ValidationFailedException {
       try {
-         final ClassChecks cc = getClassChecks(method.getDeclaringClass());
-         final Set<PostCheck> postChecks = cc.checksForMethodsPostExcecution.get(method);
+         final PostCheck[] postChecks = getClassChecks(method.getDeclaringClass()).getSnapshot().getMethodPostChecks(method);
 
          // shortcut: check if any post checks for this method exist
-         if (postChecks == null)
+         if (postChecks.length == 0)
             return null;
 
          final String[] parameterNames = parameterNameResolver.getParameterNames(method);
          final boolean hasParameters = parameterNames.length > 0;
 
-         final Map<PostCheck, Object> oldValues = getCollectionFactory().createMap(postChecks.size());
+         final Map<PostCheck, Object> oldValues = getCollectionFactory().createMap(postChecks.length);
 
          for (final PostCheck check : postChecks)
             if (isAnyProfileEnabled(check.getProfiles(), null) && check.getOld() != null && check.getOld().length() > 0) {
@@ -373,7 +436,14 @@ public class Guard extends Validator {
    public ProbeModeListener disableProbeMode(final Object guardedObject) throws IllegalArgumentException, IllegalStateException {
       Assert.argumentNotNull("guardedObject", guardedObject);
 
-      return objectsInProbeMode.get().remove(guardedObject);
+      final WeakHashMap<Object, ProbeModeListener> objects = objectsInProbeMode.get();
+      if (objects == null)
+         return null;
+      final ProbeModeListener pml = objects.remove(guardedObject);
+      if (objects.isEmpty()) {
+         objectsInProbeMode.remove();
+      }
+      return pml;
    }
 
    /**
@@ -394,10 +464,14 @@ public class Guard extends Validator {
       }
       isProbeModeFeatureUsed = true;
 
-      if (objectsInProbeMode.get().get(guardedObject) != null)
+      WeakHashMap<Object, ProbeModeListener> objects = objectsInProbeMode.get();
+      if (objects == null) {
+         objects = new WeakHashMap<>();
+         objectsInProbeMode.set(objects);
+      } else if (objects.get(guardedObject) != null)
          throw new IllegalStateException("The object is already in probe mode.");
 
-      objectsInProbeMode.get().put(guardedObject, new ProbeModeListener(guardedObject));
+      objects.put(guardedObject, new ProbeModeListener(guardedObject));
    }
 
    /**
@@ -408,14 +482,12 @@ public class Guard extends Validator {
    public Check[] getChecks(final Method method, final int paramIndex) throws InvalidConfigurationException {
       Assert.argumentNotNull("method", method);
 
-      final ClassChecks cc = getClassChecks(method.getDeclaringClass());
-
-      final Map<Integer, ParameterChecks> checks = cc.checksForMethodParameters.get(method);
-      if (checks == null)
+      final ParameterChecks[] checks = getClassChecks(method.getDeclaringClass()).getSnapshot().getMethodParameterChecks(method);
+      if (checks == null || paramIndex < 0 || paramIndex >= checks.length)
          return EMPTY_CHECKS;
 
-      final ParameterChecks paramChecks = checks.get(paramIndex);
-      return paramChecks == null ? EMPTY_CHECKS : paramChecks.checks.toArray(new Check[checks.size()]);
+      final ParameterChecks paramChecks = checks[paramIndex];
+      return paramChecks == null ? EMPTY_CHECKS : paramChecks.checks.toArray(new Check[paramChecks.checks.size()]);
    }
 
    /**
@@ -426,10 +498,8 @@ public class Guard extends Validator {
    public PostCheck[] getChecksPost(final Method method) throws IllegalArgumentException {
       Assert.argumentNotNull("method", method);
 
-      final ClassChecks cc = getClassChecks(method.getDeclaringClass());
-
-      final Set<PostCheck> checks = cc.checksForMethodsPostExcecution.get(method);
-      return checks == null ? EMPTY_POST_CHECKS : checks.toArray(new PostCheck[checks.size()]);
+      final PostCheck[] checks = getClassChecks(method.getDeclaringClass()).getSnapshot().getMethodPostChecks(method);
+      return checks.length == 0 ? EMPTY_POST_CHECKS : checks.clone();
    }
 
    /**
@@ -440,10 +510,8 @@ public class Guard extends Validator {
    public PreCheck[] getChecksPre(final Method method) throws IllegalArgumentException {
       Assert.argumentNotNull("method", method);
 
-      final ClassChecks cc = getClassChecks(method.getDeclaringClass());
-
-      final Set<PreCheck> checks = cc.checksForMethodsPreExecution.get(method);
-      return checks == null ? EMPTY_PRE_CHECKS : checks.toArray(new PreCheck[checks.size()]);
+      final PreCheck[] checks = getClassChecks(method.getDeclaringClass()).getSnapshot().getMethodPreChecks(method);
+      return checks.length == 0 ? EMPTY_PRE_CHECKS : checks.clone();
    }
 
    public ParameterNameResolver getParameterNameResolver() {
@@ -461,15 +529,15 @@ public class Guard extends Validator {
       final ClassChecks cc = getClassChecks(ctor.getDeclaringClass());
 
       // check invariants
-      if (isInvariantsEnabled && cc.isCheckInvariants || cc.methodsWithCheckInvariantsPost.contains(ctor)) {
+      if (isInvariantsEnabled && cc.isCheckInvariants || cc.getSnapshot().isCheckInvariantsPost(ctor)) {
          final InternalValidationCycle cycle = new InternalValidationCycle(guardedObject, null);
-         currentValidationCycles.get().add(cycle);
+         enterValidationCycle(cycle);
          try {
             validateInvariants(guardedObject, cycle);
          } catch (final ValidationFailedException ex) {
             throw translateException(ex);
          } finally {
-            currentValidationCycles.get().removeLast();
+            exitValidationCycle(cycle);
          }
 
          if (!cycle.violations.isEmpty()) {
@@ -534,11 +602,11 @@ public class Guard extends Validator {
       }
 
       final InternalValidationCycle cycle = new InternalValidationCycle(guardedObject, null);
-      currentValidationCycles.get().add(cycle);
+      enterValidationCycle(cycle);
 
       try {
          // check invariants
-         if (checkInvariants || cc.methodsWithCheckInvariantsPre.contains(method)) {
+         if (checkInvariants || cc.getSnapshot().isCheckInvariantsPre(method)) {
             validateInvariants(guardedObject, cycle);
          }
 
@@ -556,10 +624,10 @@ public class Guard extends Validator {
       } catch (final ValidationFailedException ex) {
          throw translateException(ex);
       } finally {
-         currentValidationCycles.get().removeLast();
+         exitValidationCycle(cycle);
       }
 
-      final ProbeModeListener pml = isProbeModeFeatureUsed ? objectsInProbeMode.get().get(guardedObject) : null;
+      final ProbeModeListener pml = isProbeModeFeatureUsed ? _getProbeModeListener(guardedObject) : null;
       if (pml != null) {
          pml.onMethodCall(method, args);
       }
@@ -587,11 +655,11 @@ public class Guard extends Validator {
 
       final Object returnValue = invocable.invoke();
 
-      currentValidationCycles.get().add(cycle);
+      enterValidationCycle(cycle);
       try {
          // check invariants if executed method is not private
-         if (checkInvariants || cc.methodsWithCheckInvariantsPost.contains(method)) {
-            validateInvariants(guardedObject, cycle);
+         if (checkInvariants || cc.getSnapshot().isCheckInvariantsPost(method)) {
+            _validateInvariantsPost(guardedObject, method, cycle);
          }
 
          if (isPostConditionsEnabled) {
@@ -609,7 +677,7 @@ public class Guard extends Validator {
       } catch (final ValidationFailedException ex) {
          throw translateException(ex);
       } finally {
-         currentValidationCycles.get().removeLast();
+         exitValidationCycle(cycle);
       }
 
       if (!cycle.violations.isEmpty()) {
@@ -637,11 +705,11 @@ public class Guard extends Validator {
       if (!isActivated)
          return;
 
-      currentValidationCycles.get().add(preResult.cycle);
+      enterValidationCycle(preResult.cycle);
       try {
          // check invariants if executed method is not private
-         if (preResult.checkInvariants || preResult.cc.methodsWithCheckInvariantsPost.contains(preResult.method)) {
-            validateInvariants(preResult.guardedObject, preResult.cycle);
+         if (preResult.checkInvariants || preResult.cc.getSnapshot().isCheckInvariantsPost(preResult.method)) {
+            _validateInvariantsPost(preResult.guardedObject, preResult.method, preResult.cycle);
          }
 
          if (isPostConditionsEnabled) {
@@ -659,7 +727,7 @@ public class Guard extends Validator {
       } catch (final ValidationFailedException ex) {
          throw translateException(ex);
       } finally {
-         currentValidationCycles.get().removeLast();
+         exitValidationCycle(preResult.cycle);
       }
 
       if (!preResult.cycle.violations.isEmpty()) {
@@ -696,10 +764,10 @@ public class Guard extends Validator {
       }
 
       final InternalValidationCycle cycle = new InternalValidationCycle(guardedObject, null);
-      currentValidationCycles.get().add(cycle);
+      enterValidationCycle(cycle);
       try {
          // check invariants
-         if (checkInvariants || cc.methodsWithCheckInvariantsPre.contains(method)) {
+         if (checkInvariants || cc.getSnapshot().isCheckInvariantsPre(method)) {
             validateInvariants(guardedObject, cycle);
          }
 
@@ -717,10 +785,10 @@ public class Guard extends Validator {
       } catch (final ValidationFailedException ex) {
          throw translateException(ex);
       } finally {
-         currentValidationCycles.get().removeLast();
+         exitValidationCycle(cycle);
       }
 
-      final ProbeModeListener pml = isProbeModeFeatureUsed ? objectsInProbeMode.get().get(guardedObject) : null;
+      final ProbeModeListener pml = isProbeModeFeatureUsed ? _getProbeModeListener(guardedObject) : null;
       if (pml != null) {
          pml.onMethodCall(method, args);
       }
@@ -799,7 +867,17 @@ public class Guard extends Validator {
       if (guardedObject == null)
          return false;
 
-      return objectsInProbeMode.get().containsKey(guardedObject);
+      final WeakHashMap<Object, ProbeModeListener> objects = objectsInProbeMode.get();
+      return objects != null && objects.containsKey(guardedObject);
+   }
+
+   /**
+    * Determines if only the invariants that may be affected by a setter are checked after calls to JavaBean style setters.
+    *
+    * @see #setIncrementalInvariantsEnabled(boolean)
+    */
+   public boolean isIncrementalInvariantsEnabled() {
+      return isIncrementalInvariantsEnabled;
    }
 
    /**
@@ -983,6 +1061,19 @@ public class Guard extends Validator {
       this.isActivated = isActivated;
    }
 
+   /**
+    * Specifies if only the invariants that may be affected by a setter are checked after calls to JavaBean style setters, i.e. the constraints
+    * of the field set by the setter and those object level and invariant getter constraints that either declare a dependency on this field or
+    * do not declare their dependencies at all, see {@link net.sf.oval.AbstractCheck#setDependsOn(String...)}. The constraints of all other
+    * fields are not checked again.
+    *
+    * This assumes that setters do not modify any other constrained fields. Invariants are still fully checked prior to each method call and
+    * after calls to all other methods.
+    */
+   public void setIncrementalInvariantsEnabled(final boolean isEnabled) {
+      isIncrementalInvariantsEnabled = isEnabled;
+   }
+
    /**
     * Specifies if invariants are checked prior and after calls to non-private methods and constructors.
     */
@@ -1026,10 +1117,9 @@ public class Guard extends Validator {
       final Object[] argsToValidate) throws ValidationFailedException {
 
       final InternalValidationCycle cycle = new InternalValidationCycle(validatedObject, null);
-      currentValidationCycles.get().add(cycle);
+      enterValidationCycle(cycle);
       try {
-         final ClassChecks cc = getClassChecks(constructor.getDeclaringClass());
-         final Map<Integer, ParameterChecks> parameterChecks = cc.checksForConstructorParameters.get(constructor);
+         final ParameterChecks[] parameterChecks = getClassChecks(constructor.getDeclaringClass()).getSnapshot().getConstructorParameterChecks(constructor);
 
          // if no parameter checks exist just return null
          if (parameterChecks == null)
@@ -1037,8 +1127,8 @@ public class Guard extends Validator {
 
          final String[] parameterNames = parameterNameResolver.getParameterNames(constructor);
 
-         for (int i = 0; i < argsToValidate.length; i++) {
-            final ParameterChecks checks = parameterChecks.get(i);
+         for (int i = 0, l = Math.min(argsToValidate.length, parameterChecks.length); i < l; i++) {
+            final ParameterChecks checks = parameterChecks[i];
 
             if (checks != null && checks.hasChecks()) {
                final Object valueToValidate = argsToValidate[i];
@@ -1051,23 +1141,58 @@ public class Guard extends Validator {
          throw new ValidationFailedException("Validation of constructor parameters failed. Constructor: " + constructor + " Validated object: "
             + validatedObject.getClass().getName() + "@" + Integer.toHexString(validatedObject.hashCode()), ex);
       } finally {
-         currentValidationCycles.get().removeLast();
+         exitValidationCycle(cycle);
+      }
+   }
+
+   @Override
+   protected void prewarmChecks(final ClassChecks cc) throws InvalidConfigurationException {
+      super.prewarmChecks(cc);
+
+      synchronized (cc.checksForMethodsPreExecution) {
+         for (final Set<PreCheck> checks : cc.checksForMethodsPreExecution.values()) {
+            prewarmChecks(checks);
+            for (final PreCheck check : checks) {
+               prewarmExpression(check.getLang(), check.getExpr());
+            }
+         }
+      }
+      synchronized (cc.checksForMethodsPostExcecution) {
+         for (final Set<PostCheck> checks : cc.checksForMethodsPostExcecution.values()) {
+            prewarmChecks(checks);
+            for (final PostCheck check : checks) {
+               prewarmExpression(check.getLang(), check.getExpr());
+               if (check.getOld() != null) {
+                  prewarmExpression(check.getLang(), check.getOld());
+               }
+            }
+         }
       }
    }
 
    @Override
    protected void validateInvariants(final Object guardedObject, final InternalValidationCycle cycle) throws IllegalArgumentException,
       ValidationFailedException {
+      validateInvariants(guardedObject, null, cycle);
+   }
 
-      final List<InternalValidationCycle> validationCycles = currentValidationCycles.get();
-      if (validationCycles.size() > 1 && validationCycles.get(validationCycles.size() - 2).validatedObjects.contains(guardedObject))
+   @Override
+   protected void validateInvariants(final Object guardedObject, final Field modifiedField, final InternalValidationCycle cycle)
+      throws IllegalArgumentException, ValidationFailedException {
+
+      final InternalValidationCycle enclosingCycle = getCurrentValidationCycle(1);
+      if (enclosingCycle != null && enclosingCycle.validatedObjects.contains(guardedObject))
          // to prevent StackOverflowError
          return;
 
       final IdentityHashSet<Object> validatedObjects = cycle.validatedObjects;
       cycle.validatedObjects = new IdentityHashSet<>(4);
       try {
-         super.validateInvariants(guardedObject, cycle);
+         if (modifiedField == null) {
+            super.validateInvariants(guardedObject, cycle);
+         } else {
+            super.validateInvariants(guardedObject, modifiedField, cycle);
+         }
       } finally {
          cycle.validatedObjects = validatedObjects;
       }
@@ -1096,8 +1221,7 @@ public class Guard extends Validator {
       final IdentityHashSet<Object> validatedObjects = cycle.validatedObjects;
       cycle.validatedObjects = new IdentityHashSet<>(4);
       try {
-         final ClassChecks cc = getClassChecks(method.getDeclaringClass());
-         final Map<Integer, ParameterChecks> parameterChecks = cc.checksForMethodParameters.get(method);
+         final ParameterChecks[] parameterChecks = getClassChecks(method.getDeclaringClass()).getSnapshot().getMethodParameterChecks(method);
 
          if (parameterChecks == null)
             return;
@@ -1108,8 +1232,8 @@ public class Guard extends Validator {
           * parameter constraints validation
           */
          if (parameterNames.length > 0) {
-            for (int i = 0; i < args.length; i++) {
-               final ParameterChecks checks = parameterChecks.get(i);
+            for (int i = 0, l = Math.min(args.length, parameterChecks.length); i < l; i++) {
+               final ParameterChecks checks = parameterChecks[i];
 
                if (checks != null && !checks.checks.isEmpty()) {
                   final Object valueToValidate = args[i];
@@ -1135,15 +1259,13 @@ public class Guard extends Validator {
       /*
        *  avoid circular references
        */
-      if (CURRENTLY_CHECKED_POST_CONDITIONS.get().contains(key))
+      if (!_enterCurrentlyChecked(CURRENTLY_CHECKED_POST_CONDITIONS, key))
          return;
 
-      CURRENTLY_CHECKED_POST_CONDITIONS.get().add(key);
       try {
-         final ClassChecks cc = getClassChecks(method.getDeclaringClass());
-         final Set<PostCheck> postChecks = cc.checksForMethodsPostExcecution.get(method);
+         final PostCheck[] postChecks = getClassChecks(method.getDeclaringClass()).getSnapshot().getMethodPostChecks(method);
 
-         if (postChecks == null)
+         if (postChecks.length == 0)
             return;
 
          final String[] parameterNames = parameterNameResolver.getParameterNames(method);
@@ -1189,7 +1311,7 @@ public class Guard extends Validator {
       } catch (final OValException ex) {
          throw new ValidationFailedException("Method post conditions validation failed. Method: " + method + " Validated object: " + validatedObject, ex);
       } finally {
-         CURRENTLY_CHECKED_POST_CONDITIONS.get().remove(key);
+         _exitCurrentlyChecked(CURRENTLY_CHECKED_POST_CONDITIONS, key);
       }
    }
 
@@ -1217,15 +1339,13 @@ public class Guard extends Validator {
       /*
        *  avoid circular references
        */
-      if (CURRENTLY_CHECKED_PRE_CONDITIONS.get().contains(key))
+      if (!_enterCurrentlyChecked(CURRENTLY_CHECKED_PRE_CONDITIONS, key))
          return;
 
-      CURRENTLY_CHECKED_PRE_CONDITIONS.get().add(key);
       try {
-         final ClassChecks cc = getClassChecks(method.getDeclaringClass());
-         final Set<PreCheck> preChecks = cc.checksForMethodsPreExecution.get(method);
+         final PreCheck[] preChecks = getClassChecks(method.getDeclaringClass()).getSnapshot().getMethodPreChecks(method);
 
-         if (preChecks == null)
+         if (preChecks.length == 0)
             return;
 
          final String[] parameterNames = parameterNameResolver.getParameterNames(method);
@@ -1261,7 +1381,7 @@ public class Guard extends Validator {
       } catch (final OValException ex) {
          throw new ValidationFailedException("Method pre conditions validation failed. Method: " + method + " Validated object: " + validatedObject, ex);
       } finally {
-         CURRENTLY_CHECKED_PRE_CONDITIONS.get().remove(key);
+         _exitCurrentlyChecked(CURRENTLY_CHECKED_PRE_CONDITIONS, key);
       }
    }
 
@@ -1283,18 +1403,16 @@ public class Guard extends Validator {
        *  => Groovy will invoke the getter to return the value, invocations of the getter will trigger the validation of the method return values again,
        *  including the @Assert constraint
        */
-      if (CURRENTLY_CHECKED_METHOD_RETURN_VALUES.get().contains(key))
+      if (!_enterCurrentlyChecked(CURRENTLY_CHECKED_METHOD_RETURN_VALUES, key))
          return;
 
-      CURRENTLY_CHECKED_METHOD_RETURN_VALUES.get().add(key);
 
       final IdentityHashSet<Object> validatedObjects = cycle.validatedObjects;
       cycle.validatedObjects = new IdentityHashSet<>(4);
       try {
-         final ClassChecks cc = getClassChecks(method.getDeclaringClass());
-         final Collection<Check> returnValueChecks = cc.checksForMethodReturnValues.get(method);
+         final Check[] returnValueChecks = getClassChecks(method.getDeclaringClass()).getSnapshot().getMethodReturnValueChecks(method);
 
-         if (returnValueChecks == null || returnValueChecks.isEmpty())
+         if (returnValueChecks.length == 0)
             return;
 
          final MethodReturnValueContext context = ContextCache.getMethodReturnValueContext(method);
@@ -1306,7 +1424,7 @@ public class Guard extends Validator {
          throw new ValidationFailedException("Method post conditions validation failed. Method: " + method + " Validated object: " + validatedObject, ex);
       } finally {
          cycle.validatedObjects = validatedObjects;
-         CURRENTLY_CHECKED_METHOD_RETURN_VALUES.get().remove(key);
+         _exitCurrentlyChecked(CURRENTLY_CHECKED_METHOD_RETURN_VALUES, key);
       }
    }
 }
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2005-2021 by Sebastian Thomschke and contributors.
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package net.sf.oval.internal;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.concurrent.ConcurrentMap;
+
+import net.sf.oval.Validator;
+import net.sf.oval.internal.util.AccessorFactory;
+import net.sf.oval.internal.util.AccessorFactoryMethodHandleImpl;
+import net.sf.oval.internal.util.Assert;
+import net.sf.oval.internal.util.FieldAccessor;
+import net.sf.oval.internal.util.MethodAccessor;
+
+/**
+ * Caches the accessors used to read field values and invoke methods.
+ *
+ * @author Sebastian Thomschke
+ */
+public final class AccessorCache {
+   private static final Log LOG = Log.getLog(AccessorCache.class);
+
+   private static final ConcurrentMap<Field, FieldAccessor> FIELD_ACCESSORS = Validator.getCollectionFactory().createConcurrentMap();
+   private static final ConcurrentMap<Method, MethodAccessor> METHOD_ACCESSORS = Validator.getCollectionFactory().createConcurrentMap();
+
+   private static volatile AccessorFactory accessorFactory = AccessorFactoryMethodHandleImpl.INSTANCE;
+
+   public static void clear() {
+      LOG.debug("Clearing accessor cache...");
+      FIELD_ACCESSORS.clear();
+      METHOD_ACCESSORS.clear();
+   }
+
+   public static AccessorFactory getAccessorFactory() {
+      return accessorFactory;
+   }
+
+   public static FieldAccessor getFieldAccessor(final Field field) {
+      return FIELD_ACCESSORS.computeIfAbsent(field, f -> accessorFactory.createFieldAccessor(f));
+   }
+
+   public static MethodAccessor getMethodAccessor(final Method method) {
+      return METHOD_ACCESSORS.computeIfAbsent(method, m -> accessorFactory.createMethodAccessor(m));
+   }
+
+   /**
+    * @param factory the accessor factory to use, the already cached accessors are discarded
+    * @throws IllegalArgumentException if <code>factory == null</code>
+    */
+   public static void setAccessorFactory(final AccessorFactory factory) throws IllegalArgumentException {
+      Assert.argumentNotNull("factory", factory);
+      LOG.info("Accessor factory {1} registered.", factory);
+      accessorFactory = factory;
+      clear();
+   }
+
+   private AccessorCache() {
+   }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2005-2021 by Sebastian Thomschke and contributors.
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package net.sf.oval.internal;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.util.Enumeration;
+import java.util.Map;
+import java.util.Properties;
+import java.util.WeakHashMap;
+
+import net.sf.oval.configuration.annotation.ClassAnnotations;
+import net.sf.oval.configuration.annotation.ClassAnnotationsProvider;
+
+/**
+ * Looks up the {@link ClassAnnotations} generated at compile time by the
+ * {@link net.sf.oval.configuration.annotation.processor.ConstraintAnnotationsProcessor}.
+ *
+ * @author Sebastian Thomschke
+ */
+public final class ClassAnnotationsIndex {
+   private static final Log LOG = Log.getLog(ClassAnnotationsIndex.class);
+
+   /**
+    * classpath resource mapping the names of the annotated classes to the names of the generated {@link ClassAnnotationsProvider}s
+    */
+   public static final String INDEX_RESOURCE = "META-INF/net.sf.oval/class-annotations.index";
+
+   private static final Map<ClassLoader, Properties> INDEX_BY_CLASSLOADER = new WeakHashMap<>(4);
+
+   /**
+    * @return the class annotations or <code>null</code> if none were generated for the given class
+    */
+   public static ClassAnnotations getClassAnnotations(final Class<?> clazz) {
+      final ClassLoader cl = clazz.getClassLoader();
+      if (cl == null)
+         return null;
+
+      final String providerClassName = getIndex(cl).getProperty(clazz.getName());
+      if (providerClassName == null)
+         return null;
+
+      try {
+         final ClassAnnotationsProvider provider = (ClassAnnotationsProvider) Class.forName(providerClassName, true, cl).getDeclaredConstructor().newInstance();
+         final ClassAnnotations classAnnotations = provider.getClassAnnotations();
+         if (classAnnotations.type != clazz) {
+            LOG.warn("Ignoring generated class annotations {1} not matching class {2}.", providerClassName, clazz);
+            return null;
+         }
+         return classAnnotations;
+      } catch (final Exception | LinkageError ex) {
+         LOG.warn("Cannot load generated class annotations {1} for class {2}.", providerClassName, clazz, ex);
+         return null;
+      }
+   }
+
+   private static Properties getIndex(final ClassLoader cl) {
+      synchronized (INDEX_BY_CLASSLOADER) {
+         Properties index = INDEX_BY_CLASSLOADER.get(cl);
+         if (index == null) {
+            index = loadIndex(cl);
+            INDEX_BY_CLASSLOADER.put(cl, index);
+         }
+         return index;
+      }
+   }
+
+   private static Properties loadIndex(final ClassLoader cl) {
+      final Properties index = new Properties();
+      try {
+         for (final Enumeration<URL> resources = cl.getResources(INDEX_RESOURCE); resources.hasMoreElements();) {
+            final URL resource = resources.nextElement();
+            LOG.debug("Loading class annotations index {1}", resource);
+            try (InputStream in = resource.openStream()) {
+               index.load(in);
+            }
+         }
+      } catch (final IOException ex) {
+         LOG.warn("Cannot load class annotations index.", ex);
+      }
+      return index;
+   }
+
+   private ClassAnnotationsIndex() {
+   }
+}
@@ -12,9 +12,12 @@ import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import net.sf.oval.Check;
 import net.sf.oval.CheckExclusion;
@@ -29,7 +32,9 @@ import net.sf.oval.internal.util.ReflectionUtils;
  * This class holds the instantiated checks for a single class.
  *
  * <b>Note:</b> For performance reasons the collections are made public (intended for read-access only).
- * Modifications to the collections should be done through the appropriate methods addXXX, removeXXX, clearXXX methods.
+ * Modifications to the collections should be done through the appropriate methods addXXX, removeXXX, clearXXX methods, otherwise
+ * the immutable {@link #getSnapshot() snapshot} is not recreated.
+ * Readers that do not synchronize on the collections should use the snapshot instead.
  *
  * @author Sebastian Thomschke
  */
@@ -40,6 +45,204 @@ public final class ClassChecks {
 
    private static final Log LOG = Log.getLog(ClassChecks.class);
 
+   private static final Check[] EMPTY_CHECKS = {};
+   private static final PostCheck[] EMPTY_POST_CHECKS = {};
+   private static final PreCheck[] EMPTY_PRE_CHECKS = {};
+
+   /**
+    * Immutable, array-backed copy of the checks of a class, including the method and constructor checks evaluated by the
+    * {@link net.sf.oval.guard.Guard}.
+    */
+   public static final class Snapshot {
+
+      /**
+       * the modification count of the {@link ClassChecks} the snapshot was created from
+       */
+      public final int version;
+
+      /**
+       * the method checks modification count of the {@link ClassChecks} the snapshot was created from
+       */
+      public final int methodChecksVersion;
+
+      /**
+       * the non-static constrained fields and their checks
+       */
+      public final Field[] fields;
+      public final Check[][] fieldChecks;
+
+      /**
+       * the non-static constrained invariant getters and their checks
+       */
+      public final Method[] getters;
+      public final Check[][] getterChecks;
+
+      public final Field[] staticFields;
+      public final Check[][] staticFieldChecks;
+
+      public final Method[] staticGetters;
+      public final Check[][] staticGetterChecks;
+
+      public final Check[] objectChecks;
+
+      private final Map<Field, Check[]> checksByField;
+      private final Map<Method, Check[]> checksByMethod;
+
+      private final Map<Constructor<?>, ParameterChecks[]> parameterChecksByConstructor;
+      private final Map<Method, ParameterChecks[]> parameterChecksByMethod;
+      private final Map<Method, PreCheck[]> preChecksByMethod;
+      private final Map<Method, PostCheck[]> postChecksByMethod;
+      private final Set<Method> methodsWithCheckInvariantsPre;
+      private final Set<AccessibleObject> methodsWithCheckInvariantsPost;
+
+      private Snapshot(final ClassChecks cc, final int version, final int methodChecksVersion) {
+         this.version = version;
+         this.methodChecksVersion = methodChecksVersion;
+
+         synchronized (cc.checksForFields) {
+            checksByField = new HashMap<>(cc.checksForFields.size());
+            for (final Map.Entry<Field, Set<Check>> entry : cc.checksForFields.entrySet()) {
+               checksByField.put(entry.getKey(), entry.getValue().toArray(EMPTY_CHECKS));
+            }
+            fields = cc.constrainedFields.toArray(new Field[cc.constrainedFields.size()]);
+            fieldChecks = _getChecks(checksByField, fields);
+            staticFields = cc.constrainedStaticFields.toArray(new Field[cc.constrainedStaticFields.size()]);
+            staticFieldChecks = _getChecks(checksByField, staticFields);
+         }
+
+         synchronized (cc.checksForMethodReturnValues) {
+            checksByMethod = new HashMap<>(cc.checksForMethodReturnValues.size());
+            for (final Map.Entry<Method, Set<Check>> entry : cc.checksForMethodReturnValues.entrySet()) {
+               checksByMethod.put(entry.getKey(), entry.getValue().toArray(EMPTY_CHECKS));
+            }
+            getters = cc.constrainedMethods.toArray(new Method[cc.constrainedMethods.size()]);
+            getterChecks = _getChecks(checksByMethod, getters);
+            staticGetters = cc.constrainedStaticMethods.toArray(new Method[cc.constrainedStaticMethods.size()]);
+            staticGetterChecks = _getChecks(checksByMethod, staticGetters);
+         }
+
+         synchronized (cc.checksForObject) {
+            objectChecks = cc.checksForObject.toArray(EMPTY_CHECKS);
+         }
+
+         synchronized (cc.checksForConstructorParameters) {
+            parameterChecksByConstructor = new HashMap<>(cc.checksForConstructorParameters.size());
+            for (final Map.Entry<Constructor<?>, Map<Integer, ParameterChecks>> entry : cc.checksForConstructorParameters.entrySet()) {
+               parameterChecksByConstructor.put(entry.getKey(), _copyParameterChecks(entry.getValue(), entry.getKey().getParameterTypes().length));
+            }
+         }
+
+         synchronized (cc.checksForMethodParameters) {
+            parameterChecksByMethod = new HashMap<>(cc.checksForMethodParameters.size());
+            for (final Map.Entry<Method, Map<Integer, ParameterChecks>> entry : cc.checksForMethodParameters.entrySet()) {
+               parameterChecksByMethod.put(entry.getKey(), _copyParameterChecks(entry.getValue(), entry.getKey().getParameterTypes().length));
+            }
+         }
+
+         synchronized (cc.checksForMethodsPreExecution) {
+            preChecksByMethod = new HashMap<>(cc.checksForMethodsPreExecution.size());
+            for (final Map.Entry<Method, Set<PreCheck>> entry : cc.checksForMethodsPreExecution.entrySet()) {
+               preChecksByMethod.put(entry.getKey(), entry.getValue().toArray(EMPTY_PRE_CHECKS));
+            }
+         }
+
+         synchronized (cc.checksForMethodsPostExcecution) {
+            postChecksByMethod = new HashMap<>(cc.checksForMethodsPostExcecution.size());
+            for (final Map.Entry<Method, Set<PostCheck>> entry : cc.checksForMethodsPostExcecution.entrySet()) {
+               postChecksByMethod.put(entry.getKey(), entry.getValue().toArray(EMPTY_POST_CHECKS));
+            }
+         }
+
+         synchronized (cc.methodsWithCheckInvariantsPre) {
+            methodsWithCheckInvariantsPre = new HashSet<>(cc.methodsWithCheckInvariantsPre);
+         }
+
+         synchronized (cc.methodsWithCheckInvariantsPost) {
+            methodsWithCheckInvariantsPost = new HashSet<>(cc.methodsWithCheckInvariantsPost);
+         }
+      }
+
+      /**
+       * @return array indexed by parameter index, entries of parameters without checks or exclusions are <code>null</code>
+       */
+      private static ParameterChecks[] _copyParameterChecks(final Map<Integer, ParameterChecks> checksByParameter, final int paramCount) {
+         final ParameterChecks[] checks = new ParameterChecks[paramCount];
+         for (final ParameterChecks paramChecks : checksByParameter.values()) {
+            checks[paramChecks.parameterIndex] = new ParameterChecks(paramChecks);
+         }
+         return checks;
+      }
+
+      private static <K> Check[][] _getChecks(final Map<K, Check[]> checksByKey, final K[] keys) {
+         final Check[][] checks = new Check[keys.length][];
+         for (int i = 0; i < keys.length; i++) {
+            final Check[] keyChecks = checksByKey.get(keys[i]);
+            checks[i] = keyChecks == null ? EMPTY_CHECKS : keyChecks;
+         }
+         return checks;
+      }
+
+      /**
+       * @return the checks of the given field, an empty array if none
+       */
+      public Check[] getFieldChecks(final Field field) {
+         final Check[] checks = checksByField.get(field);
+         return checks == null ? EMPTY_CHECKS : checks;
+      }
+
+      /**
+       * @return the return value checks of the given method, an empty array if none
+       */
+      public Check[] getMethodReturnValueChecks(final Method method) {
+         final Check[] checks = checksByMethod.get(method);
+         return checks == null ? EMPTY_CHECKS : checks;
+      }
+
+      /**
+       * @return the unmodifiable checks of the given constructor's parameters indexed by parameter index, <code>null</code> if none
+       */
+      public ParameterChecks[] getConstructorParameterChecks(final Constructor<?> constructor) {
+         return parameterChecksByConstructor.get(constructor);
+      }
+
+      /**
+       * @return the unmodifiable checks of the given method's parameters indexed by parameter index, <code>null</code> if none
+       */
+      public ParameterChecks[] getMethodParameterChecks(final Method method) {
+         return parameterChecksByMethod.get(method);
+      }
+
+      /**
+       * @return the post conditions of the given method, an empty array if none
+       */
+      public PostCheck[] getMethodPostChecks(final Method method) {
+         final PostCheck[] checks = postChecksByMethod.get(method);
+         return checks == null ? EMPTY_POST_CHECKS : checks;
+      }
+
+      /**
+       * @return the pre conditions of the given method, an empty array if none
+       */
+      public PreCheck[] getMethodPreChecks(final Method method) {
+         final PreCheck[] checks = preChecksByMethod.get(method);
+         return checks == null ? EMPTY_PRE_CHECKS : checks;
+      }
+
+      /**
+       * @return <code>true</code> if the invariants must be checked before invoking the given method
+       */
+      public boolean isCheckInvariantsPre(final Method method) {
+         return methodsWithCheckInvariantsPre.contains(method);
+      }
+
+      /**
+       * @return <code>true</code> if the invariants must be checked after invoking the given method or constructor
+       */
+      public boolean isCheckInvariantsPost(final AccessibleObject methodOrConstructor) {
+         return methodsWithCheckInvariantsPost.contains(methodOrConstructor);
+      }
+   }
+
    /**
     * checks on constructors' parameter values
     */
@@ -97,12 +300,31 @@ public final class ClassChecks {
 
    public boolean isCheckInvariants;
 
+   /**
+    * instances of the class never change their validation outcome, see {@link ValidationResultCache}
+    */
+   public boolean isImmutable;
+
    public final Set<AccessibleObject> methodsWithCheckInvariantsPost = getCollectionFactory().createSet();
 
    public final Set<Method> methodsWithCheckInvariantsPre = getCollectionFactory().createSet();
 
    private final ParameterNameResolver parameterNameResolver;
 
+   /**
+    * incremented on each modification of the field, getter or object checks, used to detect outdated {@link ValidationPlan}s
+    */
+   private final AtomicInteger version = new AtomicInteger();
+
+   /**
+    * incremented on each modification of the method parameter, constructor parameter, pre and post condition checks
+    */
+   private final AtomicInteger methodChecksVersion = new AtomicInteger();
+
+   private volatile boolean isFrozen;
+
+   private volatile Snapshot snapshot;
+
    /**
     * package constructor used by the Validator class
     */
@@ -113,47 +335,61 @@ public final class ClassChecks {
       this.parameterNameResolver = parameterNameResolver;
    }
 
+   private void _assertNotFrozen() {
+      if (isFrozen)
+         throw new IllegalStateException("The checks of class " + clazz.getName() + " are frozen.");
+   }
+
    @SuppressWarnings("unchecked")
    private void _addConstructorParameterCheckExclusions(final Constructor<?> constructor, final int parameterIndex, final Object exclusions)
       throws InvalidConfigurationException {
-      final ParameterChecks checksOfConstructorParameter = _getChecksOfConstructorParameter(constructor, parameterIndex);
+      _assertNotFrozen();
+      synchronized (checksForConstructorParameters) {
+         final ParameterChecks checksOfConstructorParameter = _getChecksOfConstructorParameter(constructor, parameterIndex);
 
-      if (exclusions instanceof Collection<?>) {
-         final Collection<CheckExclusion> exclusionsColl = (Collection<CheckExclusion>) exclusions;
-         checksOfConstructorParameter.checkExclusions.addAll(exclusionsColl);
-      } else {
-         Collections.addAll(checksOfConstructorParameter.checkExclusions, (CheckExclusion[]) exclusions);
+         if (exclusions instanceof Collection<?>) {
+            final Collection<CheckExclusion> exclusionsColl = (Collection<CheckExclusion>) exclusions;
+            checksOfConstructorParameter.checkExclusions.addAll(exclusionsColl);
+         } else {
+            Collections.addAll(checksOfConstructorParameter.checkExclusions, (CheckExclusion[]) exclusions);
+         }
+         methodChecksVersion.incrementAndGet();
       }
    }
 
    @SuppressWarnings("unchecked")
    private void _addConstructorParameterChecks(final Constructor<?> constructor, final int parameterIndex, final Object checks)
       throws InvalidConfigurationException {
+      _assertNotFrozen();
       if (LOG.isDebug() && !IsGuarded.class.isAssignableFrom(clazz)) {
          LOG.warn("Constructor parameter constraints may not be validated." + GUARDING_MAY_NOT_BE_ACTIVATED_MESSAGE);
       }
 
-      final ParameterChecks checksOfConstructorParameter = _getChecksOfConstructorParameter(constructor, parameterIndex);
+      synchronized (checksForConstructorParameters) {
+         final ParameterChecks checksOfConstructorParameter = _getChecksOfConstructorParameter(constructor, parameterIndex);
 
-      if (checks instanceof Collection) {
-         for (final Check check : (Collection<Check>) checks) {
-            checksOfConstructorParameter.checks.add(check);
-            if (check.getContext() == null) {
-               check.setContext(checksOfConstructorParameter.context);
+         if (checks instanceof Collection) {
+            for (final Check check : (Collection<Check>) checks) {
+               checksOfConstructorParameter.checks.add(check);
+               if (check.getContext() == null) {
+                  check.setContext(checksOfConstructorParameter.context);
+               }
             }
-         }
-      } else {
-         for (final Check check : (Check[]) checks) {
-            checksOfConstructorParameter.checks.add(check);
-            if (check.getContext() == null) {
-               check.setContext(checksOfConstructorParameter.context);
+         } else {
+            for (final Check check : (Check[]) checks) {
+               checksOfConstructorParameter.checks.add(check);
+               if (check.getContext() == null) {
+                  check.setContext(checksOfConstructorParameter.context);
+               }
             }
          }
+         methodChecksVersion.incrementAndGet();
       }
    }
 
    @SuppressWarnings("unchecked")
    private void _addFieldChecks(final Field field, final Object checks) {
+      _assertNotFrozen();
       synchronized (checksForFields) {
          final Set<Check> checksOfField = checksForFields.computeIfAbsent(field, f -> {
             if (ReflectionUtils.isStatic(f)) {
@@ -179,49 +415,59 @@ public final class ClassChecks {
                }
             }
          }
+         version.incrementAndGet();
       }
    }
 
    @SuppressWarnings("unchecked")
    private void _addMethodParameterCheckExclusions(final Method method, final int parameterIndex, final Object exclusions)
       throws InvalidConfigurationException {
-      final ParameterChecks checksOfMethodParameter = _getChecksOfMethodParameter(method, parameterIndex);
+      _assertNotFrozen();
+      synchronized (checksForMethodParameters) {
+         final ParameterChecks checksOfMethodParameter = _getChecksOfMethodParameter(method, parameterIndex);
 
-      if (exclusions instanceof Collection<?>) {
-         final Collection<CheckExclusion> exclusionsColl = (Collection<CheckExclusion>) exclusions;
-         checksOfMethodParameter.checkExclusions.addAll(exclusionsColl);
-      } else {
-         Collections.addAll(checksOfMethodParameter.checkExclusions, (CheckExclusion[]) exclusions);
+         if (exclusions instanceof Collection<?>) {
+            final Collection<CheckExclusion> exclusionsColl = (Collection<CheckExclusion>) exclusions;
+            checksOfMethodParameter.checkExclusions.addAll(exclusionsColl);
+         } else {
+            Collections.addAll(checksOfMethodParameter.checkExclusions, (CheckExclusion[]) exclusions);
+         }
+         methodChecksVersion.incrementAndGet();
       }
    }
 
    @SuppressWarnings("unchecked")
    private void _addMethodParameterChecks(final Method method, final int parameterIndex, final Object checks) throws InvalidConfigurationException {
+      _assertNotFrozen();
       if (LOG.isDebug() && !IsGuarded.class.isAssignableFrom(clazz)) {
          LOG.warn("Method parameter constraints may not be validated." + GUARDING_MAY_NOT_BE_ACTIVATED_MESSAGE);
       }
 
-      final ParameterChecks checksOfMethodParameter = _getChecksOfMethodParameter(method, parameterIndex);
+      synchronized (checksForMethodParameters) {
+         final ParameterChecks checksOfMethodParameter = _getChecksOfMethodParameter(method, parameterIndex);
 
-      if (checks instanceof Collection) {
-         for (final Check check : (Collection<Check>) checks) {
-            if (check.getContext() == null) {
-               check.setContext(checksOfMethodParameter.context);
+         if (checks instanceof Collection) {
+            for (final Check check : (Collection<Check>) checks) {
+               if (check.getContext() == null) {
+                  check.setContext(checksOfMethodParameter.context);
+               }
+               checksOfMethodParameter.checks.add(check);
             }
-            checksOfMethodParameter.checks.add(check);
-         }
-      } else {
-         for (final Check check : (Check[]) checks) {
-            if (check.getContext() == null) {
-               check.setContext(checksOfMethodParameter.context);
+         } else {
+            for (final Check check : (Check[]) checks) {
+               if (check.getContext() == null) {
+                  check.setContext(checksOfMethodParameter.context);
+               }
+               checksOfMethodParameter.checks.add(check);
             }
-            checksOfMethodParameter.checks.add(check);
          }
+         methodChecksVersion.incrementAndGet();
       }
    }
 
    @SuppressWarnings("unchecked")
    private void _addMethodPostChecks(final Method method, final Object checks) throws InvalidConfigurationException {
+      _assertNotFrozen();
       if (LOG.isDebug() && !IsGuarded.class.isAssignableFrom(clazz)) {
          LOG.warn("Method post-conditions may not be validated." + GUARDING_MAY_NOT_BE_ACTIVATED_MESSAGE);
       }
@@ -244,11 +490,13 @@ public final class ClassChecks {
                }
             }
          }
+         methodChecksVersion.incrementAndGet();
       }
    }
 
    @SuppressWarnings("unchecked")
    private void _addMethodPreChecks(final Method method, final Object checks) throws InvalidConfigurationException {
+      _assertNotFrozen();
       if (LOG.isDebug() && !IsGuarded.class.isAssignableFrom(clazz)) {
          LOG.warn("Method pre-conditions may not be validated." + GUARDING_MAY_NOT_BE_ACTIVATED_MESSAGE);
       }
@@ -271,11 +519,13 @@ public final class ClassChecks {
                }
             }
          }
+         methodChecksVersion.incrementAndGet();
       }
    }
 
    @SuppressWarnings("unchecked")
    private void _addMethodReturnValueChecks(final Method method, final Boolean isInvariant, final Object checks) throws InvalidConfigurationException {
+      _assertNotFrozen();
       // ensure the method has a return type
       if (method.getReturnType() == Void.TYPE)
          throw new InvalidConfigurationException("Adding return value constraints for method " + method
@@ -326,6 +576,7 @@ public final class ClassChecks {
                }
             }
          }
+         version.incrementAndGet();
       }
    }
 
@@ -421,6 +672,28 @@ public final class ClassChecks {
       _addFieldChecks(field, checks);
    }
 
+   /**
+    * marks a method or constructor whose invocation must be followed by an invariants check
+    */
+   public void addMethodCheckInvariantsPost(final AccessibleObject methodOrConstructor) {
+      _assertNotFrozen();
+      synchronized (methodsWithCheckInvariantsPost) {
+         methodsWithCheckInvariantsPost.add(methodOrConstructor);
+         methodChecksVersion.incrementAndGet();
+      }
+   }
+
+   /**
+    * marks a method whose invocation must be preceded by an invariants check
+    */
+   public void addMethodCheckInvariantsPre(final Method method) {
+      _assertNotFrozen();
+      synchronized (methodsWithCheckInvariantsPre) {
+         methodsWithCheckInvariantsPre.add(method);
+         methodChecksVersion.incrementAndGet();
+      }
+   }
+
    /**
     * adds constraint check exclusions to a method parameter
     *
@@ -513,6 +786,7 @@ public final class ClassChecks {
     * adds check constraints on object level (invariants)
     */
    public void addObjectChecks(final Check... checks) {
+      _assertNotFrozen();
       synchronized (checksForObject) {
          for (final Check check : checks) {
             if (check.getContext() == null) {
@@ -520,6 +794,7 @@ public final class ClassChecks {
             }
             checksForObject.add(check);
          }
+         version.incrementAndGet();
       }
    }
 
@@ -527,6 +802,7 @@ public final class ClassChecks {
     * adds check constraints on object level (invariants)
     */
    public void addObjectChecks(final Collection<Check> checks) {
+      _assertNotFrozen();
       synchronized (checksForObject) {
          for (final Check check : checks) {
             if (check.getContext() == null) {
@@ -534,23 +810,68 @@ public final class ClassChecks {
             }
             checksForObject.add(check);
          }
+         version.incrementAndGet();
       }
    }
 
    public synchronized void clear() {
+      _assertNotFrozen();
       LOG.debug("Clearing all checks for class {1}", clazz);
 
-      checksForObject.clear();
+      synchronized (checksForObject) {
+         checksForObject.clear();
+      }
       checksForMethodsPostExcecution.clear();
       checksForMethodsPreExecution.clear();
       checksForConstructorParameters.clear();
-      checksForFields.clear();
-      checksForMethodReturnValues.clear();
+      synchronized (checksForFields) {
+         checksForFields.clear();
+         constrainedFields.clear();
+         constrainedStaticFields.clear();
+      }
+      synchronized (checksForMethodReturnValues) {
+         checksForMethodReturnValues.clear();
+         constrainedMethods.clear();
+         constrainedStaticMethods.clear();
+      }
       checksForMethodParameters.clear();
-      constrainedFields.clear();
-      constrainedStaticFields.clear();
-      constrainedMethods.clear();
-      constrainedStaticMethods.clear();
+      version.incrementAndGet();
+      methodChecksVersion.incrementAndGet();
+   }
+
+   /**
+    * Makes the checks of this class unmodifiable. Any further attempt to add, remove or clear checks results in an
+    * {@link IllegalStateException}.
+    */
+   public void freeze() {
+      isFrozen = true;
+      snapshot = new Snapshot(this, version.get(), methodChecksVersion.get());
+   }
+
+   /**
+    * Returns an immutable snapshot of the checks. The snapshot is recreated lazily after modifications, so
+    * readers can iterate it without synchronization while checks are concurrently added or removed.
+    */
+   public Snapshot getSnapshot() {
+      final Snapshot s = snapshot;
+      if (s != null && (isFrozen || s.version == version.get() && s.methodChecksVersion == methodChecksVersion.get()))
+         return s;
+
+      // read the versions first, so concurrent modifications during creation result in a stale snapshot
+      final Snapshot newSnapshot = new Snapshot(this, version.get(), methodChecksVersion.get());
+      snapshot = newSnapshot;
+      return newSnapshot;
+   }
+
+   public boolean isFrozen() {
+      return isFrozen;
+   }
+
+   /**
+    * @return the current modification count of the field, getter and object checks
+    */
+   public int getVersion() {
+      return version.get();
    }
 
    public void clearConstructorChecks(final Constructor<?> constructor) {
@@ -558,12 +879,15 @@ public final class ClassChecks {
    }
 
    public void clearConstructorParameterChecks(final Constructor<?> constructor) {
+      _assertNotFrozen();
       synchronized (checksForConstructorParameters) {
          checksForConstructorParameters.remove(constructor);
+         methodChecksVersion.incrementAndGet();
       }
    }
 
    public void clearConstructorParameterChecks(final Constructor<?> constructor, final int parameterIndex) {
+      _assertNotFrozen();
       synchronized (checksForConstructorParameters) {
          // retrieve the currently registered checks for all parameters of the specified method
          final Map<Integer, ParameterChecks> checksOfConstructorByParameter = checksForConstructorParameters.get(constructor);
@@ -576,14 +900,17 @@ public final class ClassChecks {
             return;
 
          checksOfConstructorByParameter.remove(parameterIndex);
+         methodChecksVersion.incrementAndGet();
       }
    }
 
    public void clearFieldChecks(final Field field) {
+      _assertNotFrozen();
       synchronized (checksForFields) {
          checksForFields.remove(field);
          constrainedFields.remove(field);
          constrainedStaticFields.remove(field);
+         version.incrementAndGet();
       }
    }
 
@@ -595,12 +922,15 @@ public final class ClassChecks {
    }
 
    public void clearMethodParameterChecks(final Method method) {
+      _assertNotFrozen();
       synchronized (checksForMethodParameters) {
          checksForMethodParameters.remove(method);
+         methodChecksVersion.incrementAndGet();
       }
    }
 
    public void clearMethodParameterChecks(final Method method, final int parameterIndex) {
+      _assertNotFrozen();
       synchronized (checksForMethodParameters) {
          // retrieve the currently registered checks for all parameters of the specified method
          final Map<Integer, ParameterChecks> checksOfMethodByParameter = checksForMethodParameters.get(method);
@@ -613,36 +943,46 @@ public final class ClassChecks {
             return;
 
          checksOfMethodByParameter.remove(parameterIndex);
+         methodChecksVersion.incrementAndGet();
       }
    }
 
    public void clearMethodPostChecks(final Method method) {
+      _assertNotFrozen();
       synchronized (checksForMethodsPostExcecution) {
          checksForMethodsPostExcecution.remove(method);
+         methodChecksVersion.incrementAndGet();
       }
    }
 
    public void clearMethodPreChecks(final Method method) {
+      _assertNotFrozen();
       synchronized (checksForMethodsPreExecution) {
          checksForMethodsPreExecution.remove(method);
+         methodChecksVersion.incrementAndGet();
       }
    }
 
    public void clearMethodReturnValueChecks(final Method method) {
+      _assertNotFrozen();
       synchronized (checksForMethodReturnValues) {
          checksForMethodReturnValues.remove(method);
          constrainedMethods.remove(method);
          constrainedStaticMethods.remove(method);
+         version.incrementAndGet();
       }
    }
 
    public void clearObjectChecks() {
+      _assertNotFrozen();
       synchronized (checksForObject) {
          checksForObject.clear();
+         version.incrementAndGet();
       }
    }
 
    public void removeConstructorParameterCheckExclusions(final Constructor<?> constructor, final int parameterIndex, final CheckExclusion... exclusions) {
+      _assertNotFrozen();
       synchronized (checksForConstructorParameters) {
          // retrieve the currently registered checks for all parameters of the specified method
          final Map<Integer, ParameterChecks> checksOfConstructorByParameter = checksForConstructorParameters.get(constructor);
@@ -661,10 +1001,12 @@ public final class ClassChecks {
          if (checksOfConstructorParameter.isEmpty()) {
             checksOfConstructorByParameter.remove(parameterIndex);
          }
+         methodChecksVersion.incrementAndGet();
       }
    }
 
    public void removeConstructorParameterChecks(final Constructor<?> constructor, final int parameterIndex, final Check... checks) {
+      _assertNotFrozen();
       synchronized (checksForConstructorParameters) {
          // retrieve the currently registered checks for all parameters of the specified method
          final Map<Integer, ParameterChecks> checksOfConstructorByParameter = checksForConstructorParameters.get(constructor);
@@ -683,10 +1025,12 @@ public final class ClassChecks {
          if (checksOfConstructorParameter.isEmpty()) {
             checksOfConstructorByParameter.remove(parameterIndex);
          }
+         methodChecksVersion.incrementAndGet();
       }
    }
 
    public void removeFieldChecks(final Field field, final Check... checks) {
+      _assertNotFrozen();
       synchronized (checksForFields) {
          final Set<Check> checksOfField = checksForFields.get(field);
 
@@ -702,10 +1046,12 @@ public final class ClassChecks {
             constrainedFields.remove(field);
             constrainedStaticFields.remove(field);
          }
+         version.incrementAndGet();
       }
    }
 
    public void removeMethodParameterCheckExclusions(final Method method, final int parameterIndex, final CheckExclusion... exclusions) {
+      _assertNotFrozen();
       if (parameterIndex < 0 || parameterIndex > method.getParameterTypes().length)
          throw new InvalidConfigurationException("ParameterIndex is out of range");
 
@@ -727,10 +1073,12 @@ public final class ClassChecks {
          if (checksOfMethodParameter.isEmpty()) {
             checksOfMethodByParameter.remove(parameterIndex);
          }
+         methodChecksVersion.incrementAndGet();
       }
    }
 
    public void removeMethodParameterChecks(final Method method, final int parameterIndex, final Check... checks) throws InvalidConfigurationException {
+      _assertNotFrozen();
       if (parameterIndex < 0 || parameterIndex > method.getParameterTypes().length)
          throw new InvalidConfigurationException("ParameterIndex is out of range");
 
@@ -752,10 +1100,12 @@ public final class ClassChecks {
          if (checksOfMethodParameter.isEmpty()) {
             checksOfMethodByParameter.remove(parameterIndex);
          }
+         methodChecksVersion.incrementAndGet();
       }
    }
 
    public void removeMethodPostChecks(final Method method, final PostCheck... checks) {
+      _assertNotFrozen();
       synchronized (checksForMethodsPostExcecution) {
          final Set<PostCheck> checksforMethod = checksForMethodsPostExcecution.get(method);
 
@@ -769,10 +1119,12 @@ public final class ClassChecks {
          if (checksforMethod.isEmpty()) {
             checksForMethodsPostExcecution.remove(method);
          }
+         methodChecksVersion.incrementAndGet();
       }
    }
 
    public void removeMethodPreChecks(final Method method, final PreCheck... checks) {
+      _assertNotFrozen();
       synchronized (checksForMethodsPreExecution) {
          final Set<PreCheck> checksforMethod = checksForMethodsPreExecution.get(method);
 
@@ -786,10 +1138,12 @@ public final class ClassChecks {
          if (checksforMethod.isEmpty()) {
             checksForMethodsPreExecution.remove(method);
          }
+         methodChecksVersion.incrementAndGet();
       }
    }
 
    public void removeMethodReturnValueChecks(final Method method, final Check... checks) {
+      _assertNotFrozen();
       synchronized (checksForMethodReturnValues) {
          final Set<Check> checksOfMethod = checksForMethodReturnValues.get(method);
 
@@ -805,14 +1159,17 @@ public final class ClassChecks {
             constrainedMethods.remove(method);
             constrainedStaticMethods.remove(method);
          }
+         version.incrementAndGet();
       }
    }
 
    public void removeObjectChecks(final Check... checks) {
+      _assertNotFrozen();
       synchronized (checksForObject) {
          for (final Check check : checks) {
             checksForObject.remove(check);
          }
+         version.incrementAndGet();
       }
    }
 }
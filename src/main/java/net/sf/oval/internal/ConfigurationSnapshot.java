@@ -0,0 +1,517 @@
+/*
+ * Copyright 2005-2021 by Sebastian Thomschke and contributors.
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package net.sf.oval.internal;
+
+import static java.lang.Boolean.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InvalidClassException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import net.sf.oval.Check;
+import net.sf.oval.CheckExclusion;
+import net.sf.oval.configuration.CheckInitializationListener;
+import net.sf.oval.configuration.pojo.elements.ClassConfiguration;
+import net.sf.oval.configuration.pojo.elements.ConfigurationElement;
+import net.sf.oval.configuration.pojo.elements.ConstraintSetConfiguration;
+import net.sf.oval.configuration.pojo.elements.ConstructorConfiguration;
+import net.sf.oval.configuration.pojo.elements.FieldConfiguration;
+import net.sf.oval.configuration.pojo.elements.MethodConfiguration;
+import net.sf.oval.configuration.pojo.elements.MethodPostExecutionConfiguration;
+import net.sf.oval.configuration.pojo.elements.MethodPreExecutionConfiguration;
+import net.sf.oval.configuration.pojo.elements.MethodReturnValueConfiguration;
+import net.sf.oval.configuration.pojo.elements.ObjectConfiguration;
+import net.sf.oval.configuration.pojo.elements.ParameterConfiguration;
+import net.sf.oval.constraint.ConstraintsCheck;
+import net.sf.oval.guard.PostCheck;
+import net.sf.oval.guard.PreCheck;
+import net.sf.oval.internal.util.ReflectionUtils;
+
+/**
+ * Binary snapshot of the resolved constraint configuration of classes, used to configure a validator without running its configurers.
+ *
+ * The configuration of each class is stored as a {@link ClassConfiguration} that overwrites the checks of the class and is accompanied by a
+ * hash of the byte code of the class and its interfaces. Entries of classes that cannot be loaded, whose byte code changed since the snapshot
+ * was written or that contain types not allowed for deserialization are skipped when the snapshot is read, so these classes are configured
+ * by the configurers as usual.
+ *
+ * @author Sebastian Thomschke
+ */
+public final class ConfigurationSnapshot {
+   private static final Log LOG = Log.getLog(ConfigurationSnapshot.class);
+
+   private static final int MAGIC = 0x4F56414C; // OVAL
+   private static final int FORMAT_VERSION = 1;
+
+   /**
+    * JDK types that may be deserialized as part of checks and configuration elements
+    */
+   private static final Set<String> ALLOWED_JDK_TYPES = new HashSet<>(Arrays.asList( //
+      "java.lang.Boolean", "java.lang.Byte", "java.lang.Character", "java.lang.Class", "java.lang.Double", "java.lang.Enum", "java.lang.Float",
+      "java.lang.Integer", "java.lang.Long", "java.lang.Number", "java.lang.Short", "java.lang.String", //
+      "java.math.BigDecimal", "java.math.BigInteger", //
+      "java.util.ArrayList", "java.util.Date", "java.util.HashMap", "java.util.HashSet", "java.util.LinkedHashMap", "java.util.LinkedHashSet",
+      "java.util.LinkedList", "java.util.Locale", "java.util.TreeMap", "java.util.TreeSet", "java.util.regex.Pattern" //
+   ));
+
+   /**
+    * Deserializes objects using the class loader of the configured class. Only types of checks and configuration elements and the types
+    * they consist of are deserialized.
+    */
+   private static final class ClassLoaderObjectInputStream extends ObjectInputStream {
+      private final ClassLoader classLoader;
+      private final Set<Class<?>> memberTypes;
+
+      ClassLoaderObjectInputStream(final InputStream in, final ClassLoader classLoader, final Set<Class<?>> memberTypes) throws IOException {
+         super(in);
+         this.classLoader = classLoader;
+         this.memberTypes = memberTypes;
+      }
+
+      @Override
+      protected Class<?> resolveClass(final ObjectStreamClass desc) throws IOException, ClassNotFoundException {
+         Class<?> clazz;
+         try {
+            clazz = Class.forName(desc.getName(), false, classLoader);
+         } catch (final ClassNotFoundException ex) {
+            clazz = super.resolveClass(desc);
+         }
+         if (!isAllowed(clazz, memberTypes))
+            throw new InvalidClassException(clazz.getName(), "Type not allowed in configuration snapshots");
+         return clazz;
+      }
+   }
+
+   /**
+    * @param memberTypes the configured class and the types of its fields and parameters, which are referenced by the configuration
+    */
+   private static boolean isAllowed(final Class<?> type, final Set<Class<?>> memberTypes) {
+      Class<?> clazz = type;
+      while (clazz.isArray()) {
+         clazz = clazz.getComponentType();
+      }
+      if (clazz.isPrimitive() || clazz.isEnum() || memberTypes.contains(clazz))
+         return true;
+      if (Check.class.isAssignableFrom(clazz) || CheckExclusion.class.isAssignableFrom(clazz) || ConfigurationElement.class.isAssignableFrom(clazz))
+         return true;
+
+      // instances of classes not implementing Serializable cannot be deserialized, such classes are only referenced as class objects
+      if (!Serializable.class.isAssignableFrom(clazz))
+         return true;
+
+      final String className = clazz.getName();
+      return className.startsWith("net.sf.oval.") //
+         || ALLOWED_JDK_TYPES.contains(className) //
+         || className.startsWith("java.util.Collections$") //
+         || className.equals("java.util.Arrays$ArrayList");
+   }
+
+   private static Set<Class<?>> getMemberTypes(final Class<?> clazz) {
+      final Set<Class<?>> memberTypes = new HashSet<>();
+      memberTypes.add(clazz);
+      for (final Field field : clazz.getDeclaredFields()) {
+         memberTypes.add(field.getType());
+      }
+      for (final Constructor<?> ctor : clazz.getDeclaredConstructors()) {
+         memberTypes.addAll(Arrays.asList(ctor.getParameterTypes()));
+      }
+      for (final Method method : clazz.getDeclaredMethods()) {
+         memberTypes.add(method.getReturnType());
+         memberTypes.addAll(Arrays.asList(method.getParameterTypes()));
+      }
+      return memberTypes;
+   }
+
+   private static List<Check> asList(final Collection<? extends Check> checks) {
+      return checks == null || checks.isEmpty() ? null : new ArrayList<>(checks);
+   }
+
+   private static byte[] serialize(final Object obj) throws IOException {
+      final ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+      try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+         out.writeObject(obj);
+      }
+      return bytes.toByteArray();
+   }
+
+   private static Object deserialize(final byte[] bytes, final ClassLoader classLoader, final Set<Class<?>> memberTypes) throws IOException,
+      ClassNotFoundException {
+      try (ObjectInputStream in = new ClassLoaderObjectInputStream(new ByteArrayInputStream(bytes), classLoader, memberTypes)) {
+         return in.readObject();
+      }
+   }
+
+   private static boolean digest(final MessageDigest digest, final Class<?> clazz) throws IOException {
+      final ClassLoader cl = clazz.getClassLoader() == null ? ClassLoader.getSystemClassLoader() : clazz.getClassLoader();
+      try (InputStream in = cl.getResourceAsStream(clazz.getName().replace('.', '/') + ".class")) {
+         if (in == null)
+            return false;
+
+         final byte[] buffer = new byte[4096];
+         for (int read; (read = in.read(buffer)) != -1;) { // CHECKSTYLE:IGNORE .*
+            digest.update(buffer, 0, read);
+         }
+         return true;
+      }
+   }
+
+   /**
+    * The hash covers the byte code of the given class and of the interfaces implemented by the class and its super classes, since
+    * constraints may be inherited from these interfaces. Interfaces of the JDK are ignored.
+    *
+    * @return the hex encoded SHA-256 hash or <code>null</code> if the byte code is not accessible
+    */
+   public static String getClassHash(final Class<?> clazz) {
+      final List<Class<?>> interfaces = new ArrayList<>();
+      for (final Class<?> iface : ReflectionUtils.getInterfacesRecursive(clazz)) {
+         if (iface.getClassLoader() != null) {
+            interfaces.add(iface);
+         }
+      }
+      interfaces.sort(Comparator.comparing(Class::getName));
+
+      try {
+         final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+         if (!digest(digest, clazz))
+            return null;
+         for (final Class<?> iface : interfaces) {
+            if (!digest(digest, iface))
+               return null;
+         }
+         final StringBuilder sb = new StringBuilder(64);
+         for (final byte b : digest.digest()) {
+            sb.append(Character.forDigit(b >> 4 & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+         }
+         return sb.toString();
+      } catch (final IOException | NoSuchAlgorithmException ex) {
+         LOG.debug("Cannot compute hash of class {1}", clazz, ex);
+         return null;
+      }
+   }
+
+   private static void forEachCheck(final Collection<? extends Check> checks, final Consumer<Check> action) {
+      if (checks == null)
+         return;
+      for (final Check check : checks) {
+         action.accept(check);
+         if (check instanceof ConstraintsCheck) {
+            forEachCheck(((ConstraintsCheck) check).checks, action);
+         }
+      }
+   }
+
+   private static void forEachCheck(final List<ParameterConfiguration> paramCfgs, final Consumer<Check> action) {
+      if (paramCfgs != null) {
+         for (final ParameterConfiguration paramCfg : paramCfgs) {
+            forEachCheck(paramCfg.checks, action);
+         }
+      }
+   }
+
+   /**
+    * Passes all checks of the given class configuration including the nested checks of {@link ConstraintsCheck}s to the given action.
+    */
+   public static void forEachCheck(final ClassConfiguration classCfg, final Consumer<Check> action) {
+      if (classCfg.objectConfiguration != null) {
+         forEachCheck(classCfg.objectConfiguration.checks, action);
+      }
+      if (classCfg.fieldConfigurations != null) {
+         for (final FieldConfiguration fieldCfg : classCfg.fieldConfigurations) {
+            forEachCheck(fieldCfg.checks, action);
+         }
+      }
+      if (classCfg.constructorConfigurations != null) {
+         for (final ConstructorConfiguration ctorCfg : classCfg.constructorConfigurations) {
+            forEachCheck(ctorCfg.parameterConfigurations, action);
+         }
+      }
+      if (classCfg.methodConfigurations != null) {
+         for (final MethodConfiguration methodCfg : classCfg.methodConfigurations) {
+            forEachCheck(methodCfg.parameterConfigurations, action);
+            if (methodCfg.returnValueConfiguration != null) {
+               forEachCheck(methodCfg.returnValueConfiguration.checks, action);
+            }
+            if (methodCfg.preExecutionConfiguration != null) {
+               forEachCheck(methodCfg.preExecutionConfiguration.checks, action);
+            }
+            if (methodCfg.postExecutionConfiguration != null) {
+               forEachCheck(methodCfg.postExecutionConfiguration.checks, action);
+            }
+         }
+      }
+   }
+
+   private static Consumer<Check> notifying(final Collection<CheckInitializationListener> listeners) {
+      return check -> {
+         for (final CheckInitializationListener listener : listeners) {
+            listener.onCheckInitialized(check);
+         }
+      };
+   }
+
+   /**
+    * Reads a snapshot written by {@link #write(OutputStream)}.
+    *
+    * @param classLoader used to load the configured classes
+    * @param listeners notified about each check of the accepted class configurations
+    * @throws IOException if the stream cannot be read or is not a snapshot
+    */
+   public static ConfigurationSnapshot read(final InputStream in, final ClassLoader classLoader, final Collection<CheckInitializationListener> listeners)
+      throws IOException {
+      final ConfigurationSnapshot snapshot = new ConfigurationSnapshot();
+      final DataInputStream data = new DataInputStream(new GZIPInputStream(in));
+      if (data.readInt() != MAGIC)
+         throw new IOException("Not a configuration snapshot.");
+      final int formatVersion = data.readInt();
+      if (formatVersion != FORMAT_VERSION)
+         throw new IOException("Unsupported configuration snapshot format version " + formatVersion + ".");
+
+      for (int i = 0, l = data.readInt(); i < l; i++) {
+         final String className = data.readUTF();
+         final String classHash = data.readUTF();
+         final byte[] bytes = new byte[data.readInt()];
+         data.readFully(bytes);
+
+         try {
+            final Class<?> clazz = Class.forName(className, false, classLoader);
+            if (!classHash.equals(getClassHash(clazz))) {
+               LOG.info("Ignoring outdated configuration snapshot of class {1}.", className);
+               continue;
+            }
+            final ClassConfiguration classCfg = (ClassConfiguration) deserialize(bytes, clazz.getClassLoader() == null ? classLoader
+               : clazz.getClassLoader(), getMemberTypes(clazz));
+            forEachCheck(classCfg, notifying(listeners));
+            snapshot.classConfigurations.put(clazz, classCfg);
+         } catch (final ClassNotFoundException | LinkageError | IOException | ClassCastException ex) {
+            LOG.warn("Ignoring configuration snapshot of class {1}.", className, ex);
+         }
+      }
+
+      for (int i = 0, l = data.readInt(); i < l; i++) {
+         final String constraintSetId = data.readUTF();
+         final byte[] bytes = new byte[data.readInt()];
+         data.readFully(bytes);
+
+         try {
+            final ConstraintSetConfiguration csCfg = (ConstraintSetConfiguration) deserialize(bytes, classLoader, Collections.emptySet());
+            forEachCheck(csCfg.checks, notifying(listeners));
+            snapshot.constraintSetConfigurations.add(csCfg);
+         } catch (final ClassNotFoundException | LinkageError | IOException | ClassCastException ex) {
+            LOG.warn("Ignoring configuration snapshot of constraint set {1}.", constraintSetId, ex);
+         }
+      }
+      return snapshot;
+   }
+
+   /**
+    * @return a class configuration that reproduces the given checks when applied with {@link ClassConfiguration#overwrite} semantics
+    */
+   public static ClassConfiguration toClassConfiguration(final ClassChecks cc) {
+      final ClassConfiguration classCfg = new ClassConfiguration();
+      classCfg.type = cc.clazz;
+      classCfg.overwrite = TRUE;
+      classCfg.checkInvariants = cc.isCheckInvariants;
+      classCfg.immutable = cc.isImmutable;
+
+      synchronized (cc.checksForObject) {
+         if (!cc.checksForObject.isEmpty()) {
+            classCfg.objectConfiguration = new ObjectConfiguration();
+            classCfg.objectConfiguration.checks = asList(cc.checksForObject);
+         }
+      }
+
+      synchronized (cc.checksForFields) {
+         if (!cc.checksForFields.isEmpty()) {
+            classCfg.fieldConfigurations = new LinkedHashSet<>(cc.checksForFields.size());
+            for (final Entry<Field, Set<Check>> entry : cc.checksForFields.entrySet()) {
+               final FieldConfiguration fieldCfg = new FieldConfiguration();
+               fieldCfg.name = entry.getKey().getName();
+               fieldCfg.checks = asList(entry.getValue());
+               classCfg.fieldConfigurations.add(fieldCfg);
+            }
+         }
+      }
+
+      final Map<Constructor<?>, ConstructorConfiguration> ctorCfgs = new LinkedHashMap<>();
+      synchronized (cc.checksForConstructorParameters) {
+         for (final Entry<Constructor<?>, Map<Integer, ParameterChecks>> entry : cc.checksForConstructorParameters.entrySet()) {
+            final ConstructorConfiguration ctorCfg = new ConstructorConfiguration();
+            ctorCfg.parameterConfigurations = toParameterConfigurations(entry.getKey().getParameterTypes(), entry.getValue());
+            ctorCfgs.put(entry.getKey(), ctorCfg);
+         }
+      }
+
+      final Map<Method, MethodConfiguration> methodCfgs = new LinkedHashMap<>();
+      synchronized (cc.checksForMethodParameters) {
+         for (final Entry<Method, Map<Integer, ParameterChecks>> entry : cc.checksForMethodParameters.entrySet()) {
+            getMethodConfiguration(methodCfgs, entry.getKey()).parameterConfigurations = toParameterConfigurations(entry.getKey()
+               .getParameterTypes(), entry.getValue());
+         }
+      }
+      synchronized (cc.checksForMethodReturnValues) {
+         for (final Entry<Method, Set<Check>> entry : cc.checksForMethodReturnValues.entrySet()) {
+            final MethodConfiguration methodCfg = getMethodConfiguration(methodCfgs, entry.getKey());
+            methodCfg.returnValueConfiguration = new MethodReturnValueConfiguration();
+            methodCfg.returnValueConfiguration.checks = asList(entry.getValue());
+            methodCfg.isInvariant = cc.constrainedMethods.contains(entry.getKey()) || cc.constrainedStaticMethods.contains(entry.getKey());
+         }
+      }
+      synchronized (cc.checksForMethodsPreExecution) {
+         for (final Entry<Method, Set<PreCheck>> entry : cc.checksForMethodsPreExecution.entrySet()) {
+            final MethodConfiguration methodCfg = getMethodConfiguration(methodCfgs, entry.getKey());
+            methodCfg.preExecutionConfiguration = new MethodPreExecutionConfiguration();
+            methodCfg.preExecutionConfiguration.checks = new ArrayList<>(entry.getValue());
+         }
+      }
+      synchronized (cc.checksForMethodsPostExcecution) {
+         for (final Entry<Method, Set<PostCheck>> entry : cc.checksForMethodsPostExcecution.entrySet()) {
+            final MethodConfiguration methodCfg = getMethodConfiguration(methodCfgs, entry.getKey());
+            methodCfg.postExecutionConfiguration = new MethodPostExecutionConfiguration();
+            methodCfg.postExecutionConfiguration.checks = new ArrayList<>(entry.getValue());
+         }
+      }
+      synchronized (cc.methodsWithCheckInvariantsPre) {
+         for (final Method method : cc.methodsWithCheckInvariantsPre) {
+            getMethodConfiguration(methodCfgs, method).preCheckInvariants = TRUE;
+         }
+      }
+      synchronized (cc.methodsWithCheckInvariantsPost) {
+         for (final AccessibleObject methodOrCtor : cc.methodsWithCheckInvariantsPost) {
+            if (methodOrCtor instanceof Method) {
+               getMethodConfiguration(methodCfgs, (Method) methodOrCtor).postCheckInvariants = TRUE;
+            } else {
+               final Constructor<?> ctor = (Constructor<?>) methodOrCtor;
+               ctorCfgs.computeIfAbsent(ctor, k -> {
+                  final ConstructorConfiguration ctorCfg = new ConstructorConfiguration();
+                  ctorCfg.parameterConfigurations = toParameterConfigurations(k.getParameterTypes(), null);
+                  return ctorCfg;
+               }).postCheckInvariants = TRUE;
+            }
+         }
+      }
+
+      if (!ctorCfgs.isEmpty()) {
+         classCfg.constructorConfigurations = new LinkedHashSet<>(ctorCfgs.values());
+      }
+      if (!methodCfgs.isEmpty()) {
+         classCfg.methodConfigurations = new LinkedHashSet<>(methodCfgs.values());
+      }
+      return classCfg;
+   }
+
+   private static MethodConfiguration getMethodConfiguration(final Map<Method, MethodConfiguration> methodCfgs, final Method method) {
+      return methodCfgs.computeIfAbsent(method, k -> {
+         final MethodConfiguration methodCfg = new MethodConfiguration();
+         methodCfg.name = k.getName();
+         methodCfg.parameterConfigurations = toParameterConfigurations(k.getParameterTypes(), null);
+         return methodCfg;
+      });
+   }
+
+   private static List<ParameterConfiguration> toParameterConfigurations(final Class<?>[] paramTypes, final Map<Integer, ParameterChecks> checks) {
+      final List<ParameterConfiguration> paramCfgs = new ArrayList<>(paramTypes.length);
+      for (int i = 0; i < paramTypes.length; i++) {
+         final ParameterConfiguration paramCfg = new ParameterConfiguration();
+         paramCfg.type = paramTypes[i];
+         final ParameterChecks paramChecks = checks == null ? null : checks.get(i);
+         if (paramChecks != null) {
+            paramCfg.checks = asList(paramChecks.checks);
+            paramCfg.checkExclusions = paramChecks.checkExclusions.isEmpty() ? null : new ArrayList<>(paramChecks.checkExclusions);
+         }
+         paramCfgs.add(paramCfg);
+      }
+      return paramCfgs;
+   }
+
+   /**
+    * the accepted class configurations
+    */
+   public final Map<Class<?>, ClassConfiguration> classConfigurations = new LinkedHashMap<>();
+
+   public final List<ConstraintSetConfiguration> constraintSetConfigurations = new ArrayList<>();
+
+   /**
+    * Writes this snapshot. Class configurations that cannot be serialized or whose class byte code is not accessible are omitted.
+    */
+   public void write(final OutputStream out) throws IOException {
+      final Map<String, String> classHashes = new LinkedHashMap<>();
+      final List<byte[]> classBytes = new ArrayList<>();
+      for (final Entry<Class<?>, ClassConfiguration> entry : classConfigurations.entrySet()) {
+         final Class<?> clazz = entry.getKey();
+         final String classHash = getClassHash(clazz);
+         if (classHash == null) {
+            LOG.warn("Omitting configuration of class {1} from snapshot. Byte code not accessible.", clazz);
+            continue;
+         }
+         try {
+            classBytes.add(serialize(entry.getValue()));
+            classHashes.put(clazz.getName(), classHash);
+         } catch (final IOException ex) {
+            LOG.warn("Omitting configuration of class {1} from snapshot.", clazz, ex);
+         }
+      }
+
+      final Map<String, byte[]> constraintSetBytes = new LinkedHashMap<>();
+      for (final ConstraintSetConfiguration csCfg : constraintSetConfigurations) {
+         try {
+            constraintSetBytes.put(csCfg.id, serialize(csCfg));
+         } catch (final IOException ex) {
+            LOG.warn("Omitting constraint set {1} from snapshot.", csCfg.id, ex);
+         }
+      }
+
+      final GZIPOutputStream zip = new GZIPOutputStream(out);
+      final DataOutputStream data = new DataOutputStream(zip);
+      data.writeInt(MAGIC);
+      data.writeInt(FORMAT_VERSION);
+      data.writeInt(classHashes.size());
+      int i = 0;
+      for (final Entry<String, String> entry : classHashes.entrySet()) {
+         final byte[] bytes = classBytes.get(i++);
+         data.writeUTF(entry.getKey());
+         data.writeUTF(entry.getValue());
+         data.writeInt(bytes.length);
+         data.write(bytes);
+      }
+      data.writeInt(constraintSetBytes.size());
+      for (final Entry<String, byte[]> entry : constraintSetBytes.entrySet()) {
+         data.writeUTF(entry.getKey());
+         data.writeInt(entry.getValue().length);
+         data.write(entry.getValue());
+      }
+      data.flush();
+      zip.finish();
+   }
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2005-2021 by Sebastian Thomschke and contributors.
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package net.sf.oval.internal;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import net.sf.oval.context.IterableElementContext;
+import net.sf.oval.context.MapKeyContext;
+import net.sf.oval.context.MapValueContext;
+import net.sf.oval.context.OValContext;
+
+/**
+ * Mutable context of a container element that is reused for all elements of a container while iterating over it.
+ *
+ * Cursors must never escape the validation cycle, i.e. they have to be replaced by immutable contexts via {@link #materialize(List)} before
+ * a context path is handed out.
+ *
+ * @author Sebastian Thomschke
+ */
+public interface ElementContextCursor {
+
+   final class IterableElement extends IterableElementContext implements ElementContextCursor {
+      private static final long serialVersionUID = 1L;
+
+      private int elementIndex;
+
+      public IterableElement(final Class<?> compileTimeType) {
+         super(compileTimeType, 0);
+      }
+
+      @Override
+      public int getElementIndex() {
+         return elementIndex;
+      }
+
+      public IterableElement moveTo(final int elementIndex) {
+         this.elementIndex = elementIndex;
+         return this;
+      }
+
+      /**
+       * Prepares this cursor for iterating over the elements of another container.
+       */
+      public IterableElement reset(final Class<?> compileTimeType) {
+         this.compileTimeType = compileTimeType;
+         elementIndex = 0;
+         return this;
+      }
+
+      @Override
+      public OValContext toImmutableContext() {
+         return new IterableElementContext(compileTimeType, elementIndex);
+      }
+
+      @Override
+      public String toString() {
+         return "[" + elementIndex + "]";
+      }
+   }
+
+   final class MapKey extends MapKeyContext implements ElementContextCursor {
+      private static final long serialVersionUID = 1L;
+
+      private transient Object key;
+
+      public MapKey(final Class<?> compileTimeType) {
+         super(compileTimeType, null);
+      }
+
+      @Override
+      public Object getKey() {
+         return key;
+      }
+
+      public MapKey moveTo(final Object key) {
+         this.key = key;
+         return this;
+      }
+
+      @Override
+      public OValContext toImmutableContext() {
+         return new MapKeyContext(compileTimeType, key);
+      }
+
+      @Override
+      public String toString() {
+         return toImmutableContext().toString();
+      }
+   }
+
+   final class MapValue extends MapValueContext implements ElementContextCursor {
+      private static final long serialVersionUID = 1L;
+
+      private transient Object key;
+
+      public MapValue(final Class<?> compileTimeType) {
+         super(compileTimeType, null);
+      }
+
+      @Override
+      public Object getKey() {
+         return key;
+      }
+
+      public MapValue moveTo(final Object key) {
+         this.key = key;
+         return this;
+      }
+
+      @Override
+      public OValContext toImmutableContext() {
+         return new MapValueContext(compileTimeType, key);
+      }
+
+      @Override
+      public String toString() {
+         return toImmutableContext().toString();
+      }
+   }
+
+   /**
+    * @return an unmodifiable copy of the given context path with all cursors replaced by immutable contexts
+    */
+   static List<OValContext> materialize(final List<OValContext> contextPath) {
+      final List<OValContext> result = new ArrayList<>(contextPath.size());
+      for (final OValContext ctx : contextPath) {
+         result.add(ctx instanceof ElementContextCursor ? ((ElementContextCursor) ctx).toImmutableContext() : ctx);
+      }
+      return Collections.unmodifiableList(result);
+   }
+
+   /**
+    * @return an immutable context representing the current position of this cursor
+    */
+   OValContext toImmutableContext();
+}
@@ -6,6 +6,7 @@ package net.sf.oval.internal;
 
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Method;
+import java.util.Collections;
 import java.util.LinkedHashSet;
 import java.util.Set;
 
@@ -19,23 +20,37 @@ import net.sf.oval.context.OValContext;
  * @author Sebastian Thomschke
  */
 public final class ParameterChecks {
-   public final Set<Check> checks = new LinkedHashSet<>(2);
-   public final Set<CheckExclusion> checkExclusions = new LinkedHashSet<>(2);
+   public final Set<Check> checks;
+   public final Set<CheckExclusion> checkExclusions;
 
    public final int parameterIndex;
 
    public final OValContext context;
 
    public ParameterChecks(final Constructor<?> ctor, final int paramIndex, final String paramName) {
+      checks = new LinkedHashSet<>(2);
+      checkExclusions = new LinkedHashSet<>(2);
       context = new ConstructorParameterContext(ctor, paramIndex, paramName);
       parameterIndex = paramIndex;
    }
 
    public ParameterChecks(final Method method, final int paramIndex, final String paramName) {
+      checks = new LinkedHashSet<>(2);
+      checkExclusions = new LinkedHashSet<>(2);
       context = new MethodParameterContext(method, paramIndex, paramName);
       parameterIndex = paramIndex;
    }
 
+   /**
+    * creates an unmodifiable copy of the given parameter checks, used by {@link ClassChecks.Snapshot}
+    */
+   ParameterChecks(final ParameterChecks source) {
+      checks = Collections.unmodifiableSet(new LinkedHashSet<>(source.checks));
+      checkExclusions = Collections.unmodifiableSet(new LinkedHashSet<>(source.checkExclusions));
+      context = source.context;
+      parameterIndex = source.parameterIndex;
+   }
+
    public boolean hasChecks() {
       return !checks.isEmpty();
    }
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2005-2021 by Sebastian Thomschke and contributors.
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package net.sf.oval.internal;
+
+import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Interns constraint profile names to bit positions so sets of profiles can be represented as <code>long</code> bit masks.
+ *
+ * The first 63 distinct profile names get a dedicated bit. All further profile names share the {@link #OVERFLOW} bit, i.e. masks containing
+ * this bit cannot be evaluated by bit operations alone.
+ *
+ * @author Sebastian Thomschke
+ */
+public final class ProfileRegistry {
+
+   /**
+    * Immutable association of a profile array with its mask, used to cache the mask of a check's profiles.
+    */
+   public static final class Mask {
+      public final String[] profiles;
+      public final long value;
+
+      public Mask(final String[] profiles) {
+         this.profiles = profiles;
+         value = getMask(profiles);
+      }
+   }
+
+   public static final String DEFAULT_PROFILE = "default";
+
+   /**
+    * bit shared by all profiles that did not get a dedicated bit
+    */
+   public static final long OVERFLOW = 1L << 63;
+
+   private static final ConcurrentMap<String, Long> BITS_BY_PROFILE = new ConcurrentHashMap<>();
+
+   public static final long DEFAULT_MASK = getMask(DEFAULT_PROFILE);
+
+   /**
+    * @return the bit of the given profile
+    */
+   public static long getMask(final String profile) {
+      final Long bit = BITS_BY_PROFILE.get(profile);
+      if (bit != null)
+         return bit;
+
+      synchronized (BITS_BY_PROFILE) {
+         Long newBit = BITS_BY_PROFILE.get(profile);
+         if (newBit == null) {
+            final int size = BITS_BY_PROFILE.size();
+            if (size >= 63)
+               return OVERFLOW;
+            newBit = 1L << size;
+            BITS_BY_PROFILE.put(profile, newBit);
+         }
+         return newBit;
+      }
+   }
+
+   /**
+    * @return the combined bits of the given profiles, the bit of the {@link #DEFAULT_PROFILE} if <code>profiles</code> is null or empty
+    */
+   public static long getMask(final String[] profiles) {
+      if (profiles == null || profiles.length == 0)
+         return DEFAULT_MASK;
+
+      long mask = 0;
+      for (final String profile : profiles) {
+         if (profile != null) {
+            mask |= getMask(profile);
+         }
+      }
+      return mask;
+   }
+
+   /**
+    * @return the combined bits of the given profiles
+    */
+   public static long getMask(final Collection<String> profiles) {
+      long mask = 0;
+      for (final String profile : profiles) {
+         mask |= getMask(profile);
+      }
+      return mask;
+   }
+
+   private ProfileRegistry() {
+   }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2005-2021 by Sebastian Thomschke and contributors.
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package net.sf.oval.internal;
+
+import java.lang.reflect.Field;
+
+import net.sf.oval.Check;
+import net.sf.oval.ConstraintSet;
+
+/**
+ * The constraint set or field referenced by an {@link net.sf.oval.constraint.AssertConstraintSetCheck} or
+ * {@link net.sf.oval.constraint.AssertFieldConstraintsCheck} as resolved by a validator.
+ *
+ * A reference is only valid for the configuration it was resolved against, i.e. it must be resolved again once the validator's constraint
+ * sets or checks were reconfigured, see {@link #isResolvedFor(Object, Class, String)}.
+ *
+ * @author Sebastian Thomschke
+ */
+public final class ResolvedCheckReference {
+
+   private static final class VersionedChecks {
+      final int version;
+      final Check[] checks;
+
+      VersionedChecks(final int version, final Check[] checks) {
+         this.version = version;
+         this.checks = checks;
+      }
+   }
+
+   public static ResolvedCheckReference ofConstraintSet(final Object configuration, final ConstraintSet constraintSet) {
+      return new ResolvedCheckReference(configuration, null, null, constraintSet, null, null);
+   }
+
+   public static ResolvedCheckReference ofField(final Object configuration, final Class<?> targetClass, final String fieldName,
+      final ClassChecks classChecks, final Field field) {
+      return new ResolvedCheckReference(configuration, targetClass, fieldName, null, classChecks, field);
+   }
+
+   /**
+    * the validator configuration this reference was resolved against
+    */
+   private final Object configuration;
+
+   /**
+    * the class the referenced field was looked up in, <code>null</code> for constraint set references
+    */
+   private final Class<?> targetClass;
+   private final String fieldName;
+
+   /**
+    * the referenced constraint set, <code>null</code> if it is not defined
+    */
+   public final ConstraintSet constraintSet;
+
+   private final ClassChecks classChecks;
+
+   /**
+    * the referenced field
+    */
+   public final Field field;
+
+   private volatile VersionedChecks fieldChecks;
+
+   private ResolvedCheckReference(final Object configuration, final Class<?> targetClass, final String fieldName, final ConstraintSet constraintSet,
+      final ClassChecks classChecks, final Field field) {
+      this.configuration = configuration;
+      this.targetClass = targetClass;
+      this.fieldName = fieldName;
+      this.constraintSet = constraintSet;
+      this.classChecks = classChecks;
+      this.field = field;
+   }
+
+   /**
+    * @return the current checks of the referenced field, an empty array if none
+    */
+   public Check[] getFieldChecks() {
+      final VersionedChecks checks = fieldChecks;
+      final int version = classChecks.getVersion();
+      if (checks != null && (classChecks.isFrozen() || checks.version == version))
+         return checks.checks;
+
+      // read the version first, so concurrent modifications result in stale checks that are refreshed on the next access
+      final VersionedChecks newChecks = new VersionedChecks(version, classChecks.getSnapshot().getFieldChecks(field));
+      fieldChecks = newChecks;
+      return newChecks.checks;
+   }
+
+   /**
+    * @param targetClass the class the field is looked up in, <code>null</code> for constraint set references
+    * @param fieldName the name of the field, <code>null</code> for constraint set references
+    * @return <code>true</code> if this reference was resolved against the given configuration for the given field
+    */
+   public boolean isResolvedFor(final Object configuration, final Class<?> targetClass, final String fieldName) {
+      return this.configuration == configuration //
+         && this.targetClass == targetClass //
+         && (this.fieldName == null ? fieldName == null : this.fieldName.equals(fieldName));
+   }
+}
@@ -0,0 +1,233 @@
+/*
+ * Copyright 2005-2021 by Sebastian Thomschke and contributors.
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package net.sf.oval.internal;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import net.sf.oval.context.OValContext;
+import net.sf.oval.context.ObjectGraphNavigationContext;
+import net.sf.oval.exception.InvalidConfigurationException;
+import net.sf.oval.internal.util.FieldAccessor;
+import net.sf.oval.internal.util.MethodAccessor;
+import net.sf.oval.internal.util.ReflectionUtils;
+import net.sf.oval.internal.util.StringUtils;
+import net.sf.oval.ogn.ObjectGraphNavigationResult;
+import net.sf.oval.ogn.ObjectGraphNavigator;
+import net.sf.oval.ogn.ObjectGraphNavigatorDefaultImpl;
+import net.sf.oval.ogn.ObjectGraphNavigatorRegistry;
+
+/**
+ * Pre-parsed representation of a check's target expression, e.g. <code>jxpath:owner/address</code> or <code>owner.address</code>.
+ *
+ * Paths handled by the {@link ObjectGraphNavigatorDefaultImpl} are compiled into a chain of accessors that are resolved once per runtime
+ * class of each navigated object, so evaluating the path neither parses the expression nor walks the class hierarchy.
+ *
+ * @author Sebastian Thomschke
+ */
+public final class TargetPath {
+
+   /**
+    * The resolved accessor of a path segment for a specific runtime class.
+    */
+   private static final class SegmentAccessor {
+      final Class<?> clazz;
+      final FieldAccessor fieldAccessor;
+      final MethodAccessor methodAccessor;
+      final OValContext context;
+
+      SegmentAccessor(final Class<?> clazz, final Field field, final Method getter) {
+         this.clazz = clazz;
+         if (field == null) {
+            fieldAccessor = null;
+            methodAccessor = AccessorCache.getMethodAccessor(getter);
+            context = ContextCache.getMethodReturnValueContext(getter);
+         } else {
+            fieldAccessor = AccessorCache.getFieldAccessor(field);
+            methodAccessor = null;
+            context = ContextCache.getFieldContext(field);
+         }
+      }
+
+      Object get(final Object parent) {
+         return fieldAccessor == null ? methodAccessor.invoke(parent) : fieldAccessor.get(parent);
+      }
+   }
+
+   private static final class Segment {
+      final String name;
+      final ConcurrentMap<Class<?>, SegmentAccessor> accessorsByClass = new ConcurrentHashMap<>(2);
+
+      /**
+       * the most recently used accessor, avoids map lookups for monomorphic paths
+       */
+      volatile SegmentAccessor lastAccessor;
+
+      Segment(final String name) {
+         this.name = name;
+      }
+
+      SegmentAccessor getAccessor(final Class<?> clazz, final TargetPath targetPath, final Object root) throws InvalidConfigurationException {
+         SegmentAccessor accessor = lastAccessor;
+         if (accessor != null && accessor.clazz == clazz)
+            return accessor;
+
+         accessor = accessorsByClass.get(clazz);
+         if (accessor == null) {
+            final Field field = ReflectionUtils.getFieldRecursive(clazz, name);
+            if (field == null) {
+               final Method getter = ReflectionUtils.getGetterRecursive(clazz, name);
+               if (getter == null)
+                  throw new InvalidConfigurationException("Invalid object navigation path from root object class [" + root.getClass().getName()
+                     + "] path: " + targetPath.path);
+               accessor = new SegmentAccessor(clazz, null, getter);
+            } else {
+               accessor = new SegmentAccessor(clazz, field, null);
+            }
+            final SegmentAccessor existing = accessorsByClass.putIfAbsent(clazz, accessor);
+            if (existing != null) {
+               accessor = existing;
+            }
+         }
+         lastAccessor = accessor;
+         return accessor;
+      }
+   }
+
+   /**
+    * The outcome of navigating a target path.
+    */
+   public static final class Result {
+      public final Object targetParent;
+      public final Object target;
+
+      /**
+       * the context of the field or getter holding the target
+       */
+      public final OValContext context;
+
+      Result(final Object targetParent, final Object target, final OValContext context) {
+         this.targetParent = targetParent;
+         this.target = target;
+         this.context = context;
+      }
+   }
+
+   /**
+    * @param target the target expression, cannot be null
+    * @param registry the registry to resolve the object graph navigator from
+    */
+   public static TargetPath compile(final String target, final ObjectGraphNavigatorRegistry registry) {
+      final String trimmedTarget = target.trim();
+      if (trimmedTarget.length() == 0)
+         return new TargetPath(target, registry);
+
+      final List<String> chunks = StringUtils.split(trimmedTarget, ':', 2);
+      final String ognId, path;
+      if (chunks.size() == 1) {
+         ognId = "";
+         path = chunks.get(0);
+      } else {
+         ognId = chunks.get(0);
+         path = chunks.get(1);
+      }
+      return new TargetPath(target, registry, ognId, path);
+   }
+
+   /**
+    * the uncompiled target expression
+    */
+   public final String target;
+
+   /**
+    * the context of the parent object of the target or null if the target is a direct child of the root object
+    */
+   public final ObjectGraphNavigationContext parentContext;
+
+   private final String path;
+   private final ObjectGraphNavigatorRegistry registry;
+   private final int registryVersion;
+   private final ObjectGraphNavigator navigator;
+
+   /**
+    * the compiled segments or null if the path is evaluated by a custom navigator
+    */
+   private final Segment[] segments;
+
+   /**
+    * creates an empty path for a blank target expression
+    */
+   private TargetPath(final String target, final ObjectGraphNavigatorRegistry registry) {
+      this.target = target;
+      this.registry = registry;
+      registryVersion = registry.getVersion();
+      path = "";
+      navigator = null;
+      parentContext = null;
+      segments = null;
+   }
+
+   private TargetPath(final String target, final ObjectGraphNavigatorRegistry registry, final String ognId, final String path) {
+      this.target = target;
+      this.path = path;
+      this.registry = registry;
+      registryVersion = registry.getVersion();
+      navigator = registry.getObjectGraphNavigator(ognId);
+      parentContext = path.indexOf('.') > -1 ? new ObjectGraphNavigationContext(StringUtils.substringBeforeLast(path, '.')) : null;
+
+      if (navigator.getClass() == ObjectGraphNavigatorDefaultImpl.class) {
+         final List<String> names = StringUtils.split(path, '.', -1);
+         segments = new Segment[names.size()];
+         for (int i = 0; i < segments.length; i++) {
+            segments[i] = new Segment(names.get(i));
+         }
+      } else {
+         segments = null;
+      }
+   }
+
+   /**
+    * @return <code>true</code> if this path was compiled for the given target expression and the current state of the given registry
+    */
+   public boolean isCompiledFor(final String target, final ObjectGraphNavigatorRegistry registry) {
+      return this.target.equals(target) && this.registry == registry && registryVersion == registry.getVersion();
+   }
+
+   /**
+    * @return <code>true</code> if the target expression is blank, i.e. the check applies to the value itself
+    */
+   public boolean isEmpty() {
+      return navigator == null;
+   }
+
+   /**
+    * @return the navigation result or null if an object along the path is null
+    */
+   public Result navigateTo(final Object root) throws InvalidConfigurationException {
+      if (segments == null) {
+         final ObjectGraphNavigationResult result = navigator.navigateTo(root, path);
+         if (result == null)
+            return null;
+         return new Result(result.targetParent, result.target, result.targetAccessor instanceof Field //
+            ? ContextCache.getFieldContext((Field) result.targetAccessor) //
+            : ContextCache.getMethodReturnValueContext((Method) result.targetAccessor));
+      }
+
+      Object parent = null;
+      Object target = root;
+      SegmentAccessor accessor = null;
+      for (final Segment segment : segments) {
+         parent = target;
+         if (parent == null)
+            return null;
+         accessor = segment.getAccessor(parent.getClass(), this, root);
+         target = accessor.get(parent);
+      }
+      return new Result(parent, target, accessor.context);
+   }
+}
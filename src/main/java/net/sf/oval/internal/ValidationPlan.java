@@ -0,0 +1,380 @@
+/*
+ * Copyright 2005-2021 by Sebastian Thomschke and contributors.
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package net.sf.oval.internal;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+import net.sf.oval.AbstractCheck;
+import net.sf.oval.Check;
+import net.sf.oval.ConstraintTarget;
+import net.sf.oval.PrimitiveValueCheck;
+import net.sf.oval.ValidationCycle;
+import net.sf.oval.constraint.AssertConstraintSetCheck;
+import net.sf.oval.constraint.AssertFieldConstraintsCheck;
+import net.sf.oval.constraint.AssertValidCheck;
+import net.sf.oval.constraint.ConstraintsCheck;
+import net.sf.oval.context.OValContext;
+import net.sf.oval.internal.util.ReflectionUtils;
+
+/**
+ * Immutable, flattened representation of the field, getter and object-level checks declared by a class and all its super classes.
+ *
+ * A plan is compiled from the {@link ClassChecks} of the class hierarchy and is used by the Validator to validate object invariants in a
+ * single loop without walking the class hierarchy or performing map lookups.
+ *
+ * @author Sebastian Thomschke
+ */
+public final class ValidationPlan {
+
+   /**
+    * The constrained field, getter or object of a single class in the hierarchy.
+    */
+   public static final class Step {
+      public final Class<?> declaringClass;
+      public final OValContext context;
+
+      /**
+       * the constrained field or null
+       */
+      public final Field field;
+
+      /**
+       * the constrained getter or null
+       */
+      public final Method getter;
+
+      public final Check[] checks;
+
+      /**
+       * the bit mask of {@link ValidationPlan#TARGET_CONTAINER}, {@link ValidationPlan#TARGET_VALUES}, {@link ValidationPlan#TARGET_KEYS} and
+       * {@link ValidationPlan#TARGET_RECURSIVE} for each check
+       */
+      public final int[] checkTargets;
+
+      /**
+       * flags for each check indicating if it can be evaluated directly, i.e. without target navigation and container handling
+       */
+      public final boolean[] checkSpecialized;
+
+      /**
+       * one of the <code>PRIMITIVE_*</code> constants, specifies if the field value can be read and validated without boxing because the field
+       * has a primitive numeric type and all checks are specialized {@link PrimitiveValueCheck}s without condition
+       */
+      public final int primitiveType;
+
+      Step(final Class<?> declaringClass, final OValContext context, final Field field, final Method getter, final Check[] checks) {
+         this.declaringClass = declaringClass;
+         this.context = context;
+         this.field = field;
+         this.getter = getter;
+         this.checks = checks;
+         checkTargets = new int[checks.length];
+         checkSpecialized = new boolean[checks.length];
+         for (int i = 0; i < checks.length; i++) {
+            checkTargets[i] = getTargets(checks[i]);
+            checkSpecialized[i] = isSpecializable(checks[i], context.getCompileTimeType());
+         }
+         primitiveType = getPrimitiveType(field, checks, checkSpecialized);
+      }
+
+      private Step(final Step step, final Check[] checks, final int[] checkTargets, final boolean[] checkSpecialized) {
+         declaringClass = step.declaringClass;
+         context = step.context;
+         field = step.field;
+         getter = step.getter;
+         this.checks = checks;
+         this.checkTargets = checkTargets;
+         this.checkSpecialized = checkSpecialized;
+         primitiveType = getPrimitiveType(field, checks, checkSpecialized);
+      }
+
+      /**
+       * @return a step containing only the checks that may apply for the given profiles, this step if all checks may apply, or null if no
+       *         check applies
+       */
+      Step filter(final long profilesMask) {
+         final boolean[] isActive = new boolean[checks.length];
+         int activeCount = 0;
+         for (int i = 0; i < checks.length; i++) {
+            if (isActive(checks[i], profilesMask)) {
+               isActive[i] = true;
+               activeCount++;
+            }
+         }
+         if (activeCount == checks.length)
+            return this;
+         if (activeCount == 0)
+            return null;
+
+         final Check[] activeChecks = new Check[activeCount];
+         final int[] activeCheckTargets = new int[activeCount];
+         final boolean[] activeCheckSpecialized = new boolean[activeCount];
+         for (int i = 0, j = 0; i < checks.length; i++) {
+            if (isActive[i]) {
+               activeChecks[j] = checks[i];
+               activeCheckTargets[j] = checkTargets[i];
+               activeCheckSpecialized[j] = checkSpecialized[i];
+               j++;
+            }
+         }
+         return new Step(this, activeChecks, activeCheckTargets, activeCheckSpecialized);
+      }
+   }
+
+   public static final int TARGET_CONTAINER = 1;
+   public static final int TARGET_VALUES = 2;
+   public static final int TARGET_KEYS = 4;
+   public static final int TARGET_RECURSIVE = 8;
+
+   public static final int PRIMITIVE_NONE = 0;
+   public static final int PRIMITIVE_LONG = 1;
+   public static final int PRIMITIVE_FLOAT = 2;
+   public static final int PRIMITIVE_DOUBLE = 3;
+
+   /**
+    * maximum number of profile specific plans cached per plan, the cache is cleared when exceeded
+    */
+   private static final int MAX_PROFILE_SPECIFIC_PLANS = 32;
+
+   /**
+    * check classes and whether they are unconditional, see {@link #isUnconditionalPrimitiveValueCheck(Check)}
+    */
+   private static final ConcurrentMap<Class<?>, Boolean> UNCONDITIONAL_CHECK_CLASSES = new ConcurrentHashMap<>(8);
+
+   /**
+    * value of {@link #profilesMask} for plans containing all checks regardless of their profiles
+    */
+   public static final long ALL_PROFILES = -1;
+
+   /**
+    * Compiles the plan for the given class.
+    *
+    * @param classChecksProvider function returning the {@link ClassChecks} for the given class and its super classes
+    */
+   public static ValidationPlan compile(final Class<?> clazz, final Function<Class<?>, ClassChecks> classChecksProvider) {
+      final List<ClassChecks> hierarchy = new ArrayList<>(4);
+      for (Class<?> c = clazz; c != null && c != Object.class; c = c.getSuperclass()) {
+         hierarchy.add(classChecksProvider.apply(c));
+      }
+
+      final ClassChecks[] hierarchyArray = hierarchy.toArray(new ClassChecks[hierarchy.size()]);
+      final int[] versions = new int[hierarchyArray.length];
+      final List<Step> steps = new ArrayList<>();
+
+      for (int i = 0; i < hierarchyArray.length; i++) {
+         final ClassChecks cc = hierarchyArray[i];
+         final ClassChecks.Snapshot snapshot = cc.getSnapshot();
+         versions[i] = snapshot.version;
+
+         for (int j = 0; j < snapshot.fields.length; j++) {
+            if (snapshot.fieldChecks[j].length > 0) {
+               final Field field = snapshot.fields[j];
+               steps.add(new Step(cc.clazz, ContextCache.getFieldContext(field), field, null, snapshot.fieldChecks[j]));
+            }
+         }
+         for (int j = 0; j < snapshot.getters.length; j++) {
+            if (snapshot.getterChecks[j].length > 0) {
+               final Method getter = snapshot.getters[j];
+               steps.add(new Step(cc.clazz, ContextCache.getMethodReturnValueContext(getter), null, getter, snapshot.getterChecks[j]));
+            }
+         }
+         if (snapshot.objectChecks.length > 0) {
+            steps.add(new Step(cc.clazz, ContextCache.getClassContext(cc.clazz), null, null, snapshot.objectChecks));
+         }
+      }
+      return new ValidationPlan(clazz, hierarchyArray, versions, steps.toArray(new Step[steps.size()]), ALL_PROFILES);
+   }
+
+   private static int getPrimitiveType(final Field field, final Check[] checks, final boolean[] checkSpecialized) {
+      if (field == null)
+         return PRIMITIVE_NONE;
+
+      final Class<?> type = field.getType();
+      final int primitiveType;
+      if (ReflectionUtils.isIntegralPrimitive(type)) {
+         primitiveType = PRIMITIVE_LONG;
+      } else if (type == double.class) {
+         primitiveType = PRIMITIVE_DOUBLE;
+      } else if (type == float.class) {
+         primitiveType = PRIMITIVE_FLOAT;
+      } else
+         return PRIMITIVE_NONE;
+
+      for (int i = 0; i < checks.length; i++) {
+         if (!checkSpecialized[i] || !isUnconditionalPrimitiveValueCheck(checks[i]))
+            return PRIMITIVE_NONE;
+      }
+      return primitiveType;
+   }
+
+   /**
+    * @return <code>true</code> if the given check is a {@link PrimitiveValueCheck} that is always active, i.e. it has no condition and does
+    *         not override {@link AbstractCheck#isActive(Object, Object, ValidationCycle)}
+    */
+   public static boolean isUnconditionalPrimitiveValueCheck(final Check check) {
+      if (!(check instanceof PrimitiveValueCheck) || check.getWhen() != null)
+         return false;
+
+      final Class<?> checkClass = check.getClass();
+      Boolean isUnconditional = UNCONDITIONAL_CHECK_CLASSES.get(checkClass);
+      if (isUnconditional == null) {
+         final Method isActive = ReflectionUtils.getMethodRecursive(checkClass, "isActive", Object.class, Object.class, ValidationCycle.class);
+         isUnconditional = isActive != null && isActive.getDeclaringClass() == AbstractCheck.class;
+         UNCONDITIONAL_CHECK_CLASSES.put(checkClass, isUnconditional);
+      }
+      return isUnconditional;
+   }
+
+   /**
+    * @return bit mask of the constraint targets the given check applies to
+    */
+   public static int getTargets(final Check check) {
+      int targets = 0;
+      final ConstraintTarget[] appliesTo = check.getAppliesTo();
+      if (appliesTo != null) {
+         for (final ConstraintTarget target : appliesTo) {
+            if (target == null) {
+               continue;
+            }
+            switch (target) {
+               case CONTAINER:
+                  targets |= TARGET_CONTAINER;
+                  break;
+               case VALUES:
+                  targets |= TARGET_VALUES;
+                  break;
+               case KEYS:
+                  targets |= TARGET_KEYS;
+                  break;
+               case RECURSIVE:
+                  targets |= TARGET_RECURSIVE;
+                  break;
+               default:
+                  break;
+            }
+         }
+      }
+      return targets;
+   }
+
+   /**
+    * @return <code>false</code> if the given check can never apply when validating against the given profiles
+    */
+   private static boolean isActive(final Check check, final long profilesMask) {
+      // constraints checks are not subject to profile filtering, profiles without a dedicated bit are matched by name at validation time
+      if (check instanceof ConstraintsCheck)
+         return true;
+      final long checkMask = ProfileRegistry.getMask(check.getProfiles());
+      return (checkMask & ProfileRegistry.OVERFLOW) != 0 || (checkMask & profilesMask) != 0;
+   }
+
+   /**
+    * @param valueType the compile time type of the values the check is applied to
+    * @return <code>true</code> if the given check can be evaluated without target navigation and container handling
+    */
+   public static boolean isSpecializable(final Check check, final Class<?> valueType) {
+      if (check instanceof AssertValidCheck //
+         || check instanceof ConstraintsCheck //
+         || check instanceof AssertConstraintSetCheck //
+         || check instanceof AssertFieldConstraintsCheck)
+         return false;
+
+      final String target = check.getTarget();
+      if (target != null && target.trim().length() > 0)
+         return false;
+
+      if (valueType == null)
+         return false;
+
+      if (valueType.isPrimitive())
+         return true;
+
+      // only final types guarantee that the runtime value is not a collection, map or array
+      return Modifier.isFinal(valueType.getModifiers()) //
+         && !valueType.isArray() //
+         && !Iterable.class.isAssignableFrom(valueType) //
+         && !Map.class.isAssignableFrom(valueType);
+   }
+
+   public final Class<?> clazz;
+
+   public final Step[] steps;
+
+   /**
+    * the bit mask of the profiles this plan was filtered for, see {@link ProfileRegistry}, or {@link #ALL_PROFILES}
+    */
+   public final long profilesMask;
+
+   /**
+    * the class was declared immutable, see {@link ClassChecks#isImmutable}
+    */
+   public final boolean isImmutable;
+
+   private final ClassChecks[] hierarchy;
+   private final int[] versions;
+   private final ConcurrentMap<Long, ValidationPlan> plansByProfilesMask;
+
+   private ValidationPlan(final Class<?> clazz, final ClassChecks[] hierarchy, final int[] versions, final Step[] steps, final long profilesMask) {
+      this.clazz = clazz;
+      this.hierarchy = hierarchy;
+      this.versions = versions;
+      this.steps = steps;
+      this.profilesMask = profilesMask;
+      isImmutable = hierarchy.length > 0 && hierarchy[0].isImmutable;
+      plansByProfilesMask = profilesMask == ALL_PROFILES ? new ConcurrentHashMap<>(4) : null;
+   }
+
+   /**
+    * Returns a plan that only contains the checks that may apply when validating against the given profiles. Steps without any applicable
+    * checks are omitted so the corresponding field and getter values are not even resolved.
+    *
+    * The returned plans are cached per profiles mask and share the staleness of this plan.
+    *
+    * @param profilesMask the bit mask of the enabled profiles, see {@link ProfileRegistry}
+    */
+   public ValidationPlan forProfiles(final long profilesMask) {
+      if (this.profilesMask != ALL_PROFILES)
+         throw new IllegalStateException("Plan is already profile specific.");
+
+      if (profilesMask == ALL_PROFILES)
+         return this;
+
+      ValidationPlan plan = plansByProfilesMask.get(profilesMask);
+      if (plan == null) {
+         final List<Step> filteredSteps = new ArrayList<>(steps.length);
+         for (final Step step : steps) {
+            final Step filteredStep = step.filter(profilesMask);
+            if (filteredStep != null) {
+               filteredSteps.add(filteredStep);
+            }
+         }
+         plan = new ValidationPlan(clazz, hierarchy, versions, filteredSteps.toArray(new Step[filteredSteps.size()]), profilesMask);
+         if (plansByProfilesMask.size() >= MAX_PROFILE_SPECIFIC_PLANS) {
+            plansByProfilesMask.clear();
+         }
+         plansByProfilesMask.put(profilesMask, plan);
+      }
+      return plan;
+   }
+
+   /**
+    * @return <code>true</code> if the checks of the class or one of its super classes were modified after this plan was compiled
+    */
+   public boolean isStale() {
+      for (int i = 0; i < hierarchy.length; i++) {
+         if (hierarchy[i].getVersion() != versions[i])
+            return true;
+      }
+      return false;
+   }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2005-2021 by Sebastian Thomschke and contributors.
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package net.sf.oval.internal;
+
+import java.lang.ref.WeakReference;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Bounded cache of the instances of immutable classes that were found to be valid.
+ *
+ * The cache is a fixed size table indexed by the identity hash code of the instances. Instances are only weakly referenced and instances
+ * mapped to the same slot evict each other, so the cache neither grows nor prevents garbage collection. Clearing the cache is a constant
+ * time operation that invalidates all entries at once.
+ *
+ * @author Sebastian Thomschke
+ */
+public final class ValidationResultCache {
+
+   private static final class Entry extends WeakReference<Object> {
+      final long profilesMask;
+      final int generation;
+
+      Entry(final Object validatedObject, final long profilesMask, final int generation) {
+         super(validatedObject);
+         this.profilesMask = profilesMask;
+         this.generation = generation;
+      }
+   }
+
+   private final AtomicReferenceArray<Entry> entries;
+   private final int indexMask;
+
+   /**
+    * entries of other generations are outdated
+    */
+   private final AtomicInteger generation = new AtomicInteger();
+
+   /**
+    * @param capacity the maximum number of cached instances, rounded up to the next power of two
+    */
+   public ValidationResultCache(final int capacity) {
+      final int size = Integer.highestOneBit(Math.max(1, capacity - 1)) << 1;
+      entries = new AtomicReferenceArray<>(size);
+      indexMask = size - 1;
+   }
+
+   private int indexOf(final Object validatedObject) {
+      final int hash = System.identityHashCode(validatedObject);
+      return (hash ^ hash >>> 16) & indexMask;
+   }
+
+   /**
+    * @return the current generation of the cache, to be passed to {@link #setValid(Object, long, int)}
+    */
+   public int getGeneration() {
+      return generation.get();
+   }
+
+   /**
+    * Invalidates all cached entries.
+    */
+   public void clear() {
+      generation.incrementAndGet();
+   }
+
+   /**
+    * @param profilesMask the bit mask of the profiles the object was validated against, see {@link ProfileRegistry}
+    * @return <code>true</code> if the given object is known to be valid for the given profiles
+    */
+   public boolean isValid(final Object validatedObject, final long profilesMask) {
+      final Entry entry = entries.get(indexOf(validatedObject));
+      return entry != null //
+         && entry.get() == validatedObject //
+         && entry.profilesMask == profilesMask //
+         && entry.generation == generation.get();
+   }
+
+   /**
+    * Remembers that the given object is valid for the given profiles.
+    *
+    * @param profilesMask the bit mask of the profiles the object was validated against, see {@link ProfileRegistry}
+    * @param generation the generation of the cache when the validation started, the result is discarded if the cache was cleared since
+    */
+   public void setValid(final Object validatedObject, final long profilesMask, final int generation) {
+      if (generation == this.generation.get()) {
+         entries.set(indexOf(validatedObject), new Entry(validatedObject, profilesMask, generation));
+      }
+   }
+}
@@ -0,0 +1,20 @@
+/*
+ * Copyright 2005-2021 by Sebastian Thomschke and contributors.
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package net.sf.oval.internal.util;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+
+/**
+ * Creates the accessors used to read field values and invoke getters and validation methods.
+ *
+ * @author Sebastian Thomschke
+ */
+public interface AccessorFactory {
+
+   FieldAccessor createFieldAccessor(Field field);
+
+   MethodAccessor createMethodAccessor(Method method);
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2005-2021 by Sebastian Thomschke and contributors.
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package net.sf.oval.internal.util;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+
+import net.sf.oval.exception.AccessingFieldValueFailedException;
+import net.sf.oval.exception.ConstraintsViolatedException;
+import net.sf.oval.exception.InvokingMethodFailedException;
+import net.sf.oval.internal.ContextCache;
+import net.sf.oval.internal.Log;
+
+/**
+ * Accessor factory using method handles unreflected once per field/method. Falls back to core reflection if a method handle cannot be
+ * created, e.g. because the member is not accessible.
+ *
+ * @author Sebastian Thomschke
+ */
+public final class AccessorFactoryMethodHandleImpl implements AccessorFactory {
+   private static final Log LOG = Log.getLog(AccessorFactoryMethodHandleImpl.class);
+
+   public static final AccessorFactoryMethodHandleImpl INSTANCE = new AccessorFactoryMethodHandleImpl();
+
+   private static final MethodType FIELD_ACCESSOR_TYPE = MethodType.methodType(Object.class, Object.class);
+   private static final MethodType DOUBLE_FIELD_ACCESSOR_TYPE = MethodType.methodType(double.class, Object.class);
+   private static final MethodType LONG_FIELD_ACCESSOR_TYPE = MethodType.methodType(long.class, Object.class);
+   private static final MethodType METHOD_ACCESSOR_TYPE = MethodType.methodType(Object.class, Object.class, Object[].class);
+
+   private final MethodHandles.Lookup lookup = MethodHandles.lookup();
+
+   @Override
+   public FieldAccessor createFieldAccessor(final Field field) {
+      final Class<?> type = field.getType();
+      final MethodHandle handle;
+      final MethodHandle doubleHandle;
+      final MethodHandle longHandle;
+      try {
+         ReflectionUtils.setAccessible(field, true);
+         MethodHandle mh = lookup.unreflectGetter(field);
+         if (ReflectionUtils.isStatic(field)) {
+            mh = MethodHandles.dropArguments(mh, 0, Object.class);
+         }
+         handle = mh.asType(FIELD_ACCESSOR_TYPE);
+         final boolean isIntegral = ReflectionUtils.isIntegralPrimitive(type);
+         doubleHandle = isIntegral || type == double.class || type == float.class ? mh.asType(DOUBLE_FIELD_ACCESSOR_TYPE) : null;
+         longHandle = isIntegral ? mh.asType(LONG_FIELD_ACCESSOR_TYPE) : null;
+      } catch (final IllegalAccessException | RuntimeException ex) {
+         LOG.debug("Cannot create method handle for field {1}, falling back to reflection.", field, ex);
+         return AccessorFactoryReflectionImpl.INSTANCE.createFieldAccessor(field);
+      }
+
+      if (doubleHandle != null)
+         return new FieldAccessor() {
+            @Override
+            public Object get(final Object target) {
+               try {
+                  return handle.invokeExact(target);
+               } catch (final Throwable ex) { // CHECKSTYLE:IGNORE IllegalCatch
+                  throw new AccessingFieldValueFailedException(field.getName(), target, ContextCache.getFieldContext(field), ex);
+               }
+            }
+
+            @Override
+            public double getDouble(final Object target) {
+               try {
+                  return (double) doubleHandle.invokeExact(target);
+               } catch (final Throwable ex) { // CHECKSTYLE:IGNORE IllegalCatch
+                  throw new AccessingFieldValueFailedException(field.getName(), target, ContextCache.getFieldContext(field), ex);
+               }
+            }
+
+            @Override
+            public long getLong(final Object target) {
+               if (longHandle == null)
+                  return FieldAccessor.super.getLong(target);
+               try {
+                  return (long) longHandle.invokeExact(target);
+               } catch (final Throwable ex) { // CHECKSTYLE:IGNORE IllegalCatch
+                  throw new AccessingFieldValueFailedException(field.getName(), target, ContextCache.getFieldContext(field), ex);
+               }
+            }
+         };
+
+      return target -> {
+         try {
+            return handle.invokeExact(target);
+         } catch (final Throwable ex) { // CHECKSTYLE:IGNORE IllegalCatch
+            throw new AccessingFieldValueFailedException(field.getName(), target, ContextCache.getFieldContext(field), ex);
+         }
+      };
+   }
+
+   @Override
+   public MethodAccessor createMethodAccessor(final Method method) {
+      final MethodHandle handle;
+      try {
+         ReflectionUtils.setAccessible(method, true);
+         MethodHandle mh = lookup.unreflect(method);
+         if (ReflectionUtils.isStatic(method)) {
+            mh = MethodHandles.dropArguments(mh, 0, Object.class);
+         }
+         handle = mh.asSpreader(Object[].class, method.getParameterTypes().length).asType(METHOD_ACCESSOR_TYPE);
+      } catch (final IllegalAccessException | RuntimeException ex) {
+         LOG.debug("Cannot create method handle for method {1}, falling back to reflection.", method, ex);
+         return AccessorFactoryReflectionImpl.INSTANCE.createMethodAccessor(method);
+      }
+
+      return (target, args) -> {
+         try {
+            return handle.invokeExact(target, args);
+         } catch (final ConstraintsViolatedException ex) {
+            throw ex;
+         } catch (final Throwable ex) { // CHECKSTYLE:IGNORE IllegalCatch
+            throw new InvokingMethodFailedException("Executing method " + method.getName() + " failed.", target, ContextCache.getMethodReturnValueContext(
+               method), ex);
+         }
+      };
+   }
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright 2005-2021 by Sebastian Thomschke and contributors.
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package net.sf.oval.internal.util;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+
+/**
+ * Accessor factory using core reflection.
+ *
+ * @author Sebastian Thomschke
+ */
+public final class AccessorFactoryReflectionImpl implements AccessorFactory {
+
+   public static final AccessorFactoryReflectionImpl INSTANCE = new AccessorFactoryReflectionImpl();
+
+   @Override
+   public FieldAccessor createFieldAccessor(final Field field) {
+      final Class<?> type = field.getType();
+      if (ReflectionUtils.isIntegralPrimitive(type) || type == double.class || type == float.class)
+         return new FieldAccessor() {
+            @Override
+            public Object get(final Object target) {
+               return ReflectionUtils.getFieldValue(field, target);
+            }
+
+            @Override
+            public double getDouble(final Object target) {
+               return ReflectionUtils.getFieldValueAsDouble(field, target);
+            }
+
+            @Override
+            public long getLong(final Object target) {
+               return ReflectionUtils.getFieldValueAsLong(field, target);
+            }
+         };
+      return target -> ReflectionUtils.getFieldValue(field, target);
+   }
+
+   @Override
+   public MethodAccessor createMethodAccessor(final Method method) {
+      return (target, args) -> ReflectionUtils.invokeMethod(method, target, args);
+   }
+}
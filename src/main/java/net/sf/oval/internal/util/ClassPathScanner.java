@@ -0,0 +1,128 @@
+/*
+ * Copyright 2005-2021 by Sebastian Thomschke and contributors.
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package net.sf.oval.internal.util;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UnsupportedEncodingException;
+import java.lang.reflect.Modifier;
+import java.net.JarURLConnection;
+import java.net.URL;
+import java.net.URLConnection;
+import java.net.URLDecoder;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+
+import net.sf.oval.exception.ReflectionException;
+import net.sf.oval.internal.Log;
+
+/**
+ * Finds the classes of a package and its sub packages in directories and jar files of the class path.
+ *
+ * @author Sebastian Thomschke
+ */
+public final class ClassPathScanner {
+   private static final Log LOG = Log.getLog(ClassPathScanner.class);
+
+   private static final String CLASS_FILE_SUFFIX = ".class";
+
+   private static void collectClassNames(final File dir, final String packageName, final Set<String> classNames) {
+      final File[] files = dir.listFiles();
+      if (files == null)
+         return;
+
+      for (final File file : files) {
+         final String fileName = file.getName();
+         if (file.isDirectory()) {
+            collectClassNames(file, packageName + "." + fileName, classNames);
+         } else if (fileName.endsWith(CLASS_FILE_SUFFIX)) {
+            classNames.add(packageName + "." + fileName.substring(0, fileName.length() - CLASS_FILE_SUFFIX.length()));
+         }
+      }
+   }
+
+   private static void collectClassNames(final JarFile jar, final String packagePath, final Set<String> classNames) {
+      for (final Enumeration<JarEntry> entries = jar.entries(); entries.hasMoreElements();) {
+         final String entryName = entries.nextElement().getName();
+         if (entryName.startsWith(packagePath) && entryName.endsWith(CLASS_FILE_SUFFIX)) {
+            classNames.add(entryName.substring(0, entryName.length() - CLASS_FILE_SUFFIX.length()).replace('/', '.'));
+         }
+      }
+   }
+
+   /**
+    * Finds the top-level and static nested classes of the given package and its sub packages. Interfaces, annotations, anonymous, local
+    * and synthetic classes are omitted, as are classes that cannot be loaded.
+    *
+    * @param packageName the name of the package, e.g. <code>com.example.model</code>
+    * @param classLoader the class loader used to locate and load the classes
+    * @return the found classes sorted by name
+    * @throws ReflectionException if the class path cannot be read
+    */
+   public static List<Class<?>> findClasses(final String packageName, final ClassLoader classLoader) throws ReflectionException {
+      Assert.argumentNotNull("packageName", packageName);
+      Assert.argumentNotNull("classLoader", classLoader);
+
+      final String packagePath = packageName.replace('.', '/') + '/';
+      final Set<String> classNames = new TreeSet<>();
+      try {
+         for (final Enumeration<URL> resources = classLoader.getResources(packagePath); resources.hasMoreElements();) {
+            final URL resource = resources.nextElement();
+            LOG.debug("Scanning {1} for classes", resource);
+            if ("file".equals(resource.getProtocol())) {
+               collectClassNames(new File(decode(resource.getPath())), packageName, classNames);
+            } else {
+               final URLConnection conn = resource.openConnection();
+               if (conn instanceof JarURLConnection) {
+                  conn.setUseCaches(false);
+                  try (JarFile jar = ((JarURLConnection) conn).getJarFile()) {
+                     collectClassNames(jar, packagePath, classNames);
+                  }
+               } else {
+                  LOG.warn("Cannot scan {1} for classes. Unsupported protocol.", resource);
+               }
+            }
+         }
+      } catch (final IOException ex) {
+         throw new ReflectionException("Scanning package " + packageName + " failed.", ex);
+      }
+
+      final List<Class<?>> classes = new ArrayList<>(classNames.size());
+      for (final String className : classNames) {
+         if (className.endsWith("package-info") || className.endsWith("module-info")) {
+            continue;
+         }
+         final Class<?> clazz;
+         try {
+            clazz = Class.forName(className, false, classLoader);
+         } catch (final ClassNotFoundException | LinkageError ex) {
+            LOG.warn("Cannot load class {1}.", className, ex);
+            continue;
+         }
+         if (clazz.isInterface() || clazz.isAnonymousClass() || clazz.isLocalClass() || clazz.isSynthetic() //
+            || clazz.isMemberClass() && !Modifier.isStatic(clazz.getModifiers())) {
+            continue;
+         }
+         classes.add(clazz);
+      }
+      return classes;
+   }
+
+   private static String decode(final String path) {
+      try {
+         return URLDecoder.decode(path, "UTF-8");
+      } catch (final UnsupportedEncodingException ex) {
+         throw new IllegalStateException(ex);
+      }
+   }
+
+   private ClassPathScanner() {
+   }
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright 2005-2021 by Sebastian Thomschke and contributors.
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package net.sf.oval.internal.util;
+
+import net.sf.oval.exception.AccessingFieldValueFailedException;
+
+/**
+ * Reads the value of a specific field.
+ *
+ * @author Sebastian Thomschke
+ */
+@FunctionalInterface
+public interface FieldAccessor {
+
+   /**
+    * @param target the object to read the field value from, <code>null</code> for static fields
+    */
+   Object get(Object target) throws AccessingFieldValueFailedException;
+
+   /**
+    * Reads the value of a <code>float</code> or <code>double</code> field or of an integral field widened to <code>double</code>.
+    *
+    * @param target the object to read the field value from, <code>null</code> for static fields
+    */
+   default double getDouble(final Object target) throws AccessingFieldValueFailedException {
+      return ((Number) get(target)).doubleValue();
+   }
+
+   /**
+    * Reads the value of a <code>byte</code>, <code>short</code>, <code>int</code> or <code>long</code> field.
+    *
+    * @param target the object to read the field value from, <code>null</code> for static fields
+    */
+   default long getLong(final Object target) throws AccessingFieldValueFailedException {
+      return ((Number) get(target)).longValue();
+   }
+}
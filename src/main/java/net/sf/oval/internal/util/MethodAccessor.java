@@ -0,0 +1,23 @@
+/*
+ * Copyright 2005-2021 by Sebastian Thomschke and contributors.
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package net.sf.oval.internal.util;
+
+import net.sf.oval.exception.ConstraintsViolatedException;
+import net.sf.oval.exception.InvokingMethodFailedException;
+
+/**
+ * Invokes a specific method.
+ *
+ * @author Sebastian Thomschke
+ */
+@FunctionalInterface
+public interface MethodAccessor {
+
+   /**
+    * @param target the object to invoke the method on, <code>null</code> for static methods
+    * @param args the method arguments
+    */
+   Object invoke(Object target, Object... args) throws InvokingMethodFailedException, ConstraintsViolatedException;
+}
@@ -0,0 +1,184 @@
+/*
+ * Copyright 2005-2021 by Sebastian Thomschke and contributors.
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package net.sf.oval.internal.util;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Immutable bound of a numeric constraint that can be compared exactly with integral, big and textual numbers.
+ *
+ * The bound is interpreted as the decimal number it was declared with, e.g. <code>0.1</code> and not the nearest binary floating point
+ * value. The decimal representation is computed once so comparisons of <code>long</code> values and numeric character sequences neither
+ * convert the value to <code>double</code> nor allocate objects. Floating point values are not handled, they are compared with
+ * {@link #value} directly.
+ *
+ * @author Sebastian Thomschke
+ */
+public final class NumericBound {
+
+   /**
+    * returned by the <code>compareTo</code> methods if the value cannot be compared exactly, e.g. because this bound is NaN or the value is
+    * not a plain decimal number
+    */
+   public static final int UNSUPPORTED = Integer.MIN_VALUE;
+
+   /**
+    * maximum number of significant digits of a parsed decimal number, ensures the unscaled value fits into a <code>long</code>
+    */
+   private static final int MAX_PARSED_DIGITS = 18;
+
+   /**
+    * Compares <code>unscaled1 * 10^-scale1</code> with <code>unscaled2 * 10^-scale2</code>.
+    */
+   private static int compareDecimals(final long unscaled1, final int scale1, final long unscaled2, final int scale2) {
+      if (scale1 < scale2)
+         return -compareDecimals(unscaled2, scale2, unscaled1, scale1);
+
+      long scaled2 = unscaled2;
+      for (int i = scale1 - scale2; i > 0; i--) {
+         // the magnitude of the second value exceeds any long, so its sign decides
+         if (scaled2 > Long.MAX_VALUE / 10 || scaled2 < -(Long.MAX_VALUE / 10))
+            return scaled2 > 0 ? -1 : 1;
+         scaled2 *= 10;
+      }
+      return Long.compare(unscaled1, scaled2);
+   }
+
+   public final double value;
+
+   /**
+    * the decimal value or null if the bound is infinite or NaN
+    */
+   private final BigDecimal decimalValue;
+   private final long unscaledValue;
+   private final int scale;
+
+   public NumericBound(final double value) {
+      this.value = value;
+      if (Double.isNaN(value) || Double.isInfinite(value)) {
+         decimalValue = null;
+         unscaledValue = 0;
+         scale = 0;
+      } else {
+         decimalValue = BigDecimal.valueOf(value);
+         final BigDecimal stripped = decimalValue.stripTrailingZeros();
+         // at most 17 significant digits
+         unscaledValue = stripped.unscaledValue().longValue();
+         scale = stripped.scale();
+      }
+   }
+
+   /**
+    * @return a negative number, zero or a positive number if the given value is less than, equal to or greater than this bound
+    */
+   public int compareTo(final BigDecimal value) {
+      if (decimalValue == null)
+         return compareToNonFinite();
+      return value.compareTo(decimalValue);
+   }
+
+   /**
+    * @return a negative number, zero or a positive number if the given value is less than, equal to or greater than this bound
+    */
+   public int compareTo(final BigInteger value) {
+      if (value.bitLength() < Long.SIZE)
+         return compareTo(value.longValue());
+      return compareTo(new BigDecimal(value));
+   }
+
+   /**
+    * Compares a plain decimal number, i.e. an optionally signed sequence of digits with an optional decimal point, surrounded by optional
+    * whitespace.
+    *
+    * @return a negative number, zero or a positive number if the given value is less than, equal to or greater than this bound, or
+    *         {@link #UNSUPPORTED} if the value is not a plain decimal number or has too many digits to be compared without allocations
+    */
+   public int compareTo(final CharSequence value) {
+      int start = 0;
+      int end = value.length();
+      while (start < end && value.charAt(start) <= ' ') {
+         start++;
+      }
+      while (end > start && value.charAt(end - 1) <= ' ') {
+         end--;
+      }
+      if (start == end)
+         return UNSUPPORTED;
+
+      boolean isNegative = false;
+      final char first = value.charAt(start);
+      if (first == '-' || first == '+') {
+         isNegative = first == '-';
+         start++;
+      }
+
+      long unscaled = 0;
+      int digits = 0;
+      int significantDigits = 0;
+      int fractionDigits = 0;
+      boolean hasDecimalPoint = false;
+      for (int i = start; i < end; i++) {
+         final char ch = value.charAt(i);
+         if (ch >= '0' && ch <= '9') {
+            digits++;
+            if (hasDecimalPoint) {
+               fractionDigits++;
+            }
+            if (unscaled == 0 && ch == '0') {
+               continue;
+            }
+            if (++significantDigits > MAX_PARSED_DIGITS)
+               return UNSUPPORTED;
+            unscaled = unscaled * 10 + ch - '0';
+         } else if (ch == '.' && !hasDecimalPoint) {
+            hasDecimalPoint = true;
+         } else
+            return UNSUPPORTED;
+      }
+      if (digits == 0)
+         return UNSUPPORTED;
+
+      if (decimalValue == null)
+         return compareToNonFinite();
+      return compareDecimals(isNegative ? -unscaled : unscaled, fractionDigits, unscaledValue, scale);
+   }
+
+   /**
+    * @return a negative number, zero or a positive number if the given value is less than, equal to or greater than this bound
+    */
+   public int compareTo(final long value) {
+      if (decimalValue == null)
+         return compareToNonFinite();
+      return compareDecimals(value, 0, unscaledValue, scale);
+   }
+
+   /**
+    * Compares integral numbers, {@link BigInteger}s, {@link BigDecimal}s and plain decimal character sequences exactly.
+    *
+    * @return a negative number, zero or a positive number if the given value is less than, equal to or greater than this bound, or
+    *         {@link #UNSUPPORTED} if the value is of another type, e.g. a floating point number
+    */
+   public int compareTo(final Object value) {
+      if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte //
+         || value instanceof AtomicInteger || value instanceof AtomicLong)
+         return compareTo(((Number) value).longValue());
+      if (value instanceof BigDecimal)
+         return compareTo((BigDecimal) value);
+      if (value instanceof BigInteger)
+         return compareTo((BigInteger) value);
+      if (value instanceof CharSequence)
+         return compareTo((CharSequence) value);
+      return UNSUPPORTED;
+   }
+
+   private int compareToNonFinite() {
+      if (Double.isNaN(value))
+         return UNSUPPORTED;
+      return value > 0 ? -1 : 1;
+   }
+}
@@ -38,6 +38,8 @@ public final class ReflectionUtils {
 
    private static final ReflectPermission SUPPRESS_ACCESS_CHECKS_PERMISSION = new ReflectPermission("suppressAccessChecks");
 
+   private static final Class<?>[] EMPTY_CLASS_ARRAY = {};
+
    public static void assertPrivateAccessAllowed() throws ReflectionException {
       final SecurityManager manager = System.getSecurityManager();
       if (manager != null) {
@@ -181,6 +183,30 @@ public final class ReflectionUtils {
       }
    }
 
+   /**
+    * @param field a field of a primitive numeric type
+    */
+   public static double getFieldValueAsDouble(final Field field, final Object target) throws AccessingFieldValueFailedException {
+      try {
+         setAccessible(field, true);
+         return field.getDouble(target);
+      } catch (final Exception ex) {
+         throw new AccessingFieldValueFailedException(field.getName(), target, ContextCache.getFieldContext(field), ex);
+      }
+   }
+
+   /**
+    * @param field a field of type <code>byte</code>, <code>short</code>, <code>int</code> or <code>long</code>
+    */
+   public static long getFieldValueAsLong(final Field field, final Object target) throws AccessingFieldValueFailedException {
+      try {
+         setAccessible(field, true);
+         return field.getLong(target);
+      } catch (final Exception ex) {
+         throw new AccessingFieldValueFailedException(field.getName(), target, ContextCache.getFieldContext(field), ex);
+      }
+   }
+
    public static Method getGetter(final Class<?> clazz, final String propertyName) {
       final String appendix = propertyName.substring(0, 1).toUpperCase(getLocaleProvider().getLocale()) + propertyName.substring(1);
       try {
@@ -231,6 +257,14 @@ public final class ReflectionUtils {
       return methods;
    }
 
+   /**
+    * @param clazz the class to inspect
+    * @return a set with all interfaces implemented by the class and its super classes
+    */
+   public static Set<Class<?>> getInterfacesRecursive(final Class<?> clazz) {
+      return getInterfacesRecursive(clazz, null, null);
+   }
+
    /**
     * @param clazz the class to inspect
     * @return a set with all implemented interfaces
@@ -362,6 +396,24 @@ public final class ReflectionUtils {
       return getSetterRecursive(superclazz, propertyName);
    }
 
+   /**
+    * @return the type arguments of the given generic type, elements are null if the type argument is not a class; an empty array if the
+    *         type is not parameterized
+    */
+   public static Class<?>[] getTypeArguments(final Type genericType) {
+      if (genericType instanceof ParameterizedType) {
+         final Type[] typeArgs = ((ParameterizedType) genericType).getActualTypeArguments();
+         final Class<?>[] classes = new Class<?>[typeArgs.length];
+         for (int i = 0; i < typeArgs.length; i++) {
+            if (typeArgs[i] instanceof Class) {
+               classes[i] = (Class<?>) typeArgs[i];
+            }
+         }
+         return classes;
+      }
+      return EMPTY_CLASS_ARRAY;
+   }
+
    public static Class<?> getTypeArgument(final Field field, final int typeIndex) {
       final Type genericType = field.getGenericType();
       if (genericType instanceof ParameterizedType) {
@@ -482,6 +534,13 @@ public final class ReflectionUtils {
       return method.getParameterTypes().length == 0 && (method.getName().startsWith("is") || method.getName().startsWith("get"));
    }
 
+   /**
+    * @return <code>true</code> if the given type is <code>byte</code>, <code>short</code>, <code>int</code> or <code>long</code>
+    */
+   public static boolean isIntegralPrimitive(final Class<?> type) {
+      return type == int.class || type == long.class || type == short.class || type == byte.class;
+   }
+
    public static boolean isPrivate(final Member member) {
       return (member.getModifiers() & Modifier.PRIVATE) != 0;
    }
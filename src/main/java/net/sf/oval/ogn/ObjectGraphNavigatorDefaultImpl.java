@@ -9,6 +9,7 @@ import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 
 import net.sf.oval.exception.InvalidConfigurationException;
+import net.sf.oval.internal.AccessorCache;
 import net.sf.oval.internal.util.Assert;
 import net.sf.oval.internal.util.ReflectionUtils;
 import net.sf.oval.internal.util.StringUtils;
@@ -42,10 +43,10 @@ public class ObjectGraphNavigatorDefaultImpl implements ObjectGraphNavigator {
                throw new InvalidConfigurationException("Invalid object navigation path from root object class [" + root.getClass().getName() + "] path: "
                   + path);
             targetAccessor = getter;
-            target = ReflectionUtils.invokeMethod(getter, parent);
+            target = AccessorCache.getMethodAccessor(getter).invoke(parent);
          } else {
             targetAccessor = field;
-            target = ReflectionUtils.getFieldValue(field, parent);
+            target = AccessorCache.getFieldAccessor(field).get(parent);
          }
       }
       return new ObjectGraphNavigationResult(root, path, parent, targetAccessor, target);
@@ -20,6 +20,11 @@ public class ObjectGraphNavigatorRegistry {
 
    private final Map<String, ObjectGraphNavigator> cache = new ConcurrentHashMap<>(2);
 
+   /**
+    * incremented on each registration, used to detect outdated compiled target paths
+    */
+   private volatile int version;
+
    private ObjectGraphNavigator _initializeDefaultOGN(final String id) {
       // JXPath support
       if ("jxpath".equals(id) && ReflectionUtils.isClassPresent("org.apache.commons.jxpath.JXPathContext"))
@@ -45,6 +50,13 @@ public class ObjectGraphNavigatorRegistry {
       return ogn;
    }
 
+   /**
+    * @return the number of navigator registrations performed so far
+    */
+   public int getVersion() {
+      return version;
+   }
+
    public ObjectGraphNavigator registerObjectGraphNavigator(final String id, final ObjectGraphNavigator ogn) throws IllegalArgumentException {
       Assert.argumentNotNull("id", id);
       Assert.argumentNotNull("ogn", ogn);
@@ -52,6 +64,7 @@ public class ObjectGraphNavigatorRegistry {
       LOG.info("Object Graph Navigator '{1}' registered: {2}", id, ogn);
 
       cache.put(id, ogn);
+      version++;
       return ogn;
    }
 }
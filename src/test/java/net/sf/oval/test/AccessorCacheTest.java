@@ -0,0 +1,236 @@
+/*
+ * Copyright 2005-2021 by Sebastian Thomschke and contributors.
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package net.sf.oval.test;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import net.sf.oval.ConstraintViolation;
+import net.sf.oval.Validator;
+import net.sf.oval.constraint.NotNull;
+import net.sf.oval.constraint.NotNullCheck;
+import net.sf.oval.context.MethodReturnValueContext;
+import net.sf.oval.context.OValContext;
+import net.sf.oval.exception.AccessingFieldValueFailedException;
+import net.sf.oval.exception.ConstraintsViolatedException;
+import net.sf.oval.exception.InvokingMethodFailedException;
+import net.sf.oval.internal.AccessorCache;
+import net.sf.oval.internal.util.AccessorFactory;
+import net.sf.oval.internal.util.AccessorFactoryMethodHandleImpl;
+import net.sf.oval.internal.util.AccessorFactoryReflectionImpl;
+import net.sf.oval.internal.util.FieldAccessor;
+import net.sf.oval.internal.util.MethodAccessor;
+
+/**
+ * @author Sebastian Thomschke
+ */
+public class AccessorCacheTest {
+
+   protected static class Base {
+      private String name = "base";
+   }
+
+   protected static class Entity extends Base {
+      private static String staticName = "static";
+
+      private static String getStaticName() {
+         return staticName;
+      }
+
+      @NotNull(message = "LABEL_NULL")
+      private String label;
+
+      private int count = 3;
+      private long id = 12345678901L;
+      private double ratio = 0.5;
+      private float weight = 1.5f;
+      private boolean flag = true;
+
+      private String concat(final String prefix, final int number) {
+         return prefix + number;
+      }
+
+      private String getLabel() {
+         return label;
+      }
+
+      private String fail() {
+         throw new IllegalStateException("FAILED");
+      }
+
+      private String violate() throws NoSuchMethodException {
+         final OValContext context = new MethodReturnValueContext(Entity.class.getDeclaredMethod("violate"));
+         throw new ConstraintsViolatedException(new ConstraintViolation(new NotNullCheck(), "VIOLATED", this, null, Collections.singletonList(context)));
+      }
+   }
+
+   private static final AccessorFactory[] FACTORIES = {AccessorFactoryMethodHandleImpl.INSTANCE, AccessorFactoryReflectionImpl.INSTANCE};
+
+   @Test
+   public void testFieldAccessors() throws Exception {
+      final Entity entity = new Entity();
+      entity.label = "label";
+
+      for (final AccessorFactory factory : FACTORIES) {
+         assertThat(factory.createFieldAccessor(Entity.class.getDeclaredField("label")).get(entity)).isEqualTo("label");
+         assertThat(factory.createFieldAccessor(Base.class.getDeclaredField("name")).get(entity)).isEqualTo("base");
+         assertThat(factory.createFieldAccessor(Entity.class.getDeclaredField("staticName")).get(null)).isEqualTo("static");
+         assertThat(factory.createFieldAccessor(Entity.class.getDeclaredField("flag")).get(entity)).isEqualTo(true);
+
+         final FieldAccessor count = factory.createFieldAccessor(Entity.class.getDeclaredField("count"));
+         assertThat(count.get(entity)).isEqualTo(3);
+         assertThat(count.getLong(entity)).isEqualTo(3L);
+         assertThat(count.getDouble(entity)).isEqualTo(3.0);
+
+         final FieldAccessor id = factory.createFieldAccessor(Entity.class.getDeclaredField("id"));
+         assertThat(id.get(entity)).isEqualTo(12345678901L);
+         assertThat(id.getLong(entity)).isEqualTo(12345678901L);
+
+         final FieldAccessor ratio = factory.createFieldAccessor(Entity.class.getDeclaredField("ratio"));
+         assertThat(ratio.get(entity)).isEqualTo(0.5);
+         assertThat(ratio.getDouble(entity)).isEqualTo(0.5);
+
+         final FieldAccessor weight = factory.createFieldAccessor(Entity.class.getDeclaredField("weight"));
+         assertThat(weight.get(entity)).isEqualTo(1.5f);
+         assertThat(weight.getDouble(entity)).isEqualTo(1.5);
+
+         // reading a field of an object of the wrong type
+         try {
+            count.get("not an entity");
+            failBecauseExceptionWasNotThrown(AccessingFieldValueFailedException.class);
+         } catch (final AccessingFieldValueFailedException ex) {
+            // expected
+         }
+      }
+   }
+
+   @Test
+   public void testMethodAccessors() throws Exception {
+      final Entity entity = new Entity();
+      entity.label = "label";
+
+      for (final AccessorFactory factory : FACTORIES) {
+         assertThat(factory.createMethodAccessor(Entity.class.getDeclaredMethod("getLabel")).invoke(entity)).isEqualTo("label");
+         assertThat(factory.createMethodAccessor(Entity.class.getDeclaredMethod("getStaticName")).invoke(null)).isEqualTo("static");
+         assertThat(factory.createMethodAccessor(Entity.class.getDeclaredMethod("concat", String.class, int.class)).invoke(entity, "abc", 1)).isEqualTo(
+            "abc1");
+
+         // exceptions thrown by the method are wrapped
+         try {
+            factory.createMethodAccessor(Entity.class.getDeclaredMethod("fail")).invoke(entity);
+            failBecauseExceptionWasNotThrown(InvokingMethodFailedException.class);
+         } catch (final InvokingMethodFailedException ex) {
+            // the reflective accessor reports the InvocationTargetException
+            Throwable cause = ex.getCause();
+            while (cause.getCause() != null) {
+               cause = cause.getCause();
+            }
+            assertThat(cause.getMessage()).isEqualTo("FAILED");
+         }
+
+         // constraint violations are propagated as is
+         try {
+            factory.createMethodAccessor(Entity.class.getDeclaredMethod("violate")).invoke(entity);
+            failBecauseExceptionWasNotThrown(ConstraintsViolatedException.class);
+         } catch (final ConstraintsViolatedException ex) {
+            assertThat(ex.getMessage()).isEqualTo("VIOLATED");
+         }
+      }
+   }
+
+   /**
+    * members that cannot be unreflected into method handles are accessed via reflection
+    */
+   @Test
+   public void testFallbackToReflection() throws Exception {
+      final List<String> list = new ArrayList<>(Arrays.asList("a", "b"));
+      final Field field = ArrayList.class.getDeclaredField("size");
+
+      // creating the accessor of a strongly encapsulated JDK member must not fail
+      final FieldAccessor accessor = AccessorFactoryMethodHandleImpl.INSTANCE.createFieldAccessor(field);
+      try {
+         assertThat(accessor.get(list)).isEqualTo(2);
+      } catch (final AccessingFieldValueFailedException ex) {
+         // the member is not accessible on this JVM, so the reflective accessor is used which reports the failure on access
+         assertThat(accessor.getClass().getName().startsWith(AccessorFactoryReflectionImpl.class.getName())).isTrue();
+      }
+   }
+
+   @Test
+   public void testAccessorsAreCached() throws Exception {
+      final Field field = Entity.class.getDeclaredField("label");
+      final Method method = Entity.class.getDeclaredMethod("getLabel");
+
+      assertThat(AccessorCache.getFieldAccessor(field)).isSameAs(AccessorCache.getFieldAccessor(field));
+      assertThat(AccessorCache.getMethodAccessor(method)).isSameAs(AccessorCache.getMethodAccessor(method));
+   }
+
+   @Test
+   public void testSetAccessorFactory() throws Exception {
+      final AccessorFactory accessorFactory = AccessorCache.getAccessorFactory();
+      assertThat(accessorFactory).isSameAs(AccessorFactoryMethodHandleImpl.INSTANCE);
+
+      final Field field = Entity.class.getDeclaredField("label");
+      final FieldAccessor cachedAccessor = AccessorCache.getFieldAccessor(field);
+
+      try {
+         final AtomicInteger createdFieldAccessors = new AtomicInteger();
+         final AtomicInteger fieldReads = new AtomicInteger();
+         final AccessorFactory countingFactory = new AccessorFactory() {
+            @Override
+            public FieldAccessor createFieldAccessor(final Field f) {
+               createdFieldAccessors.incrementAndGet();
+               final FieldAccessor accessor = AccessorFactoryReflectionImpl.INSTANCE.createFieldAccessor(f);
+               return target -> {
+                  fieldReads.incrementAndGet();
+                  return accessor.get(target);
+               };
+            }
+
+            @Override
+            public MethodAccessor createMethodAccessor(final Method method) {
+               return AccessorFactoryReflectionImpl.INSTANCE.createMethodAccessor(method);
+            }
+         };
+         AccessorCache.setAccessorFactory(countingFactory);
+         assertThat(AccessorCache.getAccessorFactory()).isSameAs(countingFactory);
+
+         // the previously cached accessors are discarded
+         assertThat(AccessorCache.getFieldAccessor(field) == cachedAccessor).isFalse();
+         assertThat(createdFieldAccessors.get()).isEqualTo(1);
+
+         // the validator reads the field values through the registered factory's accessors
+         fieldReads.set(0);
+         final Validator validator = new Validator();
+         final Entity entity = new Entity();
+         assertThat(validator.validate(entity)).hasSize(1);
+         assertThat(fieldReads.get()).isEqualTo(1);
+         assertThat(createdFieldAccessors.get()).isEqualTo(1);
+
+         entity.label = "label";
+         assertThat(validator.validate(entity)).isEmpty();
+         assertThat(fieldReads.get()).isEqualTo(2);
+
+         try {
+            AccessorCache.setAccessorFactory(null);
+            failBecauseExceptionWasNotThrown(IllegalArgumentException.class);
+         } catch (final IllegalArgumentException ex) {
+            // expected
+         }
+         assertThat(AccessorCache.getAccessorFactory()).isSameAs(countingFactory);
+      } finally {
+         AccessorCache.setAccessorFactory(accessorFactory);
+      }
+   }
+}
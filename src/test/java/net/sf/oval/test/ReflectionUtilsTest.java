@@ -9,9 +9,11 @@ import static org.assertj.core.api.Assertions.*;
 import java.lang.reflect.Method;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 import org.junit.Test;
 
+import net.sf.oval.context.FieldContext;
 import net.sf.oval.internal.util.ReflectionUtils;
 
 /**
@@ -56,10 +58,30 @@ public class ReflectionUtilsTest {
       assertThat(methods.isEmpty()).isTrue();
    }
 
+   @Test
+   public void testGetTypeArguments() throws NoSuchFieldException {
+      assertThat(ReflectionUtils.getTypeArguments(Generics.class.getDeclaredField("map").getGenericType())).containsExactly(String.class,
+         Integer.class);
+      assertThat(ReflectionUtils.getTypeArguments(Generics.class.getDeclaredField("nested").getGenericType())).containsExactly((Class<?>) null);
+      assertThat(ReflectionUtils.getTypeArguments(Generics.class.getDeclaredField("raw").getGenericType())).isEmpty();
+
+      final FieldContext ctx = new FieldContext(Generics.class.getDeclaredField("map"));
+      assertThat(ctx.getTypeArgument(0)).isEqualTo(String.class);
+      assertThat(ctx.getTypeArgument(1)).isEqualTo(Integer.class);
+      assertThat(ctx.getTypeArgument(2)).isNull();
+   }
+
    interface Interface {
       void doIt();
    }
 
+   static class Generics {
+      Map<String, Integer> map;
+      List<List<String>> nested;
+      @SuppressWarnings("rawtypes")
+      List raw;
+   }
+
    static class Implementation implements Interface {
       @Override
       public void doIt() {
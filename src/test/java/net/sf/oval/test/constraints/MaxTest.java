@@ -60,4 +60,38 @@ public class MaxTest extends AbstractContraintsTest {
       assertThat(check.isSatisfied(null, "", null)).isFalse();
       assertThat(check.isSatisfied(null, "sdfQ", null)).isFalse();
    }
+
+   @Test
+   public void testMaxExactComparison() {
+      final MaxCheck check = new MaxCheck();
+
+      // 2^53, the next larger long value cannot be represented as double
+      check.setMax(9007199254740992.0);
+      assertThat(check.isSatisfied(null, 9007199254740992L, null)).isTrue();
+      assertThat(check.isSatisfied(9007199254740992L)).isTrue();
+      assertThat(check.isSatisfied(null, 9007199254740993L, null)).isFalse();
+      assertThat(check.isSatisfied(9007199254740993L)).isFalse();
+      assertThat(check.isSatisfied(null, BigInteger.valueOf(9007199254740993L), null)).isFalse();
+      assertThat(check.isSatisfied(null, "9007199254740993", null)).isFalse();
+      assertThat(check.isSatisfied(null, new StringBuilder("9007199254740992.0"), null)).isTrue();
+
+      // bounds are interpreted as the declared decimal number
+      check.setMax(0.3);
+      assertThat(check.isSatisfied(null, new BigDecimal("0.3"), null)).isTrue();
+      assertThat(check.isSatisfied(null, new BigDecimal("0.30000000000000001"), null)).isFalse();
+      assertThat(check.isSatisfied(null, " 0.30 ", null)).isTrue();
+      assertThat(check.isSatisfied(null, "0.30000000000000001", null)).isFalse();
+      assertThat(check.isSatisfied(null, "-0.31", null)).isTrue();
+      assertThat(check.isSatisfied(null, "3e-1", null)).isTrue();
+      assertThat(check.isSatisfied(null, new BigInteger("100000000000000000000"), null)).isFalse();
+
+      check.setInclusive(false);
+      assertThat(check.isSatisfied(null, "0.3", null)).isFalse();
+      assertThat(check.isSatisfied(null, "0.29999999999999999", null)).isTrue();
+      assertThat(check.isSatisfied(null, 0L, null)).isTrue();
+
+      check.setMax(Double.POSITIVE_INFINITY);
+      assertThat(check.isSatisfied(null, Long.MAX_VALUE, null)).isTrue();
+      assertThat(check.isSatisfied(null, new BigDecimal("1E400"), null)).isTrue();
+   }
 }
@@ -6,6 +6,8 @@ package net.sf.oval.test.constraints;
 
 import static org.assertj.core.api.Assertions.*;
 
+import java.math.BigDecimal;
+
 import org.junit.Test;
 
 import net.sf.oval.constraint.RangeCheck;
@@ -33,4 +35,23 @@ public class RangeTest extends AbstractContraintsTest {
       assertThat(check.isSatisfied(null, "16", null)).isFalse();
       assertThat(check.isSatisfied(null, "2", null)).isFalse();
    }
+
+   @Test
+   public void testRangeExactComparison() {
+      final RangeCheck check = new RangeCheck();
+      check.setMin(-9007199254740992.0);
+      check.setMax(0.01);
+
+      assertThat(check.isSatisfied(null, -9007199254740992L, null)).isTrue();
+      assertThat(check.isSatisfied(null, -9007199254740993L, null)).isFalse();
+      assertThat(check.isSatisfied(-9007199254740993L)).isFalse();
+      assertThat(check.isSatisfied(null, Long.MIN_VALUE, null)).isFalse();
+      assertThat(check.isSatisfied(null, new BigDecimal("0.01"), null)).isTrue();
+      assertThat(check.isSatisfied(null, new BigDecimal("0.0100000000000000001"), null)).isFalse();
+      assertThat(check.isSatisfied(null, "0.010", null)).isTrue();
+      assertThat(check.isSatisfied(null, "+.005", null)).isTrue();
+      assertThat(check.isSatisfied(null, "0.0100000000000000001", null)).isFalse();
+      assertThat(check.isSatisfied(null, "-", null)).isFalse();
+      assertThat(check.isSatisfied(null, "1.2.3", null)).isFalse();
+   }
 }
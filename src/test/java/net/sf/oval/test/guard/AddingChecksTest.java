@@ -20,6 +20,8 @@ import net.sf.oval.context.MethodParameterContext;
 import net.sf.oval.exception.ConstraintsViolatedException;
 import net.sf.oval.guard.Guard;
 import net.sf.oval.guard.Guarded;
+import net.sf.oval.guard.PostCheck;
+import net.sf.oval.guard.PreCheck;
 
 /**
  * @author Sebastian Thomschke
@@ -174,4 +176,68 @@ public class AddingChecksTest {
          entity.setName(null);
       }
    }
+
+   /**
+    * programmatically added and removed method checks must be reflected by the getters and the guarded invocations
+    */
+   @Test
+   public void testAddAndRemoveMethodChecks() throws Exception {
+      final Guard guard = TestGuardAspect.aspectOf().getGuard();
+
+      final Method setter = TestEntity3.class.getDeclaredMethod("setName", String.class);
+      final NotNullCheck notNullCheck = new NotNullCheck();
+      notNullCheck.setMessage("NOT_NULL");
+      final PreCheck preCheck = new PreCheck();
+      preCheck.setLang("groovy");
+      preCheck.setExpr("_args[0] != null");
+      preCheck.setMessage("PRE");
+      final PostCheck postCheck = new PostCheck();
+      postCheck.setLang("groovy");
+      postCheck.setExpr("_args[0] != null");
+      postCheck.setMessage("POST");
+
+      assertThat(guard.getChecks(setter, 0)).isEmpty();
+      assertThat(guard.getChecksPre(setter)).isEmpty();
+      assertThat(guard.getChecksPost(setter)).isEmpty();
+
+      guard.addChecks(setter, 0, notNullCheck);
+      guard.addChecks(setter, preCheck);
+      guard.addChecks(setter, postCheck);
+
+      assertThat(guard.getChecks(setter, 0)).containsExactly(notNullCheck);
+      assertThat(guard.getChecksPre(setter)).containsExactly(preCheck);
+      assertThat(guard.getChecksPost(setter)).containsExactly(postCheck);
+
+      final TestEntity3 entity = new TestEntity3("blabla");
+      try {
+         entity.setName(null);
+         failBecauseExceptionWasNotThrown(ConstraintsViolatedException.class);
+      } catch (final ConstraintsViolatedException e) {
+         assertThat(e.getConstraintViolations()[0].getMessage()).isEqualTo("NOT_NULL");
+      }
+
+      // the pre condition is evaluated once the parameter check is removed
+      guard.removeChecks(setter, 0, notNullCheck);
+      assertThat(guard.getChecks(setter, 0)).isEmpty();
+      try {
+         entity.setName(null);
+         failBecauseExceptionWasNotThrown(ConstraintsViolatedException.class);
+      } catch (final ConstraintsViolatedException e) {
+         assertThat(e.getConstraintViolations()[0].getMessage()).isEqualTo("PRE");
+      }
+
+      // the post condition is evaluated once the pre condition is removed
+      guard.removeChecks(setter, preCheck);
+      assertThat(guard.getChecksPre(setter)).isEmpty();
+      try {
+         entity.setName(null);
+         failBecauseExceptionWasNotThrown(ConstraintsViolatedException.class);
+      } catch (final ConstraintsViolatedException e) {
+         assertThat(e.getConstraintViolations()[0].getMessage()).isEqualTo("POST");
+      }
+
+      guard.removeChecks(setter, postCheck);
+      assertThat(guard.getChecksPost(setter)).isEmpty();
+      entity.setName(null);
+   }
 }
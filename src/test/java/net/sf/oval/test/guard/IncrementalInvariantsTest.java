@@ -0,0 +1,156 @@
+/*
+ * Copyright 2005-2021 by Sebastian Thomschke and contributors.
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package net.sf.oval.test.guard;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import net.sf.oval.ConstraintViolation;
+import net.sf.oval.Validator;
+import net.sf.oval.configuration.annotation.IsInvariant;
+import net.sf.oval.constraint.CheckWith;
+import net.sf.oval.constraint.CheckWithCheck.SimpleCheck;
+import net.sf.oval.constraint.NotNull;
+import net.sf.oval.context.OValContext;
+import net.sf.oval.exception.ConstraintsViolatedException;
+import net.sf.oval.guard.Guard;
+import net.sf.oval.guard.Guarded;
+
+/**
+ * @author Sebastian Thomschke
+ */
+public class IncrementalInvariantsTest {
+
+   protected static final AtomicInteger NAME_CHECKS = new AtomicInteger();
+   protected static final AtomicInteger CITY_CHECKS = new AtomicInteger();
+   protected static final AtomicInteger ZIP_CHECKS = new AtomicInteger();
+
+   protected static class CountingCheck implements SimpleCheck {
+      private static final long serialVersionUID = 1L;
+
+      @Override
+      public boolean isSatisfied(final Object validatedObject, final Object value, final OValContext context, final Validator validator) {
+         (value == ((TestEntity) validatedObject).name ? NAME_CHECKS : CITY_CHECKS).incrementAndGet();
+         return value != null;
+      }
+   }
+
+   protected static class ZipCheck implements SimpleCheck {
+      private static final long serialVersionUID = 1L;
+
+      @Override
+      public boolean isSatisfied(final Object validatedObject, final Object value, final OValContext context, final Validator validator) {
+         ZIP_CHECKS.incrementAndGet();
+         final String zip = ((TestEntity) validatedObject).zip;
+         return zip == null || zip.chars().allMatch(Character::isDigit);
+      }
+   }
+
+   @Guarded
+   @CheckWith(value = ZipCheck.class, dependsOn = "zip", message = "ZIP_INVALID")
+   public static class TestEntity {
+
+      @CheckWith(value = CountingCheck.class, ignoreIfNull = false, message = "NAME_NULL")
+      private String name = "name";
+
+      @CheckWith(value = CountingCheck.class, ignoreIfNull = false, message = "CITY_NULL")
+      private String city = "city";
+
+      private String zip = "12345";
+
+      @IsInvariant(dependsOn = {"city", "zip"})
+      @NotNull(message = "ADDRESS_NULL")
+      public String getAddress() {
+         return zip == null ? null : zip + " " + city;
+      }
+
+      public void setCity(final String city) {
+         this.city = city;
+      }
+
+      public void setName(final String name) {
+         this.name = name;
+      }
+
+      public void setZip(final String zip) {
+         this.zip = zip;
+      }
+   }
+
+   @Test
+   public void testIncrementalInvariants() {
+      final Guard guard = new Guard();
+      TestGuardAspect.aspectOf().setGuard(guard);
+      assertThat(guard.isIncrementalInvariantsEnabled()).isFalse();
+
+      final TestEntity entity = new TestEntity();
+      NAME_CHECKS.set(0);
+      CITY_CHECKS.set(0);
+      entity.setName("other");
+      // checked prior and after the setter call
+      assertThat(NAME_CHECKS.get()).isEqualTo(2);
+      assertThat(CITY_CHECKS.get()).isEqualTo(2);
+
+      guard.setIncrementalInvariantsEnabled(true);
+      NAME_CHECKS.set(0);
+      CITY_CHECKS.set(0);
+      ZIP_CHECKS.set(0);
+      entity.setName("name");
+      // checked prior to the setter call, after the call only the constraints of the modified field and its dependents are checked
+      assertThat(NAME_CHECKS.get()).isEqualTo(2);
+      assertThat(CITY_CHECKS.get()).isEqualTo(1);
+      assertThat(ZIP_CHECKS.get()).isEqualTo(1);
+
+      ZIP_CHECKS.set(0);
+      entity.setZip("54321");
+      // object level constraints depending on the modified field are checked
+      assertThat(ZIP_CHECKS.get()).isEqualTo(2);
+      try {
+         entity.setZip("12a45");
+         failBecauseExceptionWasNotThrown(ConstraintsViolatedException.class);
+      } catch (final ConstraintsViolatedException ex) {
+         final ConstraintViolation[] violations = ex.getConstraintViolations();
+         assertThat(violations).hasSize(1);
+         assertThat(violations[0].getMessage()).isEqualTo("ZIP_INVALID");
+      }
+      entity.zip = "12345";
+
+      try {
+         entity.setName(null);
+         failBecauseExceptionWasNotThrown(ConstraintsViolatedException.class);
+      } catch (final ConstraintsViolatedException ex) {
+         final ConstraintViolation[] violations = ex.getConstraintViolations();
+         assertThat(violations).hasSize(1);
+         assertThat(violations[0].getMessage()).isEqualTo("NAME_NULL");
+      }
+      entity.name = "name";
+
+      // invariant getters depending on the modified field are checked
+      try {
+         entity.setZip(null);
+         failBecauseExceptionWasNotThrown(ConstraintsViolatedException.class);
+      } catch (final ConstraintsViolatedException ex) {
+         final ConstraintViolation[] violations = ex.getConstraintViolations();
+         assertThat(violations).hasSize(1);
+         assertThat(violations[0].getMessage()).isEqualTo("ADDRESS_NULL");
+      }
+      entity.zip = "12345";
+
+      // fields modified without a guarded method are detected by the full check prior to the next call
+      entity.city = null;
+      try {
+         entity.setName("other");
+         failBecauseExceptionWasNotThrown(ConstraintsViolatedException.class);
+      } catch (final ConstraintsViolatedException ex) {
+         final ConstraintViolation[] violations = ex.getConstraintViolations();
+         assertThat(violations).hasSize(1);
+         assertThat(violations[0].getMessage()).isEqualTo("CITY_NULL");
+      }
+      guard.setIncrementalInvariantsEnabled(false);
+   }
+}
@@ -8,13 +8,26 @@ import static org.assertj.core.api.Assertions.*;
 
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
 
 import org.junit.Test;
 
+import net.sf.oval.Check;
+import net.sf.oval.ConstraintSet;
+import net.sf.oval.ConstraintTarget;
 import net.sf.oval.ConstraintViolation;
 import net.sf.oval.Validator;
+import net.sf.oval.configuration.annotation.AnnotationsConfigurer;
+import net.sf.oval.configuration.pojo.POJOConfigurer;
+import net.sf.oval.configuration.pojo.elements.ConstraintSetConfiguration;
+import net.sf.oval.constraint.AssertConstraintSet;
+import net.sf.oval.constraint.Min;
+import net.sf.oval.constraint.NotNull;
 import net.sf.oval.constraint.NotNullCheck;
+import net.sf.oval.context.OValContext;
 import net.sf.oval.exception.InvalidConfigurationException;
 
 /**
@@ -34,6 +47,23 @@ public class AddingChecksTest {
       }
    }
 
+   protected static class TestEntitySubclass extends TestEntity {
+      protected TestEntitySubclass(final String name) {
+         super(name);
+      }
+   }
+
+   protected static class ConstrainedEntity {
+      @NotNull
+      public String name = "name";
+
+      @Min(0)
+      public int age = 1;
+
+      @NotNull(appliesTo = {ConstraintTarget.CONTAINER, ConstraintTarget.VALUES})
+      public List<String> nickNames = Arrays.asList("a", "b");
+   }
+
    /**
     * programmatically add a NotNull constraint to the name field
     */
@@ -55,6 +85,25 @@ public class AddingChecksTest {
       assertThat(violations.get(0).getMessage()).isEqualTo("NOT_NULL");
    }
 
+   /**
+    * programmatically add a NotNull constraint to a field of the super class after the sub class has already been validated
+    */
+   @Test
+   public void testAddConstraintToSuperClassFieldAfterValidation() throws Exception {
+      final Validator validator = new Validator();
+
+      final TestEntitySubclass entity = new TestEntitySubclass(null);
+      assertThat(validator.validate(entity)).isEmpty();
+
+      final Field field = TestEntity.class.getDeclaredField("name");
+      final NotNullCheck notNullCheck = new NotNullCheck();
+      validator.addChecks(field, notNullCheck);
+      assertThat(validator.validate(entity)).hasSize(1);
+
+      validator.removeChecks(field, notNullCheck);
+      assertThat(validator.validate(entity)).isEmpty();
+   }
+
    /**
     * try to programmatically add a NotNull constraint to the void setter
     * this should fail since the method is not a getter
@@ -72,4 +121,94 @@ public class AddingChecksTest {
          // expected
       }
    }
+
+   @Test
+   public void testFreeze() throws Exception {
+      final Validator validator = new Validator();
+      final Field field = TestEntity.class.getDeclaredField("name");
+      final NotNullCheck notNullCheck = new NotNullCheck();
+      validator.addChecks(field, notNullCheck);
+      assertThat(validator.validate(new TestEntity(null))).hasSize(1);
+
+      validator.freeze();
+      assertThat(validator.isFrozen()).isTrue();
+
+      try {
+         validator.addChecks(field, new NotNullCheck());
+         failBecauseExceptionWasNotThrown(IllegalStateException.class);
+      } catch (final IllegalStateException ex) {
+         // expected
+      }
+      try {
+         validator.removeChecks(field, notNullCheck);
+         failBecauseExceptionWasNotThrown(IllegalStateException.class);
+      } catch (final IllegalStateException ex) {
+         // expected
+      }
+      try {
+         validator.reconfigureChecks();
+         failBecauseExceptionWasNotThrown(IllegalStateException.class);
+      } catch (final IllegalStateException ex) {
+         // expected
+      }
+
+      assertThat(validator.getChecks(field)).containsExactly(notNullCheck);
+      assertThat(validator.validate(new TestEntity(null))).hasSize(1);
+      assertThat(validator.validate(new TestEntitySubclass(null))).hasSize(1);
+
+      // classes configured after freezing are frozen too
+      try {
+         validator.addChecks(TestEntitySubclass.class, new NotNullCheck());
+         failBecauseExceptionWasNotThrown(IllegalStateException.class);
+      } catch (final IllegalStateException ex) {
+         // expected
+      }
+   }
+
+   protected static class ConstraintSetEntity {
+      @AssertConstraintSet(id = "name")
+      protected String name;
+   }
+
+   /**
+    * constraint sets provided by configurers are resolved lazily, also after freezing
+    */
+   @Test
+   public void testConstraintSetAfterFreeze() {
+      final ConstraintSetConfiguration csCfg = new ConstraintSetConfiguration();
+      csCfg.id = "name";
+      csCfg.checks = new ArrayList<>();
+      csCfg.checks.add(new NotNullCheck());
+      final POJOConfigurer pojoConfigurer = new POJOConfigurer();
+      pojoConfigurer.setConstraintSetConfigurations(new HashSet<>(Arrays.asList(csCfg)));
+
+      final Validator validator = new Validator(new AnnotationsConfigurer(), pojoConfigurer);
+      validator.freeze();
+      assertThat(validator.validate(new ConstraintSetEntity())).hasSize(1);
+
+      try {
+         validator.addConstraintSet(new ConstraintSet("other"), false);
+         failBecauseExceptionWasNotThrown(IllegalStateException.class);
+      } catch (final IllegalStateException ex) {
+         // expected
+      }
+   }
+
+   @Test
+   public void testCheckConstraintOverride() {
+      final List<Object> checkedValues = new ArrayList<>();
+      final Validator validator = new Validator() {
+         @Override
+         protected void checkConstraint(final Check check, final Object validatedObject, final Object valueToValidate, final OValContext context,
+            final InternalValidationCycle cycle, final boolean isContainerValue) {
+            checkedValues.add(valueToValidate);
+            super.checkConstraint(check, validatedObject, valueToValidate, context, cycle, isContainerValue);
+         }
+      };
+      final ConstrainedEntity entity = new ConstrainedEntity();
+      assertThat(validator.validate(entity)).isEmpty();
+
+      // all checks of the fields and of the list elements are evaluated via the overridden method
+      assertThat(checkedValues).containsExactly("name", 1, entity.nickNames, "a", "b");
+   }
 }
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2005-2021 by Sebastian Thomschke and contributors.
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package net.sf.oval.test.validator;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+import net.sf.oval.Check;
+import net.sf.oval.ConstraintSet;
+import net.sf.oval.ConstraintViolation;
+import net.sf.oval.Validator;
+import net.sf.oval.configuration.annotation.IsInvariant;
+import net.sf.oval.constraint.AssertConstraintSet;
+import net.sf.oval.constraint.AssertFieldConstraints;
+import net.sf.oval.constraint.LengthCheck;
+import net.sf.oval.constraint.NotNull;
+import net.sf.oval.constraint.NotNullCheck;
+import net.sf.oval.exception.UndefinedConstraintSetException;
+import net.sf.oval.exception.ValidationFailedException;
+
+/**
+ * Tests that references of {@link AssertConstraintSet} and {@link AssertFieldConstraints} follow reconfigurations of the validator.
+ *
+ * @author Sebastian Thomschke
+ */
+public class CheckReferencesTest {
+
+   protected static class Person {
+      @AssertConstraintSet(id = "zipCode")
+      public String zipCode;
+
+      @NotNull(message = "NAME_NULL")
+      private String name;
+
+      @IsInvariant
+      @AssertFieldConstraints
+      public String getName() {
+         return name;
+      }
+   }
+
+   @Test
+   public void testConstraintSetReference() {
+      final Validator validator = new Validator();
+      final Person person = new Person();
+      person.name = "name";
+
+      try {
+         validator.validate(person);
+         failBecauseExceptionWasNotThrown(ValidationFailedException.class);
+      } catch (final ValidationFailedException ex) {
+         assertThat(ex.getCause()).isInstanceOf(UndefinedConstraintSetException.class);
+      }
+
+      final ConstraintSet constraintSet = new ConstraintSet("zipCode");
+      final List<Check> checks = new ArrayList<>();
+      final NotNullCheck notNull = new NotNullCheck();
+      notNull.setMessage("ZIP_NULL");
+      checks.add(notNull);
+      constraintSet.setChecks(checks);
+      validator.addConstraintSet(constraintSet, false);
+
+      List<ConstraintViolation> violations = validator.validate(person);
+      assertThat(violations).hasSize(1);
+      assertThat(violations.get(0).getMessage()).isEqualTo("ZIP_NULL");
+
+      final ConstraintSet otherConstraintSet = new ConstraintSet("zipCode");
+      final LengthCheck length = new LengthCheck();
+      length.setMessage("ZIP_LENGTH");
+      length.setMax(5);
+      otherConstraintSet.setChecks(new ArrayList<>(Arrays.asList(length)));
+      validator.addConstraintSet(otherConstraintSet, true);
+
+      person.zipCode = "1234567";
+      violations = validator.validate(person);
+      assertThat(violations).hasSize(1);
+      assertThat(violations.get(0).getMessage()).isEqualTo("ZIP_LENGTH");
+
+      validator.removeConstraintSet("zipCode");
+      try {
+         validator.validate(person);
+         failBecauseExceptionWasNotThrown(ValidationFailedException.class);
+      } catch (final ValidationFailedException ex) {
+         assertThat(ex.getCause()).isInstanceOf(UndefinedConstraintSetException.class);
+      }
+   }
+
+   @Test
+   public void testFieldConstraintsReference() throws Exception {
+      final Validator validator = new Validator();
+      validator.addConstraintSet(new ConstraintSet("zipCode"), false);
+      final Person person = new Person();
+
+      List<ConstraintViolation> violations = validator.validate(person);
+      // violated by the field and the getter
+      assertThat(violations).hasSize(2);
+      assertThat(violations.get(0).getMessage()).isEqualTo("NAME_NULL");
+      assertThat(violations.get(1).getMessage()).isEqualTo("NAME_NULL");
+
+      // checks added to the field later are applied to the getter too
+      person.name = "Al";
+      final LengthCheck length = new LengthCheck();
+      length.setMessage("NAME_LENGTH");
+      length.setMin(3);
+      validator.addChecks(Person.class.getDeclaredField("name"), length);
+      violations = validator.validate(person);
+      assertThat(violations).hasSize(2);
+      assertThat(violations.get(0).getMessage()).isEqualTo("NAME_LENGTH");
+      assertThat(violations.get(1).getMessage()).isEqualTo("NAME_LENGTH");
+
+      validator.reconfigureChecks();
+      validator.addConstraintSet(new ConstraintSet("zipCode"), false);
+      assertThat(validator.validate(person)).isEmpty();
+   }
+}
@@ -10,6 +10,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 
@@ -23,7 +24,12 @@ import net.sf.oval.constraint.Length;
 import net.sf.oval.constraint.MaxSize;
 import net.sf.oval.constraint.Min;
 import net.sf.oval.constraint.MinSize;
+import net.sf.oval.constraint.NotNegative;
 import net.sf.oval.constraint.NotNull;
+import net.sf.oval.constraint.Range;
+import net.sf.oval.context.IterableElementContext;
+import net.sf.oval.context.MapValueContext;
+import net.sf.oval.context.OValContext;
 
 /**
  * @author Sebastian Thomschke
@@ -41,6 +47,25 @@ public class CollectionTest {
       String[] secondaryMembers;
    }
 
+   static class Registry {
+      @NotNull(appliesTo = ConstraintTarget.VALUES, message = "NOT_NULL")
+      List<String> names = new ArrayList<>();
+
+      @NotNull(appliesTo = {ConstraintTarget.KEYS, ConstraintTarget.VALUES}, message = "NOT_NULL")
+      Map<String, String> properties = new HashMap<>();
+   }
+
+   static class Measurements {
+      @Min(value = 0, message = "MIN")
+      int[] counts;
+
+      @Range(min = 0, max = 1, message = "RANGE")
+      double[] ratios;
+
+      @NotNegative(message = "NOT_NEGATIVE")
+      long[] totals;
+   }
+
    static class ListWithListNonRecursiveCheck {
       @NotNull(appliesTo = {ConstraintTarget.VALUES}, message = "NOT_NULL")
       final List<List<String>> list = new ArrayList<>();
@@ -232,4 +257,75 @@ public class CollectionTest {
       assertThat(VALIDATOR.validate(entity)).hasSize(1);
       entity.map.clear();
    }
+
+   private static OValContext lastContext(final ConstraintViolation violation) {
+      final List<OValContext> contextPath = violation.getContextPath();
+      return contextPath.get(contextPath.size() - 1);
+   }
+
+   /**
+    * element contexts are reused during iteration, the context paths of the reported violations must nevertheless be stable
+    */
+   @Test
+   public void testElementContextsOfViolations() {
+      final Registry registry = new Registry();
+      registry.names.addAll(Arrays.asList(null, "a", null, "b"));
+      registry.properties.put("key", null);
+
+      final List<ConstraintViolation> violations = VALIDATOR.validate(registry);
+      assertThat(violations).hasSize(3);
+
+      final OValContext first = lastContext(violations.get(0));
+      assertThat(first.getClass()).isEqualTo(IterableElementContext.class);
+      assertThat(((IterableElementContext) first).getElementIndex()).isEqualTo(0);
+      assertThat(violations.get(0).getContextPathAsString()).endsWith("names[0]");
+
+      final OValContext second = lastContext(violations.get(1));
+      assertThat(second.getClass()).isEqualTo(IterableElementContext.class);
+      assertThat(((IterableElementContext) second).getElementIndex()).isEqualTo(2);
+      assertThat(violations.get(1).getContextPathAsString()).endsWith("names[2]");
+
+      final OValContext third = lastContext(violations.get(2));
+      assertThat(third.getClass()).isEqualTo(MapValueContext.class);
+      assertThat(((MapValueContext) third).getKey()).isEqualTo("key");
+
+      // validating a linked list must report the same paths
+      registry.names = new LinkedList<>(registry.names);
+      registry.properties.clear();
+      final List<ConstraintViolation> linkedListViolations = VALIDATOR.validate(registry);
+      assertThat(linkedListViolations).hasSize(2);
+      assertThat(linkedListViolations.get(0).getContextPathAsString()).isEqualTo(violations.get(0).getContextPathAsString());
+      assertThat(linkedListViolations.get(1).getContextPathAsString()).isEqualTo(violations.get(1).getContextPathAsString());
+   }
+
+   @Test
+   public void testPrimitiveArrays() {
+      final Measurements measurements = new Measurements();
+      measurements.counts = new int[] {1, -1, 0, -5};
+      measurements.ratios = new double[] {0.5, 1.5};
+      measurements.totals = new long[] {Long.MIN_VALUE, 0};
+
+      final List<ConstraintViolation> violations = VALIDATOR.validate(measurements);
+      assertThat(violations).hasSize(4);
+
+      assertThat(violations.get(0).getMessage()).isEqualTo("MIN");
+      assertThat(violations.get(0).getInvalidValue()).isEqualTo(-1);
+      assertThat(violations.get(0).getContextPathAsString()).endsWith("counts[1]");
+      assertThat(violations.get(1).getInvalidValue()).isEqualTo(-5);
+      assertThat(violations.get(1).getContextPathAsString()).endsWith("counts[3]");
+
+      assertThat(violations.get(2).getMessage()).isEqualTo("RANGE");
+      assertThat(violations.get(2).getInvalidValue()).isEqualTo(1.5);
+      assertThat(violations.get(2).getContextPathAsString()).endsWith("ratios[1]");
+
+      assertThat(violations.get(3).getMessage()).isEqualTo("NOT_NEGATIVE");
+      assertThat(violations.get(3).getInvalidValue()).isEqualTo(Long.MIN_VALUE);
+      assertThat(lastContext(violations.get(3)).getClass()).isEqualTo(IterableElementContext.class);
+
+      assertThat(VALIDATOR.isValid(measurements)).isFalse();
+      measurements.counts = null;
+      measurements.ratios = new double[0];
+      measurements.totals = new long[] {0, Long.MAX_VALUE};
+      assertThat(VALIDATOR.isValid(measurements)).isTrue();
+   }
 }
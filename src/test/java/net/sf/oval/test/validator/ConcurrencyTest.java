@@ -6,12 +6,15 @@ package net.sf.oval.test.validator;
 
 import static org.assertj.core.api.Assertions.*;
 
+import java.lang.reflect.Field;
+
 import org.junit.Test;
 
 import net.sf.oval.Validator;
 import net.sf.oval.configuration.annotation.IsInvariant;
 import net.sf.oval.constraint.MaxLength;
 import net.sf.oval.constraint.NotNull;
+import net.sf.oval.constraint.NotNullCheck;
 
 /**
  * @author Sebastian Thomschke
@@ -97,4 +100,38 @@ public class ConcurrencyTest {
       thread2.join();
       assertThat(failed[0]).isFalse();
    }
+
+   /**
+    * adding and removing checks while other threads validate must neither fail nor expose partially modified configurations
+    */
+   @Test
+   public void testConcurrentModification() throws Exception {
+      final Validator validator = new Validator();
+      final Field field = TestEntity1.class.getField("name");
+      final boolean[] failed = {false};
+
+      final Thread validatingThread = new Thread(() -> {
+         try {
+            final TestEntity1 entity = new TestEntity1();
+            for (int i = 0; i < 2000; i++) {
+               // the annotated NotNull check is always present, each added check either completely exists or not
+               assertThat(validator.validate(entity).size()).isBetween(1, 3);
+            }
+         } catch (final RuntimeException | AssertionError ex) {
+            ex.printStackTrace();
+            failed[0] = true;
+         }
+      });
+      validatingThread.start();
+
+      for (int i = 0; i < 500; i++) {
+         final NotNullCheck check1 = new NotNullCheck();
+         final NotNullCheck check2 = new NotNullCheck();
+         validator.addChecks(field, check1, check2);
+         validator.removeChecks(field, check1, check2);
+      }
+      validatingThread.join();
+      assertThat(failed[0]).isFalse();
+      assertThat(validator.validate(new TestEntity1())).hasSize(1);
+   }
 }
@@ -0,0 +1,234 @@
+/*
+ * Copyright 2005-2021 by Sebastian Thomschke and contributors.
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package net.sf.oval.test.validator;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.junit.Test;
+
+import net.sf.oval.Check;
+import net.sf.oval.ConstraintSet;
+import net.sf.oval.ConstraintViolation;
+import net.sf.oval.Validator;
+import net.sf.oval.configuration.Configurer;
+import net.sf.oval.configuration.annotation.AnnotationsConfigurer;
+import net.sf.oval.configuration.annotation.IsInvariant;
+import net.sf.oval.configuration.pojo.elements.ClassConfiguration;
+import net.sf.oval.configuration.pojo.elements.ConstraintSetConfiguration;
+import net.sf.oval.constraint.AssertConstraintSet;
+import net.sf.oval.constraint.Length;
+import net.sf.oval.constraint.NotNull;
+import net.sf.oval.constraint.NotNullCheck;
+import net.sf.oval.internal.ConfigurationSnapshot;
+
+/**
+ * @author Sebastian Thomschke
+ */
+public class ConfigurationSnapshotTest {
+
+   protected static class Person {
+      @AssertConstraintSet(id = "zipCode")
+      public String zipCode;
+
+      @NotNull(message = "NAME_NULL")
+      @Length(min = 3, message = "NAME_LENGTH")
+      public String name;
+
+      @IsInvariant
+      @NotNull(message = "NICKNAME_NULL")
+      public String getNickName() {
+         return null;
+      }
+   }
+
+   protected interface Named {
+      @NotNull
+      String getNickName();
+   }
+
+   protected static class NamedPerson extends Person implements Named {
+   }
+
+   /**
+    * check with a state not allowed in snapshots
+    */
+   protected static class UrlCheck extends NotNullCheck {
+      private static final long serialVersionUID = 1L;
+
+      public URL url;
+   }
+
+   /**
+    * records the classes it is asked to configure
+    */
+   protected static class RecordingConfigurer implements Configurer {
+      final List<Class<?>> configuredClasses = new ArrayList<>();
+      final AnnotationsConfigurer delegate = new AnnotationsConfigurer();
+
+      @Override
+      public synchronized ClassConfiguration getClassConfiguration(final Class<?> clazz) {
+         configuredClasses.add(clazz);
+         return delegate.getClassConfiguration(clazz);
+      }
+
+      @Override
+      public ConstraintSetConfiguration getConstraintSetConfiguration(final String constraintSetId) {
+         return null;
+      }
+   }
+
+   private static byte[] createSnapshot() throws IOException {
+      final Validator validator = new Validator();
+      final ConstraintSet constraintSet = new ConstraintSet("zipCode");
+      final NotNullCheck notNull = new NotNullCheck();
+      notNull.setMessage("ZIP_NULL");
+      constraintSet.setChecks(new ArrayList<>(Arrays.<Check> asList(notNull)));
+      validator.addConstraintSet(constraintSet, false);
+
+      final ByteArrayOutputStream out = new ByteArrayOutputStream();
+      validator.writeConfigurationSnapshot(Arrays.asList(Person.class), out);
+      return out.toByteArray();
+   }
+
+   /**
+    * @return the hash of the byte code of the given class only
+    */
+   private static String sha256(final Class<?> clazz) throws Exception {
+      final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      try (InputStream in = clazz.getResourceAsStream(clazz.getName().substring(clazz.getName().lastIndexOf('.') + 1) + ".class")) {
+         digest.update(readAll(in));
+      }
+      final StringBuilder sb = new StringBuilder();
+      for (final byte b : digest.digest()) {
+         sb.append(String.format("%02x", b));
+      }
+      return sb.toString();
+   }
+
+   private static byte[] gunzip(final byte[] bytes) throws IOException {
+      try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(bytes))) {
+         return readAll(in);
+      }
+   }
+
+   private static byte[] readAll(final InputStream in) throws IOException {
+      final ByteArrayOutputStream out = new ByteArrayOutputStream();
+      final byte[] buffer = new byte[4096];
+      for (int read; (read = in.read(buffer)) != -1;) {
+         out.write(buffer, 0, read);
+      }
+      return out.toByteArray();
+   }
+
+   private static byte[] gzip(final byte[] bytes) throws IOException {
+      final ByteArrayOutputStream out = new ByteArrayOutputStream();
+      try (GZIPOutputStream zip = new GZIPOutputStream(out)) {
+         zip.write(bytes);
+      }
+      return out.toByteArray();
+   }
+
+   @Test
+   public void testLoadSnapshot() throws IOException {
+      final RecordingConfigurer configurer = new RecordingConfigurer();
+      final Validator validator = new Validator(configurer);
+      final List<Check> initializedChecks = new ArrayList<>();
+
+      assertThat(validator.loadConfigurationSnapshot(new ByteArrayInputStream(createSnapshot()), initializedChecks::add)).isEqualTo(1);
+      // NotNull, Length, AssertConstraintSet, NotNull of the getter and NotNull of the constraint set
+      assertThat(initializedChecks).hasSize(5);
+
+      final Person person = new Person();
+      person.name = "Al";
+      final List<ConstraintViolation> violations = validator.validate(person);
+      assertThat(violations).hasSize(3);
+      final List<String> messages = new ArrayList<>();
+      for (final ConstraintViolation violation : violations) {
+         messages.add(violation.getMessage());
+      }
+      assertThat(messages).containsOnly("NAME_LENGTH", "ZIP_NULL", "NICKNAME_NULL");
+      assertThat(configurer.configuredClasses.contains(Person.class)).isFalse();
+   }
+
+   @Test
+   public void testOutdatedSnapshot() throws IOException {
+      // simulate a modified class by replacing the byte code hash stored in the snapshot
+      final String classHash = ConfigurationSnapshot.getClassHash(Person.class);
+      assertThat(classHash).isNotNull();
+      final String snapshot = new String(gunzip(createSnapshot()), StandardCharsets.ISO_8859_1);
+      assertThat(snapshot).contains(classHash);
+      final byte[] outdatedSnapshot = gzip(snapshot.replace(classHash, classHash.replace(classHash.charAt(0), classHash.charAt(0) == '0' ? '1' : '0'))
+         .getBytes(StandardCharsets.ISO_8859_1));
+
+      final RecordingConfigurer configurer = new RecordingConfigurer();
+      final Validator validator = new Validator(configurer);
+      assertThat(validator.loadConfigurationSnapshot(new ByteArrayInputStream(outdatedSnapshot))).isEqualTo(0);
+
+      // the constraint set is still loaded, the class is configured by the configurer
+      final Person person = new Person();
+      person.name = "Al";
+      assertThat(validator.validate(person)).hasSize(3);
+      assertThat(configurer.configuredClasses).contains(Person.class);
+
+      try {
+         validator.loadConfigurationSnapshot(new ByteArrayInputStream(gzip("invalid".getBytes(StandardCharsets.ISO_8859_1))));
+         failBecauseExceptionWasNotThrown(IOException.class);
+      } catch (final IOException ex) {
+         assertThat(ex.getMessage()).isEqualTo("Not a configuration snapshot.");
+      }
+   }
+
+   @Test
+   public void testClassHashCoversInterfaces() throws Exception {
+      assertThat(ConfigurationSnapshot.getClassHash(Person.class)).isEqualTo(sha256(Person.class));
+      // changes of the interface must be detected
+      assertThat(ConfigurationSnapshot.getClassHash(NamedPerson.class)).isNotEqualTo(sha256(NamedPerson.class));
+   }
+
+   @Test
+   public void testDisallowedTypesAreNotDeserialized() throws Exception {
+      final Validator validator = new Validator();
+      final UrlCheck check = new UrlCheck();
+      check.url = new URL("http://localhost");
+      validator.addChecks(Person.class.getDeclaredField("name"), check);
+      validator.addConstraintSet(new ConstraintSet("zipCode"), false);
+      final ByteArrayOutputStream out = new ByteArrayOutputStream();
+      validator.writeConfigurationSnapshot(Arrays.asList(Person.class), out);
+
+      assertThat(new Validator().loadConfigurationSnapshot(new ByteArrayInputStream(out.toByteArray()))).isEqualTo(0);
+   }
+
+   @Test
+   public void testExistingConstraintSetIsKept() throws IOException {
+      final Validator validator = new Validator();
+      final ConstraintSet constraintSet = new ConstraintSet("zipCode");
+      final NotNullCheck notNull = new NotNullCheck();
+      notNull.setMessage("APP_ZIP_NULL");
+      constraintSet.setChecks(new ArrayList<>(Arrays.<Check> asList(notNull)));
+      validator.addConstraintSet(constraintSet, false);
+
+      assertThat(validator.loadConfigurationSnapshot(new ByteArrayInputStream(createSnapshot()))).isEqualTo(1);
+      assertThat(validator.getConstraintSet("zipCode")).isSameAs(constraintSet);
+
+      final Person person = new Person();
+      person.name = "Alice";
+      final List<ConstraintViolation> violations = validator.validate(person);
+      assertThat(violations).hasSize(2);
+      assertThat(violations.get(0).getMessage()).isEqualTo("APP_ZIP_NULL");
+   }
+}
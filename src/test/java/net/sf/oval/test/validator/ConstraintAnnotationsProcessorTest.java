@@ -0,0 +1,137 @@
+/*
+ * Copyright 2005-2021 by Sebastian Thomschke and contributors.
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package net.sf.oval.test.validator;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.File;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+
+import org.junit.Test;
+
+import net.sf.oval.ConstraintViolation;
+import net.sf.oval.Validator;
+import net.sf.oval.configuration.annotation.AnnotationsConfigurer;
+import net.sf.oval.configuration.annotation.ClassAnnotations;
+import net.sf.oval.configuration.annotation.processor.ConstraintAnnotationsProcessor;
+import net.sf.oval.configuration.pojo.elements.ClassConfiguration;
+import net.sf.oval.internal.ClassAnnotationsIndex;
+
+/**
+ * @author Sebastian Thomschke
+ */
+public class ConstraintAnnotationsProcessorTest {
+
+   private static final String SOURCE = "" //
+      + "package oval.processortest;\n" //
+      + "import java.util.*;\n" //
+      + "import net.sf.oval.constraint.*;\n" //
+      + "import net.sf.oval.configuration.annotation.IsInvariant;\n" //
+      + "public class Person implements Comparable<Person> {\n" //
+      + "   @NotNull(message = \"NAME_NULL\")\n" //
+      + "   @Length(min = 3, max = 10, message = \"NAME_LENGTH\")\n" //
+      + "   public String name = \"Al\";\n" //
+      + "   @Range(min = 0, max = 150, message = \"AGE_RANGE\")\n" //
+      + "   public int age = -1;\n" //
+      + "   @MatchPattern(pattern = {\"[0-9]+\", \"[a-z]+\"}, matchAll = false, message = \"ZIP_INVALID\")\n" //
+      + "   public String zip = \"AB-1\";\n" //
+      + "   @NotNull.List({@NotNull(message = \"CITY_NULL1\"), @NotNull(message = \"CITY_NULL2\", profiles = \"p\")})\n" //
+      + "   public String city;\n" //
+      + "   public List<@NotBlank(message = \"NICKNAME_BLANK\") String> nickNames = new ArrayList<>(Arrays.asList(\" \"));\n" //
+      + "   @IsInvariant\n" //
+      + "   @NotNull(message = \"TITLE_NULL\")\n" //
+      + "   public String getTitle() {\n" //
+      + "      return null;\n" //
+      + "   }\n" //
+      + "   @Override\n" //
+      + "   public int compareTo(@NotNull(message = \"OTHER_NULL\") Person other) {\n" //
+      + "      return 0;\n" //
+      + "   }\n" //
+      + "}\n";
+
+   private static List<String> describe(final ClassConfiguration classCfg) {
+      return classCfg.methodConfigurations.stream() //
+         .map(mc -> mc.name + mc.parameterConfigurations.stream() //
+            .map(pc -> pc.type.getSimpleName() + (pc.hasChecks() ? "!" : "")) //
+            .collect(Collectors.toList())) //
+         .sorted() //
+         .collect(Collectors.toList());
+   }
+
+   private static List<String> describe(final List<ConstraintViolation> violations) {
+      return violations.stream() //
+         .map(v -> v.getMessage() + "@" + v.getContextPathAsString()) //
+         .collect(Collectors.toList());
+   }
+
+   @Test
+   public void testGeneratedClassAnnotations() throws Exception {
+      final Path dir = Files.createTempDirectory("oval-processor-test");
+      final Path srcFile = dir.resolve("oval/processortest/Person.java");
+      Files.createDirectories(srcFile.getParent());
+      Files.write(srcFile, SOURCE.getBytes(StandardCharsets.UTF_8));
+
+      final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+      final int result = compiler.run(null, null, null, //
+         "-classpath", System.getProperty("java.class.path"), //
+         "-processor", ConstraintAnnotationsProcessor.class.getName(), //
+         "-d", dir.toString(), //
+         "-s", dir.toString(), //
+         srcFile.toString());
+      assertThat(result).isEqualTo(0);
+      assertThat(new File(dir.toFile(), ClassAnnotationsIndex.INDEX_RESOURCE).exists()).isTrue();
+
+      try (URLClassLoader cl = new URLClassLoader(new URL[] {dir.toUri().toURL()}, getClass().getClassLoader())) {
+         final Class<?> personClass = cl.loadClass("oval.processortest.Person");
+
+         final ClassAnnotations classAnnotations = ClassAnnotationsIndex.getClassAnnotations(personClass);
+         assertThat(classAnnotations).isNotNull();
+         assertThat(classAnnotations.type).isEqualTo(personClass);
+         assertThat(classAnnotations.fields).hasSize(5);
+
+         final Object person = personClass.newInstance();
+
+         final AnnotationsConfigurer indexConfigurer = new AnnotationsConfigurer();
+         indexConfigurer.setClassAnnotationsIndexEnabled(true);
+         final AnnotationsConfigurer reflectionConfigurer = new AnnotationsConfigurer();
+         assertThat(reflectionConfigurer.isClassAnnotationsIndexEnabled()).isFalse();
+
+         final List<String> viaIndex = describe(new Validator(indexConfigurer).validate(person));
+         final List<String> viaReflection = describe(new Validator(reflectionConfigurer).validate(person));
+
+         assertThat(viaIndex).hasSize(7);
+         assertThat(viaIndex).isEqualTo(viaReflection);
+
+         // the parameter checks of the synthetic bridge method compareTo(Object) must not get lost
+         final List<String> methodsViaIndex = describe(indexConfigurer.getClassConfiguration(personClass));
+         assertThat(methodsViaIndex).contains("compareTo[Object!]", "compareTo[Person!]");
+         assertThat(methodsViaIndex).isEqualTo(describe(reflectionConfigurer.getClassConfiguration(personClass)));
+
+         // the index is not used if the reflective configuration is customized
+         final boolean[] isFieldChecksConfigured = {false};
+         final AnnotationsConfigurer customConfigurer = new AnnotationsConfigurer() {
+            @Override
+            protected void configureFieldChecks(final ClassConfiguration classCfg) {
+               isFieldChecksConfigured[0] = true;
+               super.configureFieldChecks(classCfg);
+            }
+         };
+         customConfigurer.setClassAnnotationsIndexEnabled(true);
+         assertThat(describe(new Validator(customConfigurer).validate(person))).isEqualTo(viaReflection);
+         assertThat(isFieldChecksConfigured[0]).isTrue();
+         assertThat(Arrays.asList(classAnnotations.fields.get(0).annotations)).isEqualTo(Arrays.asList(personClass.getField("name").getAnnotations()));
+      }
+   }
+}
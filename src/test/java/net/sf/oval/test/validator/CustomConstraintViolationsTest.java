@@ -41,6 +41,83 @@ public class CustomConstraintViolationsTest {
       }
    }
 
+   public static class LegacyCustomCheck extends AbstractCheck {
+      private static final long serialVersionUID = 1L;
+
+      @Override
+      @SuppressWarnings("deprecation")
+      public boolean isSatisfied(final Object validatedObject, final Object valueToValidate, final ValidationCycle cycle) {
+         final Validator validator = cycle.getValidator();
+
+         // a nested validation must not affect the violations reported to the current cycle
+         assertThat(validator.validate(Integer.valueOf(1))).isEmpty();
+         assertThat(validator.isValid(Integer.valueOf(1))).isTrue();
+
+         validator.reportConstraintViolation(new ConstraintViolation(this, "reported", validatedObject, null, cycle.getContextPath()));
+         return true;
+      }
+   }
+
+   /**
+    * subclass accessing the deprecated thread-bound validation cycles
+    */
+   protected static class LegacyValidator extends Validator {
+      int cycleCount = -1;
+      Object outermostRootObject;
+      Object enteredRootObject;
+      Object restoredRootObject;
+
+      @SuppressWarnings("deprecation")
+      void recordCurrentValidationCycles() {
+         cycleCount = currentValidationCycles.get().size();
+         outermostRootObject = currentValidationCycles.get().getFirst().getRootObject();
+      }
+
+      @SuppressWarnings("deprecation")
+      void modifyCurrentValidationCycles() {
+         currentValidationCycles.get().add(new InternalValidationCycle("bar", null));
+         enteredRootObject = getCurrentValidationCycle(0).getRootObject();
+         assertThat(currentValidationCycles.get()).hasSize(2);
+
+         try {
+            currentValidationCycles.get().addFirst(new InternalValidationCycle("baz", null));
+            failBecauseExceptionWasNotThrown(UnsupportedOperationException.class);
+         } catch (final UnsupportedOperationException ex) {
+            // expected
+         }
+         try {
+            currentValidationCycles.set(null);
+            failBecauseExceptionWasNotThrown(UnsupportedOperationException.class);
+         } catch (final UnsupportedOperationException ex) {
+            // expected
+         }
+
+         currentValidationCycles.get().removeLast();
+         restoredRootObject = getCurrentValidationCycle(0).getRootObject();
+         assertThat(getCurrentValidationCycle(1)).isNull();
+      }
+   }
+
+   public static class RecordingCheck extends AbstractCheck {
+      private static final long serialVersionUID = 1L;
+
+      @Override
+      public boolean isSatisfied(final Object validatedObject, final Object valueToValidate, final ValidationCycle cycle) {
+         ((LegacyValidator) cycle.getValidator()).recordCurrentValidationCycles();
+         return true;
+      }
+   }
+
+   public static class ModifyingCheck extends AbstractCheck {
+      private static final long serialVersionUID = 1L;
+
+      @Override
+      public boolean isSatisfied(final Object validatedObject, final Object valueToValidate, final ValidationCycle cycle) {
+         ((LegacyValidator) cycle.getValidator()).modifyCurrentValidationCycles();
+         return true;
+      }
+   }
+
    public final class Entity {
       String name;
       String message;
@@ -53,4 +130,51 @@ public class CustomConstraintViolationsTest {
       final List<ConstraintViolation> violations = val.validate(new Entity());
       assertThat(violations).hasSize(2);
    }
+
+   @Test
+   @SuppressWarnings("deprecation")
+   public void testReportConstraintViolation() {
+      final Validator val = new Validator();
+      val.addChecks(String.class, new LegacyCustomCheck());
+
+      List<ConstraintViolation> violations = val.validate("foo");
+      assertThat(violations).hasSize(1);
+      assertThat(violations.get(0).getMessage()).isEqualTo("reported");
+      assertThat(val.isValid("foo")).isFalse();
+
+      try {
+         val.reportConstraintViolation(violations.get(0));
+         failBecauseExceptionWasNotThrown(IllegalStateException.class);
+      } catch (final IllegalStateException ex) {
+         // expected, no validation in progress
+      }
+
+      violations = val.validateAll(new Object[] {"foo", "bar"}).get(1);
+      assertThat(violations).hasSize(1);
+   }
+
+   @Test
+   public void testCurrentValidationCycles() {
+      final LegacyValidator val = new LegacyValidator();
+      val.addChecks(String.class, new RecordingCheck());
+
+      assertThat(val.validate("foo")).isEmpty();
+      assertThat(val.cycleCount).isEqualTo(1);
+      assertThat(val.outermostRootObject).isEqualTo("foo");
+   }
+
+   @Test
+   public void testModifyCurrentValidationCycles() {
+      final LegacyValidator val = new LegacyValidator();
+      val.addChecks(String.class, new ModifyingCheck());
+
+      assertThat(val.validate("foo")).isEmpty();
+      assertThat(val.enteredRootObject).isEqualTo("bar");
+      assertThat(val.restoredRootObject).isEqualTo("foo");
+
+      val.enteredRootObject = null;
+      assertThat(val.isValid("foo")).isTrue();
+      assertThat(val.enteredRootObject).isEqualTo("bar");
+      assertThat(val.restoredRootObject).isEqualTo("foo");
+   }
 }
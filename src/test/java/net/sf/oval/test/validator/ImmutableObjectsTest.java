@@ -0,0 +1,121 @@
+/*
+ * Copyright 2005-2021 by Sebastian Thomschke and contributors.
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package net.sf.oval.test.validator;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import net.sf.oval.ConstraintViolation;
+import net.sf.oval.Validator;
+import net.sf.oval.configuration.annotation.Validatable;
+import net.sf.oval.constraint.AssertValid;
+import net.sf.oval.constraint.CheckWith;
+import net.sf.oval.constraint.CheckWithCheck.SimpleCheck;
+import net.sf.oval.constraint.NotNull;
+import net.sf.oval.context.OValContext;
+
+/**
+ * @author Sebastian Thomschke
+ */
+public class ImmutableObjectsTest {
+
+   protected static final AtomicInteger CHECKS = new AtomicInteger();
+
+   protected static class CountingCheck implements SimpleCheck {
+      private static final long serialVersionUID = 1L;
+
+      @Override
+      public boolean isSatisfied(final Object validatedObject, final Object value, final OValContext context, final Validator validator) {
+         CHECKS.incrementAndGet();
+         return value != null;
+      }
+   }
+
+   @Validatable(immutable = true)
+   protected static final class Money {
+      @CheckWith(value = CountingCheck.class, ignoreIfNull = false, message = "CURRENCY_NULL")
+      private final String currency;
+
+      protected Money(final String currency) {
+         this.currency = currency;
+      }
+   }
+
+   @Validatable(immutable = true)
+   protected static final class Node {
+      @AssertValid
+      public Node next;
+
+      @NotNull(message = "NAME_NULL")
+      public String name;
+   }
+
+   protected static class Invoice {
+      @AssertValid
+      public Money total;
+   }
+
+   @Test
+   public void testImmutableObjects() {
+      final Validator validator = new Validator();
+
+      final Money money = new Money("EUR");
+      CHECKS.set(0);
+      assertThat(validator.validate(money)).isEmpty();
+      assertThat(validator.validate(money)).isEmpty();
+      assertThat(CHECKS.get()).isEqualTo(1);
+
+      // cached results are used for nested objects too
+      final Invoice invoice = new Invoice();
+      invoice.total = money;
+      assertThat(validator.validate(invoice)).isEmpty();
+      assertThat(CHECKS.get()).isEqualTo(1);
+
+      // invalid objects are validated each time
+      final Money invalid = new Money(null);
+      CHECKS.set(0);
+      assertThat(validator.validate(invalid)).hasSize(1);
+      assertThat(validator.validate(invalid)).hasSize(1);
+      assertThat(CHECKS.get()).isEqualTo(2);
+
+      // reconfiguration invalidates the cache
+      CHECKS.set(0);
+      validator.reconfigureChecks();
+      assertThat(validator.validate(money)).isEmpty();
+      assertThat(CHECKS.get()).isEqualTo(1);
+
+      // results are cached per set of enabled profiles
+      validator.disableProfile("other");
+      assertThat(validator.validate(money)).isEmpty();
+      assertThat(CHECKS.get()).isEqualTo(2);
+      assertThat(validator.validate(money)).isEmpty();
+      assertThat(CHECKS.get()).isEqualTo(2);
+   }
+
+   @Test
+   public void testCyclicImmutableObjects() {
+      final Validator validator = new Validator();
+
+      // the name of a is validated after b, which refers back to a
+      final Node a = new Node();
+      final Node b = new Node();
+      a.next = b;
+      b.next = a;
+      b.name = "b";
+
+      List<ConstraintViolation> violations = validator.validate(a);
+      assertThat(violations).hasSize(1);
+      assertThat(violations.get(0).getMessage()).isEqualTo("NAME_NULL");
+
+      // b must not have been cached as valid
+      violations = validator.validate(b);
+      assertThat(violations).hasSize(1);
+      assertThat(violations.get(0).getContextPathAsString()).endsWith("name");
+   }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright 2005-2021 by Sebastian Thomschke and contributors.
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package net.sf.oval.test.validator;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.lang.management.ManagementFactory;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import net.sf.oval.Validator;
+import net.sf.oval.configuration.annotation.IsInvariant;
+import net.sf.oval.constraint.AssertValid;
+import net.sf.oval.constraint.CheckWith;
+import net.sf.oval.constraint.CheckWithCheck.SimpleCheck;
+import net.sf.oval.constraint.NotNull;
+import net.sf.oval.context.OValContext;
+
+/**
+ * @author Sebastian Thomschke
+ */
+public class IsValidTest {
+
+   private static final Validator VALIDATOR = new Validator();
+
+   protected static class Node {
+      @NotNull(profiles = "strict")
+      public String name;
+
+      @AssertValid
+      public List<Node> children = new ArrayList<>();
+
+      @AssertValid
+      public Node parent;
+   }
+
+   protected static class NestedIsValidCheck implements SimpleCheck {
+      private static final long serialVersionUID = 1L;
+
+      @Override
+      public boolean isSatisfied(final Object validatedObject, final Object value, final OValContext context, final Validator validator) {
+         return VALIDATOR.isValid(value);
+      }
+   }
+
+   protected static class Wrapper {
+      @CheckWith(NestedIsValidCheck.class)
+      public Node node;
+
+      @IsInvariant
+      @NotNull
+      public String getTitle() {
+         return "title";
+      }
+   }
+
+   @Test
+   public void testIsValid() {
+      final Validator validator = new Validator();
+
+      final Node root = new Node();
+      root.name = "root";
+      final Node child = new Node();
+      child.parent = root;
+      root.children.add(child);
+
+      assertThat(validator.isValid(root, "default")).isTrue();
+      assertThat(validator.isValid(root)).isFalse();
+      assertThat(validator.isValid(root, "default", "strict")).isFalse();
+      assertThat(validator.validate(root, "default", "strict")).hasSize(1);
+
+      child.name = "child";
+      assertThat(validator.isValid(root, "default", "strict")).isTrue();
+      assertThat(validator.isValid(root, "default", "strict")).isTrue();
+   }
+
+   @Test
+   public void testNestedIsValid() {
+      final Wrapper wrapper = new Wrapper();
+      wrapper.node = new Node();
+      assertThat(VALIDATOR.isValid(wrapper)).isFalse();
+      assertThat(VALIDATOR.validate(wrapper)).hasSize(1);
+
+      wrapper.node.name = "node";
+      assertThat(VALIDATOR.isValid(wrapper)).isTrue();
+      assertThat(VALIDATOR.validate(wrapper)).isEmpty();
+   }
+
+   @Test
+   public void testIsValidDoesNotAllocate() {
+      final java.lang.management.ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+      if (!(threadMXBean instanceof com.sun.management.ThreadMXBean))
+         return;
+      final com.sun.management.ThreadMXBean allocationMXBean = (com.sun.management.ThreadMXBean) threadMXBean;
+      if (!allocationMXBean.isThreadAllocatedMemorySupported() || !allocationMXBean.isThreadAllocatedMemoryEnabled())
+         return;
+
+      final Validator validator = new Validator();
+      final Node root = new Node();
+      root.name = "root";
+      final Node child = new Node();
+      child.name = "child";
+      child.parent = root;
+      root.children.add(child);
+      final String[] profiles = {"default", "strict"};
+
+      for (int i = 0; i < 20_000; i++) {
+         validator.isValid(root, profiles);
+      }
+
+      final long threadId = Thread.currentThread().getId();
+      final long allocatedBefore = allocationMXBean.getThreadAllocatedBytes(threadId);
+      for (int i = 0; i < 10_000; i++) {
+         validator.isValid(root, profiles);
+      }
+      final long allocated = allocationMXBean.getThreadAllocatedBytes(threadId) - allocatedBefore;
+
+      // a fresh validation cycle per call would account for several hundred KB
+      assertThat(allocated < 100_000).isTrue();
+   }
+
+   @Test
+   public void testIsValidDoesNotPinValidator() throws InterruptedException {
+      Validator validator = new Validator();
+      final Node root = new Node();
+      root.name = "root";
+      assertThat(validator.isValid(root)).isTrue();
+
+      final WeakReference<Validator> validatorRef = new WeakReference<>(validator);
+      validator = null;
+      for (int i = 0; i < 50 && validatorRef.get() != null; i++) {
+         System.gc();
+         Thread.sleep(20);
+      }
+      assertThat(validatorRef.get()).isNull();
+   }
+}
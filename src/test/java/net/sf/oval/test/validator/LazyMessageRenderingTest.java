@@ -0,0 +1,73 @@
+/*
+ * Copyright 2005-2021 by Sebastian Thomschke and contributors.
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package net.sf.oval.test.validator;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import net.sf.oval.ConstraintViolation;
+import net.sf.oval.Validator;
+import net.sf.oval.constraint.NotNull;
+import net.sf.oval.context.OValContext;
+import net.sf.oval.localization.locale.ThreadLocalLocaleProvider;
+
+/**
+ * @author Sebastian Thomschke
+ */
+public class LazyMessageRenderingTest {
+
+   protected static class Entity {
+      @NotNull(errorCode = "NAME_MISSING")
+      public String name;
+   }
+
+   protected static class CountingValidator extends Validator {
+      final AtomicInteger renderCount = new AtomicInteger();
+
+      @Override
+      protected String renderMessage(final List<OValContext> contextPath, final Object invalidValue, final String messageKey,
+         final Map<String, ?> messageValues) {
+         renderCount.incrementAndGet();
+         return super.renderMessage(contextPath, invalidValue, messageKey, messageValues);
+      }
+   }
+
+   @Test
+   public void testMessageIsRenderedOnFirstAccess() {
+      final CountingValidator validator = new CountingValidator();
+
+      final List<ConstraintViolation> violations = validator.validate(new Entity());
+      assertThat(violations).hasSize(1);
+      final ConstraintViolation violation = violations.get(0);
+      assertThat(violation.getErrorCode()).isEqualTo("NAME_MISSING");
+      assertThat(validator.renderCount.get()).isEqualTo(0);
+
+      assertThat(violation.getMessage()).isEqualTo(LazyMessageRenderingTest.class.getName() + "$Entity.name cannot be null");
+      assertThat(violation.getMessage()).isSameAs(violation.getMessage());
+      assertThat(validator.renderCount.get()).isEqualTo(1);
+   }
+
+   @Test
+   public void testMessageIsRenderedWithLocaleOfValidation() {
+      final ThreadLocalLocaleProvider localeProvider = (ThreadLocalLocaleProvider) Validator.getLocaleProvider();
+      final Locale locale = localeProvider.getLocale();
+      try {
+         localeProvider.setLocale(Locale.GERMAN);
+         final ConstraintViolation violation = new Validator().validate(new Entity()).get(0);
+
+         localeProvider.setLocale(Locale.ENGLISH);
+         assertThat(violation.getMessage()).isEqualTo(LazyMessageRenderingTest.class.getName() + "$Entity.name darf nicht Null sein");
+         assertThat(localeProvider.getLocale()).isEqualTo(Locale.ENGLISH);
+      } finally {
+         localeProvider.setLocale(locale);
+      }
+   }
+}
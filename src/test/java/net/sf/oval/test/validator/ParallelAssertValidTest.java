@@ -0,0 +1,122 @@
+/*
+ * Copyright 2005-2021 by Sebastian Thomschke and contributors.
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package net.sf.oval.test.validator;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+import net.sf.oval.ConstraintViolation;
+import net.sf.oval.ValidationOptions;
+import net.sf.oval.Validator;
+import net.sf.oval.constraint.AssertValid;
+import net.sf.oval.constraint.NotNull;
+
+/**
+ * @author Sebastian Thomschke
+ */
+public class ParallelAssertValidTest {
+
+   protected static class Line {
+      @NotNull
+      public String sku;
+
+      @AssertValid
+      public Document document;
+
+      @AssertValid
+      public Product product;
+   }
+
+   protected static class Product {
+      @NotNull
+      public String name;
+   }
+
+   protected static class Document {
+      @AssertValid
+      public List<Line> lines = new ArrayList<>();
+
+      @AssertValid(parallelThreshold = 0)
+      public Line[] sequentialLines;
+   }
+
+   private static Document createDocument(final int lineCount) {
+      final Document doc = new Document();
+      for (int i = 0; i < lineCount; i++) {
+         final Line line = new Line();
+         line.sku = i % 7 == 0 ? null : "SKU" + i;
+         line.document = doc;
+         doc.lines.add(line);
+      }
+      // duplicate element, must only be validated once
+      doc.lines.add(doc.lines.get(0));
+      doc.sequentialLines = doc.lines.toArray(new Line[0]);
+      return doc;
+   }
+
+   private static List<String> describe(final List<ConstraintViolation> violations) {
+      return violations.stream().map(ConstraintViolation::getContextPathAsString).collect(Collectors.toList());
+   }
+
+   @Test
+   public void testParallelValidationMatchesSequentialValidation() {
+      final Document doc = createDocument(5_000);
+
+      final Validator validator = new Validator();
+      final List<String> sequential = describe(validator.validate(doc));
+      assertThat(sequential).hasSize(715);
+
+      final ForkJoinPool pool = new ForkJoinPool(4);
+      try {
+         validator.setParallelAssertValidThreshold(100);
+         validator.setParallelValidationPool(pool);
+         assertThat(describe(validator.validate(doc))).isEqualTo(sequential);
+
+         assertThat(validator.isValid(doc)).isFalse();
+         assertThat(validator.validate(doc, ValidationOptions.maxViolations(10))).hasSize(10);
+         assertThat(describe(validator.validate(doc, ValidationOptions.maxViolations(10)))).isEqualTo(sequential.subList(0, 10));
+
+         for (final Line line : doc.lines) {
+            line.sku = "SKU";
+         }
+         assertThat(validator.validate(doc)).isEmpty();
+         assertThat(validator.isValid(doc)).isTrue();
+      } finally {
+         pool.shutdown();
+      }
+   }
+
+   @Test
+   public void testSharedObjectIsReportedOnce() {
+      final Document doc = createDocument(1_000);
+      // adjacent lines share an invalid product, also across chunk boundaries
+      for (int i = 0; i < 1_000; i++) {
+         final Line line = doc.lines.get(i);
+         line.sku = "SKU";
+         line.product = i % 2 == 0 && i > 0 ? doc.lines.get(i - 1).product : new Product();
+      }
+
+      final Validator validator = new Validator();
+      final List<String> sequential = describe(validator.validate(doc));
+      assertThat(sequential).hasSize(501);
+
+      final ForkJoinPool pool = new ForkJoinPool(4);
+      try {
+         validator.setParallelAssertValidThreshold(10);
+         validator.setParallelValidationPool(pool);
+         for (int i = 0; i < 20; i++) {
+            assertThat(describe(validator.validate(doc))).isEqualTo(sequential);
+         }
+      } finally {
+         pool.shutdown();
+      }
+   }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2005-2021 by Sebastian Thomschke and contributors.
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package net.sf.oval.test.validator;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.lang.reflect.Field;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.Test;
+
+import net.sf.oval.Validator;
+import net.sf.oval.constraint.Assert;
+import net.sf.oval.constraint.AssertConstraintSet;
+import net.sf.oval.constraint.NotNull;
+import net.sf.oval.constraint.NotNullCheck;
+import net.sf.oval.exception.ExpressionLanguageNotAvailableException;
+import net.sf.oval.exception.InvalidConfigurationException;
+import net.sf.oval.exception.UndefinedConstraintSetException;
+import net.sf.oval.internal.util.ClassPathScanner;
+
+/**
+ * @author Sebastian Thomschke
+ */
+public class PrewarmTest {
+
+   protected static class Entity {
+      @NotNull
+      public String id;
+   }
+
+   protected static class Person extends Entity {
+      @NotNull
+      public String name;
+   }
+
+   protected static class InvalidExpression {
+      @Assert(expr = "_value != null", lang = "unknown-language")
+      public String name;
+   }
+
+   protected static class InvalidConstraintSet {
+      @AssertConstraintSet(id = "undefined")
+      public String name;
+   }
+
+   @Test
+   public void testClassPathScanner() {
+      final List<Class<?>> classes = ClassPathScanner.findClasses(NotNullCheck.class.getPackage().getName(), PrewarmTest.class.getClassLoader());
+      assertThat(classes).contains(NotNullCheck.class);
+      // annotations are omitted
+      assertThat(classes.contains(NotNull.class)).isFalse();
+   }
+
+   @Test
+   public void testPrewarmBeforeFirstValidation() throws Exception {
+      // simulate a fresh JVM where the message resolver has not been initialized yet
+      final Field messageResolver = Validator.class.getDeclaredField("messageResolver");
+      messageResolver.setAccessible(true);
+      final Object originalMessageResolver = messageResolver.get(null);
+      messageResolver.set(null, null);
+      try {
+         final Validator validator = new Validator();
+         validator.prewarm(Arrays.asList(Person.class));
+         assertThat(validator.validate(new Person())).hasSize(2);
+      } finally {
+         if (originalMessageResolver != null) {
+            messageResolver.set(null, originalMessageResolver);
+         }
+      }
+   }
+
+   @Test
+   public void testPrewarm() throws Exception {
+      final ExecutorService executor = Executors.newFixedThreadPool(2);
+      try {
+         final Validator validator = new Validator();
+         validator.prewarm(Arrays.asList(Person.class), executor);
+         assertThat(validator.validate(new Person())).hasSize(2);
+
+         try {
+            validator.prewarm(Arrays.asList(Person.class, InvalidExpression.class, InvalidConstraintSet.class), executor);
+            failBecauseExceptionWasNotThrown(InvalidConfigurationException.class);
+         } catch (final InvalidConfigurationException ex) {
+            // all configuration errors are reported at once
+            assertThat(ex.getCause()).isInstanceOf(ExpressionLanguageNotAvailableException.class);
+            assertThat(ex.getSuppressed()).hasSize(1);
+            assertThat(ex.getSuppressed()[0].getCause()).isInstanceOf(UndefinedConstraintSetException.class);
+         }
+      } finally {
+         executor.shutdown();
+      }
+
+      final Validator validator = new Validator();
+      try {
+         validator.prewarm(Arrays.asList(InvalidConstraintSet.class));
+         failBecauseExceptionWasNotThrown(InvalidConfigurationException.class);
+      } catch (final InvalidConfigurationException ex) {
+         assertThat(ex.getCause()).isInstanceOf(UndefinedConstraintSetException.class);
+      }
+   }
+}
@@ -6,19 +6,28 @@ package net.sf.oval.test.validator;
 
 import static org.assertj.core.api.Assertions.*;
 
+import java.util.Arrays;
 import java.util.List;
 
 import org.junit.Test;
 
 import net.sf.oval.ConstraintViolation;
 import net.sf.oval.Validator;
+import net.sf.oval.configuration.annotation.IsInvariant;
 import net.sf.oval.constraint.NotNull;
+import net.sf.oval.constraint.NotNullCheck;
+import net.sf.oval.internal.ProfileRegistry;
 
 /**
  * @author Sebastian Thomschke
  */
 public class ProfilesTest {
 
+   static {
+      // ensure the profiles used by testProfileSpecificPlans get a dedicated bit before testManyProfiles exhausts them
+      ProfileRegistry.getMask(new String[] {"create", "update"});
+   }
+
    protected static class Person {
       @NotNull(/* profiles = { "default" }, */message = "NOTNULL")
       public String city;
@@ -33,6 +42,24 @@ public class ProfilesTest {
       public String zipCode;
    }
 
+   protected static class Address {
+      public String street;
+   }
+
+   protected static class Account {
+      int getterInvocations;
+
+      @NotNull(profiles = "update", message = "ID_NULL")
+      public String id;
+
+      @IsInvariant
+      @NotNull(profiles = "update", message = "VERSION_NULL")
+      public Integer getVersion() {
+         getterInvocations++;
+         return null;
+      }
+   }
+
    @Test
    public void testAdhocProfiles() {
       final Validator validator = new Validator();
@@ -185,4 +212,92 @@ public class ProfilesTest {
          assertThat(violations).isEmpty();
       }
    }
+
+   /**
+    * profiles exceeding the number of bits available for bit mask based matching must still be evaluated correctly
+    */
+   @Test
+   public void testManyProfiles() throws Exception {
+      final Validator validator = new Validator();
+      final int profileCount = 100;
+      for (int i = 0; i < profileCount; i++) {
+         final NotNullCheck check = new NotNullCheck();
+         check.setProfiles("many" + i);
+         check.setMessage("NOTNULL_MANY" + i);
+         validator.addChecks(Address.class.getField("street"), check);
+      }
+      final Address address = new Address();
+
+      assertThat(validator.validate(address)).hasSize(profileCount);
+      assertThat(validator.validate(address, "many0")).hasSize(1);
+      List<ConstraintViolation> violations = validator.validate(address, "many" + (profileCount - 1));
+      assertThat(violations).hasSize(1);
+      assertThat(violations.get(0).getMessage()).isEqualTo("NOTNULL_MANY" + (profileCount - 1));
+      assertThat(validator.validate(address, "many1", "many" + (profileCount - 2))).hasSize(2);
+      assertThat(validator.validate(address, "profile1")).isEmpty();
+
+      validator.disableProfile("many" + (profileCount - 1));
+      validator.disableProfile("many0");
+      assertThat(validator.validate(address)).hasSize(profileCount - 2);
+
+      validator.disableAllProfiles();
+      validator.enableProfile("many" + (profileCount - 1));
+      violations = validator.validate(address);
+      assertThat(violations).hasSize(1);
+      assertThat(violations.get(0).getMessage()).isEqualTo("NOTNULL_MANY" + (profileCount - 1));
+   }
+
+   @Test
+   public void testProfileSpecificPlans() {
+      final Validator validator = new Validator();
+      final Account account = new Account();
+
+      assertThat(validator.validate(account, "create")).isEmpty();
+      assertThat(account.getterInvocations).isZero();
+
+      assertThat(validator.validate(account, "update")).hasSize(2);
+      assertThat(account.getterInvocations).isEqualTo(1);
+
+      assertThat(validator.validate(account)).hasSize(2);
+      assertThat(account.getterInvocations).isEqualTo(2);
+
+      validator.disableProfile("update");
+      assertThat(validator.validate(account)).isEmpty();
+      assertThat(account.getterInvocations).isEqualTo(2);
+
+      validator.enableProfile("update");
+      assertThat(validator.validate(account)).hasSize(2);
+      assertThat(account.getterInvocations).isEqualTo(3);
+
+      validator.reconfigureChecks();
+      assertThat(validator.validate(account, "create")).isEmpty();
+      assertThat(validator.validate(account, "create", "update")).hasSize(2);
+      assertThat(account.getterInvocations).isEqualTo(4);
+   }
+
+   @Test
+   public void testIsAnyProfileEnabledOverride() {
+      final Person person = new Person();
+
+      // disables all checks
+      assertThat(new Validator() {
+         @Override
+         protected boolean isAnyProfileEnabled(final String[] profilesOfCheck, final String[] enabledProfiles) {
+            return false;
+         }
+      }.validate(person)).isEmpty();
+
+      // enables the checks of profile3 only, regardless of the globally enabled profiles
+      final Validator validator = new Validator() {
+         @Override
+         protected boolean isAnyProfileEnabled(final String[] profilesOfCheck, final String[] enabledProfiles) {
+            return profilesOfCheck != null && Arrays.asList(profilesOfCheck).contains("profile3");
+         }
+      };
+      validator.disableAllProfiles();
+      final List<ConstraintViolation> violations = validator.validate(person);
+      assertThat(violations).hasSize(2);
+      assertThat(violations.get(0).getMessage()).isEqualTo("NOTNULL2");
+      assertThat(violations.get(1).getMessage()).isEqualTo("NOTNULL3");
+   }
 }
@@ -0,0 +1,217 @@
+/*
+ * Copyright 2005-2021 by Sebastian Thomschke and contributors.
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package net.sf.oval.test.validator;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+import net.sf.oval.ConstraintTarget;
+import net.sf.oval.ConstraintViolation;
+import net.sf.oval.ValidationCycle;
+import net.sf.oval.Validator;
+import net.sf.oval.configuration.annotation.IsInvariant;
+import net.sf.oval.constraint.AssertValid;
+import net.sf.oval.constraint.Digits;
+import net.sf.oval.constraint.Length;
+import net.sf.oval.constraint.MatchPattern;
+import net.sf.oval.constraint.Max;
+import net.sf.oval.constraint.Min;
+import net.sf.oval.constraint.MinCheck;
+import net.sf.oval.constraint.NotNegative;
+import net.sf.oval.constraint.NotEmpty;
+import net.sf.oval.constraint.NotNull;
+import net.sf.oval.constraint.Range;
+import net.sf.oval.context.FieldContext;
+import net.sf.oval.internal.AccessorCache;
+import net.sf.oval.internal.util.AccessorFactory;
+import net.sf.oval.internal.util.AccessorFactoryReflectionImpl;
+import net.sf.oval.internal.util.FieldAccessor;
+import net.sf.oval.internal.util.MethodAccessor;
+
+/**
+ * @author Sebastian Thomschke
+ */
+public class SpecializedValidationTest {
+
+   protected static class Address {
+      @NotNull(message = "STREET_NULL")
+      public String street;
+
+      @MatchPattern(pattern = "[0-9]{5}", message = "ZIP_INVALID")
+      public String zip = "ABC";
+   }
+
+   protected static class Person {
+      @NotNull(message = "NAME_NULL")
+      @Length(min = 3, max = 10, message = "NAME_LENGTH")
+      public String name = "Al";
+
+      @Range(min = 0, max = 150, message = "AGE_RANGE")
+      public int age = -1;
+
+      @NotEmpty(message = "NICKNAME_EMPTY", appliesTo = {ConstraintTarget.VALUES})
+      public List<String> nickNames = new ArrayList<>();
+
+      @AssertValid
+      public Address address = new Address();
+
+      @IsInvariant
+      @NotNull(message = "TITLE_NULL")
+      public String getTitle() {
+         return null;
+      }
+   }
+
+   protected static class Order {
+      @Min(value = 1, message = "QUANTITY_MIN")
+      @Max(value = 100, message = "QUANTITY_MAX")
+      public int quantity = 0;
+
+      @NotNegative(message = "ID_NEGATIVE")
+      @Digits(maxInteger = 3, message = "ID_DIGITS")
+      public long id = 12345;
+
+      @Range(min = 0, max = 1, message = "DISCOUNT_RANGE")
+      public double discount = 1.5;
+
+      @Max(value = 10, inclusive = false, message = "WEIGHT_MAX")
+      public float weight = 10f;
+
+      @Digits(maxFraction = 1, message = "PRICE_DIGITS")
+      public float price = 0.25f;
+
+      @Min(value = 0, message = "PRIORITY_MIN")
+      public short priority = 1;
+   }
+
+   protected static class Counter {
+      @Min(value = 10, message = "X_MIN")
+      public int x = 1;
+
+      public int y = 1;
+   }
+
+   private static List<String> describe(final List<ConstraintViolation> violations) {
+      return violations.stream() //
+         .map(v -> v.getMessage() + "@" + v.getContextPathAsString()) //
+         .collect(Collectors.toList());
+   }
+
+   @Test
+   public void testSpecializedValidationMatchesGenericValidation() {
+      final Person person = new Person();
+      person.nickNames.add("");
+
+      final Validator validator = new Validator();
+      assertThat(validator.isSpecializedValidationEnabled()).isFalse();
+      final List<String> generic = describe(validator.validate(person));
+      assertThat(generic).hasSize(6);
+
+      validator.setSpecializedValidationEnabled(true);
+      assertThat(describe(validator.validate(person))).isEqualTo(generic);
+   }
+
+   @Test
+   public void testPrimitiveFields() {
+      final AccessorFactory accessorFactory = AccessorCache.getAccessorFactory();
+      try {
+         for (final AccessorFactory factory : new AccessorFactory[] {accessorFactory, AccessorFactoryReflectionImpl.INSTANCE}) {
+            // counts the boxed reads of field values
+            final AtomicInteger resolvedFieldValues = new AtomicInteger();
+            AccessorCache.setAccessorFactory(new AccessorFactory() {
+               @Override
+               public FieldAccessor createFieldAccessor(final Field field) {
+                  final FieldAccessor accessor = factory.createFieldAccessor(field);
+                  return new FieldAccessor() {
+                     @Override
+                     public Object get(final Object target) {
+                        resolvedFieldValues.incrementAndGet();
+                        return accessor.get(target);
+                     }
+
+                     @Override
+                     public double getDouble(final Object target) {
+                        return accessor.getDouble(target);
+                     }
+
+                     @Override
+                     public long getLong(final Object target) {
+                        return accessor.getLong(target);
+                     }
+                  };
+               }
+
+               @Override
+               public MethodAccessor createMethodAccessor(final Method method) {
+                  return factory.createMethodAccessor(method);
+               }
+            });
+            final Order order = new Order();
+
+            // default configuration
+            final Validator validator = new Validator();
+            final List<ConstraintViolation> violations = validator.validate(order);
+            final List<String> messages = new ArrayList<>();
+            final List<Object> invalidValues = new ArrayList<>();
+            for (final ConstraintViolation violation : violations) {
+               messages.add(violation.getMessage());
+               invalidValues.add(violation.getInvalidValue());
+            }
+            assertThat(messages).containsExactly("QUANTITY_MIN", "ID_DIGITS", "DISCOUNT_RANGE", "WEIGHT_MAX", "PRICE_DIGITS");
+            assertThat(invalidValues).containsExactly(0, 12345L, 1.5, 10f, 0.25f);
+
+            // field values are only boxed to report a violation
+            assertThat(resolvedFieldValues.get()).isEqualTo(5);
+
+            order.quantity = 100;
+            order.id = 123;
+            order.discount = 0;
+            order.weight = 9.5f;
+            order.price = 0.5f;
+            resolvedFieldValues.set(0);
+            assertThat(validator.validate(order)).isEmpty();
+            assertThat(resolvedFieldValues.get()).isEqualTo(0);
+         }
+      } finally {
+         AccessorCache.setAccessorFactory(accessorFactory);
+      }
+   }
+
+   @Test
+   public void testPrimitiveFieldHooks() throws Exception {
+      // values provided by an overridden resolveValue are validated
+      final Validator validator = new Validator() {
+         @Override
+         protected Object resolveValue(final FieldContext ctx, final Object validatedObject) {
+            return 50;
+         }
+      };
+      assertThat(validator.validate(new Counter())).isEmpty();
+
+      // overridden isActive methods are honored
+      final MinCheck inactiveCheck = new MinCheck() {
+         private static final long serialVersionUID = 1L;
+
+         @Override
+         public boolean isActive(final Object validatedObject, final Object valueToValidate, final ValidationCycle cycle) {
+            return false;
+         }
+      };
+      inactiveCheck.setMin(10);
+      final Validator defaultValidator = new Validator();
+      defaultValidator.addChecks(Counter.class.getField("y"), inactiveCheck);
+      final List<ConstraintViolation> violations = defaultValidator.validate(new Counter());
+      assertThat(violations).hasSize(1);
+      assertThat(violations.get(0).getMessage()).isEqualTo("X_MIN");
+   }
+}
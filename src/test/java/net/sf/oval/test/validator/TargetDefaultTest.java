@@ -17,6 +17,7 @@ import net.sf.oval.constraint.MinLength;
 import net.sf.oval.constraint.MinSize;
 import net.sf.oval.constraint.NotNull;
 import net.sf.oval.context.FieldContext;
+import net.sf.oval.context.MethodReturnValueContext;
 import net.sf.oval.exception.InvalidConfigurationException;
 import net.sf.oval.exception.ValidationFailedException;
 
@@ -50,6 +51,27 @@ public class TargetDefaultTest {
       List<List<String>> list;
    }
 
+   static class Shape {
+      @NotNull(target = "x", message = "X_IS_NULL")
+      Object origin;
+   }
+
+   static class Point {
+      Integer x;
+   }
+
+   static class NamedPoint {
+      private final Integer value;
+
+      NamedPoint(final Integer value) {
+         this.value = value;
+      }
+
+      public Integer getX() {
+         return value;
+      }
+   }
+
    @Test
    public void testTarget() {
       final Validator v = new Validator();
@@ -89,4 +111,32 @@ public class TargetDefaultTest {
          assertThat(ex.getCause()).isInstanceOf(InvalidConfigurationException.class);
       }
    }
+
+   /**
+    * the same target path must be resolvable for different runtime classes along the path
+    */
+   @Test
+   public void testTargetWithPolymorphicValues() {
+      final Validator v = new Validator();
+      final Shape shape = new Shape();
+
+      shape.origin = new Point();
+      List<ConstraintViolation> violations = v.validate(shape);
+      assertThat(violations).hasSize(1);
+      assertThat(violations.get(0).getMessage()).isEqualTo("X_IS_NULL");
+      assertThat(violations.get(0).getContext()).isInstanceOf(FieldContext.class);
+
+      shape.origin = new NamedPoint(null);
+      violations = v.validate(shape);
+      assertThat(violations).hasSize(1);
+      assertThat(violations.get(0).getContext()).isInstanceOf(MethodReturnValueContext.class);
+
+      shape.origin = new NamedPoint(1);
+      assertThat(v.validate(shape)).isEmpty();
+
+      final Point point = new Point();
+      point.x = 1;
+      shape.origin = point;
+      assertThat(v.validate(shape)).isEmpty();
+   }
 }
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2005-2021 by Sebastian Thomschke and contributors.
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package net.sf.oval.test.validator;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.Test;
+
+import net.sf.oval.ConstraintViolation;
+import net.sf.oval.Validator;
+import net.sf.oval.constraint.AssertValid;
+import net.sf.oval.constraint.Max;
+import net.sf.oval.constraint.NotNull;
+
+/**
+ * @author Sebastian Thomschke
+ */
+public class ValidateAllTest {
+
+   protected static class Item {
+      @NotNull
+      public String name;
+
+      @Max(10)
+      public int quantity;
+
+      @AssertValid
+      public Item parent;
+
+      Item(final int index) {
+         name = index % 3 == 0 ? null : "item" + index;
+         quantity = index % 5 == 0 ? 11 : 1;
+      }
+   }
+
+   private static List<Item> createItems(final int count) {
+      final List<Item> items = new ArrayList<>(count);
+      for (int i = 0; i < count; i++) {
+         final Item item = new Item(i);
+         item.parent = item;
+         items.add(item);
+      }
+      return items;
+   }
+
+   private static void assertResults(final List<Item> items, final List<List<ConstraintViolation>> results) {
+      assertThat(results).hasSize(items.size());
+      for (int i = 0; i < items.size(); i++) {
+         final List<ConstraintViolation> violations = results.get(i);
+         assertThat(violations).hasSize((i % 3 == 0 ? 1 : 0) + (i % 5 == 0 ? 1 : 0));
+         for (final ConstraintViolation violation : violations) {
+            assertThat(violation.getValidatedObject()).isSameAs(items.get(i));
+         }
+      }
+   }
+
+   @Test
+   public void testValidateAll() {
+      final Validator validator = new Validator();
+      final List<Item> items = createItems(100);
+
+      final List<List<ConstraintViolation>> results = validator.validateAll(items);
+      assertResults(items, results);
+      for (int i = 0; i < items.size(); i++) {
+         assertThat(results.get(i)).hasSize(validator.validate(items.get(i)).size());
+      }
+
+      assertResults(items, validator.validateAll(items.toArray()));
+      assertThat(validator.validateAll(new Object[0])).isEmpty();
+   }
+
+   @Test
+   public void testValidateAllInParallel() {
+      final Validator validator = new Validator();
+      final List<Item> items = createItems(10_000);
+
+      final ForkJoinPool pool = new ForkJoinPool(4);
+      try {
+         assertResults(items, validator.validateAll(items, pool));
+      } finally {
+         pool.shutdown();
+      }
+   }
+
+   @Test
+   public void testValidateAllWithNullElement() {
+      final List<Item> items = createItems(2);
+      items.add(null);
+      try {
+         new Validator().validateAll(items);
+         failBecauseExceptionWasNotThrown(IllegalArgumentException.class);
+      } catch (final IllegalArgumentException ex) {
+         // expected
+      }
+   }
+}
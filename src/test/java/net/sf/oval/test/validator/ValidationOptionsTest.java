@@ -0,0 +1,127 @@
+/*
+ * Copyright 2005-2021 by Sebastian Thomschke and contributors.
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package net.sf.oval.test.validator;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import net.sf.oval.ConstraintTarget;
+import net.sf.oval.ConstraintViolation;
+import net.sf.oval.ValidationOptions;
+import net.sf.oval.Validator;
+import net.sf.oval.constraint.AssertValid;
+import net.sf.oval.constraint.NotEmpty;
+import net.sf.oval.constraint.NotNull;
+import net.sf.oval.exception.ConstraintsViolatedException;
+
+/**
+ * @author Sebastian Thomschke
+ */
+public class ValidationOptionsTest {
+
+   protected static class Item {
+      @NotNull(message = "ITEM_NAME_NULL")
+      public String name;
+   }
+
+   protected static class Order {
+      @NotNull(message = "ID_NULL")
+      public String id;
+
+      @NotNull(message = "CUSTOMER_NULL", severity = 5)
+      public String customer;
+
+      @NotEmpty(message = "ITEMS_EMPTY", appliesTo = ConstraintTarget.CONTAINER)
+      @AssertValid
+      public List<Item> items = new ArrayList<>();
+   }
+
+   private static Order newInvalidOrder() {
+      final Order order = new Order();
+      for (int i = 0; i < 10; i++) {
+         order.items.add(new Item());
+      }
+      return order;
+   }
+
+   @Test
+   public void testDefaultOptions() {
+      final Validator validator = new Validator();
+      final List<ConstraintViolation> violations = validator.validate(newInvalidOrder(), ValidationOptions.DEFAULT);
+      assertThat(violations).hasSize(12);
+      assertThat(violations.get(0).getMessage()).isEqualTo("ID_NULL");
+      assertThat(violations.get(1).getMessage()).isEqualTo("CUSTOMER_NULL");
+      assertThat(violations.get(11).getMessage()).isEqualTo("ITEM_NAME_NULL");
+   }
+
+   @Test
+   public void testFailFast() {
+      final Validator validator = new Validator();
+      final List<ConstraintViolation> violations = validator.validate(newInvalidOrder(), ValidationOptions.failFast());
+      assertThat(violations).hasSize(1);
+      assertThat(violations.get(0).getMessage()).isEqualTo("ID_NULL");
+
+      try {
+         validator.assertValid(newInvalidOrder(), ValidationOptions.failFast());
+         failBecauseExceptionWasNotThrown(ConstraintsViolatedException.class);
+      } catch (final ConstraintsViolatedException ex) {
+         assertThat(ex.getConstraintViolations()).hasSize(1);
+      }
+
+      final Order order = new Order();
+      order.id = "1";
+      order.customer = "Bob";
+      order.items.add(new Item());
+      order.items.get(0).name = "foo";
+      validator.assertValid(order, ValidationOptions.failFast());
+   }
+
+   @Test
+   public void testMaxViolations() {
+      final Validator validator = new Validator();
+      assertThat(validator.validate(newInvalidOrder(), ValidationOptions.maxViolations(5))).hasSize(5);
+      assertThat(validator.validate(newInvalidOrder(), ValidationOptions.maxViolations(50))).hasSize(12);
+
+      try {
+         ValidationOptions.maxViolations(0);
+         failBecauseExceptionWasNotThrown(IllegalArgumentException.class);
+      } catch (final IllegalArgumentException ex) {
+         // expected
+      }
+   }
+
+   @Test
+   public void testSink() {
+      final Validator validator = new Validator();
+      final List<String> messages = new ArrayList<>();
+      assertThat(validator.validate(newInvalidOrder(), violation -> messages.add(violation.getMessage()))).isEqualTo(12);
+      assertThat(messages).hasSize(12);
+      assertThat(messages.get(0)).isEqualTo("ID_NULL");
+      assertThat(messages.get(11)).isEqualTo("ITEM_NAME_NULL");
+
+      // abort from within the sink
+      messages.clear();
+      assertThat(validator.validate(newInvalidOrder(), violation -> {
+         messages.add(violation.getMessage());
+         return violation.getSeverity() < 5;
+      })).isEqualTo(2);
+      assertThat(messages).containsExactly("ID_NULL", "CUSTOMER_NULL");
+   }
+
+   @Test
+   public void testStopAtSeverity() {
+      final Validator validator = new Validator();
+      final List<ConstraintViolation> violations = validator.validate(newInvalidOrder(), ValidationOptions.stopAtSeverity(5));
+      assertThat(violations).hasSize(2);
+      assertThat(violations.get(1).getMessage()).isEqualTo("CUSTOMER_NULL");
+
+      assertThat(validator.validate(newInvalidOrder(), ValidationOptions.stopAtSeverity(6))).hasSize(12);
+      assertThat(validator.validate(newInvalidOrder(), ValidationOptions.stopAtSeverity(6).withMaxViolations(3))).hasSize(3);
+   }
+}